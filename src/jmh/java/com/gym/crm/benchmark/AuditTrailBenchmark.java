@@ -0,0 +1,112 @@
+package com.gym.crm.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditOverflowPolicy;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.audit.RingBufferAuditTrail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditTrailBenchmark {
+    private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} %-5level [%thread] %logger{36} - %msg%n";
+
+    @Param({"logback", "ring-drop", "ring-block"})
+    private String sink;
+
+    private final AtomicLong ids = new AtomicLong();
+    private Path directory;
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private RingBufferAuditTrail auditTrail;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-trail");
+
+        if ("logback".equals(sink)) {
+            loggerContext = new LoggerContext();
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(loggerContext);
+            encoder.setPattern(LOG_PATTERN);
+            encoder.start();
+
+            FileAppender<ILoggingEvent> appender = new FileAppender<>();
+            appender.setContext(loggerContext);
+            appender.setFile(directory.resolve("app.log").toString());
+            appender.setEncoder(encoder);
+            appender.start();
+
+            logger = loggerContext.getLogger(AuditTrailBenchmark.class);
+            logger.setLevel(Level.INFO);
+            logger.addAppender(appender);
+            logger.setAdditive(false);
+        } else {
+            AuditOverflowPolicy policy = "ring-drop".equals(sink) ? AuditOverflowPolicy.DROP : AuditOverflowPolicy.BLOCK;
+            auditTrail = new RingBufferAuditTrail(directory, 65536, 512, policy, 64L * 1024 * 1024, 10, 50);
+            auditTrail.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (auditTrail != null) {
+            auditTrail.close();
+            System.out.printf("%nWritten: %d, dropped: %d%n", auditTrail.getWritten(), auditTrail.getDropped());
+        }
+        if (loggerContext != null) {
+            loggerContext.stop();
+        }
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void recordCreate() {
+        long id = ids.incrementAndGet();
+
+        if (logger != null) {
+            logger.info("Created Trainee with id: {}", id);
+        } else {
+            record(auditTrail, id);
+        }
+    }
+
+    private static void record(AuditTrail auditTrail, long id) {
+        auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.CREATE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.UserDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.security.PasswordHasher;
+import com.gym.crm.security.VerifiedCredentialCache;
+import com.gym.crm.service.impl.AuthenticationServiceImpl;
+import com.gym.crm.storage.InMemoryStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+    private static final int USERS = 1_000;
+    private static final String PASSWORD = "Secret123";
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private AuthenticationServiceImpl authenticationService;
+    private PasswordHasher passwordHasher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+
+        passwordHasher = new PasswordHasher();
+        passwordHasher.setThreads(1);
+        passwordHasher.setQueueSize(256);
+        passwordHasher.start();
+        String hash = passwordHasher.hash(PASSWORD);
+
+        TraineeDAOImpl traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(storage);
+        for (int i = 0; i < USERS; i++) {
+            Trainee trainee = BenchmarkData.newTrainee(i);
+            traineeDAO.create(trainee.toBuilder()
+                    .user(trainee.getUser().toBuilder().password(hash).build())
+                    .build());
+        }
+
+        UserDAOImpl userDAO = new UserDAOImpl();
+        userDAO.setStorage(storage);
+        VerifiedCredentialCache verifiedCredentialCache = new VerifiedCredentialCache();
+        verifiedCredentialCache.setTtlSeconds(cached ? 300 : 0);
+        verifiedCredentialCache.setMaxSize(USERS);
+        if (cached) {
+            for (int i = 0; i < USERS; i++) {
+                verifiedCredentialCache.put(username(i), hash, PASSWORD);
+            }
+        }
+
+        authenticationService = new AuthenticationServiceImpl();
+        authenticationService.setUserDAO(userDAO);
+        authenticationService.setPasswordHasher(passwordHasher);
+        authenticationService.setVerifiedCredentialCache(verifiedCredentialCache);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHasher.stop();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return authenticationService.authenticate(username(ThreadLocalRandom.current().nextInt(USERS)), PASSWORD);
+    }
+
+    private static String username(int index) {
+        return "Trainee.Member" + index;
+    }
+}
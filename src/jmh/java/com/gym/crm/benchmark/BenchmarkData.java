@@ -0,0 +1,70 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
+import com.gym.crm.util.PasswordPool;
+import com.gym.crm.util.UserCredentialsGenerator;
+import com.gym.crm.util.UsernameAllocator;
+
+import java.time.LocalDate;
+
+final class BenchmarkData {
+    static final LocalDate FIRST_TRAINING_DATE = LocalDate.of(2024, 1, 1);
+    static final TrainingType YOGA = TrainingType.builder().id(1L).trainingTypeName("Yoga").build();
+
+    private BenchmarkData() {
+    }
+
+    static PasswordHasher newCheapPasswordHasher() {
+        PasswordHasher passwordHasher = new PasswordHasher();
+        passwordHasher.setIterations(1);
+        return passwordHasher;
+    }
+
+    static UserCredentialsGenerator newUserCredentialsGenerator() {
+        UserCredentialsGenerator userCredentialsGenerator = new UserCredentialsGenerator();
+        userCredentialsGenerator.setUsernameAllocator(new UsernameAllocator());
+        userCredentialsGenerator.setPasswordPool(new PasswordPool());
+        return userCredentialsGenerator;
+    }
+
+    static User newUser(String firstName, String lastName) {
+        return User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .username(firstName + "." + lastName)
+                .password("password123")
+                .isActive(true)
+                .build();
+    }
+
+    static Trainee newTrainee(long index) {
+        return Trainee.builder()
+                .user(newUser("Trainee", "Member" + index))
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .address("123 Main St")
+                .build();
+    }
+
+    static Trainer newTrainer(long index) {
+        return Trainer.builder()
+                .user(newUser("Trainer", "Coach" + index))
+                .specialization(YOGA)
+                .build();
+    }
+
+    static Training newTraining(Trainee trainee, Trainer trainer, long index) {
+        return Training.builder()
+                .trainee(trainee)
+                .trainer(trainer)
+                .trainingType(YOGA)
+                .trainingName("Session " + index)
+                .trainingDate(FIRST_TRAINING_DATE.plusDays(index % 365))
+                .trainingDuration(60)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainerWorkload;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.UserStorage;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+
+final class BenchmarkStorages {
+    private BenchmarkStorages() {
+    }
+
+    static InMemoryStorage newInMemoryStorage() {
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setTraineeStorage(new TraineeStorage());
+        storage.setTrainerStorage(new TrainerStorage());
+        storage.setTrainingStorage(new TrainingStorage());
+        storage.setTrainingTypeStorage(new TrainingTypeStorage());
+        storage.setUserStorage(new UserStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+
+        return storage;
+    }
+
+    static SessionFactory newH2SessionFactory(String databaseName, int batchSize) {
+        Configuration configuration = new Configuration();
+        configuration.setProperty("hibernate.connection.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;MODE=MySQL;IGNORECASE=TRUE");
+        configuration.setProperty("hibernate.connection.username", "sa");
+        configuration.setProperty("hibernate.connection.password", "");
+        configuration.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+        configuration.setProperty("hibernate.order_inserts", "true");
+        configuration.setProperty("hibernate.order_updates", "true");
+
+        configuration.addAnnotatedClass(User.class);
+        configuration.addAnnotatedClass(Trainee.class);
+        configuration.addAnnotatedClass(Trainer.class);
+        configuration.addAnnotatedClass(Training.class);
+        configuration.addAnnotatedClass(TrainingType.class);
+        configuration.addAnnotatedClass(TrainerWorkload.class);
+        configuration.addAnnotatedClass(TrainingImport.class);
+
+        return configuration.buildSessionFactory();
+    }
+}
@@ -0,0 +1,69 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.model.Trainee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ConcurrentUpdateBenchmark {
+    @Param({"1", "10000"})
+    private int trainees;
+
+    private final Object lock = new Object();
+    private TraineeDAOImpl traineeDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+
+        for (int i = 0; i < trainees; i++) {
+            traineeDAO.create(BenchmarkData.newTrainee(i));
+        }
+    }
+
+    @Benchmark
+    public Optional<Trainee> compareAndSet() {
+        return traineeDAO.update(randomId(), ConcurrentUpdateBenchmark::toggleActive);
+    }
+
+    @Benchmark
+    public Trainee globalLock() {
+        synchronized (lock) {
+            Trainee current = traineeDAO.findById(randomId()).orElseThrow();
+            return traineeDAO.update(toggleActive(current));
+        }
+    }
+
+    private Long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, trainees + 1L);
+    }
+
+    private static Trainee toggleActive(Trainee trainee) {
+        return trainee.toBuilder()
+                .user(trainee.getUser().toBuilder()
+                        .isActive(!trainee.getUser().getIsActive())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.server.EmbeddedServer;
+import com.gym.crm.server.RequestThreads;
+import com.gym.crm.server.ServerSettings;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmbeddedServerLoadBenchmark {
+    private static final byte[] REQUEST = "GET /load HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BODY = "ok".getBytes(StandardCharsets.US_ASCII);
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"5000"})
+    private int clients;
+
+    @Param({"20"})
+    private int blockingMillis;
+
+    @Param({"200"})
+    private int maxThreads;
+
+    @Param({"5000"})
+    private int maxConcurrentRequests;
+
+    private EmbeddedServer server;
+    private Client[] connections;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new EmbeddedServer(new ServerSettings(0, RequestThreads.of(threads), maxThreads, maxConcurrentRequests,
+                clients * 2, clients));
+        server.start(new BlockingServlet(blockingMillis));
+
+        connections = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            connections[i] = new Client(server.getPort());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Client client : connections) {
+            client.close();
+        }
+        server.stop();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        AtomicInteger completed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Client client : connections) {
+                executor.execute(() -> {
+                    client.get();
+                    completed.incrementAndGet();
+                });
+            }
+        }
+
+        if (completed.get() != clients) {
+            throw new IllegalStateException("Completed " + completed.get() + " of " + clients + " requests");
+        }
+        return completed.get();
+    }
+
+    private static class BlockingServlet extends HttpServlet {
+        private final int blockingMillis;
+
+        BlockingServlet(int blockingMillis) {
+            this.blockingMillis = blockingMillis;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("text/plain");
+            response.setContentLength(BODY.length);
+            response.getOutputStream().write(BODY);
+        }
+    }
+
+    private static class Client {
+        private final int port;
+        private Socket socket;
+        private InputStream in;
+        private OutputStream out;
+
+        Client(int port) throws IOException {
+            this.port = port;
+            connect();
+        }
+
+        void get() {
+            try {
+                out.write(REQUEST);
+                out.flush();
+
+                int contentLength = -1;
+                boolean close = false;
+                String line;
+                while (!(line = readLine()).isEmpty()) {
+                    String header = line.toLowerCase(Locale.ROOT);
+                    if (header.startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(header.substring(15).trim());
+                    } else if (header.startsWith("connection:") && header.contains("close")) {
+                        close = true;
+                    }
+                }
+
+                if (contentLength < 0 || in.readNBytes(contentLength).length != contentLength) {
+                    throw new IOException("Incomplete response");
+                }
+                if (close) {
+                    socket.close();
+                    connect();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void connect() throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setTcpNoDelay(true);
+            in = new BufferedInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b < 0) {
+                    throw new IOException("Connection closed");
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.cache.CachingTraineeDAO;
+import com.gym.crm.cache.EntityCache;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.model.Trainee;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCacheBenchmark {
+    private static final int TRAINEES = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"0", "1000"})
+    private int capacity;
+
+    private SessionFactory sessionFactory;
+    private TraineeDAO traineeDAO;
+    private EntityCache<Trainee> cache;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkStorages.newH2SessionFactory("entity_cache", BATCH_SIZE);
+        HibernateTraineeDAO hibernateTraineeDAO = new HibernateTraineeDAO();
+        hibernateTraineeDAO.setSessionFactory(sessionFactory);
+        hibernateTraineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        hibernateTraineeDAO.setBatchSize(BATCH_SIZE);
+
+        List<Trainee> trainees = new ArrayList<>(TRAINEES);
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees.add(BenchmarkData.newTrainee(i));
+        }
+        ids = hibernateTraineeDAO.createAll(trainees).stream()
+                .mapToLong(Trainee::getId)
+                .toArray();
+
+        if (capacity > 0) {
+            cache = new EntityCache<>("trainee", capacity, Duration.ofMinutes(10));
+            traineeDAO = new CachingTraineeDAO(hibernateTraineeDAO, cache, null);
+        } else {
+            traineeDAO = hibernateTraineeDAO;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cache != null) {
+            long lookups = cache.getHits() + cache.getMisses();
+            System.out.printf("%n%s cache: %.1f%% hits, %d evictions%n",
+                    cache.getName(), 100.0 * cache.getHits() / lookups, cache.getEvictions());
+        }
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Optional<Trainee> findById() {
+        double skewed = Math.pow(ThreadLocalRandom.current().nextDouble(), 4);
+        return traineeDAO.findById(ids[(int) (skewed * ids.length)]);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dto.trainee.TraineeCreateRequest;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.dto.trainer.TrainerCreateRequest;
+import com.gym.crm.dto.trainer.TrainerResponse;
+import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingResponse;
+import com.gym.crm.mapper.TraineeMapper;
+import com.gym.crm.mapper.TraineeMapperImpl;
+import com.gym.crm.mapper.TrainerMapper;
+import com.gym.crm.mapper.TrainerMapperImpl;
+import com.gym.crm.mapper.TrainingMapper;
+import com.gym.crm.mapper.TrainingMapperImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private final TraineeMapper traineeMapper = new TraineeMapperImpl();
+    private final TrainerMapper trainerMapper = new TrainerMapperImpl();
+    private final TrainingMapper trainingMapper = new TrainingMapperImpl();
+
+    private final TraineeCreateRequest traineeRequest = TraineeCreateRequest.builder()
+            .firstName("John")
+            .lastName("Doe")
+            .dateOfBirth(LocalDate.of(1990, 1, 1))
+            .address("123 Main St")
+            .build();
+    private final TrainerCreateRequest trainerRequest = TrainerCreateRequest.builder()
+            .firstName("Mike")
+            .lastName("Johnson")
+            .specialization(BenchmarkData.YOGA)
+            .build();
+    private final TrainingCreateRequest trainingRequest = TrainingCreateRequest.builder()
+            .traineeId(1L)
+            .trainerId(2L)
+            .trainingName("Morning Yoga")
+            .trainingDate(BenchmarkData.FIRST_TRAINING_DATE)
+            .trainingDuration(60)
+            .build();
+
+    private final Trainee trainee = BenchmarkData.newTrainee(1).toBuilder().id(1L).build();
+    private final Trainer trainer = BenchmarkData.newTrainer(1).toBuilder().id(2L).build();
+    private final Training training = BenchmarkData.newTraining(trainee, trainer, 1).toBuilder().id(3L).build();
+
+    @Benchmark
+    public Trainee traineeToEntity() {
+        return traineeMapper.toEntity(traineeRequest);
+    }
+
+    @Benchmark
+    public TraineeResponse traineeToResponse() {
+        return traineeMapper.toResponse(trainee);
+    }
+
+    @Benchmark
+    public Trainer trainerToEntity() {
+        return trainerMapper.toEntity(trainerRequest);
+    }
+
+    @Benchmark
+    public TrainerResponse trainerToResponse() {
+        return trainerMapper.toResponse(trainer);
+    }
+
+    @Benchmark
+    public Training trainingToEntity() {
+        return trainingMapper.toEntity(trainingRequest);
+    }
+
+    @Benchmark
+    public TrainingResponse trainingToResponse() {
+        return trainingMapper.toResponse(training);
+    }
+}
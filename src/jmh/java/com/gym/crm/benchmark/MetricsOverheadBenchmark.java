@@ -0,0 +1,93 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.UserDAOImpl;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.facade.GymFacade;
+import com.gym.crm.mapper.TraineeMapperImpl;
+import com.gym.crm.metrics.MetricsBeanPostProcessor;
+import com.gym.crm.metrics.MetricsRegistry;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.service.TraineeService;
+import com.gym.crm.service.impl.AssignmentServiceImpl;
+import com.gym.crm.service.impl.AuthenticationServiceImpl;
+import com.gym.crm.service.impl.TraineeServiceImpl;
+import com.gym.crm.service.impl.TrainerServiceImpl;
+import com.gym.crm.service.impl.TrainingServiceImpl;
+import com.gym.crm.storage.InMemoryStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    private static final int TRAINEES = 10_000;
+
+    @Param({"false", "true"})
+    private boolean timed;
+
+    private GymFacade facade;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+        MetricsBeanPostProcessor metrics = newMetricsPostProcessor();
+
+        TraineeDAOImpl traineeDAOImpl = new TraineeDAOImpl();
+        traineeDAOImpl.setStorage(storage);
+        UserDAOImpl userDAOImpl = new UserDAOImpl();
+        userDAOImpl.setStorage(storage);
+        for (int i = 0; i < TRAINEES; i++) {
+            traineeDAOImpl.create(BenchmarkData.newTrainee(i));
+        }
+
+        TraineeDAO traineeDAO = timed ? (TraineeDAO) metrics.postProcessAfterInitialization(traineeDAOImpl, "traineeDAO") : traineeDAOImpl;
+        UserDAO userDAO = timed ? (UserDAO) metrics.postProcessAfterInitialization(userDAOImpl, "userDAO") : userDAOImpl;
+
+        TraineeServiceImpl traineeServiceImpl = new TraineeServiceImpl();
+        traineeServiceImpl.setTraineeDAO(traineeDAO);
+        traineeServiceImpl.setUserDAO(userDAO);
+        traineeServiceImpl.setUserCredentialsGenerator(BenchmarkData.newUserCredentialsGenerator());
+        traineeServiceImpl.setTraineeMapper(new TraineeMapperImpl());
+        TraineeService traineeService = timed
+                ? (TraineeService) metrics.postProcessAfterInitialization(traineeServiceImpl, "traineeService")
+                : traineeServiceImpl;
+
+        GymFacade gymFacade = new GymFacade(traineeService, new TrainerServiceImpl(), new TrainingServiceImpl(),
+                new AssignmentServiceImpl(), new AuthenticationServiceImpl());
+        facade = timed ? (GymFacade) metrics.postProcessAfterInitialization(gymFacade, "gymFacade") : gymFacade;
+    }
+
+    @Benchmark
+    public Optional<TraineeResponse> getTraineeById() {
+        return facade.getTraineeById(ThreadLocalRandom.current().nextLong(1, TRAINEES + 1L));
+    }
+
+    private static MetricsBeanPostProcessor newMetricsPostProcessor() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("metricsRegistry", new MetricsRegistry());
+
+        return new MetricsBeanPostProcessor(beanFactory.getBeanProvider(MetricsRegistry.class));
+    }
+}
@@ -0,0 +1,135 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.storage.ConcurrentLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StorageMapBenchmark {
+    private static final Object VALUE = new Object();
+
+    @Param({"ConcurrentHashMap", "ConcurrentSkipListMap", "ConcurrentLongMap"})
+    private String mapType;
+
+    @Param({"1000000"})
+    private int entries;
+
+    private LongKeyedMap map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = newMap(mapType);
+        for (long id = 1; id <= entries; id++) {
+            map.put(id, VALUE);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(randomId());
+    }
+
+    @Benchmark
+    public Object put() {
+        return map.put(randomId(), VALUE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long iterate() {
+        return map.count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public LongKeyedMap populate() {
+        LongKeyedMap populated = newMap(mapType);
+        for (long id = 1; id <= entries; id++) {
+            populated.put(id, VALUE);
+        }
+        return populated;
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, entries + 1L);
+    }
+
+    private static LongKeyedMap newMap(String mapType) {
+        return switch (mapType) {
+            case "ConcurrentHashMap" -> new BoxedMap(new ConcurrentHashMap<>());
+            case "ConcurrentSkipListMap" -> new BoxedMap(new ConcurrentSkipListMap<>());
+            case "ConcurrentLongMap" -> new PrimitiveMap(new ConcurrentLongMap<>());
+            default -> throw new IllegalArgumentException("Unknown map type: " + mapType);
+        };
+    }
+
+    public interface LongKeyedMap {
+        Object get(long id);
+
+        Object put(long id, Object value);
+
+        long count();
+    }
+
+    private record BoxedMap(Map<Long, Object> map) implements LongKeyedMap {
+        @Override
+        public Object get(long id) {
+            return map.get(id);
+        }
+
+        @Override
+        public Object put(long id, Object value) {
+            return map.put(id, value);
+        }
+
+        @Override
+        public long count() {
+            return map.values().stream().filter(Objects::nonNull).count();
+        }
+    }
+
+    private record PrimitiveMap(ConcurrentLongMap<Object> map) implements LongKeyedMap {
+        @Override
+        public Object get(long id) {
+            return map.get(id);
+        }
+
+        @Override
+        public Object put(long id, Object value) {
+            return map.put(id, value);
+        }
+
+        @Override
+        public long count() {
+            return map.values().filter(Objects::nonNull).count();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.TrainerDAOImpl;
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.journal.DurableStorage;
+import com.gym.crm.storage.journal.FsyncPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StorageRecoveryBenchmark {
+    private static final int TRAININGS_PER_TRAINEE = 10;
+    private static final int TRAINERS = 1000;
+
+    @Param({"1000000"})
+    private int trainings;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-recovery");
+
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+        DurableStorage durableStorage = new DurableStorage(storage, directory, FsyncPolicy.NEVER, 10, 0);
+        durableStorage.start();
+
+        TraineeDAOImpl traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(storage);
+        traineeDAO.setStorageJournal(durableStorage);
+        TrainerDAOImpl trainerDAO = new TrainerDAOImpl();
+        trainerDAO.setStorage(storage);
+        trainerDAO.setStorageJournal(durableStorage);
+        TrainingDAOImpl trainingDAO = new TrainingDAOImpl();
+        trainingDAO.setStorage(storage);
+        trainingDAO.setStorageJournal(durableStorage);
+
+        int trainees = Math.max(1, trainings / TRAININGS_PER_TRAINEE);
+        Trainee[] traineePool = new Trainee[trainees];
+        for (int i = 0; i < trainees; i++) {
+            traineePool[i] = traineeDAO.create(BenchmarkData.newTrainee(i));
+        }
+        Trainer[] trainerPool = new Trainer[TRAINERS];
+        for (int i = 0; i < TRAINERS; i++) {
+            trainerPool[i] = trainerDAO.create(BenchmarkData.newTrainer(i));
+        }
+        for (int i = 0; i < trainings; i++) {
+            trainingDAO.create(BenchmarkData.newTraining(traineePool[i % trainees], trainerPool[i % TRAINERS], i));
+        }
+
+        durableStorage.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public InMemoryStorage recover() throws IOException {
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+        DurableStorage durableStorage = new DurableStorage(storage, directory, FsyncPolicy.NEVER, 10, 0);
+        durableStorage.start();
+        durableStorage.close();
+        return storage;
+    }
+}
@@ -0,0 +1,119 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.UserDAOImpl;
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateUserDAO;
+import com.gym.crm.dto.bulk.BulkCreateResult;
+import com.gym.crm.dto.trainee.TraineeCreateRequest;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.mapper.TraineeMapperImpl;
+import com.gym.crm.service.impl.TraineeServiceImpl;
+import com.gym.crm.storage.InMemoryStorage;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TraineeBulkCreateBenchmark {
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"in-memory", "hibernate"})
+    private String storage;
+
+    @Param({"1000"})
+    private int members;
+
+    private TraineeServiceImpl traineeService;
+    private SessionFactory sessionFactory;
+    private long batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStorage inMemoryStorage = BenchmarkStorages.newInMemoryStorage();
+        traineeService = new TraineeServiceImpl();
+        traineeService.setUserCredentialsGenerator(BenchmarkData.newUserCredentialsGenerator());
+        traineeService.setTraineeMapper(new TraineeMapperImpl());
+        traineeService.setPasswordHasher(BenchmarkData.newCheapPasswordHasher());
+
+        if (storage.equals("hibernate")) {
+            sessionFactory = BenchmarkStorages.newH2SessionFactory("trainee_bulk_create", BATCH_SIZE);
+
+            HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+            traineeDAO.setSessionFactory(sessionFactory);
+            traineeDAO.setStorage(inMemoryStorage);
+            traineeDAO.setBatchSize(BATCH_SIZE);
+            HibernateUserDAO userDAO = new HibernateUserDAO();
+            userDAO.setSessionFactory(sessionFactory);
+            userDAO.setStorage(inMemoryStorage);
+
+            traineeService.setTraineeDAO(traineeDAO);
+            traineeService.setUserDAO(userDAO);
+        } else {
+            TraineeDAOImpl traineeDAO = new TraineeDAOImpl();
+            traineeDAO.setStorage(inMemoryStorage);
+            UserDAOImpl userDAO = new UserDAOImpl();
+            userDAO.setStorage(inMemoryStorage);
+
+            traineeService.setTraineeDAO(traineeDAO);
+            traineeService.setUserDAO(userDAO);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Benchmark
+    public void createOneByOne(Blackhole blackhole) {
+        for (TraineeCreateRequest request : nextBatch()) {
+            blackhole.consume(traineeService.create(request));
+        }
+    }
+
+    @Benchmark
+    public List<BulkCreateResult<TraineeResponse>> createAll() {
+        return traineeService.createAll(nextBatch());
+    }
+
+    private List<TraineeCreateRequest> nextBatch() {
+        long current = batch++;
+        List<TraineeCreateRequest> requests = new ArrayList<>(members);
+
+        for (int i = 0; i < members; i++) {
+            requests.add(TraineeCreateRequest.builder()
+                    .firstName("Partner" + current)
+                    .lastName("Member" + i % (members / 2))
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .address("123 Main St")
+                    .build());
+        }
+
+        return requests;
+    }
+}
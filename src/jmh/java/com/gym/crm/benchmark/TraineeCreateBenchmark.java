@@ -0,0 +1,93 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.UserDAOImpl;
+import com.gym.crm.dto.trainee.TraineeCreateRequest;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.mapper.TraineeMapperImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.User;
+import com.gym.crm.service.impl.TraineeServiceImpl;
+import com.gym.crm.storage.InMemoryStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TraineeCreateBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int members;
+
+    private TraineeServiceImpl traineeService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+
+        TraineeDAOImpl traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(storage);
+        UserDAOImpl userDAO = new UserDAOImpl();
+        userDAO.setStorage(storage);
+
+        traineeService = new TraineeServiceImpl();
+        traineeService.setTraineeDAO(traineeDAO);
+        traineeService.setUserDAO(userDAO);
+        traineeService.setUserCredentialsGenerator(BenchmarkData.newUserCredentialsGenerator());
+        traineeService.setTraineeMapper(new TraineeMapperImpl());
+        traineeService.setPasswordHasher(BenchmarkData.newCheapPasswordHasher());
+
+        for (int i = 0; i < members; i++) {
+            User user = User.builder()
+                    .firstName("Existing")
+                    .lastName("Member" + i)
+                    .username("Existing.Member" + i)
+                    .password("password")
+                    .isActive(true)
+                    .build();
+            traineeDAO.create(Trainee.builder().user(user).build());
+        }
+    }
+
+    @Benchmark
+    public TraineeResponse create() {
+        TraineeCreateRequest request = TraineeCreateRequest.builder()
+                .firstName("New")
+                .lastName("Member" + sequence.getAndIncrement())
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .address("123 Main St")
+                .build();
+
+        return traineeService.create(request);
+    }
+
+    @Benchmark
+    public TraineeResponse createDuplicateName() {
+        TraineeCreateRequest request = TraineeCreateRequest.builder()
+                .firstName("John")
+                .lastName("Smith")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .address("123 Main St")
+                .build();
+
+        return traineeService.create(request);
+    }
+}
@@ -0,0 +1,76 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.model.Trainee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TraineeDAOBenchmark {
+    @Param({"10000", "1000000"})
+    private int trainees;
+
+    private TraineeDAOImpl traineeDAO;
+    private Trainee[] updates;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+
+        updates = new Trainee[trainees];
+        for (int i = 0; i < trainees; i++) {
+            Trainee created = traineeDAO.create(BenchmarkData.newTrainee(i));
+            updates[i] = created.toBuilder()
+                    .address("456 Oak Ave")
+                    .build();
+        }
+        sequence.set(trainees);
+    }
+
+    @Benchmark
+    public Trainee create() {
+        return traineeDAO.create(BenchmarkData.newTrainee(sequence.getAndIncrement()));
+    }
+
+    @Benchmark
+    public Optional<Trainee> findById() {
+        return traineeDAO.findById(randomId());
+    }
+
+    @Benchmark
+    public Trainee update() {
+        return traineeDAO.update(updates[ThreadLocalRandom.current().nextInt(trainees)]);
+    }
+
+    @Benchmark
+    public Trainee deleteAndCreate() {
+        traineeDAO.delete(randomId());
+        return traineeDAO.create(BenchmarkData.newTrainee(sequence.getAndIncrement()));
+    }
+
+    private Long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, trainees + 1L);
+    }
+}
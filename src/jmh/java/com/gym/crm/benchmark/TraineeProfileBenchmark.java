@@ -0,0 +1,136 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainerDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingTypeDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TraineeProfileBenchmark {
+    private static final int TRAINEES = 1_000;
+    private static final int TRAINERS = 20;
+    private static final int TRAINERS_PER_TRAINEE = 2;
+    private static final int TRAININGS_PER_TRAINEE = 5;
+    private static final int PAGE_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"1", "25"})
+    private int fetchBatchSize;
+
+    private SessionFactory sessionFactory;
+    private HibernateTraineeDAO traineeDAO;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkStorages.newH2SessionFactory("trainee_profile", BATCH_SIZE);
+
+        TrainingType yoga = TrainingType.builder().trainingTypeName("Yoga").build();
+        sessionFactory.inTransaction(session -> session.persist(yoga));
+        TrainingTypeStorage trainingTypeStorage = new TrainingTypeStorage();
+        HibernateTrainingTypeDAO trainingTypeDAO = new HibernateTrainingTypeDAO();
+        trainingTypeDAO.setSessionFactory(sessionFactory);
+        trainingTypeDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingTypeDAO.refresh();
+
+        traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        traineeDAO.setTrainingTypeStorage(trainingTypeStorage);
+        traineeDAO.setBatchSize(BATCH_SIZE);
+        traineeDAO.setFetchBatchSize(fetchBatchSize);
+        traineeDAO.setRecentTrainings(TRAININGS_PER_TRAINEE);
+        List<Trainee> trainees = new ArrayList<>(TRAINEES);
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees.add(BenchmarkData.newTrainee(i));
+        }
+        trainees = traineeDAO.createAll(trainees);
+        ids = trainees.stream()
+                .mapToLong(Trainee::getId)
+                .toArray();
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        trainerDAO.setBatchSize(BATCH_SIZE);
+        List<Trainer> trainers = new ArrayList<>(TRAINERS);
+        for (int i = 0; i < TRAINERS; i++) {
+            trainers.add(BenchmarkData.newTrainer(i).toBuilder().specialization(yoga).build());
+        }
+        List<Trainer> created = trainerDAO.createAll(trainers);
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ids.length; i++) {
+                for (int j = 0; j < TRAINERS_PER_TRAINEE; j++) {
+                    session.createNativeMutationQuery("insert into trainees_trainers (trainee_id, trainer_id) values (?1, ?2)")
+                            .setParameter(1, ids[i])
+                            .setParameter(2, created.get((i + j) % TRAINERS).getId())
+                            .executeUpdate();
+                }
+            }
+        });
+
+        HibernateTrainingDAO trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingDAO.setBatchSize(BATCH_SIZE);
+        List<Training> trainings = new ArrayList<>(TRAINEES * TRAININGS_PER_TRAINEE);
+        for (int i = 0; i < TRAINEES; i++) {
+            for (int j = 0; j < TRAININGS_PER_TRAINEE; j++) {
+                trainings.add(BenchmarkData.newTraining(trainees.get(i), created.get((i + j) % TRAINERS), j)
+                        .toBuilder()
+                        .trainingType(yoga)
+                        .build());
+            }
+        }
+        trainingDAO.createAll(trainings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Trainee profile() {
+        return traineeDAO.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)], FetchPlan.PROFILE)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public List<Trainee> profilePage() {
+        long afterId = ids[ThreadLocalRandom.current().nextInt(ids.length - PAGE_SIZE)];
+        return traineeDAO.findPage(afterId, PAGE_SIZE, FetchPlan.PROFILE);
+    }
+}
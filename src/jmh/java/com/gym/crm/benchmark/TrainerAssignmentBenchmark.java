@@ -0,0 +1,131 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.hibernate.HibernateAssignmentDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainerDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingTypeDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrainerAssignmentBenchmark {
+    private static final int TRAINEES = 1_000;
+    private static final int TRAINERS_PER_TRAINEE = 3;
+    private static final int INACTIVE_EVERY = 10;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100", "1000"})
+    private int trainers;
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainerDAO trainerDAO;
+    private HibernateAssignmentDAO assignmentDAO;
+    private long[] traineeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkStorages.newH2SessionFactory("trainer_assignment", BATCH_SIZE);
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+
+        TrainingType yoga = TrainingType.builder().trainingTypeName("Yoga").build();
+        sessionFactory.inTransaction(session -> session.persist(yoga));
+        TrainingTypeStorage trainingTypeStorage = new TrainingTypeStorage();
+        HibernateTrainingTypeDAO trainingTypeDAO = new HibernateTrainingTypeDAO();
+        trainingTypeDAO.setSessionFactory(sessionFactory);
+        trainingTypeDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingTypeDAO.refresh();
+
+        HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(storage);
+        traineeDAO.setBatchSize(BATCH_SIZE);
+        List<Trainee> trainees = new ArrayList<>(TRAINEES);
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees.add(BenchmarkData.newTrainee(i));
+        }
+        traineeIds = traineeDAO.createAll(trainees).stream()
+                .mapToLong(Trainee::getId)
+                .toArray();
+
+        trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(storage);
+        trainerDAO.setBatchSize(BATCH_SIZE);
+        List<Trainer> created = new ArrayList<>(trainers);
+        for (int i = 0; i < trainers; i++) {
+            Trainer trainer = BenchmarkData.newTrainer(i).toBuilder().specialization(yoga).build();
+            created.add(trainer.toBuilder()
+                    .user(trainer.getUser().toBuilder().isActive(i % INACTIVE_EVERY != 0).build())
+                    .build());
+        }
+        created = trainerDAO.createAll(created);
+
+        assignmentDAO = new HibernateAssignmentDAO();
+        assignmentDAO.setSessionFactory(sessionFactory);
+        assignmentDAO.setStorage(storage);
+        for (int i = 0; i < traineeIds.length; i++) {
+            for (int j = 0; j < TRAINERS_PER_TRAINEE; j++) {
+                assignmentDAO.assign(traineeIds[i], created.get((i + j) % trainers).getId());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long[] findAllFilter() {
+        long traineeId = nextTraineeId();
+        Set<Long> assigned = new HashSet<>(sessionFactory.fromSession(session -> session.createSelectionQuery(
+                        "select tr.id from Trainee te join te.trainers tr where te.id = :id", Long.class)
+                .setParameter("id", traineeId)
+                .getResultList()));
+
+        return trainerDAO.findAll().stream()
+                .filter(trainer -> Boolean.TRUE.equals(trainer.getUser().getIsActive()))
+                .mapToLong(Trainer::getId)
+                .filter(id -> !assigned.contains(id))
+                .toArray();
+    }
+
+    @Benchmark
+    public long[] adjacencyIndex() {
+        return assignmentDAO.findUnassignedActiveTrainerIds(nextTraineeId());
+    }
+
+    private long nextTraineeId() {
+        return traineeIds[ThreadLocalRandom.current().nextInt(traineeIds.length)];
+    }
+}
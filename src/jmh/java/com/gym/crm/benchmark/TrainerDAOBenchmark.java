@@ -0,0 +1,78 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TrainerDAOImpl;
+import com.gym.crm.model.Trainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TrainerDAOBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000", "1000000"})
+    private int trainers;
+
+    private TrainerDAOImpl trainerDAO;
+    private Trainer[] updates;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trainerDAO = new TrainerDAOImpl();
+        trainerDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+
+        updates = new Trainer[trainers];
+        for (int i = 0; i < trainers; i++) {
+            Trainer created = trainerDAO.create(BenchmarkData.newTrainer(i));
+            updates[i] = created.toBuilder()
+                    .user(created.getUser().toBuilder().isActive(false).build())
+                    .build();
+        }
+        sequence.set(trainers);
+    }
+
+    @Benchmark
+    public Trainer create() {
+        return trainerDAO.create(BenchmarkData.newTrainer(sequence.getAndIncrement()));
+    }
+
+    @Benchmark
+    public Optional<Trainer> findById() {
+        return trainerDAO.findById(randomId());
+    }
+
+    @Benchmark
+    public Trainer update() {
+        return trainerDAO.update(updates[ThreadLocalRandom.current().nextInt(trainers)]);
+    }
+
+    @Benchmark
+    public List<Trainer> findPage() {
+        return trainerDAO.findPage(randomId(), PAGE_SIZE);
+    }
+
+    private Long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, trainers + 1L);
+    }
+}
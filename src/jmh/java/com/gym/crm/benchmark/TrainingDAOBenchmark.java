@@ -0,0 +1,92 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TrainingDAOBenchmark {
+    private static final int TRAINEES = 10_000;
+    private static final int TRAINERS = 500;
+
+    @Param({"100000", "1000000"})
+    private int trainings;
+
+    private TrainingDAOImpl trainingDAO;
+    private Trainee[] trainees;
+    private Trainer[] trainers;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trainingDAO = new TrainingDAOImpl();
+        trainingDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+
+        trainees = new Trainee[TRAINEES];
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees[i] = Trainee.builder().id((long) i).build();
+        }
+        trainers = new Trainer[TRAINERS];
+        for (int i = 0; i < TRAINERS; i++) {
+            trainers[i] = Trainer.builder().id((long) i).build();
+        }
+
+        for (int i = 0; i < trainings; i++) {
+            trainingDAO.create(BenchmarkData.newTraining(trainees[i % TRAINEES], trainers[i % TRAINERS], i));
+        }
+        sequence.set(trainings);
+    }
+
+    @Benchmark
+    public Training create() {
+        long index = sequence.getAndIncrement();
+        return trainingDAO.create(BenchmarkData.newTraining(
+                trainees[(int) (index % TRAINEES)], trainers[(int) (index % TRAINERS)], index));
+    }
+
+    @Benchmark
+    public Optional<Training> findById() {
+        return trainingDAO.findById(ThreadLocalRandom.current().nextLong(1, trainings + 1L));
+    }
+
+    @Benchmark
+    public List<Training> findByTraineeId() {
+        return trainingDAO.findByTraineeId((long) ThreadLocalRandom.current().nextInt(TRAINEES));
+    }
+
+    @Benchmark
+    public List<Training> findTrainerWeek() {
+        LocalDate from = BenchmarkData.FIRST_TRAINING_DATE.plusDays(ThreadLocalRandom.current().nextInt(358));
+        TrainingFilter filter = TrainingFilter.builder()
+                .trainerId((long) ThreadLocalRandom.current().nextInt(TRAINERS))
+                .build();
+
+        return trainingDAO.findByDateRange(from, from.plusDays(6), filter);
+    }
+}
@@ -0,0 +1,109 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainerDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TrainingInsertBenchmark {
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100000"})
+    private int trainings;
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainingDAO trainingDAO;
+    private List<Training> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkStorages.newH2SessionFactory("training_insert", BATCH_SIZE);
+
+        TrainingType yoga = TrainingType.builder().trainingTypeName("Yoga").build();
+        sessionFactory.inTransaction(session -> session.persist(yoga));
+
+        HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        Trainee trainee = traineeDAO.create(Trainee.builder().user(BenchmarkData.newUser("John", "Doe")).build());
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(BenchmarkStorages.newInMemoryStorage().getTrainingTypeStorage());
+        trainerDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        Trainer trainer = trainerDAO.create(Trainer.builder().user(BenchmarkData.newUser("Mike", "Johnson")).specialization(yoga).build());
+
+        trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(BenchmarkStorages.newInMemoryStorage().getTrainingTypeStorage());
+        trainingDAO.setBatchSize(BATCH_SIZE);
+
+        batch = new ArrayList<>(trainings);
+        for (int i = 0; i < trainings; i++) {
+            batch.add(Training.builder()
+                    .trainee(trainee)
+                    .trainer(trainer)
+                    .trainingType(yoga)
+                    .trainingName("Session " + i)
+                    .trainingDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .trainingDuration(60)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> session.createMutationQuery("delete from Training").executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public int rowAtATime() {
+        for (Training training : batch) {
+            trainingDAO.create(training);
+        }
+        return batch.size();
+    }
+
+    @Benchmark
+    public int batched() {
+        return trainingDAO.createAll(batch).size();
+    }
+
+    @Benchmark
+    public int stateless() {
+        return trainingDAO.insertAll(batch);
+    }
+}
@@ -0,0 +1,88 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.storage.InMemoryStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TrainingLookupBenchmark {
+    private static final int TRAININGS_PER_TRAINEE = 100;
+    private static final int TRAINERS = 1000;
+
+    @Param({"10000000"})
+    private int trainings;
+
+    private TrainingDAOImpl trainingDAO;
+    private int trainees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+        trainingDAO = new TrainingDAOImpl();
+        trainingDAO.setStorage(storage);
+
+        trainees = Math.max(1, trainings / TRAININGS_PER_TRAINEE);
+        Trainee[] traineePool = new Trainee[trainees];
+        for (int i = 0; i < trainees; i++) {
+            traineePool[i] = Trainee.builder().id((long) i).build();
+        }
+        Trainer[] trainerPool = new Trainer[TRAINERS];
+        for (int i = 0; i < TRAINERS; i++) {
+            trainerPool[i] = Trainer.builder().id((long) i).build();
+        }
+
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < trainings; i++) {
+            trainingDAO.create(Training.builder()
+                    .trainee(traineePool[i % trainees])
+                    .trainer(trainerPool[i % TRAINERS])
+                    .trainingName("Session")
+                    .trainingDate(date)
+                    .trainingDuration(60)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<Training> fullScanByTrainee() {
+        Long traineeId = randomTraineeId();
+
+        return trainingDAO.findAll().stream()
+                .filter(training -> Objects.equals(training.getTrainee().getId(), traineeId))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Training> indexedByTrainee() {
+        return trainingDAO.findByTraineeId(randomTraineeId());
+    }
+
+    private Long randomTraineeId() {
+        return (long) ThreadLocalRandom.current().nextInt(trainees);
+    }
+}
@@ -0,0 +1,126 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.hibernate.HibernateTraineeDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainerDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingDAO;
+import com.gym.crm.dao.impl.hibernate.HibernateTrainingTypeDAO;
+import com.gym.crm.dto.training.TrainingResponse;
+import com.gym.crm.mapper.TrainingMapper;
+import com.gym.crm.mapper.TrainingMapperImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrainingPageBenchmark {
+    private static final int TRAINEES = 50;
+    private static final int TRAINERS = 10;
+    private static final int TRAININGS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainingDAO trainingDAO;
+    private TrainingMapper trainingMapper;
+    private long firstId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = BenchmarkStorages.newH2SessionFactory("training_page", BATCH_SIZE);
+
+        TrainingType yoga = TrainingType.builder().trainingTypeName("Yoga").build();
+        sessionFactory.inTransaction(session -> session.persist(yoga));
+        TrainingTypeStorage trainingTypeStorage = new TrainingTypeStorage();
+        HibernateTrainingTypeDAO trainingTypeDAO = new HibernateTrainingTypeDAO();
+        trainingTypeDAO.setSessionFactory(sessionFactory);
+        trainingTypeDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingTypeDAO.refresh();
+
+        HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        traineeDAO.setBatchSize(BATCH_SIZE);
+        List<Trainee> trainees = new ArrayList<>(TRAINEES);
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees.add(BenchmarkData.newTrainee(i));
+        }
+        trainees = traineeDAO.createAll(trainees);
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(BenchmarkStorages.newInMemoryStorage());
+        trainerDAO.setBatchSize(BATCH_SIZE);
+        List<Trainer> trainers = new ArrayList<>(TRAINERS);
+        for (int i = 0; i < TRAINERS; i++) {
+            trainers.add(BenchmarkData.newTrainer(i).toBuilder().specialization(yoga).build());
+        }
+        trainers = trainerDAO.createAll(trainers);
+
+        trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingDAO.setBatchSize(BATCH_SIZE);
+        List<Training> trainings = new ArrayList<>(TRAININGS);
+        for (int i = 0; i < TRAININGS; i++) {
+            trainings.add(BenchmarkData.newTraining(trainees.get(i % TRAINEES), trainers.get(i % TRAINERS), i)
+                    .toBuilder()
+                    .trainingType(yoga)
+                    .build());
+        }
+        firstId = trainingDAO.createAll(trainings).get(0).getId();
+
+        trainingMapper = new TrainingMapperImpl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<TrainingResponse> entityPage() {
+        return trainingDAO.findPage(nextAfterId(), pageSize).stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TrainingResponse> summaryPage() {
+        return trainingDAO.findSummaryPage(nextAfterId(), pageSize).stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+    }
+
+    private long nextAfterId() {
+        return firstId - 1 + ThreadLocalRandom.current().nextInt(TRAININGS - pageSize);
+    }
+}
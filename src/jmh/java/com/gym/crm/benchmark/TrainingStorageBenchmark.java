@@ -0,0 +1,125 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.storage.ConcurrentLongMap;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class TrainingStorageBenchmark {
+    private static final int TRAINEES = 10_000;
+    private static final int TRAINERS = 1_000;
+    private static final String[] TRAINING_NAMES = {
+            "Morning Yoga", "Evening Yoga", "Power Lifting", "Cardio Blast", "Stretching",
+            "Pilates Core", "Spin Class", "Boxing Basics", "CrossFit WOD", "Zumba"
+    };
+    private static final LocalDate FROM = BenchmarkData.FIRST_TRAINING_DATE.plusDays(30);
+    private static final LocalDate TO = BenchmarkData.FIRST_TRAINING_DATE.plusDays(120);
+
+    @Param({"objects", "columns"})
+    private String layout;
+
+    @Param({"1000000"})
+    private int trainings;
+
+    private ConcurrentLongMap<Training> objectRows;
+    private TrainingStorage trainingStorage;
+    private TrainingDAOImpl trainingDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Trainee[] trainees = new Trainee[TRAINEES];
+        for (int i = 0; i < TRAINEES; i++) {
+            trainees[i] = Trainee.builder().id((long) i + 1).build();
+        }
+        Trainer[] trainers = new Trainer[TRAINERS];
+        for (int i = 0; i < TRAINERS; i++) {
+            trainers[i] = Trainer.builder().id((long) i + 1).build();
+        }
+
+        long heapBefore = usedHeap();
+        if ("objects".equals(layout)) {
+            objectRows = new ConcurrentLongMap<>();
+            for (long id = 1; id <= trainings; id++) {
+                objectRows.put(id, newTraining(id, trainees, trainers));
+            }
+        } else {
+            InMemoryStorage storage = BenchmarkStorages.newInMemoryStorage();
+            trainingStorage = storage.getTrainingStorage();
+            trainingDAO = new TrainingDAOImpl();
+            trainingDAO.setStorage(storage);
+            for (long id = 1; id <= trainings; id++) {
+                trainingStorage.put(newTraining(id, trainees, trainers));
+            }
+        }
+        long heapBytes = usedHeap() - heapBefore;
+        long offHeapBytes = trainingStorage == null ? 0 : trainingStorage.getOffHeapBytes();
+
+        System.out.printf("%n%s: %d B heap + %d B off-heap per training%n",
+                layout, heapBytes / trainings, offHeapBytes / trainings);
+    }
+
+    @Benchmark
+    public Training findById() {
+        long id = ThreadLocalRandom.current().nextLong(1, trainings + 1L);
+
+        return objectRows != null ? objectRows.get(id) : trainingDAO.findById(id).orElseThrow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long sumDurationInRange() {
+        if (objectRows != null) {
+            return objectRows.values()
+                    .filter(training -> !training.getTrainingDate().isBefore(FROM) && !training.getTrainingDate().isAfter(TO))
+                    .mapToLong(Training::getTrainingDuration)
+                    .sum();
+        }
+
+        return trainingStorage.sumTrainingDuration(FROM, TO);
+    }
+
+    private static Training newTraining(long id, Trainee[] trainees, Trainer[] trainers) {
+        return Training.builder()
+                .id(id)
+                .trainee(trainees[(int) (id % TRAINEES)])
+                .trainer(trainers[(int) (id % TRAINERS)])
+                .trainingType(BenchmarkData.YOGA)
+                .trainingName(new String(TRAINING_NAMES[(int) (id % TRAINING_NAMES.length)]))
+                .trainingDate(BenchmarkData.FIRST_TRAINING_DATE.plusDays(id % 365))
+                .trainingDuration(30 + (int) (id % 60))
+                .build();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.gym.crm.benchmark;
+
+import com.gym.crm.storage.UserStorage;
+import com.gym.crm.util.PasswordPool;
+import com.gym.crm.util.UserCredentialsGenerator;
+import com.gym.crm.util.UsernameAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserCredentialsGeneratorBenchmark {
+    @Param({"100", "10000"})
+    private int existingUsernames;
+
+    private static final int PASSWORD_POOL_SIZE = 1024;
+
+    private UserCredentialsGenerator generator;
+    private UserCredentialsGenerator pooledGenerator;
+    private PasswordPool passwordPool;
+    private List<String> usernames;
+    private UserStorage userStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        usernames = new ArrayList<>(existingUsernames);
+        for (int i = 0; i < existingUsernames; i++) {
+            usernames.add(i == 0 ? "John.Smith" : "John.Smith" + i);
+        }
+
+        userStorage = new UserStorage();
+        usernames.forEach(userStorage::reserveUsername);
+
+        UsernameAllocator allocator = new UsernameAllocator();
+        allocator.rebuild(usernames);
+
+        generator = new UserCredentialsGenerator();
+        generator.setUsernameAllocator(allocator);
+        generator.setPasswordPool(new PasswordPool());
+
+        passwordPool = new PasswordPool();
+        passwordPool.setSize(PASSWORD_POOL_SIZE);
+        passwordPool.start();
+        pooledGenerator = new UserCredentialsGenerator();
+        pooledGenerator.setUsernameAllocator(allocator);
+        pooledGenerator.setPasswordPool(passwordPool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordPool.stop();
+    }
+
+    @Benchmark
+    public String generateUsernameFromList() {
+        return generator.generateUsername("John", "Smith", usernames);
+    }
+
+    @Benchmark
+    public String allocateUsername() {
+        return generator.allocateUsername("John", "Smith", userStorage::reserveUsername);
+    }
+
+    @Benchmark
+    public String generatePassword() {
+        return generator.generatePassword();
+    }
+
+    @Benchmark
+    public String generatePasswordFromPool() {
+        return pooledGenerator.generatePassword();
+    }
+}
@@ -1,6 +1,28 @@
 package com.gym.crm;
 
+import com.gym.crm.config.AppConfig;
+import com.gym.crm.server.EmbeddedServer;
+import com.gym.crm.server.ServerSettings;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
 public class Main {
     public static void main(String[] args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new PropertiesPropertySource("yamlProps", AppConfig.loadProperties()));
+
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.register(AppConfig.class);
+
+        EmbeddedServer server = new EmbeddedServer(ServerSettings.from(environment));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            context.close();
+        }, "shutdown"));
+
+        server.start(new DispatcherServlet(context));
+        server.await();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.gym.crm.audit;
+
+public final class AuditActor {
+    public static final String SYSTEM = "system";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private AuditActor() {
+    }
+
+    public static String current() {
+        String actor = CURRENT.get();
+        return actor != null ? actor : SYSTEM;
+    }
+
+    public static void set(String actor) {
+        CURRENT.set(actor);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
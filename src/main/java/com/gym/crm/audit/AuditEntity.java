@@ -0,0 +1,5 @@
+package com.gym.crm.audit;
+
+public enum AuditEntity {
+    TRAINEE, TRAINER, TRAINING, TRAINING_TYPE
+}
@@ -0,0 +1,5 @@
+package com.gym.crm.audit;
+
+public enum AuditOperation {
+    CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,11 @@
+package com.gym.crm.audit;
+
+import java.util.Locale;
+
+public enum AuditOverflowPolicy {
+    DROP, BLOCK;
+
+    public static AuditOverflowPolicy of(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,88 @@
+package com.gym.crm.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class AuditRingBuffer {
+
+    @FunctionalInterface
+    interface EventHandler {
+        void handle(AuditEntity entity, Long id, AuditOperation operation, String actor, long timestamp);
+    }
+
+    private static final class Slot {
+        private AuditEntity entity;
+        private Long id;
+        private AuditOperation operation;
+        private String actor;
+        private long timestamp;
+        private volatile long sequence = -1;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong consumed = new AtomicLong(-1);
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Audit buffer size must be a power of two: " + capacity);
+        }
+
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    boolean tryPublish(AuditEntity entity, Long id, AuditOperation operation, String actor, long timestamp) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            if (sequence - consumed.get() > slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.entity = entity;
+        slot.id = id;
+        slot.operation = operation;
+        slot.actor = actor;
+        slot.timestamp = timestamp;
+        slot.sequence = sequence;
+
+        return true;
+    }
+
+    int drain(EventHandler handler, int maxEvents) {
+        long next = consumed.get() + 1;
+        int count = 0;
+
+        while (count < maxEvents) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence != next) {
+                break;
+            }
+
+            handler.handle(slot.entity, slot.id, slot.operation, slot.actor, slot.timestamp);
+            slot.id = null;
+            slot.actor = null;
+            next++;
+            count++;
+        }
+
+        if (count > 0) {
+            consumed.lazySet(next - 1);
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        return claimed.get() == consumed.get();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,8 @@
+package com.gym.crm.audit;
+
+public interface AuditTrail {
+    AuditTrail NOOP = (entity, id, operation) -> {
+    };
+
+    void record(AuditEntity entity, Long id, AuditOperation operation);
+}
@@ -0,0 +1,240 @@
+package com.gym.crm.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+public class RingBufferAuditTrail implements AuditTrail, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferAuditTrail.class);
+
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".jsonl";
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer buffer;
+    private final Path directory;
+    private final int batchSize;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+    private final LongAdder dropped = new LongAdder();
+    private final StringBuilder line = new StringBuilder(128);
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    private BufferedWriter out;
+    private long segment;
+    private long segmentBytes;
+    private long written;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private String lastTimestampText;
+
+    public RingBufferAuditTrail(Path directory, int bufferSize, int batchSize, AuditOverflowPolicy overflowPolicy,
+                                long maxFileBytes, int maxFiles, long flushIntervalMillis) {
+        this.buffer = new AuditRingBuffer(bufferSize);
+        this.directory = directory;
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMillis));
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        segment = lastSegment() + 1;
+        openSegment();
+
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+
+        logger.info("Audit trail writing to {} (buffer {}, overflow policy {})",
+                directory, buffer.capacity(), overflowPolicy);
+    }
+
+    @Override
+    public void record(AuditEntity entity, Long id, AuditOperation operation) {
+        String actor = AuditActor.current();
+        long timestamp = System.currentTimeMillis();
+
+        while (!buffer.tryPublish(entity, id, operation, actor, timestamp)) {
+            if (overflowPolicy == AuditOverflowPolicy.DROP || !running) {
+                dropped.increment();
+                return;
+            }
+
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+
+        synchronized (this) {
+            out.close();
+        }
+
+        logger.info("Audit trail closed. Written: {}, dropped: {}", getWritten(), getDropped());
+    }
+
+    private void runWriter() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                int drained;
+                synchronized (this) {
+                    drained = buffer.drain(this::write, batchSize);
+                    if (drained == 0) {
+                        out.flush();
+                    } else if (segmentBytes >= maxFileBytes) {
+                        rotate();
+                    }
+                }
+
+                if (drained == 0) {
+                    LockSupport.parkNanos(this, running ? flushIntervalNanos : BLOCKED_PARK_NANOS);
+                }
+            } catch (IOException | UncheckedIOException e) {
+                logger.error("Audit trail write failed; events are being discarded", e);
+                synchronized (this) {
+                    while (buffer.drain((entity, id, operation, actor, timestamp) -> dropped.increment(), batchSize) > 0) {
+                        Thread.onSpinWait();
+                    }
+                    reopen();
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void write(AuditEntity entity, Long id, AuditOperation operation, String actor, long timestamp) {
+        if (timestamp != lastTimestamp) {
+            lastTimestamp = timestamp;
+            lastTimestampText = Instant.ofEpochMilli(timestamp).toString();
+        }
+
+        line.setLength(0);
+        line.append("{\"timestamp\":\"").append(lastTimestampText)
+                .append("\",\"entity\":\"").append(entity)
+                .append("\",\"id\":").append(id)
+                .append(",\"operation\":\"").append(operation)
+                .append("\",\"actor\":\"");
+        appendEscaped(actor);
+        line.append("\"}\n");
+
+        try {
+            out.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segmentBytes += line.length();
+        written++;
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    private void reopen() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close broken audit segment {}", segment, e);
+        }
+
+        try {
+            rotate();
+            logger.info("Audit trail reopened at segment {}", segment);
+        } catch (IOException e) {
+            logger.error("Failed to reopen audit trail; retrying on the next write", e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        segment++;
+        openSegment();
+        deleteExpiredSegments();
+    }
+
+    private void openSegment() throws IOException {
+        Path file = segmentFile(segment);
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        segmentBytes = Files.size(file);
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        List<Long> segments = segments();
+        for (int i = 0; i < segments.size() - maxFiles; i++) {
+            Files.deleteIfExists(segmentFile(segments.get(i)));
+        }
+    }
+
+    private long lastSegment() throws IOException {
+        List<Long> segments = segments();
+        return segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentFile(long segment) {
+        return directory.resolve(FILE_PREFIX + String.format("%020d", segment) + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,104 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TraineeSummary;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Training;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+public class CachingTraineeDAO implements TraineeDAO {
+    private final TraineeDAO delegate;
+    private final EntityCache<Trainee> cache;
+    private final EntityCache<Training> trainingCache;
+
+    public CachingTraineeDAO(TraineeDAO delegate, EntityCache<Trainee> cache, EntityCache<Training> trainingCache) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.trainingCache = trainingCache;
+    }
+
+    @Override
+    public Trainee create(Trainee trainee) {
+        Trainee created = delegate.create(trainee);
+        cache.invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Trainee> createAll(List<Trainee> trainees) {
+        List<Trainee> created = delegate.createAll(trainees);
+        created.forEach(trainee -> cache.invalidate(trainee.getId()));
+        return created;
+    }
+
+    @Override
+    public Optional<Trainee> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public Optional<Trainee> findById(Long id, FetchPlan fetchPlan) {
+        return fetchPlan == FetchPlan.DEFAULT ? findById(id) : delegate.findById(id, fetchPlan);
+    }
+
+    @Override
+    public List<Trainee> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Trainee> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Trainee> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        return delegate.findPage(afterId, limit, fetchPlan);
+    }
+
+    @Override
+    public List<TraineeSummary> findSummaryPage(Long afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public Stream<Trainee> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Trainee update(Trainee trainee) {
+        try {
+            return delegate.update(trainee);
+        } finally {
+            cache.invalidate(trainee.getId());
+        }
+    }
+
+    @Override
+    public Optional<Trainee> update(Long id, UnaryOperator<Trainee> update) {
+        try {
+            return delegate.update(id, update);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+            if (trainingCache != null) {
+                trainingCache.invalidateIf(training -> training.getTrainee() != null
+                        && id.equals(training.getTrainee().getId()));
+            }
+        }
+    }
+}
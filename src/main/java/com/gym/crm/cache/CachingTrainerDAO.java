@@ -0,0 +1,82 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.model.Trainer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+public class CachingTrainerDAO implements TrainerDAO {
+    private final TrainerDAO delegate;
+    private final EntityCache<Trainer> cache;
+
+    public CachingTrainerDAO(TrainerDAO delegate, EntityCache<Trainer> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Trainer create(Trainer trainer) {
+        Trainer created = delegate.create(trainer);
+        cache.invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Trainer> createAll(List<Trainer> trainers) {
+        List<Trainer> created = delegate.createAll(trainers);
+        created.forEach(trainer -> cache.invalidate(trainer.getId()));
+        return created;
+    }
+
+    @Override
+    public Optional<Trainer> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public Optional<Trainer> findById(Long id, FetchPlan fetchPlan) {
+        return fetchPlan == FetchPlan.DEFAULT ? findById(id) : delegate.findById(id, fetchPlan);
+    }
+
+    @Override
+    public List<Trainer> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Trainer> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<Trainer> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        return delegate.findPage(afterId, limit, fetchPlan);
+    }
+
+    @Override
+    public Stream<Trainer> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Trainer update(Trainer trainer) {
+        try {
+            return delegate.update(trainer);
+        } finally {
+            cache.invalidate(trainer.getId());
+        }
+    }
+
+    @Override
+    public Optional<Trainer> update(Long id, UnaryOperator<Trainer> update) {
+        try {
+            return delegate.update(id, update);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.TrainingSummary;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class CachingTrainingDAO implements TrainingDAO {
+    private final TrainingDAO delegate;
+    private final EntityCache<Training> cache;
+
+    public CachingTrainingDAO(TrainingDAO delegate, EntityCache<Training> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Training create(Training training) {
+        Training created = delegate.create(training);
+        cache.invalidate(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<Training> createAll(List<Training> trainings) {
+        List<Training> created = delegate.createAll(trainings);
+        created.forEach(training -> cache.invalidate(training.getId()));
+        return created;
+    }
+
+    @Override
+    public int insertAll(List<Training> trainings) {
+        return delegate.insertAll(trainings);
+    }
+
+    @Override
+    public int insertAll(List<Training> trainings, TrainingImport progress) {
+        return delegate.insertAll(trainings, progress);
+    }
+
+    @Override
+    public Optional<TrainingImport> findImport(String source) {
+        return delegate.findImport(source);
+    }
+
+    @Override
+    public Optional<Training> findById(Long id) {
+        return cache.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Training> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Training> findByTraineeId(Long traineeId) {
+        return delegate.findByTraineeId(traineeId);
+    }
+
+    @Override
+    public List<Training> findByTrainerId(Long trainerId) {
+        return delegate.findByTrainerId(trainerId);
+    }
+
+    @Override
+    public List<Training> findByDateRange(LocalDate from, LocalDate to, TrainingFilter filter) {
+        return delegate.findByDateRange(from, to, filter);
+    }
+
+    @Override
+    public List<Training> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public List<TrainingSummary> findSummaryPage(Long afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<TrainingSummary> findSummariesByTraineeId(Long traineeId) {
+        return delegate.findSummariesByTraineeId(traineeId);
+    }
+
+    @Override
+    public Stream<Training> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.gym.crm.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class EntityCache<V> {
+    private static final int MAX_SEGMENTS = 64;
+    private static final int MIN_SEGMENT_CAPACITY = 128;
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = -1;
+
+    private static final class Node<V> {
+        final long key;
+        final V value;
+        final long writtenAt;
+        int queue;
+        Node<V> previous;
+        Node<V> next;
+
+        Node(long key, V value, long writtenAt) {
+            this.key = key;
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    private static final class AccessQueue<V> {
+        Node<V> head;
+        Node<V> tail;
+        int size;
+
+        void addLast(Node<V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(Node<V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToBack(Node<V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        Node<V> pollFirst() {
+            Node<V> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+    }
+
+    private static final class Segment<V> extends ReentrantLock {
+        final int maxWindow;
+        final int maxMain;
+        final int maxProtected;
+        final FrequencySketch sketch;
+        final AccessQueue<V> window = new AccessQueue<>();
+        final AccessQueue<V> probation = new AccessQueue<>();
+        final AccessQueue<V> protectedQueue = new AccessQueue<>();
+        volatile long invalidations;
+
+        Segment(int capacity) {
+            this.maxWindow = Math.max(1, capacity * WINDOW_PERCENT / 100);
+            this.maxMain = capacity - maxWindow;
+            this.maxProtected = maxMain * PROTECTED_PERCENT / 100;
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        AccessQueue<V> queue(Node<V> node) {
+            return switch (node.queue) {
+                case WINDOW -> window;
+                case PROBATION -> probation;
+                default -> protectedQueue;
+            };
+        }
+    }
+
+    private final String name;
+    private final int capacity;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Long, Node<V>> data;
+    private final Segment<V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public EntityCache(String name, int capacity, Duration expireAfterWrite) {
+        this(name, capacity, expireAfterWrite, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    EntityCache(String name, int capacity, Duration expireAfterWrite, LongSupplier ticker) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache " + name + " capacity must be positive, got " + capacity);
+        }
+
+        this.name = name;
+        this.capacity = capacity;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+        this.ticker = ticker;
+        this.data = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+        }
+    }
+
+    public Optional<V> get(long key, LongFunction<Optional<V>> loader) {
+        Segment<V> segment = segmentFor(key);
+        Node<V> node = data.get(key);
+
+        if (node != null) {
+            if (!isExpired(node, ticker.getAsLong())) {
+                hits.increment();
+                recordHit(segment, node);
+                return Optional.of(node.value);
+            }
+            expire(segment, node);
+        }
+
+        misses.increment();
+        long stamp = segment.invalidations;
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> insert(segment, key, value, stamp));
+
+        return loaded;
+    }
+
+    public void invalidate(long key) {
+        Segment<V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            segment.invalidations++;
+            Node<V> node = data.remove(key);
+            if (node != null) {
+                unlink(segment, node);
+            }
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<V> predicate) {
+        for (Segment<V> segment : segments) {
+            segment.lock();
+            try {
+                segment.invalidations++;
+            } finally {
+                segment.unlock();
+            }
+        }
+
+        data.values().stream()
+                .filter(node -> predicate.test(node.value))
+                .forEach(node -> invalidate(node.key));
+    }
+
+    public void invalidateAll() {
+        invalidateIf(value -> true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    private void recordHit(Segment<V> segment, Node<V> node) {
+        if (!segment.tryLock()) {
+            return;
+        }
+
+        try {
+            if (node.queue == REMOVED) {
+                return;
+            }
+
+            segment.sketch.increment(node.key);
+            switch (node.queue) {
+                case WINDOW -> segment.window.moveToBack(node);
+                case PROBATION -> {
+                    segment.probation.remove(node);
+                    node.queue = PROTECTED;
+                    segment.protectedQueue.addLast(node);
+                    if (segment.protectedQueue.size > segment.maxProtected) {
+                        Node<V> demoted = segment.protectedQueue.pollFirst();
+                        demoted.queue = PROBATION;
+                        segment.probation.addLast(demoted);
+                    }
+                }
+                default -> segment.protectedQueue.moveToBack(node);
+            }
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    private void insert(Segment<V> segment, long key, V value, long stamp) {
+        segment.lock();
+        try {
+            if (segment.invalidations != stamp) {
+                return;
+            }
+
+            segment.sketch.increment(key);
+            Node<V> node = new Node<>(key, value, ticker.getAsLong());
+            Node<V> previous = data.put(key, node);
+            if (previous != null) {
+                unlink(segment, previous);
+            }
+            node.queue = WINDOW;
+            segment.window.addLast(node);
+
+            evict(segment);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    private void evict(Segment<V> segment) {
+        while (segment.window.size > segment.maxWindow) {
+            Node<V> candidate = segment.window.pollFirst();
+            if (segment.probation.size + segment.protectedQueue.size < segment.maxMain) {
+                candidate.queue = PROBATION;
+                segment.probation.addLast(candidate);
+                continue;
+            }
+
+            Node<V> victim = segment.probation.head != null ? segment.probation.head : segment.protectedQueue.head;
+            if (victim != null && segment.sketch.frequency(candidate.key) > segment.sketch.frequency(victim.key)) {
+                unlink(segment, victim);
+                discard(victim);
+                candidate.queue = PROBATION;
+                segment.probation.addLast(candidate);
+            } else {
+                candidate.queue = REMOVED;
+                discard(candidate);
+            }
+        }
+    }
+
+    private void expire(Segment<V> segment, Node<V> node) {
+        segment.lock();
+        try {
+            if (node.queue != REMOVED && data.remove(node.key, node)) {
+                unlink(segment, node);
+                expirations.increment();
+            }
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    private void discard(Node<V> node) {
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    private void unlink(Segment<V> segment, Node<V> node) {
+        if (node.queue != REMOVED) {
+            segment.queue(node).remove(node);
+            node.queue = REMOVED;
+        }
+    }
+
+    private boolean isExpired(Node<V> node, long now) {
+        return expireAfterWriteNanos > 0 && now - node.writtenAt >= expireAfterWriteNanos;
+    }
+
+    private Segment<V> segmentFor(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return segments[(int) (hash >>> 40) & (segments.length - 1)];
+    }
+}
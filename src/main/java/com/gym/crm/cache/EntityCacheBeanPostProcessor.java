@@ -0,0 +1,43 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.TrainingDAO;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EntityCacheBeanPostProcessor implements BeanPostProcessor, Ordered {
+    private final ObjectProvider<EntityCaches> entityCaches;
+
+    public EntityCacheBeanPostProcessor(ObjectProvider<EntityCaches> entityCaches) {
+        this.entityCaches = entityCaches;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof TraineeDAO) && !(bean instanceof TrainerDAO) && !(bean instanceof TrainingDAO)) {
+            return bean;
+        }
+
+        EntityCaches caches = entityCaches.getIfAvailable(() -> EntityCaches.NONE);
+        if (bean instanceof TraineeDAO traineeDAO && caches.trainees() != null) {
+            return new CachingTraineeDAO(traineeDAO, caches.trainees(), caches.trainings());
+        }
+        if (bean instanceof TrainerDAO trainerDAO && caches.trainers() != null) {
+            return new CachingTrainerDAO(trainerDAO, caches.trainers());
+        }
+        if (bean instanceof TrainingDAO trainingDAO && caches.trainings() != null) {
+            return new CachingTrainingDAO(trainingDAO, caches.trainings());
+        }
+
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record EntityCaches(EntityCache<Trainee> trainees, EntityCache<Trainer> trainers,
+                           EntityCache<Training> trainings) {
+    public static final EntityCaches NONE = new EntityCaches(null, null, null);
+
+    public List<EntityCache<?>> all() {
+        return Stream.<EntityCache<?>>of(trainees, trainers, trainings)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
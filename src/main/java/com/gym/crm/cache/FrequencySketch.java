@@ -0,0 +1,68 @@
+package com.gym.crm.cache;
+
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final long counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int length = Integer.highestOneBit(Math.max(8, capacity - 1) << 1);
+        this.table = new long[length];
+        this.counterMask = ((long) length << 4) - 1;
+        this.sampleSize = 10 * Math.max(1, capacity);
+    }
+
+    int frequency(long key) {
+        int frequency = MAX_COUNT;
+        for (long seed : SEEDS) {
+            long position = position(key, seed);
+            frequency = Math.min(frequency, (int) (table[index(position)] >>> shift(position)) & MAX_COUNT);
+        }
+
+        return frequency;
+    }
+
+    void increment(long key) {
+        boolean added = false;
+        for (long seed : SEEDS) {
+            long position = position(key, seed);
+            int index = index(position);
+            int shift = shift(position);
+            if (((table[index] >>> shift) & MAX_COUNT) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private long position(long key, long seed) {
+        long hash = (key ^ seed) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return hash & counterMask;
+    }
+
+    private static int index(long position) {
+        return (int) (position >>> 4);
+    }
+
+    private static int shift(long position) {
+        return (int) (position & 15) << 2;
+    }
+}
@@ -12,11 +12,13 @@ import org.springframework.core.env.PropertiesPropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Properties;
 
@@ -28,10 +30,7 @@ public class AppConfig implements WebMvcConfigurer {
     public static PropertySourcesPlaceholderConfigurer properties(ConfigurableEnvironment env) {
         PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
 
-        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
-        yaml.setResources(new ClassPathResource("application.yml"));
-
-        Properties properties = yaml.getObject();
+        Properties properties = loadProperties();
         PropertySource<?> propertySource = new PropertiesPropertySource("yamlProps", properties);
         env.getPropertySources().addFirst(propertySource);
 
@@ -39,6 +38,12 @@ public class AppConfig implements WebMvcConfigurer {
         return configurer;
     }
 
+    public static Properties loadProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        return yaml.getObject();
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -50,6 +55,7 @@ public class AppConfig implements WebMvcConfigurer {
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        converters.add(new StringHttpMessageConverter(StandardCharsets.UTF_8));
         converters.add(new MappingJackson2HttpMessageConverter(mapper));
     }
 
@@ -0,0 +1,53 @@
+package com.gym.crm.config;
+
+import com.gym.crm.audit.AuditOverflowPolicy;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.audit.RingBufferAuditTrail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class AuditConfig {
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    @Value("${audit.enabled}")
+    private boolean enabled;
+
+    @Value("${audit.directory}")
+    private String directory;
+
+    @Value("${audit.buffer-size}")
+    private int bufferSize;
+
+    @Value("${audit.batch-size}")
+    private int batchSize;
+
+    @Value("${audit.overflow}")
+    private String overflow;
+
+    @Value("${audit.flush-interval-ms}")
+    private long flushIntervalMillis;
+
+    @Value("${audit.max-file-size-mb}")
+    private long maxFileSizeMb;
+
+    @Value("${audit.max-files}")
+    private int maxFiles;
+
+    @Bean
+    public AuditTrail auditTrail() throws IOException {
+        if (!enabled) {
+            return AuditTrail.NOOP;
+        }
+
+        RingBufferAuditTrail auditTrail = new RingBufferAuditTrail(Path.of(directory), bufferSize, batchSize,
+                AuditOverflowPolicy.of(overflow), maxFileSizeMb * BYTES_PER_MB, maxFiles, flushIntervalMillis);
+        auditTrail.start();
+
+        return auditTrail;
+    }
+}
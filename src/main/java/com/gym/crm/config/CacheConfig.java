@@ -0,0 +1,50 @@
+package com.gym.crm.config;
+
+import com.gym.crm.cache.EntityCache;
+import com.gym.crm.cache.EntityCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class CacheConfig {
+    @Value("${cache.enabled}")
+    private boolean enabled;
+
+    @Value("${cache.trainee.capacity}")
+    private int traineeCapacity;
+
+    @Value("${cache.trainee.expire-after-write-seconds}")
+    private long traineeExpireSeconds;
+
+    @Value("${cache.trainer.capacity}")
+    private int trainerCapacity;
+
+    @Value("${cache.trainer.expire-after-write-seconds}")
+    private long trainerExpireSeconds;
+
+    @Value("${cache.training.capacity}")
+    private int trainingCapacity;
+
+    @Value("${cache.training.expire-after-write-seconds}")
+    private long trainingExpireSeconds;
+
+    @Bean
+    public EntityCaches entityCaches() {
+        if (!enabled) {
+            return EntityCaches.NONE;
+        }
+
+        return new EntityCaches(
+                cache("trainee", traineeCapacity, traineeExpireSeconds),
+                cache("trainer", trainerCapacity, trainerExpireSeconds),
+                cache("training", trainingCapacity, trainingExpireSeconds));
+    }
+
+    private static <V> EntityCache<V> cache(String name, int capacity, long expireSeconds) {
+        return capacity > 0 ? new EntityCache<>(name, capacity, Duration.ofSeconds(expireSeconds)) : null;
+    }
+}
@@ -1,16 +1,20 @@
 package com.gym.crm.config;
 
-import com.mysql.cj.jdbc.MysqlDataSource;
+import com.gym.crm.metrics.ConnectionPoolMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.DependsOn;
 
 import javax.sql.DataSource;
 
 @org.springframework.context.annotation.Configuration
 @ComponentScan(basePackages = "com.gym.crm.model")
+@ConditionalOnStorageType(StorageType.HIBERNATE)
 public class HibernateConfig {
     @Value("${db.driver}")
     private String driverClassName;
@@ -24,6 +28,36 @@ public class HibernateConfig {
     @Value("${db.password}")
     private String dbPassword;
 
+    @Value("${db.pool.minimum-idle}")
+    private int poolMinimumIdle;
+
+    @Value("${db.pool.maximum-size}")
+    private int poolMaximumSize;
+
+    @Value("${db.pool.connection-timeout-ms}")
+    private long poolConnectionTimeoutMs;
+
+    @Value("${db.pool.validation-timeout-ms}")
+    private long poolValidationTimeoutMs;
+
+    @Value("${db.pool.idle-timeout-ms}")
+    private long poolIdleTimeoutMs;
+
+    @Value("${db.pool.max-lifetime-ms}")
+    private long poolMaxLifetimeMs;
+
+    @Value("${db.pool.leak-detection-threshold-ms}")
+    private long poolLeakDetectionThresholdMs;
+
+    @Value("${db.statement-cache.size}")
+    private int statementCacheSize;
+
+    @Value("${db.statement-cache.sql-limit}")
+    private int statementCacheSqlLimit;
+
+    @Value("${db.rewrite-batched-statements}")
+    private boolean rewriteBatchedStatements;
+
     @Value("${hibernate.dialect}")
     private String hibernateDialect;
 
@@ -36,24 +70,53 @@ public class HibernateConfig {
     @Value("${hibernate.format_sql}")
     private String hibernateFormatSql;
 
+    @Value("${hibernate.jdbc.batch-size}")
+    private int jdbcBatchSize;
+
     @Bean
-    public DataSource dataSource() {
-        MysqlDataSource dataSource = new MysqlDataSource();
-        dataSource.setURL(dbUrl);
-        dataSource.setUser(dbUser);
-        dataSource.setPassword(dbPassword);
+    public ConnectionPoolMetrics connectionPoolMetrics() {
+        return new ConnectionPoolMetrics();
+    }
 
-        return dataSource;
+    @Bean(destroyMethod = "close")
+    public DataSource dataSource(ConnectionPoolMetrics connectionPoolMetrics) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("gym-crm-pool");
+        config.setDriverClassName(driverClassName);
+        config.setJdbcUrl(dbUrl);
+        config.setUsername(dbUser);
+        config.setPassword(dbPassword);
+
+        config.setMinimumIdle(poolMinimumIdle);
+        config.setMaximumPoolSize(poolMaximumSize);
+        config.setConnectionTimeout(poolConnectionTimeoutMs);
+        config.setValidationTimeout(poolValidationTimeoutMs);
+        config.setIdleTimeout(poolIdleTimeoutMs);
+        config.setMaxLifetime(poolMaxLifetimeMs);
+        config.setLeakDetectionThreshold(poolLeakDetectionThresholdMs);
+        config.setAutoCommit(false);
+
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(statementCacheSize));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(statementCacheSqlLimit));
+        config.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(rewriteBatchedStatements));
+        config.addDataSourceProperty("useCursorFetch", "true");
+        config.addDataSourceProperty("characterEncoding", "utf8");
+        config.addDataSourceProperty("useUnicode", "true");
+
+        config.setMetricsTrackerFactory(connectionPoolMetrics);
+
+        return new HikariDataSource(config);
     }
 
     @Bean
-    public SessionFactory sessionFactory() {
+    @DependsOn("liquibase")
+    public SessionFactory sessionFactory(DataSource dataSource) {
         Configuration configuration = new Configuration();
 
-        configuration.setProperty("hibernate.connection.driver_class", driverClassName);
-        configuration.setProperty("hibernate.connection.url", dbUrl);
-        configuration.setProperty("hibernate.connection.username", dbUser);
-        configuration.setProperty("hibernate.connection.password", dbPassword);
+        configuration.getProperties().put("hibernate.connection.datasource", dataSource);
+        configuration.setProperty("hibernate.connection.provider_disables_autocommit", "true");
 
         configuration.setProperty("hibernate.dialect", hibernateDialect);
         configuration.setProperty("hibernate.hbm2ddl.auto", hibernateHbm2ddlAuto);
@@ -61,11 +124,11 @@ public class HibernateConfig {
         configuration.setProperty("hibernate.format_sql", hibernateFormatSql);
         configuration.setProperty("hibernate.use_sql_comments", "true");
 
-        configuration.setProperty("hibernate.connection.characterEncoding", "utf8");
-        configuration.setProperty("hibernate.connection.CharSet", "utf8");
-        configuration.setProperty("hibernate.connection.useUnicode", "true");
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize));
+        configuration.setProperty("hibernate.order_inserts", "true");
+        configuration.setProperty("hibernate.order_updates", "true");
+        configuration.setProperty("hibernate.jdbc.batch_versioned_data", "true");
 
-        configuration.setProperty("hibernate.connection.pool_size", "10");
         configuration.setProperty("hibernate.current_session_context_class", "thread");
 
         configuration.addAnnotatedClass(com.gym.crm.model.User.class);
@@ -73,6 +136,8 @@ public class HibernateConfig {
         configuration.addAnnotatedClass(com.gym.crm.model.Trainer.class);
         configuration.addAnnotatedClass(com.gym.crm.model.Training.class);
         configuration.addAnnotatedClass(com.gym.crm.model.TrainingType.class);
+        configuration.addAnnotatedClass(com.gym.crm.model.TrainerWorkload.class);
+        configuration.addAnnotatedClass(com.gym.crm.model.TrainingImport.class);
 
         return configuration.buildSessionFactory();
     }
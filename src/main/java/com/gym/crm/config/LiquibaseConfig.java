@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Configuration;
 import javax.sql.DataSource;
 
 @Configuration
+@ConditionalOnStorageType(StorageType.HIBERNATE)
 public class LiquibaseConfig {
     @Value("${liquibase.change-log}")
     private String changeLog;
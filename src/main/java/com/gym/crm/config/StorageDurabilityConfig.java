@@ -0,0 +1,44 @@
+package com.gym.crm.config;
+
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.journal.DurableStorage;
+import com.gym.crm.storage.journal.FsyncPolicy;
+import com.gym.crm.storage.journal.StorageJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
+public class StorageDurabilityConfig {
+    @Value("${storage.durability.enabled}")
+    private boolean enabled;
+
+    @Value("${storage.durability.directory}")
+    private String directory;
+
+    @Value("${storage.durability.fsync}")
+    private String fsync;
+
+    @Value("${storage.durability.group-commit-ms}")
+    private long groupCommitMillis;
+
+    @Value("${storage.durability.snapshot-interval-seconds}")
+    private long snapshotIntervalSeconds;
+
+    @Bean
+    public StorageJournal storageJournal(InMemoryStorage inMemoryStorage) throws IOException {
+        if (!enabled) {
+            return StorageJournal.NOOP;
+        }
+
+        DurableStorage durableStorage = new DurableStorage(inMemoryStorage, Path.of(directory),
+                FsyncPolicy.of(fsync), groupCommitMillis, snapshotIntervalSeconds);
+        durableStorage.start();
+
+        return durableStorage;
+    }
+}
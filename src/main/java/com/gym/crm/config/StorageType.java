@@ -0,0 +1,25 @@
+package com.gym.crm.config;
+
+import java.util.Arrays;
+
+public enum StorageType {
+    IN_MEMORY("in-memory"),
+    HIBERNATE("hibernate");
+
+    private final String value;
+
+    StorageType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static StorageType fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown storage type: " + value));
+    }
+}
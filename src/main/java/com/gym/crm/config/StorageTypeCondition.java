@@ -0,0 +1,41 @@
+package com.gym.crm.config;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.Map;
+import java.util.Properties;
+
+public class StorageTypeCondition implements Condition {
+    static final String STORAGE_TYPE_PROPERTY = "storage.type";
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Map<String, Object> attributes = metadata.getAnnotationAttributes(ConditionalOnStorageType.class.getName());
+        if (attributes == null) {
+            return false;
+        }
+
+        StorageType expected = (StorageType) attributes.get("value");
+        return expected == resolveStorageType(context.getEnvironment());
+    }
+
+    static StorageType resolveStorageType(Environment environment) {
+        String value = environment.getProperty(STORAGE_TYPE_PROPERTY);
+
+        if (value == null) {
+            YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+            yaml.setResources(new ClassPathResource("application.yml"));
+            Properties properties = yaml.getObject();
+
+            String raw = properties == null ? null : properties.getProperty(STORAGE_TYPE_PROPERTY);
+            value = raw == null ? StorageType.IN_MEMORY.getValue() : environment.resolvePlaceholders(raw);
+        }
+
+        return StorageType.fromValue(value);
+    }
+}
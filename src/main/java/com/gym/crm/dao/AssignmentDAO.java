@@ -0,0 +1,13 @@
+package com.gym.crm.dao;
+
+public interface AssignmentDAO {
+    boolean assign(Long traineeId, Long trainerId);
+
+    boolean unassign(Long traineeId, Long trainerId);
+
+    long[] findTrainerIds(Long traineeId);
+
+    long[] findTraineeIds(Long trainerId);
+
+    long[] findUnassignedActiveTrainerIds(Long traineeId);
+}
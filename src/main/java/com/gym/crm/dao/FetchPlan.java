@@ -0,0 +1,6 @@
+package com.gym.crm.dao;
+
+public enum FetchPlan {
+    DEFAULT,
+    PROFILE
+}
@@ -4,15 +4,31 @@ import com.gym.crm.model.Trainee;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface TraineeDAO {
     Trainee create(Trainee trainee);
 
+    List<Trainee> createAll(List<Trainee> trainees);
+
     Optional<Trainee> findById(Long id);
 
+    Optional<Trainee> findById(Long id, FetchPlan fetchPlan);
+
     List<Trainee> findAll();
 
+    List<Trainee> findPage(Long afterId, int limit);
+
+    List<Trainee> findPage(Long afterId, int limit, FetchPlan fetchPlan);
+
+    List<TraineeSummary> findSummaryPage(Long afterId, int limit);
+
+    Stream<Trainee> streamAll();
+
     Trainee update(Trainee trainee);
 
+    Optional<Trainee> update(Long id, UnaryOperator<Trainee> update);
+
     boolean delete(Long id);
 }
@@ -0,0 +1,7 @@
+package com.gym.crm.dao;
+
+import java.time.LocalDate;
+
+public record TraineeSummary(Long id, String firstName, String lastName, String username, Boolean active,
+                             LocalDate dateOfBirth, String address) {
+}
@@ -4,13 +4,27 @@ import com.gym.crm.model.Trainer;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface TrainerDAO {
     Trainer create(Trainer trainer);
 
+    List<Trainer> createAll(List<Trainer> trainers);
+
     Optional<Trainer> findById(Long id);
 
+    Optional<Trainer> findById(Long id, FetchPlan fetchPlan);
+
     List<Trainer> findAll();
 
+    List<Trainer> findPage(Long afterId, int limit);
+
+    List<Trainer> findPage(Long afterId, int limit, FetchPlan fetchPlan);
+
+    Stream<Trainer> streamAll();
+
     Trainer update(Trainer trainer);
+
+    Optional<Trainer> update(Long id, UnaryOperator<Trainer> update);
 }
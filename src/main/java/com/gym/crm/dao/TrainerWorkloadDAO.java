@@ -0,0 +1,10 @@
+package com.gym.crm.dao;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+public interface TrainerWorkloadDAO {
+    Map<YearMonth, Long> findMonthlyMinutes(Long trainerId, YearMonth from, YearMonth to);
+
+    int rebuild();
+}
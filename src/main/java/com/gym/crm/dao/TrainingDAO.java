@@ -1,14 +1,41 @@
 package com.gym.crm.dao;
 
 import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TrainingDAO {
     Training create(Training training);
 
+    List<Training> createAll(List<Training> trainings);
+
+    int insertAll(List<Training> trainings);
+
+    int insertAll(List<Training> trainings, TrainingImport progress);
+
+    Optional<TrainingImport> findImport(String source);
+
     Optional<Training> findById(Long id);
 
     List<Training> findAll();
+
+    List<Training> findByTraineeId(Long traineeId);
+
+    List<Training> findByTrainerId(Long trainerId);
+
+    List<Training> findByDateRange(LocalDate from, LocalDate to, TrainingFilter filter);
+
+    List<Training> findPage(Long afterId, int limit);
+
+    List<TrainingSummary> findSummaryPage(Long afterId, int limit);
+
+    List<TrainingSummary> findSummariesByTraineeId(Long traineeId);
+
+    Stream<Training> streamAll();
+
+    boolean delete(Long id);
 }
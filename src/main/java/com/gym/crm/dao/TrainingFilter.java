@@ -0,0 +1,16 @@
+package com.gym.crm.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class TrainingFilter {
+    private Long traineeId;
+    private Long trainerId;
+    private String trainingTypeName;
+}
@@ -0,0 +1,9 @@
+package com.gym.crm.dao;
+
+import com.gym.crm.model.TrainingType;
+
+import java.time.LocalDate;
+
+public record TrainingSummary(Long id, String traineeUsername, String trainerUsername, String trainingName,
+                              TrainingType trainingType, LocalDate trainingDate, Integer trainingDuration) {
+}
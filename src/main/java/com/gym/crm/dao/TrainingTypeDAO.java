@@ -0,0 +1,16 @@
+package com.gym.crm.dao;
+
+import com.gym.crm.model.TrainingType;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TrainingTypeDAO {
+    TrainingType save(TrainingType trainingType);
+
+    Optional<TrainingType> findById(Long id);
+
+    Optional<TrainingType> findByName(String name);
+
+    List<TrainingType> findAll();
+}
@@ -0,0 +1,24 @@
+package com.gym.crm.dao;
+
+import com.gym.crm.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface UserDAO {
+    boolean existsUsername(String username);
+
+    boolean reserveUsername(String username);
+
+    Set<String> reserveUsernames(Collection<String> usernames);
+
+    void releaseUsername(String username);
+
+    List<String> findAllUsernames();
+
+    Optional<User> findByUsername(String username);
+
+    boolean updatePassword(String username, String currentHash, String newHash);
+}
@@ -0,0 +1,120 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.AssignmentDAO;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.journal.StorageJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.locks.Lock;
+
+@Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
+public class AssignmentDAOImpl implements AssignmentDAO {
+    private static final Logger log = LoggerFactory.getLogger(AssignmentDAOImpl.class);
+
+    private AssignmentStorage assignmentStorage;
+    private StorageJournal storageJournal = StorageJournal.NOOP;
+    private AuditTrail auditTrail = AuditTrail.NOOP;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @Autowired
+    public void setStorageJournal(StorageJournal storageJournal) {
+        this.storageJournal = storageJournal;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
+    }
+
+    @Override
+    public boolean assign(Long traineeId, Long trainerId) {
+        long sequence;
+        Lock lock = assignmentStorage.pairLock(traineeId, trainerId);
+        lock.lock();
+        try {
+            if (!assignmentStorage.assign(traineeId, trainerId)) {
+                log.debug("Trainer ID: {} is already assigned to trainee ID: {}", trainerId, traineeId);
+                return false;
+            }
+            try {
+                sequence = storageJournal.trainerAssigned(traineeId, trainerId);
+            } catch (DaoException e) {
+                assignmentStorage.unassign(traineeId, trainerId);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
+        auditTrail.record(AuditEntity.TRAINEE, traineeId, AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    @Override
+    public boolean unassign(Long traineeId, Long trainerId) {
+        long sequence;
+        Lock lock = assignmentStorage.pairLock(traineeId, trainerId);
+        lock.lock();
+        try {
+            if (!assignmentStorage.unassign(traineeId, trainerId)) {
+                log.debug("Trainer ID: {} is not assigned to trainee ID: {}", trainerId, traineeId);
+                return false;
+            }
+            try {
+                sequence = storageJournal.trainerUnassigned(traineeId, trainerId);
+            } catch (DaoException e) {
+                assignmentStorage.assign(traineeId, trainerId);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
+        auditTrail.record(AuditEntity.TRAINEE, traineeId, AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    @Override
+    public long[] findTrainerIds(Long traineeId) {
+        long[] trainerIds = assignmentStorage.trainersOf(traineeId);
+
+        log.debug("Retrieved trainers of trainee ID: {}. Count: {}", traineeId, trainerIds.length);
+
+        return trainerIds;
+    }
+
+    @Override
+    public long[] findTraineeIds(Long trainerId) {
+        long[] traineeIds = assignmentStorage.traineesOf(trainerId);
+
+        log.debug("Retrieved trainees of trainer ID: {}. Count: {}", trainerId, traineeIds.length);
+
+        return traineeIds;
+    }
+
+    @Override
+    public long[] findUnassignedActiveTrainerIds(Long traineeId) {
+        long[] trainerIds = assignmentStorage.unassignedActiveTrainers(traineeId);
+
+        log.debug("Retrieved active trainers not assigned to trainee ID: {}. Count: {}", traineeId, trainerIds.length);
+
+        return trainerIds;
+    }
+}
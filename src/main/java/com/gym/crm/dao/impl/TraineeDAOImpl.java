@@ -1,28 +1,66 @@
 package com.gym.crm.dao.impl;
 
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.FetchPlan;
 import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TraineeSummary;
 import com.gym.crm.exception.DaoException;
 import com.gym.crm.model.Trainee;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.ConcurrentLongMap;
 import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.LockStripes;
 import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.UserStorage;
+import com.gym.crm.storage.journal.StorageJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
 public class TraineeDAOImpl implements TraineeDAO {
     private static final Logger log = LoggerFactory.getLogger(TraineeDAOImpl.class);
+    private static final int KEY_LOCKS = 64;
+
+    private final LockStripes keyLocks = new LockStripes(KEY_LOCKS);
 
     private TraineeStorage traineeStorage;
+    private UserStorage userStorage;
+    private TrainingStorage trainingStorage;
+    private AssignmentStorage assignmentStorage;
+    private StorageJournal storageJournal = StorageJournal.NOOP;
+    private AuditTrail auditTrail = AuditTrail.NOOP;
 
     @Autowired
     public void setStorage(InMemoryStorage inMemoryStorage) {
         this.traineeStorage = inMemoryStorage.getTraineeStorage();
+        this.userStorage = inMemoryStorage.getUserStorage();
+        this.trainingStorage = inMemoryStorage.getTrainingStorage();
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @Autowired
+    public void setStorageJournal(StorageJournal storageJournal) {
+        this.storageJournal = storageJournal;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
     }
 
     @Override
@@ -33,17 +71,43 @@ public class TraineeDAOImpl implements TraineeDAO {
                 .id(id)
                 .build();
 
-        Map<Long, Trainee> trainees = traineeStorage.getTrainees();
-        trainees.put(id, created);
+        long sequence;
+        Lock lock = keyLocks.forKey(id);
+        lock.lock();
+        try {
+            traineeStorage.getTrainees().put(id, created);
+            userStorage.register(created.getUser());
+            try {
+                sequence = storageJournal.traineeSaved(created);
+            } catch (DaoException e) {
+                traineeStorage.getTrainees().remove(id);
+                userStorage.unregister(created.getUser());
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
+
+        auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Trainee> createAll(List<Trainee> trainees) {
+        List<Trainee> created = trainees.stream()
+                .map(this::create)
+                .toList();
 
-        log.info("Created Trainee with id: {}", id);
+        log.debug("Created {} trainees", created.size());
 
         return created;
     }
 
     @Override
     public Optional<Trainee> findById(Long id) {
-        Map<Long, Trainee> trainees = traineeStorage.getTrainees();
+        ConcurrentLongMap<Trainee> trainees = traineeStorage.getTrainees();
         Trainee trainee = trainees.get(id);
 
         log.debug("Found trainee with ID: {}", id);
@@ -51,38 +115,180 @@ public class TraineeDAOImpl implements TraineeDAO {
         return Optional.ofNullable(trainee);
     }
 
+    @Override
+    public Optional<Trainee> findById(Long id, FetchPlan fetchPlan) {
+        return findById(id);
+    }
+
     @Override
     public List<Trainee> findAll() {
-        Map<Long, Trainee> trainees = traineeStorage.getTrainees();
+        ConcurrentLongMap<Trainee> trainees = traineeStorage.getTrainees();
 
         log.debug("Retrieved all trainees. Count: {}", trainees.size());
 
-        return trainees.values().stream()
+        return trainees.values()
                 .toList();
     }
 
     @Override
-    public Trainee update(Trainee trainee) {
-        Map<Long, Trainee> trainees = traineeStorage.getTrainees();
+    public List<Trainee> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new DaoException("Page limit must be positive: " + limit);
+        }
+
+        Stream<Trainee> trainees = afterId == null
+                ? traineeStorage.getTrainees().values()
+                : traineeStorage.getTrainees().valuesAfter(afterId);
+        List<Trainee> page = trainees
+                .limit(limit)
+                .toList();
 
-        if (!trainees.containsKey(trainee.getId())) {
-            throw new DaoException("Trainee not found with ID: " + trainee.getId());
+        log.debug("Retrieved trainee page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<Trainee> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        return findPage(afterId, limit);
+    }
+
+    @Override
+    public List<TraineeSummary> findSummaryPage(Long afterId, int limit) {
+        return findPage(afterId, limit).stream()
+                .map(this::summarize)
+                .toList();
+    }
+
+    @Override
+    public Stream<Trainee> streamAll() {
+        log.debug("Streaming all trainees");
+
+        return traineeStorage.getTrainees().values();
+    }
+
+    @Override
+    public Optional<Trainee> update(Long id, UnaryOperator<Trainee> update) {
+        ConcurrentLongMap<Trainee> trainees = traineeStorage.getTrainees();
+
+        while (true) {
+            Trainee current = trainees.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+
+            Trainee updated = update.apply(current).toBuilder()
+                    .id(id)
+                    .version(current.getVersion() + 1)
+                    .build();
+
+            long sequence;
+            Lock lock = keyLocks.forKey(id);
+            lock.lock();
+            try {
+                if (!trainees.replace(id, current, updated)) {
+                    sequence = -1;
+                } else {
+                    userStorage.replace(current.getUser(), updated.getUser());
+                    try {
+                        sequence = storageJournal.traineeSaved(updated);
+                    } catch (DaoException e) {
+                        trainees.replace(id, updated, current);
+                        userStorage.replace(updated.getUser(), current.getUser());
+                        throw e;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (sequence >= 0) {
+                storageJournal.awaitDurable(sequence);
+
+                auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.UPDATE);
+
+                return Optional.of(updated);
+            }
+
+            log.debug("Trainee with ID: {} changed concurrently, retrying update", id);
         }
+    }
 
-        trainees.put(trainee.getId(), trainee);
+    @Override
+    public Trainee update(Trainee trainee) {
+        ConcurrentLongMap<Trainee> trainees = traineeStorage.getTrainees();
+
+        Trainee stored;
+        long sequence;
+        Lock lock = keyLocks.forKey(trainee.getId());
+        lock.lock();
+        try {
+            Trainee previous = trainees.get(trainee.getId());
+            if (previous == null) {
+                throw new DaoException("Trainee not found with ID: " + trainee.getId());
+            }
+
+            stored = trainee.toBuilder()
+                    .version(previous.getVersion() + 1)
+                    .build();
+            trainees.put(stored.getId(), stored);
+            userStorage.replace(previous.getUser(), stored.getUser());
+            try {
+                sequence = storageJournal.traineeSaved(stored);
+            } catch (DaoException e) {
+                trainees.put(previous.getId(), previous);
+                userStorage.replace(stored.getUser(), previous.getUser());
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
 
-        log.info("Trainee updated with ID: {}", trainee.getId());
+        auditTrail.record(AuditEntity.TRAINEE, trainee.getId(), AuditOperation.UPDATE);
 
-        return trainee;
+        return stored;
     }
 
     @Override
     public boolean delete(Long id) {
-        Map<Long, Trainee> trainees = traineeStorage.getTrainees();
-        Trainee removed = trainees.remove(id);
+        Trainee removed;
+        int trainings = 0;
+        long sequence = -1;
+        Lock lock = keyLocks.forKey(id);
+        lock.lock();
+        try {
+            removed = traineeStorage.getTrainees().remove(id);
+            if (removed != null) {
+                try {
+                    sequence = storageJournal.traineeDeleted(id);
+                } catch (DaoException e) {
+                    traineeStorage.getTrainees().put(id, removed);
+                    throw e;
+                }
+                userStorage.unregister(removed.getUser());
+                trainings = trainingStorage.removeByTrainee(id);
+                assignmentStorage.removeTrainee(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (removed != null) {
+            storageJournal.awaitDurable(sequence);
 
-        log.info("Trainee deleted with ID: {}", id);
+            auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.DELETE);
+
+            log.debug("Removed {} trainings of trainee ID: {}", trainings, id);
+        }
 
         return removed != null;
     }
+
+    private TraineeSummary summarize(Trainee trainee) {
+        User user = trainee.getUser();
+
+        return new TraineeSummary(trainee.getId(), user.getFirstName(), user.getLastName(), user.getUsername(),
+                user.getIsActive(), trainee.getDateOfBirth(), trainee.getAddress());
+    }
 }
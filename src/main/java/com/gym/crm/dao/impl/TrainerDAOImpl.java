@@ -1,28 +1,61 @@
 package com.gym.crm.dao.impl;
 
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.FetchPlan;
 import com.gym.crm.dao.TrainerDAO;
 import com.gym.crm.exception.DaoException;
 import com.gym.crm.model.Trainer;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.ConcurrentLongMap;
 import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.LockStripes;
 import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.UserStorage;
+import com.gym.crm.storage.journal.StorageJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 @Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
 public class TrainerDAOImpl implements TrainerDAO {
     private static final Logger log = LoggerFactory.getLogger(TrainerDAOImpl.class);
+    private static final int KEY_LOCKS = 64;
+
+    private final LockStripes keyLocks = new LockStripes(KEY_LOCKS);
 
     private TrainerStorage trainerStorage;
+    private UserStorage userStorage;
+    private AssignmentStorage assignmentStorage;
+    private StorageJournal storageJournal = StorageJournal.NOOP;
+    private AuditTrail auditTrail = AuditTrail.NOOP;
 
     @Autowired
     public void setStorage(InMemoryStorage inMemoryStorage) {
         this.trainerStorage = inMemoryStorage.getTrainerStorage();
+        this.userStorage = inMemoryStorage.getUserStorage();
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @Autowired
+    public void setStorageJournal(StorageJournal storageJournal) {
+        this.storageJournal = storageJournal;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
     }
 
     @Override
@@ -33,17 +66,45 @@ public class TrainerDAOImpl implements TrainerDAO {
                 .id(id)
                 .build();
 
-        Map<Long, Trainer> trainers = trainerStorage.getTrainers();
-        trainers.put(id, created);
+        long sequence;
+        Lock lock = keyLocks.forKey(id);
+        lock.lock();
+        try {
+            trainerStorage.getTrainers().put(id, created);
+            userStorage.register(created.getUser());
+            assignmentStorage.trainerSaved(created);
+            try {
+                sequence = storageJournal.trainerSaved(created);
+            } catch (DaoException e) {
+                trainerStorage.getTrainers().remove(id);
+                userStorage.unregister(created.getUser());
+                assignmentStorage.setTrainerActive(id, false);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
 
-        log.info("Created Trainer with ID: {}", id);
+        auditTrail.record(AuditEntity.TRAINER, id, AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Trainer> createAll(List<Trainer> trainers) {
+        List<Trainer> created = trainers.stream()
+                .map(this::create)
+                .toList();
+
+        log.debug("Created {} trainers", created.size());
 
         return created;
     }
 
     @Override
     public Optional<Trainer> findById(Long id) {
-        Map<Long, Trainer> trainers = trainerStorage.getTrainers();
+        ConcurrentLongMap<Trainer> trainers = trainerStorage.getTrainers();
         Trainer trainer = trainers.get(id);
 
         log.debug("Trainer found with ID: {}", id);
@@ -51,28 +112,135 @@ public class TrainerDAOImpl implements TrainerDAO {
         return Optional.ofNullable(trainer);
     }
 
+    @Override
+    public Optional<Trainer> findById(Long id, FetchPlan fetchPlan) {
+        return findById(id);
+    }
+
     @Override
     public List<Trainer> findAll() {
-        Map<Long, Trainer> trainers = trainerStorage.getTrainers();
+        ConcurrentLongMap<Trainer> trainers = trainerStorage.getTrainers();
 
         log.debug("Retrieved all trainers. Count: {}", trainers.size());
 
-        return trainers.values().stream()
+        return trainers.values()
                 .toList();
     }
 
     @Override
-    public Trainer update(Trainer trainer) {
-        Map<Long, Trainer> trainers = trainerStorage.getTrainers();
+    public List<Trainer> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new DaoException("Page limit must be positive: " + limit);
+        }
+
+        Stream<Trainer> trainers = afterId == null
+                ? trainerStorage.getTrainers().values()
+                : trainerStorage.getTrainers().valuesAfter(afterId);
+        List<Trainer> page = trainers
+                .limit(limit)
+                .toList();
+
+        log.debug("Retrieved trainer page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<Trainer> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        return findPage(afterId, limit);
+    }
 
-        if (!trainers.containsKey(trainer.getId())) {
-            throw new DaoException("Trainer not found with ID: " + trainer.getId());
+    @Override
+    public Stream<Trainer> streamAll() {
+        log.debug("Streaming all trainers");
+
+        return trainerStorage.getTrainers().values();
+    }
+
+    @Override
+    public Optional<Trainer> update(Long id, UnaryOperator<Trainer> update) {
+        ConcurrentLongMap<Trainer> trainers = trainerStorage.getTrainers();
+
+        while (true) {
+            Trainer current = trainers.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+
+            Trainer updated = update.apply(current).toBuilder()
+                    .id(id)
+                    .version(current.getVersion() + 1)
+                    .build();
+
+            long sequence;
+            Lock lock = keyLocks.forKey(id);
+            lock.lock();
+            try {
+                if (!trainers.replace(id, current, updated)) {
+                    sequence = -1;
+                } else {
+                    userStorage.replace(current.getUser(), updated.getUser());
+                    assignmentStorage.trainerSaved(updated);
+                    try {
+                        sequence = storageJournal.trainerSaved(updated);
+                    } catch (DaoException e) {
+                        trainers.replace(id, updated, current);
+                        userStorage.replace(updated.getUser(), current.getUser());
+                        assignmentStorage.trainerSaved(current);
+                        throw e;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (sequence >= 0) {
+                storageJournal.awaitDurable(sequence);
+
+                auditTrail.record(AuditEntity.TRAINER, id, AuditOperation.UPDATE);
+
+                return Optional.of(updated);
+            }
+
+            log.debug("Trainer with ID: {} changed concurrently, retrying update", id);
         }
+    }
 
-        trainers.put(trainer.getId(), trainer);
+    @Override
+    public Trainer update(Trainer trainer) {
+        ConcurrentLongMap<Trainer> trainers = trainerStorage.getTrainers();
+
+        Trainer stored;
+        long sequence;
+        Lock lock = keyLocks.forKey(trainer.getId());
+        lock.lock();
+        try {
+            Trainer previous = trainers.get(trainer.getId());
+            if (previous == null) {
+                throw new DaoException("Trainer not found with ID: " + trainer.getId());
+            }
+
+            stored = trainer.toBuilder()
+                    .version(previous.getVersion() + 1)
+                    .build();
+            trainers.put(stored.getId(), stored);
+            userStorage.replace(previous.getUser(), stored.getUser());
+            assignmentStorage.trainerSaved(stored);
+            try {
+                sequence = storageJournal.trainerSaved(stored);
+            } catch (DaoException e) {
+                trainers.put(previous.getId(), previous);
+                userStorage.replace(stored.getUser(), previous.getUser());
+                assignmentStorage.trainerSaved(previous);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
 
-        log.info("Trainer updated with ID: {}", trainer.getId());
+        auditTrail.record(AuditEntity.TRAINER, trainer.getId(), AuditOperation.UPDATE);
 
-        return trainer;
+        return stored;
     }
 }
@@ -0,0 +1,45 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TrainerWorkloadDAO;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+@Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
+public class TrainerWorkloadDAOImpl implements TrainerWorkloadDAO {
+    private static final Logger log = LoggerFactory.getLogger(TrainerWorkloadDAOImpl.class);
+
+    private TrainingStorage trainingStorage;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.trainingStorage = inMemoryStorage.getTrainingStorage();
+    }
+
+    @Override
+    public Map<YearMonth, Long> findMonthlyMinutes(Long trainerId, YearMonth from, YearMonth to) {
+        Map<YearMonth, Long> months = trainingStorage.getTrainerMonthlyMinutes(trainerId, from, to);
+
+        log.debug("Retrieved workload of trainer ID: {} from {} to {}. Months: {}", trainerId, from, to, months.size());
+
+        return months;
+    }
+
+    @Override
+    public int rebuild() {
+        int rows = trainingStorage.rebuildTrainerWorkload();
+
+        log.info("Rebuilt trainer workload. Rows: {}", rows);
+
+        return rows;
+    }
+}
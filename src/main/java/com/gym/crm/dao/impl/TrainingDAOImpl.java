@@ -1,58 +1,386 @@
 package com.gym.crm.dao.impl;
 
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
 import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.TrainingSummary;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
 import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
 import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.LockStripes;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingRow;
 import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.journal.StorageJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
 public class TrainingDAOImpl implements TrainingDAO {
     private static final Logger log = LoggerFactory.getLogger(TrainingDAOImpl.class);
+    private static final int KEY_LOCKS = 64;
+
+    private final LockStripes keyLocks = new LockStripes(KEY_LOCKS);
 
     private TrainingStorage trainingStorage;
+    private TraineeStorage traineeStorage;
+    private TrainerStorage trainerStorage;
+    private TrainingTypeStorage trainingTypeStorage;
+    private StorageJournal storageJournal = StorageJournal.NOOP;
+    private AuditTrail auditTrail = AuditTrail.NOOP;
 
     @Autowired
     public void setStorage(InMemoryStorage inMemoryStorage) {
         this.trainingStorage = inMemoryStorage.getTrainingStorage();
+        this.traineeStorage = inMemoryStorage.getTraineeStorage();
+        this.trainerStorage = inMemoryStorage.getTrainerStorage();
+        this.trainingTypeStorage = inMemoryStorage.getTrainingTypeStorage();
+    }
+
+    @Autowired
+    public void setStorageJournal(StorageJournal storageJournal) {
+        this.storageJournal = storageJournal;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
     }
 
     @Override
     public Training create(Training training) {
         Long id = trainingStorage.getNextId();
 
-        Map<Long, Training> trainings = trainingStorage.getTrainings();
-        trainings.put(id, training);
+        Training created = training.toBuilder()
+                .id(id)
+                .build();
+
+        long sequence;
+        Lock lock = keyLocks.forKey(id);
+        lock.lock();
+        try {
+            trainingStorage.put(created);
+            try {
+                sequence = storageJournal.trainingSaved(created);
+            } catch (DaoException e) {
+                trainingStorage.remove(id);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        storageJournal.awaitDurable(sequence);
+
+        auditTrail.record(AuditEntity.TRAINING, id, AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Training> createAll(List<Training> trainings) {
+        List<Training> created = trainings.stream()
+                .map(this::create)
+                .toList();
+
+        log.debug("Created {} trainings", created.size());
 
-        log.info("Created Training with ID: {}", id);
+        return created;
+    }
 
-        return training;
+    @Override
+    public int insertAll(List<Training> trainings) {
+        return insertAll(trainings, null);
+    }
+
+    @Override
+    public int insertAll(List<Training> trainings, TrainingImport progress) {
+        List<Training> created = trainings.stream()
+                .<Training>map(training -> training.toBuilder()
+                        .id(trainingStorage.getNextId())
+                        .build())
+                .toList();
+
+        created.forEach(trainingStorage::put);
+        TrainingImport previous = progress != null ? trainingStorage.putImport(progress) : null;
+        long sequence;
+        try {
+            sequence = storageJournal.trainingsImported(created, progress);
+        } catch (DaoException e) {
+            created.forEach(training -> trainingStorage.remove(training.getId()));
+            if (progress != null) {
+                if (previous != null) {
+                    trainingStorage.putImport(previous);
+                } else {
+                    trainingStorage.removeImport(progress.getSource());
+                }
+            }
+            throw e;
+        }
+        storageJournal.awaitDurable(sequence);
+
+        for (Training training : created) {
+            auditTrail.record(AuditEntity.TRAINING, training.getId(), AuditOperation.CREATE);
+        }
+
+        log.debug("Inserted {} trainings with one journal record", created.size());
+
+        return created.size();
+    }
+
+    @Override
+    public Optional<TrainingImport> findImport(String source) {
+        return trainingStorage.findImport(source);
     }
 
     @Override
     public Optional<Training> findById(Long id) {
-        Map<Long, Training> trainings = trainingStorage.getTrainings();
-        Training training = trainings.get(id);
+        TrainingRow row = trainingStorage.find(id);
 
         log.debug("Training found with ID: {}", id);
 
-        return Optional.ofNullable(training);
+        return Optional.ofNullable(row)
+                .map(this::materialize);
     }
 
     @Override
     public List<Training> findAll() {
-        Map<Long, Training> trainings = trainingStorage.getTrainings();
+        List<Training> trainings = load(trainingStorage.ids())
+                .toList();
 
         log.debug("Retrieved all trainings. Count: {}", trainings.size());
 
-        return trainings.values().stream()
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByTraineeId(Long traineeId) {
+        List<Training> trainings = resolve(trainingStorage.getTrainingIdsByTrainee(traineeId));
+
+        log.debug("Retrieved trainings for trainee ID: {}. Count: {}", traineeId, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByTrainerId(Long trainerId) {
+        List<Training> trainings = resolve(trainingStorage.getTrainingIdsByTrainer(trainerId));
+
+        log.debug("Retrieved trainings for trainer ID: {}. Count: {}", trainerId, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByDateRange(LocalDate from, LocalDate to, TrainingFilter filter) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DaoException("Invalid date range: " + from + " is after " + to);
+        }
+
+        TrainingFilter criteria = filter != null ? filter : new TrainingFilter();
+        List<Long> trainingIds = trainingStorage.getTrainingIdsByDate(from, to, criteria.getTraineeId(), criteria.getTrainerId());
+        List<Training> trainings = resolve(trainingIds).stream()
+                .filter(training -> matches(training, criteria))
+                .toList();
+
+        log.debug("Retrieved trainings between {} and {}. Count: {}", from, to, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new DaoException("Page limit must be positive: " + limit);
+        }
+
+        LongStream ids = afterId == null
+                ? trainingStorage.ids()
+                : trainingStorage.idsAfter(afterId);
+        List<Training> page = load(ids)
+                .limit(limit)
+                .toList();
+
+        log.debug("Retrieved training page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<TrainingSummary> findSummaryPage(Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new DaoException("Page limit must be positive: " + limit);
+        }
+
+        LongStream ids = afterId == null
+                ? trainingStorage.ids()
+                : trainingStorage.idsAfter(afterId);
+        List<TrainingSummary> page = ids.mapToObj(trainingStorage::find)
+                .filter(Objects::nonNull)
+                .map(this::summarize)
+                .limit(limit)
                 .toList();
+
+        log.debug("Retrieved training summary page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<TrainingSummary> findSummariesByTraineeId(Long traineeId) {
+        List<TrainingSummary> summaries = trainingStorage.getTrainingIdsByTrainee(traineeId).stream()
+                .map(trainingStorage::find)
+                .filter(Objects::nonNull)
+                .map(this::summarize)
+                .toList();
+
+        log.debug("Retrieved training summaries for trainee ID: {}. Count: {}", traineeId, summaries.size());
+
+        return summaries;
+    }
+
+    @Override
+    public Stream<Training> streamAll() {
+        log.debug("Streaming all trainings");
+
+        return load(trainingStorage.ids());
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        TrainingRow removed;
+        long sequence = -1;
+        Lock lock = keyLocks.forKey(id);
+        lock.lock();
+        try {
+            removed = trainingStorage.find(id);
+            if (removed != null && trainingStorage.remove(id)) {
+                try {
+                    sequence = storageJournal.trainingDeleted(id);
+                } catch (DaoException e) {
+                    trainingStorage.put(materialize(removed));
+                    throw e;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (sequence >= 0) {
+            storageJournal.awaitDurable(sequence);
+
+            auditTrail.record(AuditEntity.TRAINING, id, AuditOperation.DELETE);
+        }
+
+        return sequence >= 0;
+    }
+
+    private boolean matches(Training training, TrainingFilter filter) {
+        if (filter.getTraineeId() != null
+                && (training.getTrainee() == null || !filter.getTraineeId().equals(training.getTrainee().getId()))) {
+            return false;
+        }
+        if (filter.getTrainerId() != null
+                && (training.getTrainer() == null || !filter.getTrainerId().equals(training.getTrainer().getId()))) {
+            return false;
+        }
+
+        return filter.getTrainingTypeName() == null
+                || (training.getTrainingType() != null
+                && filter.getTrainingTypeName().equalsIgnoreCase(training.getTrainingType().getTrainingTypeName()));
+    }
+
+    private List<Training> resolve(Collection<Long> trainingIds) {
+        return trainingIds.stream()
+                .map(trainingStorage::find)
+                .filter(Objects::nonNull)
+                .map(this::materialize)
+                .toList();
+    }
+
+    private Stream<Training> load(LongStream trainingIds) {
+        return trainingIds.mapToObj(trainingStorage::find)
+                .filter(Objects::nonNull)
+                .map(this::materialize);
+    }
+
+    private Training materialize(TrainingRow row) {
+        return Training.builder()
+                .id(row.id())
+                .trainee(trainee(row.traineeId()))
+                .trainer(trainer(row.trainerId()))
+                .trainingType(trainingType(row.trainingTypeId(), row.trainingTypeName()))
+                .trainingName(row.trainingName())
+                .trainingDate(row.trainingDate())
+                .trainingDuration(row.trainingDuration())
+                .build();
+    }
+
+    private TrainingSummary summarize(TrainingRow row) {
+        return new TrainingSummary(row.id(), username(trainee(row.traineeId())), username(trainer(row.trainerId())),
+                row.trainingName(), trainingType(row.trainingTypeId(), row.trainingTypeName()),
+                row.trainingDate(), row.trainingDuration());
+    }
+
+    private static String username(Trainee trainee) {
+        return trainee != null ? username(trainee.getUser()) : null;
+    }
+
+    private static String username(Trainer trainer) {
+        return trainer != null ? username(trainer.getUser()) : null;
+    }
+
+    private static String username(User user) {
+        return user != null ? user.getUsername() : null;
+    }
+
+    private Trainee trainee(Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        Trainee trainee = traineeStorage.getTrainees().get(id);
+        return trainee != null ? trainee : Trainee.builder().id(id).build();
+    }
+
+    private Trainer trainer(Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        Trainer trainer = trainerStorage.getTrainers().get(id);
+        return trainer != null ? trainer : Trainer.builder().id(id).build();
+    }
+
+    private TrainingType trainingType(Long id, String name) {
+        if (id == null && name == null) {
+            return null;
+        }
+
+        return trainingTypeStorage.findById(id)
+                .or(() -> trainingTypeStorage.findByName(name))
+                .orElseGet(() -> TrainingType.builder().id(id).trainingTypeName(name).build());
     }
 }
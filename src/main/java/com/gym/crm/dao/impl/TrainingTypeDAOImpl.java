@@ -0,0 +1,66 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TrainingTypeDAO;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.journal.StorageJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
+public class TrainingTypeDAOImpl implements TrainingTypeDAO {
+    private TrainingTypeStorage trainingTypeStorage;
+    private StorageJournal storageJournal = StorageJournal.NOOP;
+    private AuditTrail auditTrail = AuditTrail.NOOP;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.trainingTypeStorage = inMemoryStorage.getTrainingTypeStorage();
+    }
+
+    @Autowired
+    public void setStorageJournal(StorageJournal storageJournal) {
+        this.storageJournal = storageJournal;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
+    }
+
+    @Override
+    public TrainingType save(TrainingType trainingType) {
+        TrainingType saved = trainingTypeStorage.put(trainingType);
+        storageJournal.awaitDurable(storageJournal.trainingTypeSaved(saved));
+
+        auditTrail.record(AuditEntity.TRAINING_TYPE, saved.getId(),
+                trainingType.getId() == null ? AuditOperation.CREATE : AuditOperation.UPDATE);
+
+        return saved;
+    }
+
+    @Override
+    public Optional<TrainingType> findById(Long id) {
+        return trainingTypeStorage.findById(id);
+    }
+
+    @Override
+    public Optional<TrainingType> findByName(String name) {
+        return trainingTypeStorage.findByName(name);
+    }
+
+    @Override
+    public List<TrainingType> findAll() {
+        return trainingTypeStorage.getCatalog().getAll();
+    }
+}
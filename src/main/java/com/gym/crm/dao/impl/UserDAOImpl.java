@@ -0,0 +1,140 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.UserStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnStorageType(StorageType.IN_MEMORY)
+@DependsOn("storageJournal")
+public class UserDAOImpl implements UserDAO {
+    private static final Logger log = LoggerFactory.getLogger(UserDAOImpl.class);
+
+    private UserStorage userStorage;
+    private TraineeDAO traineeDAO;
+    private TrainerDAO trainerDAO;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.userStorage = inMemoryStorage.getUserStorage();
+    }
+
+    @Autowired
+    public void setTraineeDAO(TraineeDAO traineeDAO) {
+        this.traineeDAO = traineeDAO;
+    }
+
+    @Autowired
+    public void setTrainerDAO(TrainerDAO trainerDAO) {
+        this.trainerDAO = trainerDAO;
+    }
+
+    @Override
+    public boolean existsUsername(String username) {
+        return userStorage.existsUsername(username);
+    }
+
+    @Override
+    public boolean reserveUsername(String username) {
+        boolean reserved = userStorage.reserveUsername(username);
+
+        log.debug("Username {} reservation result: {}", username, reserved);
+
+        return reserved;
+    }
+
+    @Override
+    public Set<String> reserveUsernames(Collection<String> usernames) {
+        Set<String> reserved = usernames.stream()
+                .filter(userStorage::reserveUsername)
+                .collect(Collectors.toSet());
+
+        log.debug("Reserved {} of {} usernames", reserved.size(), usernames.size());
+
+        return reserved;
+    }
+
+    @Override
+    public void releaseUsername(String username) {
+        userStorage.release(username);
+
+        log.debug("Released username: {}", username);
+    }
+
+    @Override
+    public List<String> findAllUsernames() {
+        List<String> usernames = userStorage.getUsers().keySet().stream()
+                .toList();
+
+        log.debug("Retrieved all usernames. Count: {}", usernames.size());
+
+        return usernames;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        Optional<User> user = userStorage.find(username);
+
+        log.debug("User {} found: {}", username, user.isPresent());
+
+        return user;
+    }
+
+    @Override
+    public boolean updatePassword(String username, String currentHash, String newHash) {
+        Optional<Long> traineeId = traineeDAO.streamAll()
+                .filter(trainee -> hasPassword(trainee.getUser(), username, currentHash))
+                .map(Trainee::getId)
+                .findFirst();
+
+        boolean updated;
+        if (traineeId.isPresent()) {
+            updated = traineeDAO.update(traineeId.get(), trainee -> trainee.toBuilder()
+                            .user(withPassword(trainee.getUser(), currentHash, newHash))
+                            .build())
+                    .isPresent();
+        } else {
+            updated = trainerDAO.streamAll()
+                    .filter(trainer -> hasPassword(trainer.getUser(), username, currentHash))
+                    .map(Trainer::getId)
+                    .findFirst()
+                    .flatMap(trainerId -> trainerDAO.update(trainerId, trainer -> trainer.toBuilder()
+                            .user(withPassword(trainer.getUser(), currentHash, newHash))
+                            .build()))
+                    .isPresent();
+        }
+
+        log.debug("User {} password updated: {}", username, updated);
+
+        return updated;
+    }
+
+    private static boolean hasPassword(User user, String username, String password) {
+        return user != null && user.getUsername() != null && user.getUsername().equalsIgnoreCase(username)
+                && password.equals(user.getPassword());
+    }
+
+    private static User withPassword(User user, String currentHash, String newHash) {
+        return currentHash.equals(user.getPassword())
+                ? user.toBuilder().password(newHash).build()
+                : user;
+    }
+}
@@ -0,0 +1,223 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.TrainingTypeStorage;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+abstract class AbstractHibernateDAO {
+    protected SessionFactory sessionFactory;
+    protected TrainingTypeStorage trainingTypeStorage;
+    protected int fetchSize;
+    protected int batchSize;
+    protected int maxUpdateAttempts;
+    protected int fetchBatchSize;
+    protected int recentTrainings;
+    protected AuditTrail auditTrail = AuditTrail.NOOP;
+
+    @Autowired
+    public void setSessionFactory(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Autowired
+    public void setTrainingTypeStorage(TrainingTypeStorage trainingTypeStorage) {
+        this.trainingTypeStorage = trainingTypeStorage;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
+    }
+
+    @Value("${hibernate.jdbc.fetch-size}")
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Value("${hibernate.jdbc.batch-size}")
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("JDBC batch size must be positive, got " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Value("${hibernate.fetch.batch-size}")
+    public void setFetchBatchSize(int fetchBatchSize) {
+        this.fetchBatchSize = fetchBatchSize;
+    }
+
+    @Value("${hibernate.fetch.recent-trainings}")
+    public void setRecentTrainings(int recentTrainings) {
+        this.recentTrainings = recentTrainings;
+    }
+
+    @Value("${hibernate.optimistic-lock.max-attempts}")
+    public void setMaxUpdateAttempts(int maxUpdateAttempts) {
+        this.maxUpdateAttempts = maxUpdateAttempts;
+    }
+
+    protected <R> R inTransaction(String errorMessage, Function<Session, R> work) {
+        try {
+            return sessionFactory.fromTransaction(work);
+        } catch (PersistenceException e) {
+            throw new DaoException(errorMessage, e);
+        }
+    }
+
+    protected <R> R inStatelessTransaction(String errorMessage, Function<StatelessSession, R> work) {
+        try {
+            return sessionFactory.fromStatelessTransaction(work);
+        } catch (PersistenceException e) {
+            throw new DaoException(errorMessage, e);
+        }
+    }
+
+    protected <R> R inSession(String errorMessage, Function<Session, R> work) {
+        try {
+            return sessionFactory.fromSession(work);
+        } catch (PersistenceException e) {
+            throw new DaoException(errorMessage, e);
+        }
+    }
+
+    protected <T> Stream<T> scroll(String errorMessage, Function<StatelessSession, SelectionQuery<T>> query) {
+        StatelessSession session = sessionFactory.openStatelessSession();
+        try {
+            ScrollableResults<T> results = query.apply(session)
+                    .setFetchSize(fetchSize)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+
+            Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    try {
+                        if (!results.next()) {
+                            return false;
+                        }
+                        action.accept(results.get());
+                        return true;
+                    } catch (PersistenceException e) {
+                        throw new DaoException(errorMessage, e);
+                    }
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false)
+                    .onClose(() -> {
+                        results.close();
+                        session.close();
+                    });
+        } catch (PersistenceException e) {
+            session.close();
+            throw new DaoException(errorMessage, e);
+        }
+    }
+
+    protected <T> Optional<T> updateOptimistically(String entityName, Long id, Supplier<Optional<T>> load,
+                                                   UnaryOperator<T> update, BiPredicate<T, T> write) {
+        for (int attempt = 1; ; attempt++) {
+            Optional<T> current = load.get();
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+
+            T updated = update.apply(current.get());
+            if (write.test(current.get(), updated)) {
+                return Optional.of(updated);
+            }
+
+            if (attempt >= maxUpdateAttempts) {
+                throw new DaoException(entityName + " with ID: " + id + " was modified concurrently, gave up after "
+                        + attempt + " attempts");
+            }
+        }
+    }
+
+    protected static void updateUser(Session session, Long userId, User user) {
+        session.createMutationQuery("""
+                        update User set firstName = :firstName, lastName = :lastName, username = :username,
+                        password = :password, isActive = :isActive where id = :id""")
+                .setParameter("firstName", user.getFirstName())
+                .setParameter("lastName", user.getLastName())
+                .setParameter("username", user.getUsername())
+                .setParameter("password", user.getPassword())
+                .setParameter("isActive", user.getIsActive())
+                .setParameter("id", userId)
+                .executeUpdate();
+    }
+
+    protected static long pageStart(Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new DaoException("Page limit must be positive: " + limit);
+        }
+
+        return afterId == null ? 0L : afterId;
+    }
+
+    protected TrainingType resolveTrainingType(TrainingType trainingType) {
+        if (trainingType == null || trainingType.getId() != null) {
+            return trainingType;
+        }
+
+        return trainingTypeStorage.findByName(trainingType.getTrainingTypeName())
+                .orElseThrow(() -> new DaoException("Training type not found: " + trainingType.getTrainingTypeName()));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T> EntityGraph<T> entityGraph(Session session, String name) {
+        return (EntityGraph<T>) session.getEntityGraph(name);
+    }
+
+    protected Trainer withCatalogSpecialization(Trainer trainer) {
+        return trainer.toBuilder()
+                .specialization(fromCatalog(trainer.getSpecialization()))
+                .build();
+    }
+
+    protected Training withCatalogTrainingType(Training training) {
+        return training.toBuilder()
+                .trainer(withCatalogSpecialization(training.getTrainer()))
+                .trainingType(fromCatalog(training.getTrainingType()))
+                .build();
+    }
+
+    protected TrainingType fromCatalog(TrainingType reference) {
+        if (reference == null) {
+            return null;
+        }
+
+        LazyInitializer initializer = HibernateProxy.extractLazyInitializer(reference);
+        Long id = initializer != null ? (Long) initializer.getIdentifier() : reference.getId();
+
+        return trainingTypeStorage.findById(id)
+                .orElseThrow(() -> new DaoException("Training type not found with ID: " + id));
+    }
+}
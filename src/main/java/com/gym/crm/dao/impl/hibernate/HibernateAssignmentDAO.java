@@ -0,0 +1,145 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.AssignmentDAO;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import jakarta.annotation.PostConstruct;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateAssignmentDAO extends AbstractHibernateDAO implements AssignmentDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateAssignmentDAO.class);
+
+    private AssignmentStorage assignmentStorage;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @PostConstruct
+    public void refresh() {
+        AtomicLong assignments = new AtomicLong();
+        try (Stream<Object[]> rows = scroll("Failed to load trainee assignments", session ->
+                session.createSelectionQuery("select te.id, tr.id from Trainee te join te.trainers tr", Object[].class))) {
+            rows.forEach(row -> {
+                assignmentStorage.assign((Long) row[0], (Long) row[1]);
+                assignments.incrementAndGet();
+            });
+        }
+
+        try (Stream<Object[]> rows = scroll("Failed to load trainer activity", session ->
+                session.createSelectionQuery("select t.id, t.user.isActive from Trainer t", Object[].class))) {
+            rows.forEach(row -> assignmentStorage.setTrainerActive((Long) row[0], Boolean.TRUE.equals(row[1])));
+        }
+
+        log.info("Loaded trainee assignments. Count: {}, active trainers: {}",
+                assignments.get(), assignmentStorage.activeTrainerCount());
+    }
+
+    @Override
+    public boolean assign(Long traineeId, Long trainerId) {
+        Lock lock = assignmentStorage.pairLock(traineeId, trainerId);
+        lock.lock();
+        try {
+            if (!insertAssignment(traineeId, trainerId)) {
+                log.debug("Trainer ID: {} is already assigned to trainee ID: {}", trainerId, traineeId);
+                return false;
+            }
+            assignmentStorage.assign(traineeId, trainerId);
+        } finally {
+            lock.unlock();
+        }
+
+        auditTrail.record(AuditEntity.TRAINEE, traineeId, AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    @Override
+    public boolean unassign(Long traineeId, Long trainerId) {
+        Lock lock = assignmentStorage.pairLock(traineeId, trainerId);
+        lock.lock();
+        try {
+            int rows = inTransaction("Failed to unassign trainer ID: " + trainerId + " from trainee ID: " + traineeId,
+                    session -> session.createNativeMutationQuery(
+                                    "delete from trainees_trainers where trainee_id = ?1 and trainer_id = ?2")
+                            .setParameter(1, traineeId)
+                            .setParameter(2, trainerId)
+                            .executeUpdate());
+
+            if (rows == 0) {
+                log.debug("Trainer ID: {} is not assigned to trainee ID: {}", trainerId, traineeId);
+                return false;
+            }
+            assignmentStorage.unassign(traineeId, trainerId);
+        } finally {
+            lock.unlock();
+        }
+
+        auditTrail.record(AuditEntity.TRAINEE, traineeId, AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    @Override
+    public long[] findTrainerIds(Long traineeId) {
+        long[] trainerIds = assignmentStorage.trainersOf(traineeId);
+
+        log.debug("Retrieved trainers of trainee ID: {}. Count: {}", traineeId, trainerIds.length);
+
+        return trainerIds;
+    }
+
+    @Override
+    public long[] findTraineeIds(Long trainerId) {
+        long[] traineeIds = assignmentStorage.traineesOf(trainerId);
+
+        log.debug("Retrieved trainees of trainer ID: {}. Count: {}", trainerId, traineeIds.length);
+
+        return traineeIds;
+    }
+
+    @Override
+    public long[] findUnassignedActiveTrainerIds(Long traineeId) {
+        long[] trainerIds = assignmentStorage.unassignedActiveTrainers(traineeId);
+
+        log.debug("Retrieved active trainers not assigned to trainee ID: {}. Count: {}", traineeId, trainerIds.length);
+
+        return trainerIds;
+    }
+
+    private boolean insertAssignment(Long traineeId, Long trainerId) {
+        try {
+            return inTransaction("Failed to assign trainer ID: " + trainerId + " to trainee ID: " + traineeId,
+                    session -> session.createNativeMutationQuery("""
+                                    insert into trainees_trainers (trainee_id, trainer_id)
+                                    select t.id, ?2 from trainees t
+                                    where t.id = ?1 and not exists
+                                    (select 1 from trainees_trainers a where a.trainee_id = ?1 and a.trainer_id = ?2)""")
+                            .setParameter(1, traineeId)
+                            .setParameter(2, trainerId)
+                            .executeUpdate()) > 0;
+        } catch (DaoException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return false;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TraineeSummary;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.UserStorage;
+import org.hibernate.Hibernate;
+import org.hibernate.graph.GraphSemantic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateTraineeDAO extends AbstractHibernateDAO implements TraineeDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateTraineeDAO.class);
+
+    private static final String RECENT_TRAININGS = """
+            from Training t join fetch t.trainer tr join fetch tr.user
+            where t.id in (
+                select r.id from (
+                    select rt.id as id, row_number() over (
+                        partition by rt.trainee.id order by rt.trainingDate desc, rt.id desc) as position
+                    from Training rt
+                    where rt.trainee.id in :ids) r
+                where r.position <= :recent)
+            order by t.trainingDate desc, t.id desc""";
+
+    private UserStorage userStorage;
+    private AssignmentStorage assignmentStorage;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.userStorage = inMemoryStorage.getUserStorage();
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @Override
+    public Trainee create(Trainee trainee) {
+        Trainee created = inTransaction("Failed to create trainee", session -> {
+            session.persist(trainee.getUser());
+            session.persist(trainee);
+            return trainee;
+        });
+        userStorage.register(created.getUser());
+
+        auditTrail.record(AuditEntity.TRAINEE, created.getId(), AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Trainee> createAll(List<Trainee> trainees) {
+        List<Trainee> created = inTransaction("Failed to create trainees", session ->
+                MemberTables.insertTrainees(session, trainees, batchSize));
+
+        for (Trainee trainee : created) {
+            userStorage.register(trainee.getUser());
+            auditTrail.record(AuditEntity.TRAINEE, trainee.getId(), AuditOperation.CREATE);
+        }
+
+        log.debug("Created {} trainees in batches of {}", created.size(), batchSize);
+
+        return created;
+    }
+
+    @Override
+    public Optional<Trainee> findById(Long id) {
+        Optional<Trainee> trainee = inSession("Failed to find trainee with ID: " + id, session ->
+                session.createSelectionQuery("from Trainee t join fetch t.user where t.id = :id", Trainee.class)
+                        .setParameter("id", id)
+                        .uniqueResultOptional());
+
+        log.debug("Found trainee with ID: {}", id);
+
+        return trainee;
+    }
+
+    @Override
+    public Optional<Trainee> findById(Long id, FetchPlan fetchPlan) {
+        if (fetchPlan != FetchPlan.PROFILE) {
+            return findById(id);
+        }
+
+        Optional<Trainee> trainee = inSession("Failed to find trainee profile with ID: " + id, session ->
+                session.createSelectionQuery("from Trainee t where t.id = :id", Trainee.class)
+                        .setEntityGraph(entityGraph(session, Trainee.PROFILE_GRAPH), GraphSemantic.FETCH)
+                        .setParameter("id", id)
+                        .uniqueResultOptional()
+                        .map(found -> withProfile(found, session.createSelectionQuery("""
+                                        from Training t join fetch t.trainer tr join fetch tr.user
+                                        where t.trainee.id = :id
+                                        order by t.trainingDate desc, t.id desc""", Training.class)
+                                .setParameter("id", id)
+                                .setMaxResults(recentTrainings)
+                                .getResultList())));
+
+        log.debug("Found trainee profile with ID: {}", id);
+
+        return trainee;
+    }
+
+    @Override
+    public List<Trainee> findAll() {
+        List<Trainee> trainees = inSession("Failed to retrieve trainees", session ->
+                session.createSelectionQuery("from Trainee t join fetch t.user order by t.id", Trainee.class)
+                        .getResultList());
+
+        log.debug("Retrieved all trainees. Count: {}", trainees.size());
+
+        return trainees;
+    }
+
+    @Override
+    public List<Trainee> findPage(Long afterId, int limit) {
+        long start = pageStart(afterId, limit);
+        List<Trainee> page = inSession("Failed to retrieve trainee page after ID: " + afterId, session ->
+                session.createSelectionQuery("from Trainee t join fetch t.user where t.id > :afterId order by t.id", Trainee.class)
+                        .setParameter("afterId", start)
+                        .setMaxResults(limit)
+                        .getResultList());
+
+        log.debug("Retrieved trainee page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<Trainee> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        if (fetchPlan != FetchPlan.PROFILE) {
+            return findPage(afterId, limit);
+        }
+
+        long start = pageStart(afterId, limit);
+        List<Trainee> page = inSession("Failed to retrieve trainee profile page after ID: " + afterId, session -> {
+            session.setFetchBatchSize(fetchBatchSize);
+            List<Trainee> trainees = session.createSelectionQuery(
+                            "from Trainee t join fetch t.user where t.id > :afterId order by t.id", Trainee.class)
+                    .setParameter("afterId", start)
+                    .setMaxResults(limit)
+                    .getResultList();
+
+            trainees.forEach(trainee -> Hibernate.initialize(trainee.getTrainers()));
+            Map<Long, List<Training>> recent = trainees.isEmpty() ? Map.of() : session
+                    .createSelectionQuery(RECENT_TRAININGS, Training.class)
+                    .setParameter("ids", trainees.stream().map(Trainee::getId).toList())
+                    .setParameter("recent", recentTrainings)
+                    .getResultList().stream()
+                    .collect(Collectors.groupingBy(training -> training.getTrainee().getId()));
+
+            return trainees.stream()
+                    .map(trainee -> withProfile(trainee, recent.getOrDefault(trainee.getId(), List.of())))
+                    .toList();
+        });
+
+        log.debug("Retrieved trainee profile page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<TraineeSummary> findSummaryPage(Long afterId, int limit) {
+        long start = pageStart(afterId, limit);
+        List<TraineeSummary> page = inSession("Failed to retrieve trainee summary page after ID: " + afterId, session ->
+                session.createSelectionQuery("""
+                                select new com.gym.crm.dao.TraineeSummary(t.id, u.firstName, u.lastName, u.username,
+                                    u.isActive, t.dateOfBirth, t.address)
+                                from Trainee t join t.user u
+                                where t.id > :afterId order by t.id""", TraineeSummary.class)
+                        .setParameter("afterId", start)
+                        .setMaxResults(limit)
+                        .getResultList());
+
+        log.debug("Retrieved trainee summary page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public Stream<Trainee> streamAll() {
+        log.debug("Streaming all trainees");
+
+        return scroll("Failed to stream trainees", session ->
+                session.createSelectionQuery("from Trainee t join fetch t.user order by t.id", Trainee.class));
+    }
+
+    @Override
+    public Trainee update(Trainee trainee) {
+        User previous = inTransaction("Failed to update trainee with ID: " + trainee.getId(), session -> {
+            Trainee existing = session.find(Trainee.class, trainee.getId());
+            if (existing == null) {
+                throw new DaoException("Trainee not found with ID: " + trainee.getId());
+            }
+
+            updateUser(session, existing.getUser().getId(), trainee.getUser());
+            session.createMutationQuery("""
+                            update versioned Trainee set dateOfBirth = :dateOfBirth, address = :address
+                            where id = :id""")
+                    .setParameter("dateOfBirth", trainee.getDateOfBirth())
+                    .setParameter("address", trainee.getAddress())
+                    .setParameter("id", trainee.getId())
+                    .executeUpdate();
+
+            return existing.getUser();
+        });
+        userStorage.replace(previous, trainee.getUser());
+
+        auditTrail.record(AuditEntity.TRAINEE, trainee.getId(), AuditOperation.UPDATE);
+
+        return trainee;
+    }
+
+    @Override
+    public Optional<Trainee> update(Long id, UnaryOperator<Trainee> update) {
+        return updateOptimistically("Trainee", id, () -> findById(id),
+                current -> update.apply(current).toBuilder()
+                        .id(id)
+                        .version(current.getVersion() + 1)
+                        .build(),
+                this::compareAndUpdate);
+    }
+
+    private boolean compareAndUpdate(Trainee current, Trainee updated) {
+        boolean applied = inTransaction("Failed to update trainee with ID: " + current.getId(), session -> {
+            int rows = session.createMutationQuery("""
+                            update versioned Trainee set dateOfBirth = :dateOfBirth, address = :address
+                            where id = :id and version = :version""")
+                    .setParameter("dateOfBirth", updated.getDateOfBirth())
+                    .setParameter("address", updated.getAddress())
+                    .setParameter("id", current.getId())
+                    .setParameter("version", current.getVersion())
+                    .executeUpdate();
+            if (rows == 0) {
+                return false;
+            }
+
+            updateUser(session, current.getUser().getId(), updated.getUser());
+            return true;
+        });
+
+        if (!applied) {
+            log.debug("Trainee with ID: {} changed since version {}, retrying update", current.getId(), current.getVersion());
+            return false;
+        }
+
+        userStorage.replace(current.getUser(), updated.getUser());
+        auditTrail.record(AuditEntity.TRAINEE, current.getId(), AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        User removed = inTransaction("Failed to delete trainee with ID: " + id, session -> {
+            Trainee trainee = session.find(Trainee.class, id);
+            if (trainee == null) {
+                return null;
+            }
+
+            TrainerWorkloadTable.subtractTrainee(session, id);
+            session.remove(trainee);
+            session.remove(trainee.getUser());
+            return trainee.getUser();
+        });
+        userStorage.unregister(removed);
+        if (removed != null) {
+            assignmentStorage.removeTrainee(id);
+            auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.DELETE);
+        }
+
+        return removed != null;
+    }
+
+    private Trainee withProfile(Trainee trainee, List<Training> trainings) {
+        return trainee.toBuilder()
+                .trainers(trainee.getTrainers().stream()
+                        .sorted(Comparator.comparing(Trainer::getId))
+                        .map(this::withCatalogSpecialization)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .trainings(trainings.stream()
+                        .map(this::withCatalogTrainingType)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.UserStorage;
+import org.hibernate.Hibernate;
+import org.hibernate.graph.GraphSemantic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateTrainerDAO extends AbstractHibernateDAO implements TrainerDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateTrainerDAO.class);
+
+    private static final String RECENT_TRAININGS = """
+            from Training t join fetch t.trainee te join fetch te.user
+            where t.id in (
+                select r.id from (
+                    select rt.id as id, row_number() over (
+                        partition by rt.trainer.id order by rt.trainingDate desc, rt.id desc) as position
+                    from Training rt
+                    where rt.trainer.id in :ids) r
+                where r.position <= :recent)
+            order by t.trainingDate desc, t.id desc""";
+
+    private UserStorage userStorage;
+    private AssignmentStorage assignmentStorage;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.userStorage = inMemoryStorage.getUserStorage();
+        this.assignmentStorage = inMemoryStorage.getAssignmentStorage();
+    }
+
+    @Override
+    public Trainer create(Trainer trainer) {
+        Trainer created = inTransaction("Failed to create trainer", session -> {
+            Trainer resolved = trainer.toBuilder()
+                    .specialization(resolveTrainingType(trainer.getSpecialization()))
+                    .build();
+
+            session.persist(resolved.getUser());
+            session.persist(resolved);
+            return resolved;
+        });
+        userStorage.register(created.getUser());
+        assignmentStorage.trainerSaved(created);
+
+        auditTrail.record(AuditEntity.TRAINER, created.getId(), AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Trainer> createAll(List<Trainer> trainers) {
+        List<Trainer> created = inTransaction("Failed to create trainers", session -> {
+            List<Trainer> resolved = trainers.stream()
+                    .<Trainer>map(trainer -> trainer.toBuilder()
+                            .specialization(resolveTrainingType(trainer.getSpecialization()))
+                            .build())
+                    .toList();
+
+            return MemberTables.insertTrainers(session, resolved, batchSize);
+        });
+
+        for (Trainer trainer : created) {
+            userStorage.register(trainer.getUser());
+            assignmentStorage.trainerSaved(trainer);
+            auditTrail.record(AuditEntity.TRAINER, trainer.getId(), AuditOperation.CREATE);
+        }
+
+        log.debug("Created {} trainers in batches of {}", created.size(), batchSize);
+
+        return created;
+    }
+
+    @Override
+    public Optional<Trainer> findById(Long id) {
+        Optional<Trainer> trainer = inSession("Failed to find trainer with ID: " + id, session ->
+                session.createSelectionQuery("from Trainer t join fetch t.user where t.id = :id", Trainer.class)
+                        .setParameter("id", id)
+                        .uniqueResultOptional()
+                        .map(this::withCatalogSpecialization));
+
+        log.debug("Trainer found with ID: {}", id);
+
+        return trainer;
+    }
+
+    @Override
+    public Optional<Trainer> findById(Long id, FetchPlan fetchPlan) {
+        if (fetchPlan != FetchPlan.PROFILE) {
+            return findById(id);
+        }
+
+        Optional<Trainer> trainer = inSession("Failed to find trainer profile with ID: " + id, session ->
+                session.createSelectionQuery("from Trainer t where t.id = :id", Trainer.class)
+                        .setEntityGraph(entityGraph(session, Trainer.PROFILE_GRAPH), GraphSemantic.FETCH)
+                        .setParameter("id", id)
+                        .uniqueResultOptional()
+                        .map(found -> withProfile(found, session.createSelectionQuery("""
+                                        from Training t join fetch t.trainee te join fetch te.user
+                                        where t.trainer.id = :id
+                                        order by t.trainingDate desc, t.id desc""", Training.class)
+                                .setParameter("id", id)
+                                .setMaxResults(recentTrainings)
+                                .getResultList())));
+
+        log.debug("Found trainer profile with ID: {}", id);
+
+        return trainer;
+    }
+
+    @Override
+    public List<Trainer> findAll() {
+        List<Trainer> trainers = inSession("Failed to retrieve trainers", session ->
+                session.createSelectionQuery("from Trainer t join fetch t.user order by t.id", Trainer.class)
+                        .getResultList().stream()
+                        .map(this::withCatalogSpecialization)
+                        .toList());
+
+        log.debug("Retrieved all trainers. Count: {}", trainers.size());
+
+        return trainers;
+    }
+
+    @Override
+    public List<Trainer> findPage(Long afterId, int limit) {
+        long start = pageStart(afterId, limit);
+        List<Trainer> page = inSession("Failed to retrieve trainer page after ID: " + afterId, session ->
+                session.createSelectionQuery("from Trainer t join fetch t.user where t.id > :afterId order by t.id", Trainer.class)
+                        .setParameter("afterId", start)
+                        .setMaxResults(limit)
+                        .getResultList().stream()
+                        .map(this::withCatalogSpecialization)
+                        .toList());
+
+        log.debug("Retrieved trainer page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<Trainer> findPage(Long afterId, int limit, FetchPlan fetchPlan) {
+        if (fetchPlan != FetchPlan.PROFILE) {
+            return findPage(afterId, limit);
+        }
+
+        long start = pageStart(afterId, limit);
+        List<Trainer> page = inSession("Failed to retrieve trainer profile page after ID: " + afterId, session -> {
+            session.setFetchBatchSize(fetchBatchSize);
+            List<Trainer> trainers = session.createSelectionQuery(
+                            "from Trainer t join fetch t.user where t.id > :afterId order by t.id", Trainer.class)
+                    .setParameter("afterId", start)
+                    .setMaxResults(limit)
+                    .getResultList();
+
+            trainers.forEach(trainer -> Hibernate.initialize(trainer.getTrainees()));
+            Map<Long, List<Training>> recent = trainers.isEmpty() ? Map.of() : session
+                    .createSelectionQuery(RECENT_TRAININGS, Training.class)
+                    .setParameter("ids", trainers.stream().map(Trainer::getId).toList())
+                    .setParameter("recent", recentTrainings)
+                    .getResultList().stream()
+                    .collect(Collectors.groupingBy(training -> training.getTrainer().getId()));
+
+            return trainers.stream()
+                    .map(trainer -> withProfile(trainer, recent.getOrDefault(trainer.getId(), List.of())))
+                    .toList();
+        });
+
+        log.debug("Retrieved trainer profile page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public Stream<Trainer> streamAll() {
+        log.debug("Streaming all trainers");
+
+        return scroll("Failed to stream trainers", session ->
+                session.createSelectionQuery("from Trainer t join fetch t.user order by t.id", Trainer.class))
+                .map(this::withCatalogSpecialization);
+    }
+
+    @Override
+    public Trainer update(Trainer trainer) {
+        User previous = inTransaction("Failed to update trainer with ID: " + trainer.getId(), session -> {
+            Trainer existing = session.find(Trainer.class, trainer.getId());
+            if (existing == null) {
+                throw new DaoException("Trainer not found with ID: " + trainer.getId());
+            }
+
+            updateUser(session, existing.getUser().getId(), trainer.getUser());
+            session.createMutationQuery("update versioned Trainer set specialization = :specialization where id = :id")
+                    .setParameter("specialization", resolveTrainingType(trainer.getSpecialization()))
+                    .setParameter("id", trainer.getId())
+                    .executeUpdate();
+
+            return existing.getUser();
+        });
+        userStorage.replace(previous, trainer.getUser());
+        assignmentStorage.trainerSaved(trainer);
+
+        auditTrail.record(AuditEntity.TRAINER, trainer.getId(), AuditOperation.UPDATE);
+
+        return trainer;
+    }
+
+    @Override
+    public Optional<Trainer> update(Long id, UnaryOperator<Trainer> update) {
+        return updateOptimistically("Trainer", id, () -> findById(id),
+                current -> update.apply(current).toBuilder()
+                        .id(id)
+                        .version(current.getVersion() + 1)
+                        .build(),
+                this::compareAndUpdate);
+    }
+
+    private boolean compareAndUpdate(Trainer current, Trainer updated) {
+        boolean applied = inTransaction("Failed to update trainer with ID: " + current.getId(), session -> {
+            int rows = session.createMutationQuery("""
+                            update versioned Trainer set specialization = :specialization
+                            where id = :id and version = :version""")
+                    .setParameter("specialization", resolveTrainingType(updated.getSpecialization()))
+                    .setParameter("id", current.getId())
+                    .setParameter("version", current.getVersion())
+                    .executeUpdate();
+            if (rows == 0) {
+                return false;
+            }
+
+            updateUser(session, current.getUser().getId(), updated.getUser());
+            return true;
+        });
+
+        if (!applied) {
+            log.debug("Trainer with ID: {} changed since version {}, retrying update", current.getId(), current.getVersion());
+            return false;
+        }
+
+        userStorage.replace(current.getUser(), updated.getUser());
+        assignmentStorage.trainerSaved(updated);
+        auditTrail.record(AuditEntity.TRAINER, current.getId(), AuditOperation.UPDATE);
+
+        return true;
+    }
+
+    private Trainer withProfile(Trainer trainer, List<Training> trainings) {
+        return withCatalogSpecialization(trainer).toBuilder()
+                .trainees(trainer.getTrainees().stream()
+                        .sorted(Comparator.comparing(Trainee::getId))
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .trainings(trainings.stream()
+                        .map(this::withCatalogTrainingType)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TrainerWorkloadDAO;
+import com.gym.crm.model.TrainerWorkload;
+import com.gym.crm.model.TrainerWorkloadId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateTrainerWorkloadDAO extends AbstractHibernateDAO implements TrainerWorkloadDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateTrainerWorkloadDAO.class);
+
+    @Override
+    public Map<YearMonth, Long> findMonthlyMinutes(Long trainerId, YearMonth from, YearMonth to) {
+        Map<YearMonth, Long> months = inSession("Failed to find workload of trainer ID: " + trainerId, session -> {
+            Map<YearMonth, Long> workload = new LinkedHashMap<>();
+
+            session.createSelectionQuery("""
+                            from TrainerWorkload w
+                            where w.id.trainerId = :trainerId
+                            and w.id.workloadMonth between :from and :to
+                            and w.totalMinutes <> 0
+                            order by w.id.workloadMonth""", TrainerWorkload.class)
+                    .setParameter("trainerId", trainerId)
+                    .setParameter("from", TrainerWorkloadId.toWorkloadMonth(from))
+                    .setParameter("to", TrainerWorkloadId.toWorkloadMonth(to))
+                    .getResultList()
+                    .forEach(month -> workload.put(month.getId().toYearMonth(), month.getTotalMinutes()));
+
+            return workload;
+        });
+
+        log.debug("Retrieved workload of trainer ID: {} from {} to {}. Months: {}", trainerId, from, to, months.size());
+
+        return months;
+    }
+
+    @Override
+    public int rebuild() {
+        int rows = inTransaction("Failed to rebuild trainer workload", TrainerWorkloadTable::rebuild);
+
+        log.info("Rebuilt trainer workload. Rows: {}", rows);
+
+        return rows;
+    }
+}
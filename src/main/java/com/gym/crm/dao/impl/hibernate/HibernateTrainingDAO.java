@@ -0,0 +1,311 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.TrainingSummary;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import org.hibernate.Session;
+import org.hibernate.query.SelectionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateTrainingDAO extends AbstractHibernateDAO implements TrainingDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateTrainingDAO.class);
+
+    private static final String FETCH_GRAPH = """
+            from Training t
+            join fetch t.trainee te join fetch te.user
+            join fetch t.trainer tr join fetch tr.user""";
+    private static final String SUMMARY = """
+            select t.id, teu.username, tru.username, t.trainingName, t.trainingType.id, t.trainingDate, t.trainingDuration
+            from Training t
+            join t.trainee te join te.user teu
+            join t.trainer tr join tr.user tru""";
+
+    @Override
+    public Training create(Training training) {
+        Training created = inTransaction("Failed to create training", session -> {
+            Training persisted = persist(session, training);
+            TrainerWorkloadTable.add(session, List.of(persisted));
+            return persisted;
+        });
+
+        auditTrail.record(AuditEntity.TRAINING, created.getId(), AuditOperation.CREATE);
+
+        return created;
+    }
+
+    @Override
+    public List<Training> createAll(List<Training> trainings) {
+        List<Training> created = inTransaction("Failed to create trainings", session -> {
+            List<Training> persisted = new ArrayList<>(trainings.size());
+
+            for (Training training : trainings) {
+                persisted.add(persist(session, training));
+
+                if (persisted.size() % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            TrainerWorkloadTable.add(session, persisted);
+
+            return persisted;
+        });
+
+        for (Training training : created) {
+            auditTrail.record(AuditEntity.TRAINING, training.getId(), AuditOperation.CREATE);
+        }
+
+        log.debug("Created {} trainings in batches of {}", created.size(), batchSize);
+
+        return created;
+    }
+
+    @Override
+    public int insertAll(List<Training> trainings) {
+        return insertAll(trainings, null);
+    }
+
+    @Override
+    public int insertAll(List<Training> trainings, TrainingImport progress) {
+        List<Object> ids = inStatelessTransaction("Failed to insert trainings", session -> {
+            session.setJdbcBatchSize(batchSize);
+            List<Object> inserted = new ArrayList<>(trainings.size());
+
+            for (Training training : trainings) {
+                inserted.add(session.insert(training.toBuilder()
+                        .trainingType(resolveTrainingType(training.getTrainingType()))
+                        .build()));
+            }
+            TrainerWorkloadTable.add(session, trainings);
+            if (progress != null) {
+                session.upsert(progress);
+            }
+
+            return inserted;
+        });
+
+        for (Object id : ids) {
+            auditTrail.record(AuditEntity.TRAINING, (Long) id, AuditOperation.CREATE);
+        }
+
+        log.debug("Inserted {} trainings through a stateless session in batches of {}", ids.size(), batchSize);
+
+        return ids.size();
+    }
+
+    @Override
+    public Optional<TrainingImport> findImport(String source) {
+        return inSession("Failed to find import progress of " + source, session ->
+                Optional.ofNullable(session.find(TrainingImport.class, source)));
+    }
+
+    @Override
+    public Optional<Training> findById(Long id) {
+        Optional<Training> training = inSession("Failed to find training with ID: " + id, session ->
+                session.createSelectionQuery(FETCH_GRAPH + " where t.id = :id", Training.class)
+                        .setParameter("id", id)
+                        .uniqueResultOptional()
+                        .map(this::withCatalogTrainingType));
+
+        log.debug("Training found with ID: {}", id);
+
+        return training;
+    }
+
+    @Override
+    public List<Training> findAll() {
+        List<Training> trainings = inSession("Failed to retrieve trainings", session ->
+                session.createSelectionQuery(FETCH_GRAPH + " order by t.id", Training.class)
+                        .getResultList().stream()
+                        .map(this::withCatalogTrainingType)
+                        .toList());
+
+        log.debug("Retrieved all trainings. Count: {}", trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByTraineeId(Long traineeId) {
+        List<Training> trainings = inSession("Failed to find trainings for trainee ID: " + traineeId, session ->
+                session.createSelectionQuery(FETCH_GRAPH + " where te.id = :traineeId order by t.id", Training.class)
+                        .setParameter("traineeId", traineeId)
+                        .getResultList().stream()
+                        .map(this::withCatalogTrainingType)
+                        .toList());
+
+        log.debug("Retrieved trainings for trainee ID: {}. Count: {}", traineeId, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByTrainerId(Long trainerId) {
+        List<Training> trainings = inSession("Failed to find trainings for trainer ID: " + trainerId, session ->
+                session.createSelectionQuery(FETCH_GRAPH + " where tr.id = :trainerId order by t.id", Training.class)
+                        .setParameter("trainerId", trainerId)
+                        .getResultList().stream()
+                        .map(this::withCatalogTrainingType)
+                        .toList());
+
+        log.debug("Retrieved trainings for trainer ID: {}. Count: {}", trainerId, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findByDateRange(LocalDate from, LocalDate to, TrainingFilter filter) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DaoException("Invalid date range: " + from + " is after " + to);
+        }
+
+        TrainingFilter criteria = filter != null ? filter : new TrainingFilter();
+        Long trainingTypeId = null;
+        if (criteria.getTrainingTypeName() != null) {
+            Optional<TrainingType> trainingType = trainingTypeStorage.findByName(criteria.getTrainingTypeName());
+            if (trainingType.isEmpty()) {
+                return List.of();
+            }
+            trainingTypeId = trainingType.get().getId();
+        }
+
+        StringBuilder hql = new StringBuilder(FETCH_GRAPH).append(" where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        appendCondition(hql, parameters, "te.id = :traineeId", "traineeId", criteria.getTraineeId());
+        appendCondition(hql, parameters, "tr.id = :trainerId", "trainerId", criteria.getTrainerId());
+        appendCondition(hql, parameters, "t.trainingDate >= :from", "from", from);
+        appendCondition(hql, parameters, "t.trainingDate <= :to", "to", to);
+        appendCondition(hql, parameters, "t.trainingType.id = :trainingTypeId", "trainingTypeId", trainingTypeId);
+        hql.append(" order by t.trainingDate, t.id");
+
+        List<Training> trainings = inSession("Failed to find trainings between " + from + " and " + to, session -> {
+            SelectionQuery<Training> query = session.createSelectionQuery(hql.toString(), Training.class);
+            parameters.forEach(query::setParameter);
+
+            return query.getResultList().stream()
+                    .map(this::withCatalogTrainingType)
+                    .toList();
+        });
+
+        log.debug("Retrieved trainings between {} and {}. Count: {}", from, to, trainings.size());
+
+        return trainings;
+    }
+
+    @Override
+    public List<Training> findPage(Long afterId, int limit) {
+        long start = pageStart(afterId, limit);
+        List<Training> page = inSession("Failed to retrieve training page after ID: " + afterId, session ->
+                session.createSelectionQuery(FETCH_GRAPH + " where t.id > :afterId order by t.id", Training.class)
+                        .setParameter("afterId", start)
+                        .setMaxResults(limit)
+                        .getResultList().stream()
+                        .map(this::withCatalogTrainingType)
+                        .toList());
+
+        log.debug("Retrieved training page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<TrainingSummary> findSummaryPage(Long afterId, int limit) {
+        long start = pageStart(afterId, limit);
+        List<TrainingSummary> page = inSession("Failed to retrieve training summary page after ID: " + afterId, session ->
+                session.createSelectionQuery(SUMMARY + " where t.id > :afterId order by t.id", Object[].class)
+                        .setParameter("afterId", start)
+                        .setMaxResults(limit)
+                        .getResultList().stream()
+                        .map(this::toSummary)
+                        .toList());
+
+        log.debug("Retrieved training summary page after ID: {}. Count: {}", afterId, page.size());
+
+        return page;
+    }
+
+    @Override
+    public List<TrainingSummary> findSummariesByTraineeId(Long traineeId) {
+        List<TrainingSummary> summaries = inSession("Failed to find training summaries for trainee ID: " + traineeId,
+                session -> session.createSelectionQuery(SUMMARY + " where te.id = :traineeId order by t.id", Object[].class)
+                        .setParameter("traineeId", traineeId)
+                        .getResultList().stream()
+                        .map(this::toSummary)
+                        .toList());
+
+        log.debug("Retrieved training summaries for trainee ID: {}. Count: {}", traineeId, summaries.size());
+
+        return summaries;
+    }
+
+    @Override
+    public Stream<Training> streamAll() {
+        log.debug("Streaming all trainings");
+
+        return scroll("Failed to stream trainings", session ->
+                session.createSelectionQuery(FETCH_GRAPH + " order by t.id", Training.class))
+                .map(this::withCatalogTrainingType);
+    }
+
+    @Override
+    public boolean delete(Long id) {
+        boolean deleted = inTransaction("Failed to delete training with ID: " + id, session -> {
+            TrainerWorkloadTable.subtractTraining(session, id);
+
+            return session.createMutationQuery("delete from Training where id = :id")
+                    .setParameter("id", id)
+                    .executeUpdate() > 0;
+        });
+
+        if (deleted) {
+            auditTrail.record(AuditEntity.TRAINING, id, AuditOperation.DELETE);
+        }
+
+        return deleted;
+    }
+
+    private void appendCondition(StringBuilder hql, Map<String, Object> parameters, String condition,
+                                 String name, Object value) {
+        if (value != null) {
+            hql.append(" and ").append(condition);
+            parameters.put(name, value);
+        }
+    }
+
+    private Training persist(Session session, Training training) {
+        Training resolved = training.toBuilder()
+                .trainingType(resolveTrainingType(training.getTrainingType()))
+                .build();
+
+        session.persist(resolved);
+        return resolved;
+    }
+
+    private TrainingSummary toSummary(Object[] row) {
+        TrainingType trainingType = row[4] == null ? null : trainingTypeStorage.findById((Long) row[4])
+                .orElseThrow(() -> new DaoException("Training type not found with ID: " + row[4]));
+
+        return new TrainingSummary((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                trainingType, (LocalDate) row[5], (Integer) row[6]);
+    }
+}
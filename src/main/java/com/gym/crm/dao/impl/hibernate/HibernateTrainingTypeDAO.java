@@ -0,0 +1,75 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.TrainingTypeDAO;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.TrainingType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateTrainingTypeDAO extends AbstractHibernateDAO implements TrainingTypeDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateTrainingTypeDAO.class);
+
+    @PostConstruct
+    public void refresh() {
+        List<TrainingType> trainingTypes = inSession("Failed to load training types", session ->
+                session.createSelectionQuery("from TrainingType order by id", TrainingType.class)
+                        .getResultList());
+        trainingTypeStorage.load(trainingTypes);
+
+        log.info("Loaded training type catalog. Count: {}", trainingTypes.size());
+    }
+
+    @Override
+    public TrainingType save(TrainingType trainingType) {
+        Long id = inTransaction("Failed to save training type: " + trainingType.getTrainingTypeName(), session -> {
+            if (trainingType.getId() == null) {
+                TrainingType created = TrainingType.builder()
+                        .trainingTypeName(trainingType.getTrainingTypeName())
+                        .build();
+                session.persist(created);
+                return created.getId();
+            }
+
+            int updated = session.createMutationQuery("update TrainingType set trainingTypeName = :name where id = :id")
+                    .setParameter("name", trainingType.getTrainingTypeName())
+                    .setParameter("id", trainingType.getId())
+                    .executeUpdate();
+            if (updated == 0) {
+                throw new DaoException("Training type not found with ID: " + trainingType.getId());
+            }
+            return trainingType.getId();
+        });
+        refresh();
+
+        auditTrail.record(AuditEntity.TRAINING_TYPE, id,
+                trainingType.getId() == null ? AuditOperation.CREATE : AuditOperation.UPDATE);
+
+        return trainingTypeStorage.findById(id).orElseThrow();
+    }
+
+    @Override
+    public Optional<TrainingType> findById(Long id) {
+        return trainingTypeStorage.findById(id);
+    }
+
+    @Override
+    public Optional<TrainingType> findByName(String name) {
+        return trainingTypeStorage.findByName(name);
+    }
+
+    @Override
+    public List<TrainingType> findAll() {
+        return trainingTypeStorage.getCatalog().getAll();
+    }
+}
@@ -0,0 +1,131 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.config.ConditionalOnStorageType;
+import com.gym.crm.config.StorageType;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.UserStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnStorageType(StorageType.HIBERNATE)
+public class HibernateUserDAO extends AbstractHibernateDAO implements UserDAO {
+    private static final Logger log = LoggerFactory.getLogger(HibernateUserDAO.class);
+
+    private static final int USERNAME_CHECK_CHUNK = 1000;
+
+    private UserStorage userStorage;
+
+    @Autowired
+    public void setStorage(InMemoryStorage inMemoryStorage) {
+        this.userStorage = inMemoryStorage.getUserStorage();
+    }
+
+    @Override
+    public boolean existsUsername(String username) {
+        return userStorage.existsUsername(username) || existsInDatabase(username);
+    }
+
+    @Override
+    public boolean reserveUsername(String username) {
+        boolean reserved = !existsInDatabase(username) && userStorage.reserveUsername(username);
+
+        log.debug("Username {} reservation result: {}", username, reserved);
+
+        return reserved;
+    }
+
+    @Override
+    public Set<String> reserveUsernames(Collection<String> usernames) {
+        Set<String> existing = existingInDatabase(usernames);
+        Set<String> reserved = usernames.stream()
+                .filter(username -> !existing.contains(UserStorage.normalize(username)))
+                .filter(userStorage::reserveUsername)
+                .collect(Collectors.toSet());
+
+        log.debug("Reserved {} of {} usernames", reserved.size(), usernames.size());
+
+        return reserved;
+    }
+
+    @Override
+    public void releaseUsername(String username) {
+        userStorage.release(username);
+
+        log.debug("Released username: {}", username);
+    }
+
+    @Override
+    public List<String> findAllUsernames() {
+        List<String> usernames = inSession("Failed to retrieve usernames", session ->
+                session.createSelectionQuery("select username from User", String.class)
+                        .getResultList());
+
+        log.debug("Retrieved all usernames. Count: {}", usernames.size());
+
+        return usernames;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        Optional<User> user = inSession("Failed to find user: " + username, session ->
+                session.createSelectionQuery("from User where username = :username", User.class)
+                        .setParameter("username", UserStorage.normalize(username))
+                        .uniqueResultOptional());
+
+        log.debug("User {} found: {}", username, user.isPresent());
+
+        return user;
+    }
+
+    @Override
+    public boolean updatePassword(String username, String currentHash, String newHash) {
+        boolean updated = inTransaction("Failed to update password of user: " + username, session ->
+                session.createMutationQuery("""
+                                update User set password = :password
+                                where username = :username and password = :currentPassword""")
+                        .setParameter("password", newHash)
+                        .setParameter("username", UserStorage.normalize(username))
+                        .setParameter("currentPassword", currentHash)
+                        .executeUpdate() > 0);
+
+        log.debug("User {} password updated: {}", username, updated);
+
+        return updated;
+    }
+
+    private Set<String> existingInDatabase(Collection<String> usernames) {
+        List<String> normalized = usernames.stream()
+                .map(UserStorage::normalize)
+                .toList();
+
+        return inSession("Failed to check " + usernames.size() + " usernames", session -> {
+            Set<String> existing = new HashSet<>();
+            for (int from = 0; from < normalized.size(); from += USERNAME_CHECK_CHUNK) {
+                session.createSelectionQuery("select username from User where username in (:usernames)", String.class)
+                        .setParameter("usernames", normalized.subList(from, Math.min(from + USERNAME_CHECK_CHUNK, normalized.size())))
+                        .getResultList()
+                        .forEach(username -> existing.add(UserStorage.normalize(username)));
+            }
+            return existing;
+        });
+    }
+
+    private boolean existsInDatabase(String username) {
+        return inSession("Failed to check username: " + username, session ->
+                session.createSelectionQuery("select count(*) from User where username = :username", Long.class)
+                        .setParameter("username", UserStorage.normalize(username))
+                        .getSingleResult() > 0);
+    }
+}
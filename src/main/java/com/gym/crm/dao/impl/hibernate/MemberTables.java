@@ -0,0 +1,134 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+final class MemberTables {
+    private static final String INSERT_USER = """
+            INSERT INTO users (first_name, last_name, username, password, isActive)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final String INSERT_TRAINEE = """
+            INSERT INTO trainees (date_of_birth, address, user_id, version)
+            VALUES (?, ?, ?, 0)""";
+    private static final String INSERT_TRAINER = """
+            INSERT INTO trainers (user_id, specialization, version)
+            VALUES (?, ?, 0)""";
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row, int index) throws SQLException;
+    }
+
+    private MemberTables() {
+    }
+
+    static List<Trainee> insertTrainees(Session session, List<Trainee> trainees, int batchSize) {
+        return session.doReturningWork(connection -> {
+            List<User> users = insertUsers(connection, trainees.stream().map(Trainee::getUser).toList(), batchSize);
+            long[] ids = insert(connection, INSERT_TRAINEE, trainees, batchSize, (statement, trainee, index) -> {
+                if (trainee.getDateOfBirth() == null) {
+                    statement.setNull(1, Types.DATE);
+                } else {
+                    statement.setDate(1, Date.valueOf(trainee.getDateOfBirth()));
+                }
+                statement.setString(2, trainee.getAddress());
+                statement.setLong(3, users.get(index).getId());
+            });
+
+            List<Trainee> inserted = new ArrayList<>(trainees.size());
+            for (int i = 0; i < trainees.size(); i++) {
+                inserted.add(trainees.get(i).toBuilder()
+                        .id(ids[i])
+                        .user(users.get(i))
+                        .build());
+            }
+
+            return inserted;
+        });
+    }
+
+    static List<Trainer> insertTrainers(Session session, List<Trainer> trainers, int batchSize) {
+        return session.doReturningWork(connection -> {
+            List<User> users = insertUsers(connection, trainers.stream().map(Trainer::getUser).toList(), batchSize);
+            long[] ids = insert(connection, INSERT_TRAINER, trainers, batchSize, (statement, trainer, index) -> {
+                statement.setLong(1, users.get(index).getId());
+                TrainingType specialization = trainer.getSpecialization();
+                if (specialization == null) {
+                    statement.setNull(2, Types.BIGINT);
+                } else {
+                    statement.setLong(2, specialization.getId());
+                }
+            });
+
+            List<Trainer> inserted = new ArrayList<>(trainers.size());
+            for (int i = 0; i < trainers.size(); i++) {
+                inserted.add(trainers.get(i).toBuilder()
+                        .id(ids[i])
+                        .user(users.get(i))
+                        .build());
+            }
+
+            return inserted;
+        });
+    }
+
+    private static List<User> insertUsers(Connection connection, List<User> users, int batchSize) throws SQLException {
+        long[] ids = insert(connection, INSERT_USER, users, batchSize, (statement, user, index) -> {
+            statement.setString(1, user.getFirstName());
+            statement.setString(2, user.getLastName());
+            statement.setString(3, user.getUsername());
+            statement.setString(4, user.getPassword());
+            statement.setBoolean(5, user.getIsActive());
+        });
+
+        List<User> inserted = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            inserted.add(users.get(i).toBuilder()
+                    .id(ids[i])
+                    .build());
+        }
+
+        return inserted;
+    }
+
+    private static <T> long[] insert(Connection connection, String sql, List<T> rows, int batchSize,
+                                     RowBinder<T> binder) throws SQLException {
+        long[] ids = new long[rows.size()];
+        int keys = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows.size(); i++) {
+                binder.bind(statement, rows.get(i), i);
+                statement.addBatch();
+
+                if ((i + 1) % batchSize == 0 || i == rows.size() - 1) {
+                    statement.executeBatch();
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        while (generatedKeys.next()) {
+                            ids[keys++] = generatedKeys.getLong(1);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (keys != rows.size()) {
+            throw new SQLException("Expected " + rows.size() + " generated keys, got " + keys);
+        }
+
+        return ids;
+    }
+}
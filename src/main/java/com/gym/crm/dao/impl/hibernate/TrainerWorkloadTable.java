@@ -0,0 +1,91 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainerWorkloadId;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TrainerWorkloadTable {
+    private static final String ADD_MINUTES = """
+            UPDATE trainer_workloads SET total_minutes = total_minutes + :minutes
+            WHERE trainer_id = :trainerId AND workload_month = :workloadMonth""";
+    private static final String UPSERT_MONTH = """
+            INSERT INTO trainer_workloads (trainer_id, workload_month, total_minutes)
+            VALUES (:trainerId, :workloadMonth, :minutes)
+            ON DUPLICATE KEY UPDATE total_minutes = total_minutes + :minutes""";
+    private static final String REBUILD = """
+            INSERT INTO trainer_workloads (trainer_id, workload_month, total_minutes)
+            SELECT trainer_id, YEAR(training_date) * 100 + MONTH(training_date), SUM(training_duration)
+            FROM trainings
+            GROUP BY trainer_id, YEAR(training_date) * 100 + MONTH(training_date)""";
+    private static final String TRAINING_MINUTES = """
+            select t.trainer.id, t.trainingDate, t.trainingDuration
+            from Training t
+            where\s""";
+
+    private TrainerWorkloadTable() {
+    }
+
+    static void add(SharedSessionContract session, List<Training> trainings) {
+        Map<TrainerWorkloadId, Long> deltas = new HashMap<>();
+
+        for (Training training : trainings) {
+            Long trainerId = training.getTrainer() == null ? null : training.getTrainer().getId();
+            accumulate(deltas, trainerId, training.getTrainingDate(), training.getTrainingDuration(), 1);
+        }
+
+        apply(session, deltas);
+    }
+
+    static void subtractTraining(Session session, Long trainingId) {
+        subtract(session, "t.id = :id", trainingId);
+    }
+
+    static void subtractTrainee(Session session, Long traineeId) {
+        subtract(session, "t.trainee.id = :id", traineeId);
+    }
+
+    static int rebuild(Session session) {
+        session.createNativeMutationQuery("DELETE FROM trainer_workloads").executeUpdate();
+
+        return session.createNativeMutationQuery(REBUILD).executeUpdate();
+    }
+
+    private static void subtract(Session session, String condition, Long id) {
+        Map<TrainerWorkloadId, Long> deltas = new HashMap<>();
+
+        session.createSelectionQuery(TRAINING_MINUTES + condition, Object[].class)
+                .setParameter("id", id)
+                .getResultList()
+                .forEach(row -> accumulate(deltas, (Long) row[0], (LocalDate) row[1], (Integer) row[2], -1));
+
+        apply(session, deltas);
+    }
+
+    private static void accumulate(Map<TrainerWorkloadId, Long> deltas, Long trainerId, LocalDate date,
+                                   Integer duration, int sign) {
+        if (trainerId != null && date != null && duration != null) {
+            deltas.merge(TrainerWorkloadId.of(trainerId, YearMonth.from(date)), (long) sign * duration, Long::sum);
+        }
+    }
+
+    private static void apply(SharedSessionContract session, Map<TrainerWorkloadId, Long> deltas) {
+        deltas.forEach((id, minutes) -> {
+            if (minutes == 0) {
+                return;
+            }
+
+            session.createNativeMutationQuery(minutes > 0 ? UPSERT_MONTH : ADD_MINUTES)
+                    .setParameter("minutes", minutes)
+                    .setParameter("trainerId", id.getTrainerId())
+                    .setParameter("workloadMonth", id.getWorkloadMonth())
+                    .executeUpdate();
+        });
+    }
+}
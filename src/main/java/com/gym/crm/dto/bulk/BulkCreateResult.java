@@ -0,0 +1,16 @@
+package com.gym.crm.dto.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class BulkCreateResult<T> {
+    private int index;
+    private T created;
+    private String error;
+}
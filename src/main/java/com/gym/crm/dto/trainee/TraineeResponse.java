@@ -16,6 +16,7 @@ public class TraineeResponse {
     private String firstName;
     private String lastName;
     private String username;
+    private String password;
     private boolean isActive;
     private LocalDate dateOfBirth;
     private String address;
@@ -15,6 +15,7 @@ public class TrainerResponse {
     private String firstName;
     private String lastName;
     private String username;
+    private String password;
     private boolean isActive;
     private TrainingType specialization;
 }
@@ -0,0 +1,21 @@
+package com.gym.crm.dto.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class TrainerWorkloadResponse {
+    private Long trainerId;
+    private YearMonth from;
+    private YearMonth to;
+    private Map<YearMonth, Long> monthlyMinutes;
+    private long totalMinutes;
+}
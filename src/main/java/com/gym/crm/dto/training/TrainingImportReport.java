@@ -0,0 +1,19 @@
+package com.gym.crm.dto.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class TrainingImportReport {
+    private String file;
+    private long resumedAfterLine;
+    private long lastLine;
+    private long imported;
+    private long rejected;
+    private String rejectsFile;
+}
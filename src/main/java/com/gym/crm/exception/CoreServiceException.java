@@ -4,4 +4,8 @@ public class CoreServiceException extends RuntimeException {
     public CoreServiceException(String message) {
         super(message);
     }
+
+    public CoreServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -1,13 +1,20 @@
 package com.gym.crm.facade;
 
+import com.gym.crm.audit.AuditActor;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
 import com.gym.crm.dto.trainer.TrainerCreateRequest;
 import com.gym.crm.dto.trainer.TrainerResponse;
 import com.gym.crm.dto.trainer.TrainerUpdateRequest;
+import com.gym.crm.dto.training.TrainerWorkloadResponse;
 import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingImportReport;
 import com.gym.crm.dto.training.TrainingResponse;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.service.AssignmentService;
+import com.gym.crm.service.AuthenticationService;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.service.TrainingService;
@@ -15,7 +22,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Component
 public class GymFacade {
@@ -24,50 +35,95 @@ public class GymFacade {
     private final TraineeService traineeService;
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final AssignmentService assignmentService;
+    private final AuthenticationService authenticationService;
 
-    public GymFacade(TraineeService traineeService, TrainerService trainerService, TrainingService trainingService) {
+    public GymFacade(TraineeService traineeService, TrainerService trainerService, TrainingService trainingService,
+                     AssignmentService assignmentService, AuthenticationService authenticationService) {
         this.traineeService = traineeService;
         this.trainerService = trainerService;
         this.trainingService = trainingService;
+        this.assignmentService = assignmentService;
+        this.authenticationService = authenticationService;
     }
 
     public TraineeResponse createTrainee(TraineeCreateRequest request) {
-        logger.info("Facade: Creating trainee");
+        logger.debug("Facade: Creating trainee");
         return traineeService.create(request);
     }
 
+    public List<BulkCreateResult<TraineeResponse>> createTrainees(List<TraineeCreateRequest> requests) {
+        logger.debug("Facade: Creating {} trainees", requests.size());
+        return traineeService.createAll(requests);
+    }
+
     public Optional<TraineeResponse> getTraineeById(Long id) {
         logger.debug("Facade: Getting trainee by ID: {}", id);
         return traineeService.findById(id);
     }
 
+    public List<TraineeResponse> getTrainees(Long afterId, int limit) {
+        logger.debug("Facade: Getting trainees after ID: {}", afterId);
+        return traineeService.findPage(afterId, limit);
+    }
+
     public TraineeResponse updateTrainee(TraineeUpdateRequest request) {
-        logger.info("Facade: Updating trainee with ID: {}", request.getId());
+        logger.debug("Facade: Updating trainee with ID: {}", request.getId());
         return traineeService.update(request);
     }
 
     public void deleteTrainee(Long id) {
-        logger.info("Facade: Deleting trainee with ID: {}", id);
+        logger.debug("Facade: Deleting trainee with ID: {}", id);
         traineeService.delete(id);
     }
 
     public TrainerResponse createTrainer(TrainerCreateRequest request) {
-        logger.info("Facade: Creating trainer");
+        logger.debug("Facade: Creating trainer");
         return trainerService.create(request);
     }
 
+    public List<BulkCreateResult<TrainerResponse>> createTrainers(List<TrainerCreateRequest> requests) {
+        logger.debug("Facade: Creating {} trainers", requests.size());
+        return trainerService.createAll(requests);
+    }
+
     public Optional<TrainerResponse> getTrainerById(Long id) {
         logger.debug("Facade: Getting trainer by ID: {}", id);
         return trainerService.findById(id);
     }
 
     public TrainerResponse updateTrainer(TrainerUpdateRequest request) {
-        logger.info("Facade: Updating trainer with ID: {}", request.getId());
+        logger.debug("Facade: Updating trainer with ID: {}", request.getId());
         return trainerService.update(request);
     }
 
+    public boolean assignTrainer(Long traineeId, Long trainerId) {
+        logger.debug("Facade: Assigning trainer ID: {} to trainee ID: {}", trainerId, traineeId);
+        return assignmentService.assign(traineeId, trainerId);
+    }
+
+    public boolean unassignTrainer(Long traineeId, Long trainerId) {
+        logger.debug("Facade: Unassigning trainer ID: {} from trainee ID: {}", trainerId, traineeId);
+        return assignmentService.unassign(traineeId, trainerId);
+    }
+
+    public List<TrainerResponse> getTraineeTrainers(Long traineeId) {
+        logger.debug("Facade: Getting trainers of trainee ID: {}", traineeId);
+        return assignmentService.findTrainers(traineeId);
+    }
+
+    public List<TraineeResponse> getTrainerTrainees(Long trainerId) {
+        logger.debug("Facade: Getting trainees of trainer ID: {}", trainerId);
+        return assignmentService.findTrainees(trainerId);
+    }
+
+    public List<TrainerResponse> getUnassignedActiveTrainers(Long traineeId) {
+        logger.debug("Facade: Getting active trainers not assigned to trainee ID: {}", traineeId);
+        return assignmentService.findUnassignedActiveTrainers(traineeId);
+    }
+
     public TrainingResponse createTraining(TrainingCreateRequest training) {
-        logger.info("Facade: Creating training");
+        logger.debug("Facade: Creating training");
         return trainingService.create(training);
     }
 
@@ -75,4 +131,42 @@ public class GymFacade {
         logger.debug("Facade: Getting training by ID: {}", id);
         return trainingService.findById(id);
     }
+
+    public List<TrainingResponse> getTrainings(Long afterId, int limit) {
+        logger.debug("Facade: Getting trainings after ID: {}", afterId);
+        return trainingService.findPage(afterId, limit);
+    }
+
+    public List<TrainingResponse> getTraineeTrainings(Long traineeId) {
+        logger.debug("Facade: Getting trainings of trainee ID: {}", traineeId);
+        return trainingService.findByTraineeId(traineeId);
+    }
+
+    public TrainerWorkloadResponse getTrainerWorkload(Long trainerId, YearMonth from, YearMonth to) {
+        logger.debug("Facade: Getting workload of trainer ID: {} from {} to {}", trainerId, from, to);
+        return trainingService.getTrainerWorkload(trainerId, from, to);
+    }
+
+    public TrainingImportReport importTrainings(Path csvFile) {
+        logger.debug("Facade: Importing trainings from {}", csvFile);
+        return trainingService.importTrainings(csvFile);
+    }
+
+    public boolean authenticate(String username, String password) {
+        logger.debug("Facade: Authenticating user: {}", username);
+        return authenticationService.authenticate(username, password);
+    }
+
+    public <T> T runAs(String username, String password, Supplier<T> action) {
+        if (!authenticate(username, password)) {
+            throw new CoreServiceException("Authentication failed for user: " + username);
+        }
+
+        AuditActor.set(username);
+        try {
+            return action.get();
+        } finally {
+            AuditActor.clear();
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package com.gym.crm.importer;
+
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dao.TrainingTypeDAO;
+import com.gym.crm.dto.training.TrainingImportReport;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.UserStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Component
+public class TrainingCsvImporter {
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCsvImporter.class);
+
+    static final String HEADER = "trainee_username,trainer_username,training_name,training_type,training_date,training_duration";
+    static final String REJECTS_SUFFIX = ".rejects.csv";
+
+    private static final String REJECTS_HEADER = "line,reason,record";
+    private static final int COLUMNS = 6;
+
+    private record CsvLine(long number, String text) {
+    }
+
+    private record ParsedLine(CsvLine line, Training training, String error) {
+    }
+
+    private record Lookups(Map<String, Long> trainees, Map<String, Trainer> trainers,
+                           Map<String, TrainingType> trainingTypes) {
+    }
+
+    private TraineeDAO traineeDAO;
+    private TrainerDAO trainerDAO;
+    private TrainingDAO trainingDAO;
+    private TrainingTypeDAO trainingTypeDAO;
+    private int batchSize;
+    private int validationThreads;
+
+    @Autowired
+    public void setTraineeDAO(TraineeDAO traineeDAO) {
+        this.traineeDAO = traineeDAO;
+    }
+
+    @Autowired
+    public void setTrainerDAO(TrainerDAO trainerDAO) {
+        this.trainerDAO = trainerDAO;
+    }
+
+    @Autowired
+    public void setTrainingDAO(TrainingDAO trainingDAO) {
+        this.trainingDAO = trainingDAO;
+    }
+
+    @Autowired
+    public void setTrainingTypeDAO(TrainingTypeDAO trainingTypeDAO) {
+        this.trainingTypeDAO = trainingTypeDAO;
+    }
+
+    @Value("${training-import.batch-size}")
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Value("${training-import.validation-threads}")
+    public void setValidationThreads(int validationThreads) {
+        this.validationThreads = validationThreads;
+    }
+
+    public TrainingImportReport importFile(Path file) {
+        String source = file.toAbsolutePath().normalize().toString();
+        Path rejectsFile = file.resolveSibling(file.getFileName() + REJECTS_SUFFIX);
+        ForkJoinPool validationPool = new ForkJoinPool(validationThreads);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || !header.trim().equalsIgnoreCase(HEADER)) {
+                throw new CoreServiceException("Expected CSV header '" + HEADER + "' in " + file);
+            }
+
+            TrainingImport resumed = trainingDAO.findImport(source)
+                    .orElseGet(() -> TrainingImport.builder().source(source).build());
+            if (resumed.getLastLine() > 0) {
+                logger.info("Resuming import of {} after line {}", file, resumed.getLastLine());
+            }
+
+            Lookups lookups = loadLookups();
+            TrainingImport progress = resumed;
+            long started = System.nanoTime();
+
+            try (BufferedWriter rejects = openRejects(rejectsFile, resumed)) {
+                List<CsvLine> batch = new ArrayList<>(batchSize);
+                long number = 1;
+                String text;
+
+                while ((text = reader.readLine()) != null) {
+                    number++;
+                    if (number <= resumed.getLastLine() || text.isBlank()) {
+                        continue;
+                    }
+
+                    batch.add(new CsvLine(number, text));
+                    if (batch.size() == batchSize) {
+                        progress = importBatch(batch, number, progress, lookups, validationPool, rejects, rejectsFile);
+                        logProgress(progress, resumed, started);
+                        batch.clear();
+                    }
+                }
+
+                if (number > progress.getLastLine()) {
+                    progress = importBatch(batch, number, progress, lookups, validationPool, rejects, rejectsFile);
+                }
+            }
+
+            logger.info("Imported {} trainings from {}, rejected {} (see {})",
+                    progress.getImported(), file, progress.getRejected(), rejectsFile);
+
+            return TrainingImportReport.builder()
+                    .file(file.toString())
+                    .resumedAfterLine(resumed.getLastLine())
+                    .lastLine(progress.getLastLine())
+                    .imported(progress.getImported())
+                    .rejected(progress.getRejected())
+                    .rejectsFile(rejectsFile.toString())
+                    .build();
+        } catch (IOException e) {
+            throw new CoreServiceException("Failed to import trainings from " + file, e);
+        } finally {
+            validationPool.shutdown();
+        }
+    }
+
+    private TrainingImport importBatch(List<CsvLine> batch, long lastLine, TrainingImport progress, Lookups lookups,
+                                       ForkJoinPool validationPool, BufferedWriter rejects, Path rejectsFile)
+            throws IOException {
+        List<ParsedLine> parsed = validationPool.submit(() -> batch.parallelStream()
+                        .map(line -> parse(line, lookups))
+                        .toList())
+                .join();
+
+        List<Training> trainings = new ArrayList<>(parsed.size());
+        long rejected = 0;
+
+        for (ParsedLine line : parsed) {
+            if (line.error() == null) {
+                trainings.add(line.training());
+            } else {
+                rejects.write(line.line().number() + "," + CsvRecord.quote(line.error()) + ","
+                        + CsvRecord.quote(line.line().text()));
+                rejects.newLine();
+                rejected++;
+            }
+        }
+        rejects.flush();
+
+        TrainingImport next = progress.toBuilder()
+                .lastLine(lastLine)
+                .imported(progress.getImported() + trainings.size())
+                .rejected(progress.getRejected() + rejected)
+                .rejectsBytes(Files.size(rejectsFile))
+                .build();
+        trainingDAO.insertAll(trainings, next);
+
+        return next;
+    }
+
+    private ParsedLine parse(CsvLine line, Lookups lookups) {
+        List<String> fields;
+        try {
+            fields = CsvRecord.parse(line.text());
+        } catch (IllegalArgumentException e) {
+            return new ParsedLine(line, null, e.getMessage());
+        }
+
+        if (fields.size() != COLUMNS) {
+            return new ParsedLine(line, null, "Expected " + COLUMNS + " columns, found " + fields.size());
+        }
+
+        Long traineeId = lookups.trainees().get(UserStorage.normalize(fields.get(0).trim()));
+        if (traineeId == null) {
+            return new ParsedLine(line, null, "Unknown trainee: " + fields.get(0));
+        }
+
+        Trainer trainer = lookups.trainers().get(UserStorage.normalize(fields.get(1).trim()));
+        if (trainer == null) {
+            return new ParsedLine(line, null, "Unknown trainer: " + fields.get(1));
+        }
+
+        String trainingName = fields.get(2).trim();
+        if (trainingName.isEmpty()) {
+            return new ParsedLine(line, null, "Training name is required");
+        }
+
+        String typeName = fields.get(3).trim();
+        TrainingType trainingType = typeName.isEmpty()
+                ? trainer.getSpecialization()
+                : lookups.trainingTypes().get(typeName.toLowerCase(Locale.ROOT));
+        if (trainingType == null) {
+            return new ParsedLine(line, null, "Unknown training type: " + typeName);
+        }
+
+        LocalDate trainingDate;
+        int trainingDuration;
+        try {
+            trainingDate = LocalDate.parse(fields.get(4).trim());
+            trainingDuration = Integer.parseInt(fields.get(5).trim());
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return new ParsedLine(line, null, "Invalid date or duration: " + fields.get(4) + ", " + fields.get(5));
+        }
+        if (trainingDuration <= 0) {
+            return new ParsedLine(line, null, "Training duration must be positive: " + trainingDuration);
+        }
+
+        Training training = Training.builder()
+                .trainee(Trainee.builder().id(traineeId).build())
+                .trainer(trainer)
+                .trainingType(trainingType)
+                .trainingName(trainingName)
+                .trainingDate(trainingDate)
+                .trainingDuration(trainingDuration)
+                .build();
+
+        return new ParsedLine(line, training, null);
+    }
+
+    private Lookups loadLookups() {
+        Map<String, Long> trainees = new HashMap<>();
+        try (Stream<Trainee> stream = traineeDAO.streamAll()) {
+            stream.forEach(trainee -> trainees.put(UserStorage.normalize(trainee.getUser().getUsername()), trainee.getId()));
+        }
+
+        Map<String, Trainer> trainers = new HashMap<>();
+        try (Stream<Trainer> stream = trainerDAO.streamAll()) {
+            stream.forEach(trainer -> trainers.put(UserStorage.normalize(trainer.getUser().getUsername()),
+                    Trainer.builder()
+                            .id(trainer.getId())
+                            .specialization(trainer.getSpecialization())
+                            .build()));
+        }
+
+        Map<String, TrainingType> trainingTypes = new HashMap<>();
+        trainingTypeDAO.findAll()
+                .forEach(type -> trainingTypes.put(type.getTrainingTypeName().toLowerCase(Locale.ROOT), type));
+
+        logger.debug("Loaded {} trainee and {} trainer usernames for import", trainees.size(), trainers.size());
+
+        return new Lookups(trainees, trainers, trainingTypes);
+    }
+
+    private BufferedWriter openRejects(Path rejectsFile, TrainingImport resumed) throws IOException {
+        if (resumed.getLastLine() > 0 && Files.exists(rejectsFile)) {
+            try (FileChannel channel = FileChannel.open(rejectsFile, StandardOpenOption.WRITE)) {
+                channel.truncate(resumed.getRejectsBytes());
+            }
+            return Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+
+        BufferedWriter rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8);
+        rejects.write(REJECTS_HEADER);
+        rejects.newLine();
+
+        return rejects;
+    }
+
+    private void logProgress(TrainingImport progress, TrainingImport resumed, long started) {
+        long rows = progress.getImported() + progress.getRejected() - resumed.getImported() - resumed.getRejected();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        logger.info("Import progress: line {}, {} imported, {} rejected, {} rows/s",
+                progress.getLastLine(), progress.getImported(), progress.getRejected(), rows * 1000 / elapsedMillis);
+    }
+}
@@ -1,16 +1,34 @@
 package com.gym.crm.mapper;
 
+import com.gym.crm.dao.TraineeSummary;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
 import com.gym.crm.model.Trainee;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TraineeMapper {
+    @Mapping(target = "user.firstName", source = "firstName")
+    @Mapping(target = "user.lastName", source = "lastName")
+    @Mapping(target = "user.isActive", constant = "true")
     Trainee toEntity(TraineeCreateRequest request);
 
+    @Mapping(target = "user.firstName", source = "firstName")
+    @Mapping(target = "user.lastName", source = "lastName")
+    @Mapping(target = "user.isActive", source = "isActive")
     Trainee toEntity(TraineeUpdateRequest request);
 
+    @Mapping(target = "firstName", source = "user.firstName")
+    @Mapping(target = "lastName", source = "user.lastName")
+    @Mapping(target = "username", source = "user.username")
+    @Mapping(target = "isActive", source = "user.isActive")
+    @Mapping(target = "password", ignore = true)
     TraineeResponse toResponse(Trainee trainee);
+
+    @Mapping(target = "isActive", source = "active")
+    @Mapping(target = "password", ignore = true)
+    TraineeResponse toResponse(TraineeSummary summary);
 }
+
@@ -1,13 +1,19 @@
 package com.gym.crm.mapper;
 
+import com.gym.crm.dao.TrainingSummary;
 import com.gym.crm.dto.training.TrainingCreateRequest;
 import com.gym.crm.dto.training.TrainingResponse;
 import com.gym.crm.model.Training;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TrainingMapper {
     Training toEntity(TrainingCreateRequest request);
 
+    @Mapping(target = "traineeUsername", source = "trainee.user.username")
+    @Mapping(target = "trainerUsername", source = "trainer.user.username")
     TrainingResponse toResponse(Training training);
-}
\ No newline at end of file
+
+    TrainingResponse toResponse(TrainingSummary summary);
+}
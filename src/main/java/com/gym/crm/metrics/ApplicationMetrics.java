@@ -0,0 +1,82 @@
+package com.gym.crm.metrics;
+
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.audit.RingBufferAuditTrail;
+import com.gym.crm.cache.EntityCache;
+import com.gym.crm.cache.EntityCaches;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ApplicationMetrics {
+    private MetricsRegistry metricsRegistry;
+    private AuditTrail auditTrail;
+    private ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics;
+    private ObjectProvider<EntityCaches> entityCaches;
+
+    @Autowired
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Autowired
+    public void setAuditTrail(AuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
+    }
+
+    @Autowired
+    public void setConnectionPoolMetrics(ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+        this.connectionPoolMetrics = connectionPoolMetrics;
+    }
+
+    @Autowired
+    public void setEntityCaches(ObjectProvider<EntityCaches> entityCaches) {
+        this.entityCaches = entityCaches;
+    }
+
+    @PostConstruct
+    public void register() {
+        if (auditTrail instanceof RingBufferAuditTrail ringBuffer) {
+            metricsRegistry.counter("gym_audit_events_written_total", "Audit events written to disk", Map.of(),
+                    ringBuffer::getWritten);
+            metricsRegistry.counter("gym_audit_events_dropped_total", "Audit events dropped on a full buffer",
+                    Map.of(), ringBuffer::getDropped);
+        }
+
+        connectionPoolMetrics.ifAvailable(pool -> {
+            Map<String, String> labels = Map.of("pool", String.valueOf(pool.getPoolName()));
+            metricsRegistry.gauge("gym_db_pool_active_connections", "Connections in use", labels,
+                    pool::getActiveConnections);
+            metricsRegistry.gauge("gym_db_pool_idle_connections", "Idle connections", labels,
+                    pool::getIdleConnections);
+            metricsRegistry.gauge("gym_db_pool_pending_threads", "Threads waiting for a connection", labels,
+                    pool::getPendingThreads);
+            metricsRegistry.gauge("gym_db_pool_total_connections", "Open connections", labels,
+                    pool::getTotalConnections);
+            metricsRegistry.counter("gym_db_pool_timeouts_total", "Connection acquisitions that timed out", labels,
+                    pool::getTimeouts);
+            metricsRegistry.register("gym_db_pool_acquire_seconds", "Time to acquire a connection", labels,
+                    pool.getAcquireTime());
+        });
+
+        entityCaches.ifAvailable(caches -> caches.all().forEach(this::registerCache));
+    }
+
+    private void registerCache(EntityCache<?> cache) {
+        Map<String, String> labels = Map.of("cache", cache.getName());
+        metricsRegistry.counter("gym_cache_hits_total", "Entity cache lookups served from memory", labels,
+                cache::getHits);
+        metricsRegistry.counter("gym_cache_misses_total", "Entity cache lookups loaded from the DAO", labels,
+                cache::getMisses);
+        metricsRegistry.counter("gym_cache_evictions_total", "Entries evicted to stay within capacity", labels,
+                cache::getEvictions);
+        metricsRegistry.counter("gym_cache_expirations_total", "Entries dropped after expiry", labels,
+                cache::getExpirations);
+        metricsRegistry.gauge("gym_cache_size", "Entries held", labels, cache::size);
+        metricsRegistry.gauge("gym_cache_capacity", "Maximum entries", labels, cache::getCapacity);
+    }
+}
@@ -0,0 +1,67 @@
+package com.gym.crm.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+    private final LatencyHistogram acquireTime = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireTime.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getActiveConnections() {
+        return stat(PoolStats::getActiveConnections);
+    }
+
+    public int getIdleConnections() {
+        return stat(PoolStats::getIdleConnections);
+    }
+
+    public int getPendingThreads() {
+        return stat(PoolStats::getPendingThreads);
+    }
+
+    public int getTotalConnections() {
+        return stat(PoolStats::getTotalConnections);
+    }
+
+    public LatencyHistogram getAcquireTime() {
+        return acquireTime;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    private int stat(ToIntFunction<PoolStats> getter) {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : getter.applyAsInt(stats);
+    }
+}
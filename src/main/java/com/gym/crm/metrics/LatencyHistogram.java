@@ -0,0 +1,51 @@
+package com.gym.crm.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final long[] DEFAULT_BOUNDS_MICROS = {
+            50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000
+    };
+
+    private final long[] boundsNanos;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        this(Arrays.stream(DEFAULT_BOUNDS_MICROS).map(TimeUnit.MICROSECONDS::toNanos).toArray());
+    }
+
+    public LatencyHistogram(long[] boundsNanos) {
+        this.boundsNanos = boundsNanos.clone();
+        this.buckets = new LongAdder[boundsNanos.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int index = Arrays.binarySearch(boundsNanos, nanos);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        count.increment();
+        sumNanos.add(nanos);
+    }
+
+    public long[] getBoundsNanos() {
+        return boundsNanos.clone();
+    }
+
+    public long[] getBucketCounts() {
+        return Arrays.stream(buckets).mapToLong(LongAdder::sum).toArray();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+}
@@ -0,0 +1,105 @@
+package com.gym.crm.metrics;
+
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+class MethodTimingInterceptor implements InvocationHandler, MethodInterceptor {
+    static final String DURATION_METRIC = "gym_method_duration_seconds";
+    static final String ERRORS_METRIC = "gym_method_errors_total";
+
+    private static final long[] BOUNDS_NANOS = {
+            TimeUnit.MICROSECONDS.toNanos(1), TimeUnit.MICROSECONDS.toNanos(5), TimeUnit.MICROSECONDS.toNanos(10),
+            TimeUnit.MICROSECONDS.toNanos(25), TimeUnit.MICROSECONDS.toNanos(50), TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MICROSECONDS.toNanos(250), TimeUnit.MICROSECONDS.toNanos(500), TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(5)
+    };
+
+    private record MethodMetrics(LatencyHistogram duration, LongAdder errors) {
+    }
+
+    private final Object target;
+    private final MetricsRegistry metricsRegistry;
+    private final String layer;
+    private final Function<Method, String> entityOf;
+    private final ConcurrentMap<Method, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    MethodTimingInterceptor(Object target, MetricsRegistry metricsRegistry, String layer,
+                            Function<Method, String> entityOf) {
+        this.target = target;
+        this.metricsRegistry = metricsRegistry;
+        this.layer = layer;
+        this.entityOf = entityOf;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(method, args);
+        }
+
+        MethodMetrics methodMetrics = metricsOf(method);
+        long start = System.nanoTime();
+        try {
+            return invokeTarget(method, args);
+        } catch (Throwable e) {
+            methodMetrics.errors().increment();
+            throw e;
+        } finally {
+            methodMetrics.duration().record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return methodProxy.invoke(target, args);
+        }
+
+        MethodMetrics methodMetrics = metricsOf(method);
+        long start = System.nanoTime();
+        try {
+            return methodProxy.invoke(target, args);
+        } catch (Throwable e) {
+            methodMetrics.errors().increment();
+            throw e;
+        } finally {
+            methodMetrics.duration().record(System.nanoTime() - start);
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private MethodMetrics metricsOf(Method method) {
+        MethodMetrics methodMetrics = metrics.get(method);
+        return methodMetrics != null ? methodMetrics : metrics.computeIfAbsent(method, this::register);
+    }
+
+    private MethodMetrics register(Method method) {
+        Map<String, String> labels = Map.of(
+                "layer", layer,
+                "entity", entityOf.apply(method),
+                "operation", method.getName());
+
+        return new MethodMetrics(
+                metricsRegistry.histogram(DURATION_METRIC, "Latency of facade, service and DAO calls", labels, BOUNDS_NANOS),
+                metricsRegistry.counter(ERRORS_METRIC, "Facade, service and DAO calls that threw", labels));
+    }
+}
@@ -0,0 +1,107 @@
+package com.gym.crm.metrics;
+
+import com.gym.crm.facade.GymFacade;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.core.Ordered;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+@Component
+public class MetricsBeanPostProcessor implements BeanPostProcessor, Ordered {
+    private static final String DAO_PACKAGE = "com.gym.crm.dao.impl";
+    private static final String SERVICE_PACKAGE = "com.gym.crm.service.impl";
+
+    private final SpringObjenesis objenesis = new SpringObjenesis();
+    private final ObjectProvider<MetricsRegistry> metricsRegistry;
+
+    public MetricsBeanPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> type = AopUtils.getTargetClass(bean);
+        String name = type.getSimpleName();
+        String packageName = type.getPackageName();
+
+        if (type == GymFacade.class) {
+            return timed(bean, "facade", true, method -> entityFromMethod(method.getName()));
+        }
+        if (packageName.equals(SERVICE_PACKAGE) && name.endsWith("ServiceImpl")) {
+            String entity = snakeCase(name.substring(0, name.length() - "ServiceImpl".length()));
+            return timed(bean, "service", false, method -> entity);
+        }
+        if (packageName.startsWith(DAO_PACKAGE) && (name.endsWith("DAOImpl") || name.endsWith("DAO"))) {
+            String entity = snakeCase(name.replaceFirst("^Hibernate", "").replaceFirst("DAO(Impl)?$", ""));
+            return timed(bean, "dao", false, method -> entity);
+        }
+
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Object timed(Object bean, String layer, boolean proxyTargetClass, Function<Method, String> entityOf) {
+        MethodTimingInterceptor interceptor =
+                new MethodTimingInterceptor(bean, metricsRegistry.getObject(), layer, entityOf);
+        ClassLoader classLoader = bean.getClass().getClassLoader();
+
+        if (!proxyTargetClass) {
+            return Proxy.newProxyInstance(classLoader, ClassUtils.getAllInterfaces(bean), interceptor);
+        }
+
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(bean.getClass());
+        enhancer.setCallbackType(MethodInterceptor.class);
+        enhancer.setClassLoader(classLoader);
+        Factory proxy = (Factory) objenesis.newInstance(enhancer.createClass());
+        proxy.setCallback(0, interceptor);
+
+        return proxy;
+    }
+
+    static String entityFromMethod(String methodName) {
+        List<String> words = words(methodName);
+        StringBuilder entity = new StringBuilder();
+
+        for (int i = 1; i < words.size() && !words.get(i).equals("By"); i++) {
+            entity.append(words.get(i));
+        }
+
+        return entity.isEmpty() ? "gym" : snakeCase(entity.toString());
+    }
+
+    static String snakeCase(String camelCase) {
+        return String.join("_", words(camelCase)).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> words(String camelCase) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 1; i <= camelCase.length(); i++) {
+            if (i == camelCase.length() || Character.isUpperCase(camelCase.charAt(i))) {
+                words.add(camelCase.substring(start, i));
+                start = i;
+            }
+        }
+
+        return words;
+    }
+}
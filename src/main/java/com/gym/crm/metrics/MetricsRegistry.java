@@ -0,0 +1,148 @@
+package com.gym.crm.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+@Component
+public class MetricsRegistry {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private enum MetricType {
+        COUNTER, GAUGE, HISTOGRAM
+    }
+
+    private record MetricFamily(String name, String help, MetricType type, ConcurrentMap<String, Object> series) {
+    }
+
+    private final ConcurrentMap<String, MetricFamily> families = new ConcurrentSkipListMap<>();
+
+    public LongAdder counter(String name, String help, Map<String, String> labels) {
+        return (LongAdder) series(name, help, MetricType.COUNTER, labels, new LongAdder());
+    }
+
+    public void counter(String name, String help, Map<String, String> labels, LongSupplier value) {
+        series(name, help, MetricType.COUNTER, labels, value);
+    }
+
+    public void gauge(String name, String help, Map<String, String> labels, DoubleSupplier value) {
+        series(name, help, MetricType.GAUGE, labels, value);
+    }
+
+    public LatencyHistogram histogram(String name, String help, Map<String, String> labels, long[] boundsNanos) {
+        return (LatencyHistogram) series(name, help, MetricType.HISTOGRAM, labels, new LatencyHistogram(boundsNanos));
+    }
+
+    public void register(String name, String help, Map<String, String> labels, LatencyHistogram histogram) {
+        series(name, help, MetricType.HISTOGRAM, labels, histogram);
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        for (MetricFamily family : families.values()) {
+            out.append("# HELP ").append(family.name()).append(' ').append(family.help()).append('\n');
+            out.append("# TYPE ").append(family.name()).append(' ')
+                    .append(family.type().name().toLowerCase()).append('\n');
+
+            family.series().forEach((labels, value) -> {
+                switch (family.type()) {
+                    case COUNTER -> sample(out, family.name(), labels, value instanceof LongAdder adder
+                            ? adder.sum() : ((LongSupplier) value).getAsLong());
+                    case GAUGE -> sample(out, family.name(), labels, ((DoubleSupplier) value).getAsDouble());
+                    case HISTOGRAM -> histogram(out, family.name(), labels, (LatencyHistogram) value);
+                }
+            });
+        }
+
+        return out.toString();
+    }
+
+    private Object series(String name, String help, MetricType type, Map<String, String> labels, Object value) {
+        MetricFamily family = families.computeIfAbsent(name,
+                key -> new MetricFamily(name, help, type, new ConcurrentSkipListMap<>()));
+        if (family.type() != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type());
+        }
+
+        return family.series().computeIfAbsent(renderLabels(labels), key -> value);
+    }
+
+    private static void histogram(StringBuilder out, String name, String labels, LatencyHistogram histogram) {
+        long[] bounds = histogram.getBoundsNanos();
+        long[] buckets = histogram.getBucketCounts();
+        String separator = labels.isEmpty() ? "" : ",";
+        long cumulative = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += buckets[i];
+            sample(out, name + "_bucket", labels + separator + "le=\"" + seconds(bounds[i]) + "\"", cumulative);
+        }
+        cumulative += buckets[bounds.length];
+        sample(out, name + "_bucket", labels + separator + "le=\"+Inf\"", cumulative);
+        out.append(name).append("_sum");
+        appendLabels(out, labels);
+        out.append(' ').append(seconds(histogram.getSumNanos())).append('\n');
+        sample(out, name + "_count", labels, cumulative);
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name);
+        appendLabels(out, labels);
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        appendLabels(out, labels);
+        out.append(' ');
+        if (!Double.isFinite(value)) {
+            out.append("NaN");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static void appendLabels(StringBuilder out, String labels) {
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+    }
+
+    private static String renderLabels(Map<String, String> labels) {
+        StringBuilder rendered = new StringBuilder();
+
+        new TreeMap<>(labels).forEach((name, value) -> {
+            if (!rendered.isEmpty()) {
+                rendered.append(',');
+            }
+            rendered.append(name).append("=\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> rendered.append("\\\\");
+                    case '"' -> rendered.append("\\\"");
+                    case '\n' -> rendered.append("\\n");
+                    default -> rendered.append(c);
+                }
+            }
+            rendered.append('"');
+        });
+
+        return rendered.toString();
+    }
+
+    private static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos).movePointLeft(9).stripTrailingZeros().toPlainString();
+    }
+}
@@ -10,9 +10,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -22,10 +26,18 @@ import java.util.Set;
 
 @Entity
 @Table(name = "trainees")
+@NamedEntityGraph(name = Trainee.PROFILE_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "trainers", subgraph = "trainer")
+        },
+        subgraphs = @NamedSubgraph(name = "trainer", attributeNodes = @NamedAttributeNode("user")))
 @Getter
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 public class Trainee {
+    public static final String PROFILE_GRAPH = "Trainee.profile";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -37,6 +49,10 @@ public class Trainee {
     @Column(name = "address", nullable = true, length = 200)
     private String address;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @OneToOne
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
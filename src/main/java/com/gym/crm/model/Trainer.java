@@ -10,9 +10,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -21,10 +25,18 @@ import java.util.Set;
 
 @Entity
 @Table(name = "trainers")
+@NamedEntityGraph(name = Trainer.PROFILE_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "trainees", subgraph = "trainee")
+        },
+        subgraphs = @NamedSubgraph(name = "trainee", attributeNodes = @NamedAttributeNode("user")))
 @Getter
 @NoArgsConstructor
 @SuperBuilder(toBuilder = true)
 public class Trainer {
+    public static final String PROFILE_GRAPH = "Trainer.profile";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -38,6 +50,10 @@ public class Trainer {
     @JoinColumn(name = "specialization", referencedColumnName = "id")
     private TrainingType specialization;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToMany(mappedBy = "trainers", fetch = FetchType.LAZY)
     private Set<Trainee> trainees;
 
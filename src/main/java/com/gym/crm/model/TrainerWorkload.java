@@ -0,0 +1,22 @@
+package com.gym.crm.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "trainer_workloads")
+@Getter
+@NoArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class TrainerWorkload {
+    @EmbeddedId
+    private TrainerWorkloadId id;
+
+    @Column(name = "total_minutes", nullable = false)
+    private Long totalMinutes;
+}
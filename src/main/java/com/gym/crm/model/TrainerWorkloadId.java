@@ -0,0 +1,36 @@
+package com.gym.crm.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TrainerWorkloadId implements Serializable {
+    @Column(name = "trainer_id", nullable = false)
+    private Long trainerId;
+
+    @Column(name = "workload_month", nullable = false)
+    private Integer workloadMonth;
+
+    public static TrainerWorkloadId of(Long trainerId, YearMonth month) {
+        return new TrainerWorkloadId(trainerId, toWorkloadMonth(month));
+    }
+
+    public static int toWorkloadMonth(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public YearMonth toYearMonth() {
+        return YearMonth.of(workloadMonth / 100, workloadMonth % 100);
+    }
+}
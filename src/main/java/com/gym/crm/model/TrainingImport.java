@@ -0,0 +1,32 @@
+package com.gym.crm.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "training_imports")
+@Getter
+@NoArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class TrainingImport {
+    @Id
+    @Column(name = "source", length = 512)
+    private String source;
+
+    @Column(name = "last_line", nullable = false)
+    private long lastLine;
+
+    @Column(name = "imported", nullable = false)
+    private long imported;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    @Column(name = "rejects_bytes", nullable = false)
+    private long rejectsBytes;
+}
@@ -0,0 +1,237 @@
+package com.gym.crm.security;
+
+import com.gym.crm.exception.CoreServiceException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHasher {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    static final int DEFAULT_ITERATIONS = 600_000;
+    static final int DEFAULT_BULK_ITERATIONS = 10_000;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String SEPARATOR = "$";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final byte[] DUMMY_SALT = new byte[SALT_BYTES];
+
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getDecoder();
+
+    private int iterations = DEFAULT_ITERATIONS;
+    private int bulkIterations = DEFAULT_BULK_ITERATIONS;
+    private int threads;
+    private int queueSize;
+    private int bulkThreads;
+    private int bulkQueueSize;
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor bulkExecutor;
+
+    @Value("${credentials.hashing.iterations}")
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Value("${credentials.hashing.bulk-iterations}")
+    public void setBulkIterations(int bulkIterations) {
+        this.bulkIterations = bulkIterations;
+    }
+
+    @Value("${credentials.hashing.threads}")
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    @Value("${credentials.hashing.queue-size}")
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @Value("${credentials.hashing.bulk-threads}")
+    public void setBulkThreads(int bulkThreads) {
+        this.bulkThreads = bulkThreads;
+    }
+
+    @Value("${credentials.hashing.bulk-queue-size}")
+    public void setBulkQueueSize(int bulkQueueSize) {
+        this.bulkQueueSize = bulkQueueSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = newExecutor(threads, queueSize, "password-hashing-");
+        bulkExecutor = newExecutor(bulkThreads, bulkQueueSize, "bulk-password-hashing-");
+
+        logger.info("Password hashing started with {} threads ({} queued) for logins and {} threads ({} queued) "
+                + "for bulk creates, {} iterations ({} for bulk creates)", threads, queueSize, bulkThreads, bulkQueueSize,
+                iterations, bulkIterationCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (bulkExecutor != null) {
+            bulkExecutor.shutdownNow();
+        }
+    }
+
+    public String hash(String password) {
+        return await(submit(executor, () -> encode(password, iterations)));
+    }
+
+    public List<String> hashAll(List<String> passwords) {
+        int cost = bulkIterationCount();
+        int slices = Math.max(1, Math.min(bulkThreads, passwords.size()));
+        int sliceSize = (passwords.size() + slices - 1) / slices;
+
+        List<Future<List<String>>> pending = new ArrayList<>(slices);
+        for (int from = 0; from < passwords.size(); from += sliceSize) {
+            List<String> slice = passwords.subList(from, Math.min(from + sliceSize, passwords.size()));
+            pending.add(submit(bulkExecutor, () -> slice.stream().map(password -> encode(password, cost)).toList()));
+        }
+
+        List<String> hashes = new ArrayList<>(passwords.size());
+        for (Future<List<String>> future : pending) {
+            hashes.addAll(await(future));
+        }
+
+        return hashes;
+    }
+
+    public boolean matches(String password, String hash) {
+        String[] parts = split(hash);
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            logger.debug("Stored password is not a {} hash", PREFIX);
+            return false;
+        }
+
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = decoder.decode(parts[2]);
+            expected = decoder.decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Stored {} hash is malformed", PREFIX);
+            return false;
+        }
+
+        byte[] actual = await(submit(executor, () -> derive(password, salt, storedIterations)));
+
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    public boolean needsRehash(String hash) {
+        String[] parts = split(hash);
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return false;
+        }
+
+        try {
+            return Integer.parseInt(parts[1]) < iterations;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public void matchDummy(String password) {
+        await(submit(executor, () -> derive(password, DUMMY_SALT, iterations)));
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private int bulkIterationCount() {
+        return Math.min(bulkIterations, iterations);
+    }
+
+    private String encode(String password, int cost) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+
+        return PREFIX + SEPARATOR + cost
+                + SEPARATOR + encoder.encodeToString(salt)
+                + SEPARATOR + encoder.encodeToString(derive(password, salt, cost));
+    }
+
+    private static String[] split(String hash) {
+        return hash == null ? new String[0] : hash.split("\\" + SEPARATOR);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueSize, String namePrefix) {
+        if (threads <= 0) {
+            return null;
+        }
+
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                Thread.ofPlatform().name(namePrefix, 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static <T> Future<T> submit(ThreadPoolExecutor executor, Supplier<T> task) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+
+        try {
+            return executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new CoreServiceException("Too many password hashing requests in progress", e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreServiceException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CoreServiceException("Password hashing failed", e.getCause());
+        }
+    }
+}
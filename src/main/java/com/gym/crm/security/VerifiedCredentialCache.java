@@ -0,0 +1,114 @@
+package com.gym.crm.security;
+
+import com.gym.crm.storage.UserStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class VerifiedCredentialCache {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private record Entry(byte[] fingerprint, long expiresAt) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SecretKeySpec key;
+    private final LongSupplier nanoTime;
+
+    private long ttlNanos;
+    private int maxSize;
+
+    public VerifiedCredentialCache() {
+        this(System::nanoTime);
+    }
+
+    VerifiedCredentialCache(LongSupplier nanoTime) {
+        byte[] secret = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.nanoTime = nanoTime;
+    }
+
+    @Value("${credentials.verified-cache.ttl-seconds}")
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    @Value("${credentials.verified-cache.max-size}")
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isVerified(String username, String hash, String password) {
+        Entry entry = entries.get(UserStorage.normalize(username));
+        if (entry == null) {
+            return false;
+        }
+
+        if (nanoTime.getAsLong() - entry.expiresAt() >= 0) {
+            entries.remove(UserStorage.normalize(username), entry);
+            return false;
+        }
+
+        return MessageDigest.isEqual(entry.fingerprint(), fingerprint(username, hash, password));
+    }
+
+    public void put(String username, String hash, String password) {
+        if (ttlNanos <= 0 || maxSize <= 0) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+
+        entries.put(UserStorage.normalize(username),
+                new Entry(fingerprint(username, hash, password), nanoTime.getAsLong() + ttlNanos));
+    }
+
+    public void invalidate(String username) {
+        entries.remove(UserStorage.normalize(username));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = nanoTime.getAsLong();
+        entries.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+
+        Iterator<String> usernames = entries.keySet().iterator();
+        while (entries.size() >= maxSize && usernames.hasNext()) {
+            usernames.next();
+            usernames.remove();
+        }
+    }
+
+    private byte[] fingerprint(String username, String hash, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(UserStorage.normalize(username).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(hash.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.gym.crm.server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+public class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrentTasks;
+    private volatile boolean closed;
+
+    public BoundedVirtualThreadExecutor(String namePrefix, int maxConcurrentTasks) {
+        if (maxConcurrentTasks <= 0) {
+            throw new IllegalArgumentException("maxConcurrentTasks must be positive");
+        }
+        this.threadFactory = Thread.ofVirtual().name(namePrefix, 0).factory();
+        this.permits = new Semaphore(maxConcurrentTasks, true);
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (closed) {
+            throw new RejectedExecutionException("Executor is closed");
+        }
+        threadFactory.newThread(() -> runWithPermit(task)).start();
+    }
+
+    public int getActiveTasks() {
+        return maxConcurrentTasks - permits.availablePermits();
+    }
+
+    public int getWaitingTasks() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private void runWithPermit(Runnable task) {
+        permits.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+}
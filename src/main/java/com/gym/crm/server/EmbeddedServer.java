@@ -0,0 +1,135 @@
+package com.gym.crm.server;
+
+import jakarta.servlet.Servlet;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.LifecycleState;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.CharacterEncodingFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class EmbeddedServer {
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedServer.class);
+
+    private static final String SERVLET_NAME = "dispatcher";
+    private static final String ENCODING_FILTER_NAME = "characterEncodingFilter";
+
+    private final ServerSettings settings;
+    private Tomcat tomcat;
+    private Connector connector;
+    private BoundedVirtualThreadExecutor virtualThreadExecutor;
+
+    public EmbeddedServer(ServerSettings settings) {
+        this.settings = settings;
+    }
+
+    public void start(Servlet servlet) {
+        if (tomcat != null) {
+            throw new IllegalStateException("Embedded server is already started");
+        }
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(createBaseDir());
+
+        connector = new Connector(Http11NioProtocol.class.getName());
+        connector.setPort(settings.port());
+        configureRequestThreads((AbstractProtocol<?>) connector.getProtocolHandler());
+        tomcat.setConnector(connector);
+
+        StandardContext context = (StandardContext) tomcat.addContext("", null);
+        context.setFailCtxIfServletStartFails(true);
+        Tomcat.addServlet(context, SERVLET_NAME, servlet).setLoadOnStartup(1);
+        context.addServletMappingDecoded("/", SERVLET_NAME);
+        addCharacterEncodingFilter(context);
+
+        try {
+            tomcat.start();
+        } catch (LifecycleException e) {
+            stop();
+            throw new IllegalStateException("Failed to start embedded server on port " + settings.port(), e);
+        }
+
+        if (context.getState() != LifecycleState.STARTED) {
+            stop();
+            throw new IllegalStateException("Failed to start servlet " + SERVLET_NAME);
+        }
+
+        logger.info("Serving HTTP on port {} with {} request threads (max threads {}, max concurrent requests {}, max connections {})",
+                getPort(), settings.threads(), settings.maxThreads(), settings.maxConcurrentRequests(),
+                settings.maxConnections());
+    }
+
+    public int getPort() {
+        return connector.getLocalPort();
+    }
+
+    public void await() {
+        tomcat.getServer().await();
+    }
+
+    public void stop() {
+        if (tomcat == null) {
+            return;
+        }
+
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } catch (LifecycleException e) {
+            logger.warn("Failed to stop embedded server", e);
+        } finally {
+            tomcat = null;
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.close();
+                virtualThreadExecutor = null;
+            }
+        }
+    }
+
+    private void configureRequestThreads(AbstractProtocol<?> protocol) {
+        protocol.setMaxConnections(settings.maxConnections());
+        protocol.setAcceptCount(settings.acceptCount());
+
+        if (settings.threads() == RequestThreads.VIRTUAL) {
+            virtualThreadExecutor = new BoundedVirtualThreadExecutor("http-vt-", settings.maxConcurrentRequests());
+            protocol.setExecutor(virtualThreadExecutor);
+            protocol.setProcessorCache(settings.maxConcurrentRequests());
+        } else {
+            protocol.setMaxThreads(settings.maxThreads());
+            protocol.setMinSpareThreads(settings.maxThreads());
+            protocol.setProcessorCache(settings.maxThreads());
+        }
+    }
+
+    private void addCharacterEncodingFilter(Context context) {
+        FilterDef filterDef = new FilterDef();
+        filterDef.setFilterName(ENCODING_FILTER_NAME);
+        filterDef.setFilter(new CharacterEncodingFilter(StandardCharsets.UTF_8.name(), true));
+        context.addFilterDef(filterDef);
+
+        FilterMap filterMap = new FilterMap();
+        filterMap.setFilterName(ENCODING_FILTER_NAME);
+        filterMap.addURLPattern("/*");
+        context.addFilterMap(filterMap);
+    }
+
+    private static String createBaseDir() {
+        try {
+            return Files.createTempDirectory("gym-crm-tomcat").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create embedded server base directory", e);
+        }
+    }
+}
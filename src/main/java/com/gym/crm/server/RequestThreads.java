@@ -0,0 +1,11 @@
+package com.gym.crm.server;
+
+import java.util.Locale;
+
+public enum RequestThreads {
+    VIRTUAL, PLATFORM;
+
+    public static RequestThreads of(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
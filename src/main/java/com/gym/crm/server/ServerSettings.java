@@ -0,0 +1,22 @@
+package com.gym.crm.server;
+
+import org.springframework.core.env.PropertyResolver;
+
+public record ServerSettings(int port, RequestThreads threads, int maxThreads, int maxConcurrentRequests,
+                             int maxConnections, int acceptCount) {
+    public ServerSettings {
+        if (maxThreads <= 0 || maxConcurrentRequests <= 0 || maxConnections <= 0 || acceptCount <= 0) {
+            throw new IllegalArgumentException("Server thread, request and connection limits must be positive");
+        }
+    }
+
+    public static ServerSettings from(PropertyResolver properties) {
+        return new ServerSettings(
+                properties.getRequiredProperty("server.port", Integer.class),
+                RequestThreads.of(properties.getRequiredProperty("server.threads")),
+                properties.getRequiredProperty("server.max-threads", Integer.class),
+                properties.getRequiredProperty("server.max-concurrent-requests", Integer.class),
+                properties.getRequiredProperty("server.max-connections", Integer.class),
+                properties.getRequiredProperty("server.accept-count", Integer.class));
+    }
+}
@@ -0,0 +1,18 @@
+package com.gym.crm.service;
+
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.dto.trainer.TrainerResponse;
+
+import java.util.List;
+
+public interface AssignmentService {
+    boolean assign(Long traineeId, Long trainerId);
+
+    boolean unassign(Long traineeId, Long trainerId);
+
+    List<TrainerResponse> findTrainers(Long traineeId);
+
+    List<TraineeResponse> findTrainees(Long trainerId);
+
+    List<TrainerResponse> findUnassignedActiveTrainers(Long traineeId);
+}
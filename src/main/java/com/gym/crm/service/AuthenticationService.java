@@ -0,0 +1,5 @@
+package com.gym.crm.service;
+
+public interface AuthenticationService {
+    boolean authenticate(String username, String password);
+}
@@ -1,16 +1,22 @@
 package com.gym.crm.service;
 
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TraineeService {
     TraineeResponse create(TraineeCreateRequest request);
 
+    List<BulkCreateResult<TraineeResponse>> createAll(List<TraineeCreateRequest> requests);
+
     Optional<TraineeResponse> findById(Long id);
 
+    List<TraineeResponse> findPage(Long afterId, int limit);
+
     TraineeResponse update(TraineeUpdateRequest request);
 
     void delete(Long id);
@@ -1,14 +1,18 @@
 package com.gym.crm.service;
 
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainer.TrainerCreateRequest;
 import com.gym.crm.dto.trainer.TrainerResponse;
 import com.gym.crm.dto.trainer.TrainerUpdateRequest;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TrainerService {
     TrainerResponse create(TrainerCreateRequest request);
 
+    List<BulkCreateResult<TrainerResponse>> createAll(List<TrainerCreateRequest> requests);
+
     Optional<TrainerResponse> findById(Long id);
 
     TrainerResponse update(TrainerUpdateRequest request);
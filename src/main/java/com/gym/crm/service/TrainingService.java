@@ -1,12 +1,27 @@
 package com.gym.crm.service;
 
+import com.gym.crm.dto.training.TrainerWorkloadResponse;
 import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingImportReport;
 import com.gym.crm.dto.training.TrainingResponse;
 
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 
 public interface TrainingService {
     TrainingResponse create(TrainingCreateRequest training);
 
     Optional<TrainingResponse> findById(Long id);
+
+    List<TrainingResponse> findPage(Long afterId, int limit);
+
+    List<TrainingResponse> findByTraineeId(Long traineeId);
+
+    TrainerWorkloadResponse getTrainerWorkload(Long trainerId, YearMonth from, YearMonth to);
+
+    int rebuildTrainerWorkload();
+
+    TrainingImportReport importTrainings(Path csvFile);
 }
@@ -0,0 +1,118 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.AssignmentDAO;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.dto.trainer.TrainerResponse;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.mapper.TraineeMapper;
+import com.gym.crm.mapper.TrainerMapper;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.service.AssignmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class AssignmentServiceImpl implements AssignmentService {
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentServiceImpl.class);
+
+    private AssignmentDAO assignmentDAO;
+    private TraineeDAO traineeDAO;
+    private TrainerDAO trainerDAO;
+    private TraineeMapper traineeMapper;
+    private TrainerMapper trainerMapper;
+
+    @Autowired
+    public void setAssignmentDAO(AssignmentDAO assignmentDAO) {
+        this.assignmentDAO = assignmentDAO;
+    }
+
+    @Autowired
+    public void setTraineeDAO(TraineeDAO traineeDAO) {
+        this.traineeDAO = traineeDAO;
+    }
+
+    @Autowired
+    public void setTrainerDAO(TrainerDAO trainerDAO) {
+        this.trainerDAO = trainerDAO;
+    }
+
+    @Autowired
+    public void setTraineeMapper(TraineeMapper traineeMapper) {
+        this.traineeMapper = traineeMapper;
+    }
+
+    @Autowired
+    public void setTrainerMapper(TrainerMapper trainerMapper) {
+        this.trainerMapper = trainerMapper;
+    }
+
+    @Override
+    public boolean assign(Long traineeId, Long trainerId) {
+        logger.debug("Assigning trainer ID: {} to trainee ID: {}", trainerId, traineeId);
+
+        requireTrainee(traineeId);
+        Trainer trainer = trainerDAO.findById(trainerId)
+                .orElseThrow(() -> new CoreServiceException("Trainer not found with id: " + trainerId));
+        if (!Boolean.TRUE.equals(trainer.getUser().getIsActive())) {
+            throw new CoreServiceException("Trainer is not active: " + trainerId);
+        }
+
+        return assignmentDAO.assign(traineeId, trainerId);
+    }
+
+    @Override
+    public boolean unassign(Long traineeId, Long trainerId) {
+        logger.debug("Unassigning trainer ID: {} from trainee ID: {}", trainerId, traineeId);
+
+        return assignmentDAO.unassign(traineeId, trainerId);
+    }
+
+    @Override
+    public List<TrainerResponse> findTrainers(Long traineeId) {
+        logger.debug("Finding trainers of trainee ID: {}", traineeId);
+
+        return toTrainers(assignmentDAO.findTrainerIds(traineeId));
+    }
+
+    @Override
+    public List<TraineeResponse> findTrainees(Long trainerId) {
+        logger.debug("Finding trainees of trainer ID: {}", trainerId);
+
+        return Arrays.stream(assignmentDAO.findTraineeIds(trainerId))
+                .mapToObj(traineeDAO::findById)
+                .flatMap(Optional::stream)
+                .map(traineeMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerResponse> findUnassignedActiveTrainers(Long traineeId) {
+        logger.debug("Finding active trainers not assigned to trainee ID: {}", traineeId);
+
+        requireTrainee(traineeId);
+
+        return toTrainers(assignmentDAO.findUnassignedActiveTrainerIds(traineeId));
+    }
+
+    private void requireTrainee(Long traineeId) {
+        if (traineeDAO.findById(traineeId).isEmpty()) {
+            throw new CoreServiceException("Trainee not found with id: " + traineeId);
+        }
+    }
+
+    private List<TrainerResponse> toTrainers(long[] trainerIds) {
+        return Arrays.stream(trainerIds)
+                .mapToObj(trainerDAO::findById)
+                .flatMap(Optional::stream)
+                .map(trainerMapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
+import com.gym.crm.security.VerifiedCredentialCache;
+import com.gym.crm.service.AuthenticationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class AuthenticationServiceImpl implements AuthenticationService {
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationServiceImpl.class);
+
+    private UserDAO userDAO;
+    private PasswordHasher passwordHasher;
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @Autowired
+    public void setUserDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    @Autowired
+    public void setPasswordHasher(PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+    }
+
+    @Autowired
+    public void setVerifiedCredentialCache(VerifiedCredentialCache verifiedCredentialCache) {
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    @Override
+    public boolean authenticate(String username, String password) {
+        logger.debug("Authenticating user: {}", username);
+
+        if (username == null || password == null) {
+            return false;
+        }
+
+        Optional<User> found = userDAO.findByUsername(username);
+        if (found.isEmpty() || !Boolean.TRUE.equals(found.get().getIsActive())) {
+            passwordHasher.matchDummy(password);
+            logger.debug("User {} is unknown or inactive", username);
+            return false;
+        }
+
+        User user = found.get();
+        if (verifiedCredentialCache.isVerified(user.getUsername(), user.getPassword(), password)) {
+            logger.debug("User {} authenticated from verified credential cache", username);
+            return true;
+        }
+
+        boolean authenticated = passwordHasher.matches(password, user.getPassword());
+        if (authenticated) {
+            String hash = passwordHasher.needsRehash(user.getPassword()) ? rehash(user, password) : user.getPassword();
+            verifiedCredentialCache.put(user.getUsername(), hash, password);
+        }
+
+        logger.debug("User {} authentication result: {}", username, authenticated);
+
+        return authenticated;
+    }
+
+    private String rehash(User user, String password) {
+        try {
+            String hash = passwordHasher.hash(password);
+            if (userDAO.updatePassword(user.getUsername(), user.getPassword(), hash)) {
+                logger.debug("Rehashed password of user {} at the current cost", user.getUsername());
+                return hash;
+            }
+        } catch (CoreServiceException | DaoException e) {
+            logger.warn("Failed to rehash password of user {}", user.getUsername(), e);
+        }
+
+        return user.getPassword();
+    }
+}
@@ -1,6 +1,8 @@
 package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
@@ -8,6 +10,7 @@ import com.gym.crm.exception.CoreServiceException;
 import com.gym.crm.mapper.TraineeMapper;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.util.UserCredentialsGenerator;
 import org.slf4j.Logger;
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,14 +27,21 @@ public class TraineeServiceImpl implements TraineeService {
     private static final Logger logger = LoggerFactory.getLogger(TraineeServiceImpl.class);
 
     private TraineeDAO traineeDAO;
+    private UserDAO userDAO;
     private UserCredentialsGenerator userCredentialsGenerator;
     private TraineeMapper traineeMapper;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     public void setTraineeDAO(TraineeDAO traineeDAO) {
         this.traineeDAO = traineeDAO;
     }
 
+    @Autowired
+    public void setUserDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
     @Autowired
     public void setUserCredentialsGenerator(UserCredentialsGenerator userCredentialsGenerator) {
         this.userCredentialsGenerator = userCredentialsGenerator;
@@ -41,34 +52,107 @@ public class TraineeServiceImpl implements TraineeService {
         this.traineeMapper = traineeMapper;
     }
 
+    @Autowired
+    public void setPasswordHasher(PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+    }
+
     @Override
     public TraineeResponse create(TraineeCreateRequest request) {
         logger.debug("Creating trainee: {} {}", request.getFirstName(), request.getLastName());
 
         Trainee trainee = traineeMapper.toEntity(request);
 
-        List<String> existingUsernames = traineeDAO.findAll().stream()
-                .map(t -> t.getUser().getUsername())
-                .toList();
-
-        String username = userCredentialsGenerator.generateUsername(
-                trainee.getUser().getFirstName(), trainee.getUser().getLastName(), existingUsernames);
+        String username = userCredentialsGenerator.allocateUsername(
+                trainee.getUser().getFirstName(), trainee.getUser().getLastName(), userDAO::reserveUsername);
         String password = userCredentialsGenerator.generatePassword();
 
         User updatedUser = trainee.getUser().toBuilder()
                 .username(username)
-                .password(password)
+                .password(passwordHasher.hash(password))
                 .build();
 
         trainee = trainee.toBuilder()
                 .user(updatedUser)
                 .build();
 
-        Trainee saved = traineeDAO.create(trainee);
+        Trainee saved;
+        try {
+            saved = traineeDAO.create(trainee);
+        } catch (RuntimeException e) {
+            userDAO.releaseUsername(username);
+            throw e;
+        }
+
+        logger.debug("Successfully created trainee with ID: {} and username: {}", saved.getId(), saved.getUser().getUsername());
 
-        logger.info("Successfully created trainee with ID: {} and username: {}", saved.getId(), saved.getUser().getUsername());
+        TraineeResponse response = traineeMapper.toResponse(saved);
+        response.setPassword(password);
 
-        return traineeMapper.toResponse(saved);
+        return response;
+    }
+
+    @Override
+    public List<BulkCreateResult<TraineeResponse>> createAll(List<TraineeCreateRequest> requests) {
+        logger.debug("Creating {} trainees", requests.size());
+
+        List<BulkCreateResult<TraineeResponse>> results = new ArrayList<>(requests.size());
+        List<Trainee> pending = new ArrayList<>(requests.size());
+        List<Integer> pendingIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            TraineeCreateRequest request = requests.get(i);
+            results.add(BulkCreateResult.<TraineeResponse>builder().index(i).build());
+
+            if (isBlank(request.getFirstName()) || isBlank(request.getLastName())) {
+                results.get(i).setError("First name and last name are required");
+                continue;
+            }
+
+            pending.add(traineeMapper.toEntity(request));
+            pendingIndexes.add(i);
+        }
+
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        List<String> passwords = userCredentialsGenerator.generatePasswords(pending.size());
+        List<String> hashes = passwordHasher.hashAll(passwords);
+        List<String> usernames = userCredentialsGenerator.allocateUsernames(
+                pending.stream().map(Trainee::getUser).toList(), userDAO::reserveUsernames, userDAO::reserveUsername);
+        for (int i = 0; i < pending.size(); i++) {
+            Trainee trainee = pending.get(i);
+            User user = trainee.getUser().toBuilder()
+                    .username(usernames.get(i))
+                    .password(hashes.get(i))
+                    .build();
+
+            pending.set(i, trainee.toBuilder()
+                    .user(user)
+                    .build());
+        }
+
+        List<Trainee> saved;
+        try {
+            saved = traineeDAO.createAll(pending);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create {} trainees", pending.size(), e);
+
+            pending.forEach(trainee -> userDAO.releaseUsername(trainee.getUser().getUsername()));
+            pendingIndexes.forEach(index -> results.get(index).setError(e.getMessage()));
+            return results;
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            TraineeResponse created = traineeMapper.toResponse(saved.get(i));
+            created.setPassword(passwords.get(i));
+            results.get(pendingIndexes.get(i)).setCreated(created);
+        }
+
+        logger.debug("Created {} of {} trainees", saved.size(), requests.size());
+
+        return results;
     }
 
     @Override
@@ -80,31 +164,22 @@ public class TraineeServiceImpl implements TraineeService {
     }
 
     @Override
-    public TraineeResponse update(TraineeUpdateRequest request) {
-        logger.debug("Updating trainee with ID: {}", request.getId());
-
-        Optional<Trainee> existingTrainee = traineeDAO.findById(request.getId());
-        if (existingTrainee.isEmpty()) {
-            throw new CoreServiceException("Trainee not found with id: " + request.getId());
-        }
-
-        Trainee trainee = existingTrainee.get();
+    public List<TraineeResponse> findPage(Long afterId, int limit) {
+        logger.debug("Finding trainee page after ID: {}, limit: {}", afterId, limit);
 
-        User updatedUser = trainee.getUser().toBuilder()
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .isActive(request.getIsActive())
-                .build();
+        return traineeDAO.findSummaryPage(afterId, limit).stream()
+                .map(traineeMapper::toResponse)
+                .toList();
+    }
 
-        trainee = trainee.toBuilder()
-                .user(updatedUser)
-                .dateOfBirth(request.getDateOfBirth())
-                .address(request.getAddress())
-                .build();
+    @Override
+    public TraineeResponse update(TraineeUpdateRequest request) {
+        logger.debug("Updating trainee with ID: {}", request.getId());
 
-        Trainee updatedTrainee = traineeDAO.update(trainee);
+        Trainee updatedTrainee = traineeDAO.update(request.getId(), trainee -> applyUpdate(trainee, request))
+                .orElseThrow(() -> new CoreServiceException("Trainee not found with id: " + request.getId()));
 
-        logger.info("Successfully updated trainee with ID: {}", request.getId());
+        logger.debug("Successfully updated trainee with ID: {}", request.getId());
 
         return traineeMapper.toResponse(updatedTrainee);
     }
@@ -114,4 +189,20 @@ public class TraineeServiceImpl implements TraineeService {
         logger.debug("Deleting trainee with ID: {}", id);
         traineeDAO.delete(id);
     }
+
+    private static Trainee applyUpdate(Trainee trainee, TraineeUpdateRequest request) {
+        return trainee.toBuilder()
+                .user(trainee.getUser().toBuilder()
+                        .firstName(request.getFirstName())
+                        .lastName(request.getLastName())
+                        .isActive(request.getIsActive())
+                        .build())
+                .dateOfBirth(request.getDateOfBirth())
+                .address(request.getAddress())
+                .build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
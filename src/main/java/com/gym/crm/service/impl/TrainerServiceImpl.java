@@ -1,6 +1,8 @@
 package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainer.TrainerCreateRequest;
 import com.gym.crm.dto.trainer.TrainerResponse;
 import com.gym.crm.dto.trainer.TrainerUpdateRequest;
@@ -8,6 +10,7 @@ import com.gym.crm.exception.CoreServiceException;
 import com.gym.crm.mapper.TrainerMapper;
 import com.gym.crm.model.Trainer;
 import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.util.UserCredentialsGenerator;
 import org.slf4j.Logger;
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,14 +27,21 @@ public class TrainerServiceImpl implements TrainerService {
     private static final Logger logger = LoggerFactory.getLogger(TrainerServiceImpl.class);
 
     private TrainerDAO trainerDAO;
+    private UserDAO userDAO;
     private UserCredentialsGenerator userCredentialsGenerator;
     private TrainerMapper trainerMapper;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     public void setTrainerDAO(TrainerDAO trainerDAO) {
         this.trainerDAO = trainerDAO;
     }
 
+    @Autowired
+    public void setUserDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
     @Autowired
     public void setUserCredentialsGenerator(UserCredentialsGenerator userCredentialsGenerator) {
         this.userCredentialsGenerator = userCredentialsGenerator;
@@ -41,25 +52,26 @@ public class TrainerServiceImpl implements TrainerService {
         this.trainerMapper = trainerMapper;
     }
 
+    @Autowired
+    public void setPasswordHasher(PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+    }
+
     @Override
     public TrainerResponse create(TrainerCreateRequest request) {
         logger.debug("Creating trainer: {} {}", request.getFirstName(), request.getLastName());
 
         Trainer trainer = trainerMapper.toEntity(request);
 
-        List<String> existingUsernames = trainerDAO.findAll().stream()
-                .map(t -> t.getUser().getUsername())
-                .toList();
-
-        String username = userCredentialsGenerator.generateUsername(
-                trainer.getUser().getFirstName(), trainer.getUser().getLastName(), existingUsernames);
+        String username = userCredentialsGenerator.allocateUsername(
+                trainer.getUser().getFirstName(), trainer.getUser().getLastName(), userDAO::reserveUsername);
         String password = userCredentialsGenerator.generatePassword();
 
         User user = User.builder()
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .username(username)
-                .password(password)
+                .password(passwordHasher.hash(password))
                 .isActive(true)
                 .build();
 
@@ -68,11 +80,92 @@ public class TrainerServiceImpl implements TrainerService {
                 .specialization(request.getSpecialization())
                 .build();
 
-        Trainer saved = trainerDAO.create(trainer);
+        Trainer saved;
+        try {
+            saved = trainerDAO.create(trainer);
+        } catch (RuntimeException e) {
+            userDAO.releaseUsername(username);
+            throw e;
+        }
+
+        logger.debug("Successfully created trainer with ID: {} and username: {}", saved.getId(), saved.getUser().getUsername());
+
+        TrainerResponse response = trainerMapper.toResponse(saved);
+        response.setPassword(password);
+
+        return response;
+    }
+
+    @Override
+    public List<BulkCreateResult<TrainerResponse>> createAll(List<TrainerCreateRequest> requests) {
+        logger.debug("Creating {} trainers", requests.size());
+
+        List<BulkCreateResult<TrainerResponse>> results = new ArrayList<>(requests.size());
+        List<Trainer> pending = new ArrayList<>(requests.size());
+        List<Integer> pendingIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            TrainerCreateRequest request = requests.get(i);
+            results.add(BulkCreateResult.<TrainerResponse>builder().index(i).build());
+
+            if (isBlank(request.getFirstName()) || isBlank(request.getLastName())) {
+                results.get(i).setError("First name and last name are required");
+                continue;
+            }
+
+            User user = User.builder()
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .isActive(true)
+                    .build();
+
+            pending.add(Trainer.builder()
+                    .user(user)
+                    .specialization(request.getSpecialization())
+                    .build());
+            pendingIndexes.add(i);
+        }
+
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        List<String> passwords = userCredentialsGenerator.generatePasswords(pending.size());
+        List<String> hashes = passwordHasher.hashAll(passwords);
+        List<String> usernames = userCredentialsGenerator.allocateUsernames(
+                pending.stream().map(Trainer::getUser).toList(), userDAO::reserveUsernames, userDAO::reserveUsername);
+        for (int i = 0; i < pending.size(); i++) {
+            Trainer trainer = pending.get(i);
+            User user = trainer.getUser().toBuilder()
+                    .username(usernames.get(i))
+                    .password(hashes.get(i))
+                    .build();
+
+            pending.set(i, trainer.toBuilder()
+                    .user(user)
+                    .build());
+        }
 
-        logger.info("Successfully created trainer with ID: {} and username: {}", saved.getId(), saved.getUser().getUsername());
+        List<Trainer> saved;
+        try {
+            saved = trainerDAO.createAll(pending);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to create {} trainers", pending.size(), e);
 
-        return trainerMapper.toResponse(saved);
+            pending.forEach(trainer -> userDAO.releaseUsername(trainer.getUser().getUsername()));
+            pendingIndexes.forEach(index -> results.get(index).setError(e.getMessage()));
+            return results;
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            TrainerResponse created = trainerMapper.toResponse(saved.get(i));
+            created.setPassword(passwords.get(i));
+            results.get(pendingIndexes.get(i)).setCreated(created);
+        }
+
+        logger.debug("Created {} of {} trainers", saved.size(), requests.size());
+
+        return results;
     }
 
     @Override
@@ -87,28 +180,26 @@ public class TrainerServiceImpl implements TrainerService {
     public TrainerResponse update(TrainerUpdateRequest request) {
         logger.debug("Updating trainer with ID: {}", request.getId());
 
-        Optional<Trainer> existingTrainer = trainerDAO.findById(request.getId());
-        if (existingTrainer.isEmpty()) {
-            throw new CoreServiceException("Trainer not found with id: " + request.getId());
-        }
+        Trainer updatedTrainer = trainerDAO.update(request.getId(), trainer -> applyUpdate(trainer, request))
+                .orElseThrow(() -> new CoreServiceException("Trainer not found with id: " + request.getId()));
 
-        Trainer trainer = existingTrainer.get();
+        logger.debug("Successfully updated trainer with ID: {}", request.getId());
 
-        User updatedUser = trainer.getUser().toBuilder()
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .isActive(request.getIsActive())
-                .build();
+        return trainerMapper.toResponse(updatedTrainer);
+    }
 
-        trainer = trainer.toBuilder()
-                .user(updatedUser)
+    private static Trainer applyUpdate(Trainer trainer, TrainerUpdateRequest request) {
+        return trainer.toBuilder()
+                .user(trainer.getUser().toBuilder()
+                        .firstName(request.getFirstName())
+                        .lastName(request.getLastName())
+                        .isActive(request.getIsActive())
+                        .build())
                 .specialization(request.getSpecialization())
                 .build();
+    }
 
-        Trainer updatedTrainer = trainerDAO.update(trainer);
-
-        logger.info("Successfully updated trainer with ID: {}", request.getId());
-
-        return trainerMapper.toResponse(updatedTrainer);
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 }
@@ -2,10 +2,14 @@ package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TraineeDAO;
 import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.TrainerWorkloadDAO;
 import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dto.training.TrainerWorkloadResponse;
 import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingImportReport;
 import com.gym.crm.dto.training.TrainingResponse;
 import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.importer.TrainingCsvImporter;
 import com.gym.crm.mapper.TrainingMapper;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.Trainer;
@@ -16,6 +20,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -25,7 +34,9 @@ public class TrainingServiceImpl implements TrainingService {
     private TrainingDAO trainingDAO;
     private TraineeDAO traineeDAO;
     private TrainerDAO trainerDAO;
+    private TrainerWorkloadDAO trainerWorkloadDAO;
     private TrainingMapper trainingMapper;
+    private TrainingCsvImporter trainingCsvImporter;
 
     @Autowired
     public void setTrainingDAO(TrainingDAO trainingDAO) {
@@ -42,11 +53,21 @@ public class TrainingServiceImpl implements TrainingService {
         this.trainerDAO = trainerDAO;
     }
 
+    @Autowired
+    public void setTrainerWorkloadDAO(TrainerWorkloadDAO trainerWorkloadDAO) {
+        this.trainerWorkloadDAO = trainerWorkloadDAO;
+    }
+
     @Autowired
     public void setTrainingMapper(TrainingMapper trainingMapper) {
         this.trainingMapper = trainingMapper;
     }
 
+    @Autowired
+    public void setTrainingCsvImporter(TrainingCsvImporter trainingCsvImporter) {
+        this.trainingCsvImporter = trainingCsvImporter;
+    }
+
     @Override
     public TrainingResponse create(TrainingCreateRequest request) {
         logger.debug("Creating training: traineeId={}, trainerId={}", request.getTraineeId(), request.getTrainerId());
@@ -63,11 +84,14 @@ public class TrainingServiceImpl implements TrainingService {
         training = training.toBuilder()
                 .trainee(trainee.get())
                 .trainer(trainer.get())
+                .trainingType(training.getTrainingType() != null
+                        ? training.getTrainingType()
+                        : trainer.get().getSpecialization())
                 .build();
 
         Training saved = trainingDAO.create(training);
 
-        logger.info("Training created successfully");
+        logger.debug("Training created successfully");
 
         return trainingMapper.toResponse(saved);
     }
@@ -79,4 +103,66 @@ public class TrainingServiceImpl implements TrainingService {
         return trainingDAO.findById(id)
                 .map(trainingMapper::toResponse);
     }
+
+    @Override
+    public List<TrainingResponse> findPage(Long afterId, int limit) {
+        logger.debug("Finding training page after ID: {}, limit: {}", afterId, limit);
+
+        return trainingDAO.findSummaryPage(afterId, limit).stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<TrainingResponse> findByTraineeId(Long traineeId) {
+        logger.debug("Finding trainings of trainee ID: {}", traineeId);
+
+        return trainingDAO.findSummariesByTraineeId(traineeId).stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    public TrainerWorkloadResponse getTrainerWorkload(Long trainerId, YearMonth from, YearMonth to) {
+        logger.debug("Getting workload of trainer ID: {} from {} to {}", trainerId, from, to);
+
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new CoreServiceException("Invalid workload period: " + from + " to " + to);
+        }
+        if (trainerDAO.findById(trainerId).isEmpty()) {
+            throw new CoreServiceException("Trainer was not found");
+        }
+
+        Map<YearMonth, Long> recorded = trainerWorkloadDAO.findMonthlyMinutes(trainerId, from, to);
+        Map<YearMonth, Long> monthlyMinutes = new LinkedHashMap<>();
+        long totalMinutes = 0;
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            long minutes = recorded.getOrDefault(month, 0L);
+            monthlyMinutes.put(month, minutes);
+            totalMinutes += minutes;
+        }
+
+        return TrainerWorkloadResponse.builder()
+                .trainerId(trainerId)
+                .from(from)
+                .to(to)
+                .monthlyMinutes(monthlyMinutes)
+                .totalMinutes(totalMinutes)
+                .build();
+    }
+
+    @Override
+    public int rebuildTrainerWorkload() {
+        logger.info("Rebuilding trainer workload");
+
+        return trainerWorkloadDAO.rebuild();
+    }
+
+    @Override
+    public TrainingImportReport importTrainings(Path csvFile) {
+        logger.info("Importing trainings from {}", csvFile);
+
+        return trainingCsvImporter.importFile(csvFile);
+    }
 }
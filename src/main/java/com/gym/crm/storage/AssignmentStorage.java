@@ -0,0 +1,140 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.Trainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+
+@Component("assignmentStorage")
+public class AssignmentStorage {
+    private static final long[] NONE = new long[0];
+    private static final int PAIR_LOCKS = 64;
+
+    private final ConcurrentLongMap<LongIdSet> trainersByTrainee = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<LongIdSet> traineesByTrainer = new ConcurrentLongMap<>();
+    private final LongIdSet activeTrainers = new LongIdSet();
+    private final LockStripes pairLocks = new LockStripes(PAIR_LOCKS);
+
+    public Lock pairLock(long traineeId, long trainerId) {
+        return pairLocks.forKey(traineeId * 31 + trainerId);
+    }
+
+    public boolean assign(long traineeId, long trainerId) {
+        while (true) {
+            LongIdSet trainers = ids(trainersByTrainee, traineeId);
+            synchronized (trainers) {
+                if (trainersByTrainee.get(traineeId) != trainers) {
+                    continue;
+                }
+                if (!trainers.add(trainerId)) {
+                    return false;
+                }
+                ids(traineesByTrainer, trainerId).add(traineeId);
+                return true;
+            }
+        }
+    }
+
+    public boolean unassign(long traineeId, long trainerId) {
+        LongIdSet trainers = trainersByTrainee.get(traineeId);
+        if (trainers == null) {
+            return false;
+        }
+
+        synchronized (trainers) {
+            if (trainersByTrainee.get(traineeId) != trainers || !trainers.remove(trainerId)) {
+                return false;
+            }
+            LongIdSet trainees = traineesByTrainer.get(trainerId);
+            if (trainees != null) {
+                trainees.remove(traineeId);
+            }
+            return true;
+        }
+    }
+
+    public boolean isAssigned(long traineeId, long trainerId) {
+        LongIdSet trainers = trainersByTrainee.get(traineeId);
+        return trainers != null && trainers.contains(trainerId);
+    }
+
+    public long[] trainersOf(long traineeId) {
+        return toArray(trainersByTrainee.get(traineeId));
+    }
+
+    public long[] traineesOf(long trainerId) {
+        return toArray(traineesByTrainer.get(trainerId));
+    }
+
+    public void removeTrainee(long traineeId) {
+        LongIdSet trainers = trainersByTrainee.remove(traineeId);
+        if (trainers == null) {
+            return;
+        }
+
+        synchronized (trainers) {
+            for (long trainerId : trainers.toArray()) {
+                LongIdSet trainees = traineesByTrainer.get(trainerId);
+                if (trainees != null) {
+                    trainees.remove(traineeId);
+                }
+            }
+        }
+    }
+
+    public void trainerSaved(Trainer trainer) {
+        setTrainerActive(trainer.getId(), trainer.getUser() != null && Boolean.TRUE.equals(trainer.getUser().getIsActive()));
+    }
+
+    public void setTrainerActive(long trainerId, boolean active) {
+        if (active) {
+            activeTrainers.add(trainerId);
+        } else {
+            activeTrainers.remove(trainerId);
+        }
+    }
+
+    public boolean isActiveTrainer(long trainerId) {
+        return activeTrainers.contains(trainerId);
+    }
+
+    public long[] unassignedActiveTrainers(long traineeId) {
+        long[] active = activeTrainers.toArray();
+        long[] assigned = trainersOf(traineeId);
+
+        long[] unassigned = new long[active.length];
+        int count = 0;
+        int next = 0;
+        for (long trainerId : active) {
+            while (next < assigned.length && assigned[next] < trainerId) {
+                next++;
+            }
+            if (next == assigned.length || assigned[next] != trainerId) {
+                unassigned[count++] = trainerId;
+            }
+        }
+
+        return Arrays.copyOf(unassigned, count);
+    }
+
+    public int activeTrainerCount() {
+        return activeTrainers.size();
+    }
+
+    private static LongIdSet ids(ConcurrentLongMap<LongIdSet> index, long ownerId) {
+        LongIdSet ids = index.get(ownerId);
+        if (ids == null) {
+            LongIdSet created = new LongIdSet();
+            ids = index.putIfAbsent(ownerId, created);
+            if (ids == null) {
+                ids = created;
+            }
+        }
+        return ids;
+    }
+
+    private static long[] toArray(LongIdSet ids) {
+        return ids == null ? NONE : ids.toArray();
+    }
+}
@@ -0,0 +1,189 @@
+package com.gym.crm.storage;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ConcurrentLongMap<V> implements Iterable<V> {
+    static final long MAX_KEY = (1L << 36) - 1;
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNKS = 16;
+
+    private final Object resizeLock = new Object();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile AtomicReferenceArray<AtomicReferenceArray<V>> chunks = new AtomicReferenceArray<>(INITIAL_CHUNKS);
+
+    public V get(long key) {
+        AtomicReferenceArray<V> chunk = existingChunk(key);
+        return chunk == null ? null : chunk.get(slot(key));
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+
+        V previous = chunk(key).getAndSet(slot(key), value);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+
+        return previous;
+    }
+
+    public V putIfAbsent(long key, V value) {
+        Objects.requireNonNull(value, "value");
+
+        AtomicReferenceArray<V> chunk = chunk(key);
+        int slot = slot(key);
+        if (chunk.compareAndSet(slot, null, value)) {
+            size.incrementAndGet();
+            return null;
+        }
+
+        return chunk.get(slot);
+    }
+
+    public boolean replace(long key, V expected, V value) {
+        Objects.requireNonNull(expected, "expected");
+        Objects.requireNonNull(value, "value");
+
+        AtomicReferenceArray<V> chunk = existingChunk(key);
+        return chunk != null && chunk.compareAndSet(slot(key), expected, value);
+    }
+
+    public V remove(long key) {
+        AtomicReferenceArray<V> chunk = existingChunk(key);
+        if (chunk == null) {
+            return null;
+        }
+
+        V previous = chunk.getAndSet(slot(key), null);
+        if (previous != null) {
+            size.decrementAndGet();
+        }
+
+        return previous;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public Stream<V> values() {
+        return StreamSupport.stream(new ValueSpliterator(0), false);
+    }
+
+    public Stream<V> valuesAfter(long key) {
+        if (key < 0) {
+            return values();
+        }
+        if (key >= MAX_KEY) {
+            return Stream.empty();
+        }
+
+        return StreamSupport.stream(new ValueSpliterator(key + 1), false);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return Spliterators.iterator(new ValueSpliterator(0));
+    }
+
+    private AtomicReferenceArray<V> existingChunk(long key) {
+        if (key < 0 || key > MAX_KEY) {
+            return null;
+        }
+
+        AtomicReferenceArray<AtomicReferenceArray<V>> directory = chunks;
+        int chunkIndex = chunkIndex(key);
+
+        return chunkIndex < directory.length() ? directory.get(chunkIndex) : null;
+    }
+
+    private AtomicReferenceArray<V> chunk(long key) {
+        AtomicReferenceArray<V> chunk = existingChunk(key);
+        if (chunk != null) {
+            return chunk;
+        }
+        if (key < 0 || key > MAX_KEY) {
+            throw new IllegalArgumentException("Key out of range: " + key);
+        }
+
+        synchronized (resizeLock) {
+            AtomicReferenceArray<AtomicReferenceArray<V>> directory = chunks;
+            int chunkIndex = chunkIndex(key);
+
+            if (chunkIndex >= directory.length()) {
+                AtomicReferenceArray<AtomicReferenceArray<V>> grown =
+                        new AtomicReferenceArray<>(Math.max(chunkIndex + 1, directory.length() * 2));
+                for (int i = 0; i < directory.length(); i++) {
+                    grown.set(i, directory.get(i));
+                }
+                directory = grown;
+            }
+
+            chunk = directory.get(chunkIndex);
+            if (chunk == null) {
+                chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+                directory.set(chunkIndex, chunk);
+            }
+            chunks = directory;
+
+            return chunk;
+        }
+    }
+
+    private static int chunkIndex(long key) {
+        return (int) (key >>> CHUNK_BITS);
+    }
+
+    private static int slot(long key) {
+        return (int) key & CHUNK_MASK;
+    }
+
+    private final class ValueSpliterator extends Spliterators.AbstractSpliterator<V> {
+        private long next;
+
+        private ValueSpliterator(long from) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.next = from;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super V> action) {
+            AtomicReferenceArray<AtomicReferenceArray<V>> directory = chunks;
+
+            for (int chunkIndex = chunkIndex(next); chunkIndex < directory.length(); chunkIndex++) {
+                AtomicReferenceArray<V> chunk = directory.get(chunkIndex);
+                if (chunk != null) {
+                    for (int slot = slot(next); slot < CHUNK_SIZE; slot++) {
+                        V value = chunk.get(slot);
+                        if (value != null) {
+                            next = ((long) chunkIndex << CHUNK_BITS) + slot + 1;
+                            action.accept(value);
+                            return true;
+                        }
+                    }
+                }
+                next = (long) (chunkIndex + 1) << CHUNK_BITS;
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.gym.crm.storage;
+
+import java.util.Arrays;
+
+final class DatedIdSet {
+    private int[] days = new int[4];
+    private long[] ids = new long[4];
+    private int size;
+
+    synchronized boolean add(int day, long id) {
+        int position = size == 0 || compare(size - 1, day, id) < 0 ? -(size + 1) : search(day, id);
+        if (position >= 0) {
+            return false;
+        }
+
+        int insertAt = -(position + 1);
+        if (size == ids.length) {
+            days = Arrays.copyOf(days, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(days, insertAt, days, insertAt + 1, size - insertAt);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        days[insertAt] = day;
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    synchronized boolean remove(int day, long id) {
+        int position = search(day, id);
+        if (position < 0) {
+            return false;
+        }
+
+        System.arraycopy(days, position + 1, days, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    synchronized long[] idsBetween(int fromDay, int toDay) {
+        if (fromDay > toDay) {
+            return new long[0];
+        }
+
+        int from = -(search(fromDay, Long.MIN_VALUE) + 1);
+        int to = -(search(toDay, Long.MAX_VALUE) + 1);
+        return Arrays.copyOfRange(ids, from, to);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private int search(int day, long id) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(middle, day, id);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    private int compare(int position, int day, long id) {
+        int byDay = Integer.compare(days[position], day);
+        return byDay != 0 ? byDay : Long.compare(ids[position], id);
+    }
+}
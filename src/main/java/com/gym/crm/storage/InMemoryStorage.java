@@ -9,10 +9,12 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.gym.crm.storage.InMemoryStorage.EntityName.ASSIGNMENT;
 import static com.gym.crm.storage.InMemoryStorage.EntityName.TRAINEE;
 import static com.gym.crm.storage.InMemoryStorage.EntityName.TRAINER;
 import static com.gym.crm.storage.InMemoryStorage.EntityName.TRAINING;
 import static com.gym.crm.storage.InMemoryStorage.EntityName.TRAINING_TYPE;
+import static com.gym.crm.storage.InMemoryStorage.EntityName.USER;
 
 @Component
 @Getter
@@ -20,7 +22,7 @@ public class InMemoryStorage {
     private static final Logger logger = LoggerFactory.getLogger(InMemoryStorage.class);
 
     enum EntityName {
-        TRAINEE, TRAINER, TRAINING, TRAINING_TYPE
+        TRAINEE, TRAINER, TRAINING, TRAINING_TYPE, USER, ASSIGNMENT
     }
 
     private Map<EntityName, Object> storages = new HashMap<>();
@@ -45,6 +47,16 @@ public class InMemoryStorage {
         this.storages.put(TRAINING_TYPE, trainingTypeStorage);
     }
 
+    @Autowired
+    public void setUserStorage(UserStorage userStorage) {
+        this.storages.put(USER, userStorage);
+    }
+
+    @Autowired
+    public void setAssignmentStorage(AssignmentStorage assignmentStorage) {
+        this.storages.put(ASSIGNMENT, assignmentStorage);
+    }
+
     public TraineeStorage getTraineeStorage() {
         return getStorage(TRAINEE, TraineeStorage.class);
     }
@@ -61,6 +73,14 @@ public class InMemoryStorage {
         return getStorage(TRAINING_TYPE, TrainingTypeStorage.class);
     }
 
+    public UserStorage getUserStorage() {
+        return getStorage(USER, UserStorage.class);
+    }
+
+    public AssignmentStorage getAssignmentStorage() {
+        return getStorage(ASSIGNMENT, AssignmentStorage.class);
+    }
+
     private <T> T getStorage(EntityName entityName, Class<T> storageType) {
         Object obj = storages.get(entityName);
 
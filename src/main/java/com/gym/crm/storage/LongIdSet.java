@@ -0,0 +1,47 @@
+package com.gym.crm.storage;
+
+import java.util.Arrays;
+
+final class LongIdSet {
+    private long[] ids = new long[4];
+    private int size;
+
+    synchronized boolean add(long id) {
+        int position = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return false;
+        }
+
+        int insertAt = -(position + 1);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    synchronized boolean remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    synchronized boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    synchronized long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gym.crm.storage;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class TrainerWorkloadCounters {
+    private final ConcurrentHashMap<TrainerMonth, LongAdder> minutes = new ConcurrentHashMap<>();
+
+    void add(TrainingRow row) {
+        record(row, 1);
+    }
+
+    void subtract(TrainingRow row) {
+        record(row, -1);
+    }
+
+    Map<YearMonth, Long> monthlyMinutes(long trainerId, YearMonth from, YearMonth to) {
+        Map<YearMonth, Long> months = new LinkedHashMap<>();
+
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LongAdder counter = minutes.get(new TrainerMonth(trainerId, month));
+            long total = counter == null ? 0 : counter.sum();
+            if (total != 0) {
+                months.put(month, total);
+            }
+        }
+
+        return months;
+    }
+
+    int size() {
+        return minutes.size();
+    }
+
+    private void record(TrainingRow row, int sign) {
+        if (row.trainerId() == null || row.trainingDate() == null || row.trainingDuration() == null) {
+            return;
+        }
+
+        minutes.computeIfAbsent(new TrainerMonth(row.trainerId(), YearMonth.from(row.trainingDate())), key -> new LongAdder())
+                .add((long) sign * row.trainingDuration());
+    }
+
+    private record TrainerMonth(long trainerId, YearMonth month) {
+    }
+}
@@ -0,0 +1,361 @@
+package com.gym.crm.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+
+final class TrainingColumns {
+    static final long MAX_ID = ConcurrentLongMap.MAX_KEY;
+    static final int NULL_DAY = Integer.MIN_VALUE;
+
+    private static final int SEGMENT_BITS = 14;
+    private static final int SEGMENT_ROWS = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_ROWS - 1;
+    private static final long NULL_ID = Long.MIN_VALUE;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private static final int TRAINEE_IDS = 0;
+    private static final int TRAINER_IDS = TRAINEE_IDS + Long.BYTES * SEGMENT_ROWS;
+    private static final int TYPE_IDS = TRAINER_IDS + Long.BYTES * SEGMENT_ROWS;
+    private static final int TYPE_NAMES = TYPE_IDS + Integer.BYTES * SEGMENT_ROWS;
+    private static final int EPOCH_DAYS = TYPE_NAMES + Integer.BYTES * SEGMENT_ROWS;
+    private static final int DURATIONS = EPOCH_DAYS + Integer.BYTES * SEGMENT_ROWS;
+    private static final int NAMES = DURATIONS + Integer.BYTES * SEGMENT_ROWS;
+    private static final int PRESENT = NAMES + Integer.BYTES * SEGMENT_ROWS;
+    private static final int SEGMENT_BYTES = PRESENT + SEGMENT_ROWS;
+
+    static final int ROW_BYTES = SEGMENT_BYTES / SEGMENT_ROWS;
+
+    private final StringDictionary names = new StringDictionary();
+    private final Object resizeLock = new Object();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile Segment[] segments = new Segment[0];
+
+    TrainingRow write(TrainingRow row) {
+        long traineeId = orNull(row.traineeId());
+        long trainerId = orNull(row.trainerId());
+        int typeId = typeId(row.trainingTypeId());
+        int epochDay = epochDay(row.trainingDate());
+        int duration = row.trainingDuration() == null ? NULL_INT : row.trainingDuration();
+        int typeName = names.encode(row.trainingTypeName());
+        int name = names.encode(row.trainingName());
+        int slot = slot(row.id());
+        Segment segment;
+        long stamp;
+        while (true) {
+            segment = segment(row.id());
+            stamp = segment.lock.writeLock();
+            if (!segment.released) {
+                break;
+            }
+            segment.lock.unlockWrite(stamp);
+        }
+
+        try {
+            TrainingRow previous = segment.isPresent(slot) ? segment.read(row.id(), slot, names) : null;
+
+            ByteBuffer buffer = segment.buffer;
+            buffer.putLong(TRAINEE_IDS + slot * Long.BYTES, traineeId);
+            buffer.putLong(TRAINER_IDS + slot * Long.BYTES, trainerId);
+            buffer.putInt(TYPE_IDS + slot * Integer.BYTES, typeId);
+            buffer.putInt(TYPE_NAMES + slot * Integer.BYTES, typeName);
+            buffer.putInt(EPOCH_DAYS + slot * Integer.BYTES, epochDay);
+            buffer.putInt(DURATIONS + slot * Integer.BYTES, duration);
+            buffer.putInt(NAMES + slot * Integer.BYTES, name);
+            buffer.put(PRESENT + slot, (byte) 1);
+
+            if (previous == null) {
+                segment.live++;
+                size.incrementAndGet();
+            }
+            return previous;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    TrainingRow remove(long id) {
+        Segment segment = existingSegment(id);
+        if (segment == null) {
+            return null;
+        }
+
+        int slot = slot(id);
+        long stamp = segment.lock.writeLock();
+        try {
+            if (!segment.isPresent(slot)) {
+                return null;
+            }
+
+            TrainingRow previous = segment.read(id, slot, names);
+            segment.buffer.put(PRESENT + slot, (byte) 0);
+            size.decrementAndGet();
+            if (--segment.live == 0) {
+                release(id, segment);
+            }
+
+            return previous;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    TrainingRow read(long id) {
+        Segment segment = existingSegment(id);
+        if (segment == null) {
+            return null;
+        }
+
+        int slot = slot(id);
+        StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            TrainingRow row = segment.isPresent(slot) ? segment.read(id, slot, names) : null;
+            if (lock.validate(stamp)) {
+                return row;
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return segment.isPresent(slot) ? segment.read(id, slot, names) : null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    boolean contains(long id) {
+        return epochDayOrAbsent(id) != null;
+    }
+
+    Integer epochDayOrAbsent(long id) {
+        Segment segment = existingSegment(id);
+        if (segment == null) {
+            return null;
+        }
+
+        int slot = slot(id);
+        StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        boolean present = segment.isPresent(slot);
+        int epochDay = segment.buffer.getInt(EPOCH_DAYS + slot * Integer.BYTES);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                present = segment.isPresent(slot);
+                epochDay = segment.buffer.getInt(EPOCH_DAYS + slot * Integer.BYTES);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return present ? epochDay : null;
+    }
+
+    Spliterator.OfLong ids(long fromId) {
+        return new IdSpliterator(Math.max(0, fromId));
+    }
+
+    long sumDurations(int fromDay, int toDay) {
+        long total = 0;
+
+        for (Segment segment : segments) {
+            if (segment == null) {
+                continue;
+            }
+
+            StampedLock lock = segment.lock;
+            long stamp = lock.tryOptimisticRead();
+            long segmentTotal = segment.sumDurations(fromDay, toDay);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    segmentTotal = segment.sumDurations(fromDay, toDay);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            total += segmentTotal;
+        }
+
+        return total;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    int dictionarySize() {
+        return names.size();
+    }
+
+    long offHeapBytes() {
+        return Arrays.stream(segments)
+                .filter(segment -> segment != null)
+                .count() * SEGMENT_BYTES;
+    }
+
+    static int epochDay(LocalDate date) {
+        if (date == null) {
+            return NULL_DAY;
+        }
+
+        long epochDay = date.toEpochDay();
+        if (epochDay <= NULL_DAY || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Training date out of range: " + date);
+        }
+        return (int) epochDay;
+    }
+
+    static int clampEpochDay(LocalDate date, int whenNull) {
+        return date == null ? whenNull : (int) Math.clamp(date.toEpochDay(), NULL_DAY, Integer.MAX_VALUE);
+    }
+
+    private Segment existingSegment(long id) {
+        if (id < 0 || id > MAX_ID) {
+            return null;
+        }
+
+        Segment[] current = segments;
+        int index = (int) (id >>> SEGMENT_BITS);
+        return index < current.length ? current[index] : null;
+    }
+
+    private Segment segment(long id) {
+        Segment segment = existingSegment(id);
+        if (segment != null) {
+            return segment;
+        }
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("Training id out of range: " + id);
+        }
+
+        synchronized (resizeLock) {
+            Segment[] current = segments;
+            int index = (int) (id >>> SEGMENT_BITS);
+            if (index >= current.length) {
+                current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+            }
+            if (current[index] == null) {
+                current[index] = new Segment();
+            }
+            segments = current;
+
+            return current[index];
+        }
+    }
+
+    private void release(long id, Segment segment) {
+        synchronized (resizeLock) {
+            Segment[] current = segments;
+            int index = (int) (id >>> SEGMENT_BITS);
+            if (current[index] == segment) {
+                current[index] = null;
+                segments = current;
+            }
+            segment.released = true;
+        }
+    }
+
+    private static int slot(long id) {
+        return (int) id & SEGMENT_MASK;
+    }
+
+    private static long orNull(Long value) {
+        return value == null ? NULL_ID : value;
+    }
+
+    private static int typeId(Long trainingTypeId) {
+        if (trainingTypeId == null) {
+            return NULL_INT;
+        }
+        return Math.toIntExact(trainingTypeId);
+    }
+
+    private static final class Segment {
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(SEGMENT_BYTES).order(ByteOrder.nativeOrder());
+        private final StampedLock lock = new StampedLock();
+        private int live;
+        private boolean released;
+
+        private boolean isPresent(int slot) {
+            return buffer.get(PRESENT + slot) != 0;
+        }
+
+        private long sumDurations(int fromDay, int toDay) {
+            long total = 0;
+
+            for (int slot = 0; slot < SEGMENT_ROWS; slot++) {
+                int epochDay = buffer.getInt(EPOCH_DAYS + slot * Integer.BYTES);
+                int duration = buffer.getInt(DURATIONS + slot * Integer.BYTES);
+                if (buffer.get(PRESENT + slot) != 0 && duration != NULL_INT && epochDay >= fromDay && epochDay <= toDay) {
+                    total += duration;
+                }
+            }
+
+            return total;
+        }
+
+        private TrainingRow read(long id, int slot, StringDictionary names) {
+            long traineeId = buffer.getLong(TRAINEE_IDS + slot * Long.BYTES);
+            long trainerId = buffer.getLong(TRAINER_IDS + slot * Long.BYTES);
+            int typeId = buffer.getInt(TYPE_IDS + slot * Integer.BYTES);
+            int typeName = buffer.getInt(TYPE_NAMES + slot * Integer.BYTES);
+            int epochDay = buffer.getInt(EPOCH_DAYS + slot * Integer.BYTES);
+            int duration = buffer.getInt(DURATIONS + slot * Integer.BYTES);
+            int name = buffer.getInt(NAMES + slot * Integer.BYTES);
+
+            return new TrainingRow(id,
+                    traineeId == NULL_ID ? null : traineeId,
+                    trainerId == NULL_ID ? null : trainerId,
+                    typeId == NULL_INT ? null : (long) typeId,
+                    names.decode(typeName),
+                    names.decode(name),
+                    epochDay == NULL_DAY ? null : LocalDate.ofEpochDay(epochDay),
+                    duration == NULL_INT ? null : duration);
+        }
+    }
+
+    private final class IdSpliterator extends Spliterators.AbstractLongSpliterator {
+        private long next;
+
+        private IdSpliterator(long from) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+            this.next = from;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Segment[] current = segments;
+
+            for (int index = (int) (next >>> SEGMENT_BITS); index < current.length; index++) {
+                Segment segment = current[index];
+                if (segment != null) {
+                    for (int slot = slot(next); slot < SEGMENT_ROWS; slot++) {
+                        if (segment.isPresent(slot)) {
+                            long id = ((long) index << SEGMENT_BITS) + slot;
+                            next = id + 1;
+                            action.accept(id);
+                            return true;
+                        }
+                    }
+                }
+                next = (long) (index + 1) << SEGMENT_BITS;
+            }
+
+            return false;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.Training;
+
+import java.time.LocalDate;
+
+public record TrainingRow(long id,
+                          Long traineeId,
+                          Long trainerId,
+                          Long trainingTypeId,
+                          String trainingTypeName,
+                          String trainingName,
+                          LocalDate trainingDate,
+                          Integer trainingDuration) {
+
+    public static TrainingRow of(Training training) {
+        return new TrainingRow(
+                training.getId(),
+                training.getTrainee() == null ? null : training.getTrainee().getId(),
+                training.getTrainer() == null ? null : training.getTrainer().getId(),
+                training.getTrainingType() == null ? null : training.getTrainingType().getId(),
+                training.getTrainingType() == null ? null : training.getTrainingType().getTrainingTypeName(),
+                training.getTrainingName(),
+                training.getTrainingDate(),
+                training.getTrainingDuration());
+    }
+}
@@ -1,20 +1,288 @@
 package com.gym.crm.storage;
 
 import com.gym.crm.model.Training;
-import lombok.Getter;
+import com.gym.crm.model.TrainingImport;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 @Component("trainingStorage")
 public class TrainingStorage {
-    @Getter
-    private final Map<Long, Training> trainings = new ConcurrentHashMap<>();
+    private final TrainingColumns columns = new TrainingColumns();
+    private final NavigableMap<Integer, LongIdSet> trainingsByDate = new ConcurrentSkipListMap<>();
+    private final ConcurrentLongMap<DatedIdSet> trainingsByTrainee = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<DatedIdSet> trainingsByTrainer = new ConcurrentLongMap<>();
+    private final ConcurrentMap<String, TrainingImport> imports = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final ReadWriteLock workloadLock = new ReentrantReadWriteLock();
+    private volatile TrainerWorkloadCounters trainerWorkload = new TrainerWorkloadCounters();
 
     public Long getNextId() {
         return idGenerator.getAndIncrement();
     }
-}
\ No newline at end of file
+
+    public long peekNextId() {
+        return idGenerator.get();
+    }
+
+    public void advanceNextId(long nextId) {
+        idGenerator.accumulateAndGet(nextId, Math::max);
+    }
+
+    public void put(Training training) {
+        TrainingRow row = TrainingRow.of(training);
+
+        workloadLock.readLock().lock();
+        try {
+            TrainingRow previous = columns.write(row);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(row);
+        } finally {
+            workloadLock.readLock().unlock();
+        }
+    }
+
+    public TrainingRow find(long id) {
+        return columns.read(id);
+    }
+
+    public boolean contains(long id) {
+        return columns.contains(id);
+    }
+
+    public boolean remove(long id) {
+        workloadLock.readLock().lock();
+        try {
+            TrainingRow removed = columns.remove(id);
+            if (removed != null) {
+                unindex(removed);
+            }
+
+            return removed != null;
+        } finally {
+            workloadLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public LongStream ids() {
+        return idsAfter(-1);
+    }
+
+    public LongStream idsAfter(long afterId) {
+        if (afterId >= TrainingColumns.MAX_ID) {
+            return LongStream.empty();
+        }
+
+        return StreamSupport.longStream(columns.ids(afterId + 1), false);
+    }
+
+    public int removeByTrainee(Long traineeId) {
+        int removed = 0;
+
+        for (Long trainingId : getTrainingIdsByTrainee(traineeId)) {
+            if (remove(trainingId)) {
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    public List<Long> getTrainingIdsByTrainee(Long traineeId) {
+        return ownerIds(trainingsByTrainee, traineeId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public List<Long> getTrainingIdsByTrainer(Long trainerId) {
+        return ownerIds(trainingsByTrainer, trainerId, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    public List<Long> getTrainingIdsByDate(LocalDate from, LocalDate to, Long traineeId, Long trainerId) {
+        int fromDay = TrainingColumns.clampEpochDay(from, Integer.MIN_VALUE);
+        int toDay = TrainingColumns.clampEpochDay(to, Integer.MAX_VALUE);
+
+        if (trainerId != null) {
+            return ownerIds(trainingsByTrainer, trainerId, fromDay, toDay);
+        }
+        if (traineeId != null) {
+            return ownerIds(trainingsByTrainee, traineeId, fromDay, toDay);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (LongIdSet trainings : trainingsByDate.subMap(fromDay, true, toDay, true).values()) {
+            for (long id : trainings.toArray()) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    public long sumTrainingDuration(LocalDate from, LocalDate to) {
+        return columns.sumDurations(TrainingColumns.clampEpochDay(from, Integer.MIN_VALUE),
+                TrainingColumns.clampEpochDay(to, Integer.MAX_VALUE));
+    }
+
+    public Map<YearMonth, Long> getTrainerMonthlyMinutes(long trainerId, YearMonth from, YearMonth to) {
+        return trainerWorkload.monthlyMinutes(trainerId, from, to);
+    }
+
+    public int rebuildTrainerWorkload() {
+        TrainerWorkloadCounters rebuilt = new TrainerWorkloadCounters();
+
+        workloadLock.writeLock().lock();
+        try {
+            ids().forEach(id -> {
+                TrainingRow row = columns.read(id);
+                if (row != null) {
+                    rebuilt.add(row);
+                }
+            });
+            trainerWorkload = rebuilt;
+        } finally {
+            workloadLock.writeLock().unlock();
+        }
+
+        return rebuilt.size();
+    }
+
+    public TrainingImport putImport(TrainingImport progress) {
+        return imports.put(progress.getSource(), progress);
+    }
+
+    public void removeImport(String source) {
+        imports.remove(source);
+    }
+
+    public Optional<TrainingImport> findImport(String source) {
+        return Optional.ofNullable(imports.get(source));
+    }
+
+    public Collection<TrainingImport> getImports() {
+        return imports.values();
+    }
+
+    public long getOffHeapBytes() {
+        return columns.offHeapBytes();
+    }
+
+    public int getDictionarySize() {
+        return columns.dictionarySize();
+    }
+
+    private void index(TrainingRow row) {
+        int epochDay = TrainingColumns.epochDay(row.trainingDate());
+
+        indexByDate(epochDay, row.id());
+        index(trainingsByTrainee, row.traineeId(), epochDay, row.id());
+        index(trainingsByTrainer, row.trainerId(), epochDay, row.id());
+        trainerWorkload.add(row);
+    }
+
+    private void unindex(TrainingRow row) {
+        int epochDay = TrainingColumns.epochDay(row.trainingDate());
+
+        unindexByDate(epochDay, row.id());
+        unindex(trainingsByTrainee, row.traineeId(), epochDay, row.id());
+        unindex(trainingsByTrainer, row.trainerId(), epochDay, row.id());
+        trainerWorkload.subtract(row);
+    }
+
+    private void indexByDate(int epochDay, long trainingId) {
+        while (true) {
+            LongIdSet trainings = trainingsByDate.computeIfAbsent(epochDay, day -> new LongIdSet());
+            synchronized (trainings) {
+                if (trainingsByDate.get(epochDay) == trainings) {
+                    trainings.add(trainingId);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void unindexByDate(int epochDay, long trainingId) {
+        LongIdSet trainings = trainingsByDate.get(epochDay);
+        if (trainings == null) {
+            return;
+        }
+
+        synchronized (trainings) {
+            if (trainings.remove(trainingId) && trainings.size() == 0) {
+                trainingsByDate.remove(epochDay, trainings);
+            }
+        }
+    }
+
+    private static void index(ConcurrentLongMap<DatedIdSet> index, Long ownerId, int epochDay, long trainingId) {
+        if (ownerId == null) {
+            return;
+        }
+
+        while (true) {
+            DatedIdSet trainings = index.get(ownerId);
+            if (trainings == null) {
+                DatedIdSet created = new DatedIdSet();
+                trainings = index.putIfAbsent(ownerId, created);
+                if (trainings == null) {
+                    trainings = created;
+                }
+            }
+            synchronized (trainings) {
+                if (index.get(ownerId) == trainings) {
+                    trainings.add(epochDay, trainingId);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void unindex(ConcurrentLongMap<DatedIdSet> index, Long ownerId, int epochDay, long trainingId) {
+        if (ownerId == null) {
+            return;
+        }
+
+        DatedIdSet trainings = index.get(ownerId);
+        if (trainings == null) {
+            return;
+        }
+
+        synchronized (trainings) {
+            if (trainings.remove(epochDay, trainingId) && trainings.size() == 0 && index.get(ownerId) == trainings) {
+                index.remove(ownerId);
+            }
+        }
+    }
+
+    private static List<Long> ownerIds(ConcurrentLongMap<DatedIdSet> index, Long ownerId, int fromDay, int toDay) {
+        DatedIdSet trainings = index.get(ownerId);
+        if (trainings == null) {
+            return new ArrayList<>();
+        }
+
+        long[] ids = trainings.idsBetween(fromDay, toDay);
+        List<Long> sorted = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            sorted.add(id);
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,86 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.TrainingType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public final class TrainingTypeCatalog {
+    static final TrainingTypeCatalog EMPTY = new TrainingTypeCatalog(new TrainingType[0], Map.of(), List.of());
+
+    private final TrainingType[] byId;
+    private final Map<String, TrainingType> byName;
+    private final List<TrainingType> all;
+
+    private TrainingTypeCatalog(TrainingType[] byId, Map<String, TrainingType> byName, List<TrainingType> all) {
+        this.byId = byId;
+        this.byName = byName;
+        this.all = all;
+    }
+
+    public static TrainingTypeCatalog of(Collection<TrainingType> trainingTypes) {
+        int maxId = trainingTypes.stream()
+                .map(TrainingType::getId)
+                .filter(id -> id != null)
+                .mapToInt(Math::toIntExact)
+                .max()
+                .orElse(-1);
+
+        TrainingType[] byId = new TrainingType[maxId + 1];
+        Map<String, TrainingType> byName = new HashMap<>();
+        List<TrainingType> all = new ArrayList<>(trainingTypes.size());
+
+        for (TrainingType trainingType : trainingTypes) {
+            TrainingType entry = TrainingType.builder()
+                    .id(trainingType.getId())
+                    .trainingTypeName(trainingType.getTrainingTypeName())
+                    .build();
+
+            if (entry.getId() != null) {
+                byId[entry.getId().intValue()] = entry;
+            }
+            byName.put(normalize(entry.getTrainingTypeName()), entry);
+            all.add(entry);
+        }
+
+        return new TrainingTypeCatalog(byId, Collections.unmodifiableMap(byName), Collections.unmodifiableList(all));
+    }
+
+    public Optional<TrainingType> findById(Long id) {
+        if (id == null || id < 0 || id >= byId.length) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(byId[id.intValue()]);
+    }
+
+    public Optional<TrainingType> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    public TrainingType get(int id) {
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    public List<TrainingType> getAll() {
+        return all;
+    }
+
+    public Map<String, TrainingType> getByName() {
+        return byName;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
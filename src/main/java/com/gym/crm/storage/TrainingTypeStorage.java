@@ -1,14 +1,58 @@
 package com.gym.crm.storage;
 
 import com.gym.crm.model.TrainingType;
-import lombok.Getter;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.Optional;
 
 @Component("trainingTypeStorage")
 public class TrainingTypeStorage {
-    @Getter
-    private final Map<String, TrainingType> trainingTypes = new ConcurrentHashMap<>();
+    private volatile TrainingTypeCatalog catalog = TrainingTypeCatalog.EMPTY;
+
+    public TrainingTypeCatalog getCatalog() {
+        return catalog;
+    }
+
+    public Map<String, TrainingType> getTrainingTypes() {
+        return catalog.getByName();
+    }
+
+    public Optional<TrainingType> findById(Long id) {
+        return catalog.findById(id);
+    }
+
+    public Optional<TrainingType> findByName(String name) {
+        return catalog.findByName(name);
+    }
+
+    public void load(Collection<TrainingType> trainingTypes) {
+        catalog = TrainingTypeCatalog.of(trainingTypes);
+    }
+
+    public synchronized TrainingType put(TrainingType trainingType) {
+        TrainingTypeCatalog current = catalog;
+        TrainingType stored = trainingType.getId() != null
+                ? trainingType
+                : trainingType.toBuilder().id(nextId(current)).build();
+
+        List<TrainingType> trainingTypes = new ArrayList<>(current.getAll());
+        trainingTypes.removeIf(existing -> Objects.equals(existing.getId(), stored.getId()));
+        trainingTypes.add(stored);
+        catalog = TrainingTypeCatalog.of(trainingTypes);
+
+        return catalog.findById(stored.getId()).orElseThrow();
+    }
+
+    private Long nextId(TrainingTypeCatalog current) {
+        return current.getAll().stream()
+                .map(TrainingType::getId)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(0L) + 1;
+    }
 }
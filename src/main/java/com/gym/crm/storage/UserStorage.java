@@ -0,0 +1,67 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.User;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component("userStorage")
+public class UserStorage {
+    private static final User RESERVED = User.builder().build();
+
+    @Getter
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+
+    public boolean existsUsername(String username) {
+        return users.containsKey(normalize(username));
+    }
+
+    public boolean reserveUsername(String username) {
+        return users.putIfAbsent(normalize(username), RESERVED) == null;
+    }
+
+    public void release(String username) {
+        users.remove(normalize(username), RESERVED);
+    }
+
+    public Optional<User> find(String username) {
+        User user = users.get(normalize(username));
+
+        return user == RESERVED ? Optional.empty() : Optional.ofNullable(user);
+    }
+
+    public void register(User user) {
+        if (hasUsername(user)) {
+            users.put(normalize(user.getUsername()), user);
+        }
+    }
+
+    public void unregister(User user) {
+        if (hasUsername(user)) {
+            users.computeIfPresent(normalize(user.getUsername()), (key, stored) -> isSameUser(stored, user) ? null : stored);
+        }
+    }
+
+    public void replace(User previous, User current) {
+        if (hasUsername(previous) && !(hasUsername(current) && previous.getUsername().equalsIgnoreCase(current.getUsername()))) {
+            unregister(previous);
+        }
+        register(current);
+    }
+
+    public static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isSameUser(User stored, User user) {
+        return stored == user || (stored.getId() != null && stored.getId().equals(user.getId()));
+    }
+
+    private boolean hasUsername(User user) {
+        return user != null && user.getUsername() != null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.InMemoryStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class DurableStorage implements StorageJournal, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(DurableStorage.class);
+
+    private final InMemoryStorage storage;
+    private final Path directory;
+    private final WriteAheadLog writeAheadLog;
+    private final long snapshotIntervalSeconds;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean modified;
+
+    public DurableStorage(InMemoryStorage storage, Path directory, FsyncPolicy fsyncPolicy,
+                          long groupCommitMillis, long snapshotIntervalSeconds) {
+        this.storage = storage;
+        this.directory = directory;
+        this.writeAheadLog = new WriteAheadLog(directory, fsyncPolicy, groupCommitMillis);
+        this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+
+        long lastSegment = recover();
+        writeAheadLog.open(lastSegment + 1);
+
+        if (snapshotIntervalSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "storage-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                    snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    public synchronized void snapshot() throws IOException {
+        long startNanos = System.nanoTime();
+        modified = false;
+        long segment = writeAheadLog.rotate();
+
+        Path temporary = directory.resolve(StorageSnapshot.FILE_PREFIX + "tmp");
+        long entries = StorageSnapshot.write(temporary, storage);
+        Files.move(temporary, StorageSnapshot.snapshotPath(directory, segment),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        deleteBefore(StorageSnapshot.FILE_PREFIX, StorageSnapshot.FILE_SUFFIX, segment);
+        deleteBefore(WriteAheadLog.FILE_PREFIX, WriteAheadLog.FILE_SUFFIX, segment);
+
+        logger.info("Wrote storage snapshot {} with {} entries in {} ms",
+                segment, entries, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    @Override
+    public long traineeSaved(Trainee trainee) {
+        return append(JournalOperation.TRAINEE_SAVED, out -> EntityCodec.writeTrainee(out, trainee));
+    }
+
+    @Override
+    public long traineeDeleted(Long id) {
+        return append(JournalOperation.TRAINEE_DELETED, out -> EntityCodec.writeId(out, id));
+    }
+
+    @Override
+    public long trainerSaved(Trainer trainer) {
+        return append(JournalOperation.TRAINER_SAVED, out -> EntityCodec.writeTrainer(out, trainer));
+    }
+
+    @Override
+    public long trainingSaved(Training training) {
+        return append(JournalOperation.TRAINING_SAVED, out -> EntityCodec.writeTraining(out, training));
+    }
+
+    @Override
+    public long trainingDeleted(Long id) {
+        return append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, id));
+    }
+
+    @Override
+    public long trainingsImported(List<Training> trainings, TrainingImport progress) {
+        return append(JournalOperation.TRAININGS_IMPORTED, out -> {
+            EntityCodec.writeTrainingImport(out, progress);
+            out.writeInt(trainings.size());
+            for (Training training : trainings) {
+                EntityCodec.writeTraining(out, training);
+            }
+        });
+    }
+
+    @Override
+    public long trainingTypeSaved(TrainingType trainingType) {
+        return append(JournalOperation.TRAINING_TYPE_SAVED, out -> EntityCodec.writeTrainingType(out, trainingType));
+    }
+
+    @Override
+    public long trainerAssigned(Long traineeId, Long trainerId) {
+        return append(JournalOperation.TRAINER_ASSIGNED, out -> EntityCodec.writeAssignment(out, traineeId, trainerId));
+    }
+
+    @Override
+    public long trainerUnassigned(Long traineeId, Long trainerId) {
+        return append(JournalOperation.TRAINER_UNASSIGNED, out -> EntityCodec.writeAssignment(out, traineeId, trainerId));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+
+        if (modified) {
+            try {
+                snapshot();
+            } catch (IOException e) {
+                logger.error("Failed to write final storage snapshot", e);
+            }
+        }
+        writeAheadLog.close();
+    }
+
+    WriteAheadLog getWriteAheadLog() {
+        return writeAheadLog;
+    }
+
+    private long recover() throws IOException {
+        long startNanos = System.nanoTime();
+        StorageApplier applier = new StorageApplier(storage);
+
+        List<Long> snapshots = segments(StorageSnapshot.FILE_PREFIX, StorageSnapshot.FILE_SUFFIX);
+        long snapshotSegment = 0;
+        long entries = 0;
+        if (!snapshots.isEmpty()) {
+            snapshotSegment = snapshots.get(snapshots.size() - 1);
+            entries = StorageSnapshot.read(StorageSnapshot.snapshotPath(directory, snapshotSegment), applier);
+        }
+
+        long lastSegment = snapshotSegment;
+        long records = 0;
+        for (Long segment : segments(WriteAheadLog.FILE_PREFIX, WriteAheadLog.FILE_SUFFIX)) {
+            if (segment >= snapshotSegment) {
+                records += WriteAheadLog.replay(WriteAheadLog.segmentPath(directory, segment), applier::apply);
+            }
+            lastSegment = Math.max(lastSegment, segment);
+        }
+
+        logger.info("Recovered storage from snapshot {} ({} entries) and {} log records in {} ms",
+                snapshotSegment, entries, records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        return lastSegment;
+    }
+
+    @Override
+    public void awaitDurable(long sequence) {
+        try {
+            writeAheadLog.awaitDurable(sequence);
+        } catch (IOException e) {
+            logger.error("Failed to commit write-ahead log record {}", sequence, e);
+            throw new DaoException("Failed to commit storage journal", e);
+        }
+    }
+
+    private long append(JournalOperation operation, WriteAheadLog.RecordWriter writer) {
+        modified = true;
+        try {
+            return writeAheadLog.append(operation, writer);
+        } catch (IOException e) {
+            logger.error("Failed to append {} to write-ahead log", operation, e);
+            throw new DaoException("Failed to append to storage journal", e);
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException e) {
+            logger.error("Failed to write storage snapshot", e);
+        }
+    }
+
+    private void deleteBefore(String prefix, String suffix, long segment) throws IOException {
+        for (Long older : segments(prefix, suffix)) {
+            if (older < segment) {
+                Files.deleteIfExists(directory.resolve(prefix + "%020d".formatted(older) + suffix));
+            }
+        }
+    }
+
+    private List<Long> segments(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> name.substring(prefix.length(), name.length() - suffix.length()))
+                    .filter(segment -> !segment.isEmpty() && segment.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .sorted()
+                    .toList();
+        }
+    }
+}
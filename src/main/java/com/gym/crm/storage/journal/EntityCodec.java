@@ -0,0 +1,223 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.TrainingRow;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+final class EntityCodec {
+    interface Resolver {
+        Trainee trainee(Long id);
+
+        Trainer trainer(Long id);
+
+        TrainingType trainingType(Long id, String name);
+    }
+
+    private EntityCodec() {
+    }
+
+    static void writeTrainee(DataOutput out, Trainee trainee) throws IOException {
+        writeLong(out, trainee.getId());
+        out.writeLong(trainee.getVersion());
+        writeUser(out, trainee.getUser());
+        writeDate(out, trainee.getDateOfBirth());
+        writeString(out, trainee.getAddress());
+    }
+
+    static Trainee readTrainee(DataInput in, boolean versioned) throws IOException {
+        return Trainee.builder()
+                .id(readLong(in))
+                .version(versioned ? in.readLong() : 0)
+                .user(readUser(in))
+                .dateOfBirth(readDate(in))
+                .address(readString(in))
+                .build();
+    }
+
+    static void writeTrainer(DataOutput out, Trainer trainer) throws IOException {
+        writeLong(out, trainer.getId());
+        out.writeLong(trainer.getVersion());
+        writeUser(out, trainer.getUser());
+        writeTrainingType(out, trainer.getSpecialization());
+    }
+
+    static Trainer readTrainer(DataInput in, boolean versioned, Resolver resolver) throws IOException {
+        return Trainer.builder()
+                .id(readLong(in))
+                .version(versioned ? in.readLong() : 0)
+                .user(readUser(in))
+                .specialization(readTrainingType(in, resolver))
+                .build();
+    }
+
+    static void writeTraining(DataOutput out, Training training) throws IOException {
+        writeTraining(out, TrainingRow.of(training));
+    }
+
+    static void writeTraining(DataOutput out, TrainingRow training) throws IOException {
+        writeLong(out, training.id());
+        writeLong(out, training.traineeId());
+        writeLong(out, training.trainerId());
+        out.writeBoolean(training.trainingTypeId() != null || training.trainingTypeName() != null);
+        if (training.trainingTypeId() != null || training.trainingTypeName() != null) {
+            writeLong(out, training.trainingTypeId());
+            writeString(out, training.trainingTypeName());
+        }
+        writeString(out, training.trainingName());
+        writeDate(out, training.trainingDate());
+        writeInt(out, training.trainingDuration());
+    }
+
+    static Training readTraining(DataInput in, Resolver resolver) throws IOException {
+        return Training.builder()
+                .id(readLong(in))
+                .trainee(resolver.trainee(readLong(in)))
+                .trainer(resolver.trainer(readLong(in)))
+                .trainingType(readTrainingType(in, resolver))
+                .trainingName(readString(in))
+                .trainingDate(readDate(in))
+                .trainingDuration(readInt(in))
+                .build();
+    }
+
+    static void writeTrainingImport(DataOutput out, TrainingImport progress) throws IOException {
+        out.writeBoolean(progress != null);
+        if (progress != null) {
+            writeString(out, progress.getSource());
+            out.writeLong(progress.getLastLine());
+            out.writeLong(progress.getImported());
+            out.writeLong(progress.getRejected());
+            out.writeLong(progress.getRejectsBytes());
+        }
+    }
+
+    static TrainingImport readTrainingImport(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return TrainingImport.builder()
+                .source(readString(in))
+                .lastLine(in.readLong())
+                .imported(in.readLong())
+                .rejected(in.readLong())
+                .rejectsBytes(in.readLong())
+                .build();
+    }
+
+    static void writeTrainingType(DataOutput out, TrainingType trainingType) throws IOException {
+        out.writeBoolean(trainingType != null);
+        if (trainingType != null) {
+            writeLong(out, trainingType.getId());
+            writeString(out, trainingType.getTrainingTypeName());
+        }
+    }
+
+    static TrainingType readTrainingType(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return TrainingType.builder()
+                .id(readLong(in))
+                .trainingTypeName(readString(in))
+                .build();
+    }
+
+    static Long readId(DataInput in) throws IOException {
+        return readLong(in);
+    }
+
+    static void writeAssignment(DataOutput out, Long traineeId, Long trainerId) throws IOException {
+        out.writeLong(traineeId);
+        out.writeLong(trainerId);
+    }
+
+    static void writeId(DataOutput out, Long id) throws IOException {
+        writeLong(out, id);
+    }
+
+    private static TrainingType readTrainingType(DataInput in, Resolver resolver) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return resolver.trainingType(readLong(in), readString(in));
+    }
+
+    private static void writeUser(DataOutput out, User user) throws IOException {
+        out.writeBoolean(user != null);
+        if (user != null) {
+            writeLong(out, user.getId());
+            writeString(out, user.getFirstName());
+            writeString(out, user.getLastName());
+            writeString(out, user.getUsername());
+            writeString(out, user.getPassword());
+            out.writeByte(user.getIsActive() == null ? -1 : user.getIsActive() ? 1 : 0);
+        }
+    }
+
+    private static User readUser(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        User.UserBuilder<?, ?> user = User.builder()
+                .id(readLong(in))
+                .firstName(readString(in))
+                .lastName(readString(in))
+                .username(readString(in))
+                .password(readString(in));
+        byte active = in.readByte();
+
+        return user.isActive(active < 0 ? null : active == 1).build();
+    }
+
+    private static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeInt(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInt(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeDate(DataOutput out, LocalDate value) throws IOException {
+        writeLong(out, value == null ? null : value.toEpochDay());
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        Long epochDay = readLong(in);
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gym.crm.storage.journal;
+
+import java.util.Locale;
+
+public enum FsyncPolicy {
+    ALWAYS, INTERVAL, NEVER;
+
+    public static FsyncPolicy of(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,40 @@
+package com.gym.crm.storage.journal;
+
+enum JournalOperation {
+    UNVERSIONED_TRAINEE_SAVED(1),
+    TRAINEE_DELETED(2),
+    UNVERSIONED_TRAINER_SAVED(3),
+    TRAINING_SAVED(4),
+    TRAINING_DELETED(5),
+    TRAINING_TYPE_SAVED(6),
+    TRAINER_ASSIGNED(7),
+    TRAINER_UNASSIGNED(8),
+    TRAINEE_SAVED(9),
+    TRAINER_SAVED(10),
+    TRAININGS_IMPORTED(11);
+
+    private static final JournalOperation[] BY_CODE = new JournalOperation[12];
+
+    static {
+        for (JournalOperation operation : values()) {
+            BY_CODE[operation.code] = operation;
+        }
+    }
+
+    private final byte code;
+
+    JournalOperation(int code) {
+        this.code = (byte) code;
+    }
+
+    byte getCode() {
+        return code;
+    }
+
+    static JournalOperation of(byte code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown journal operation: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,146 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.UserStorage;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Collection;
+
+class StorageApplier implements EntityCodec.Resolver {
+    private final TraineeStorage traineeStorage;
+    private final TrainerStorage trainerStorage;
+    private final TrainingStorage trainingStorage;
+    private final TrainingTypeStorage trainingTypeStorage;
+    private final UserStorage userStorage;
+    private final AssignmentStorage assignmentStorage;
+
+    StorageApplier(InMemoryStorage storage) {
+        this.traineeStorage = storage.getTraineeStorage();
+        this.trainerStorage = storage.getTrainerStorage();
+        this.trainingStorage = storage.getTrainingStorage();
+        this.trainingTypeStorage = storage.getTrainingTypeStorage();
+        this.userStorage = storage.getUserStorage();
+        this.assignmentStorage = storage.getAssignmentStorage();
+    }
+
+    void apply(JournalOperation operation, DataInput in) throws IOException {
+        switch (operation) {
+            case UNVERSIONED_TRAINEE_SAVED -> putTrainee(EntityCodec.readTrainee(in, false));
+            case TRAINEE_SAVED -> putTrainee(EntityCodec.readTrainee(in, true));
+            case TRAINEE_DELETED -> deleteTrainee(EntityCodec.readId(in));
+            case UNVERSIONED_TRAINER_SAVED -> putTrainer(EntityCodec.readTrainer(in, false, this));
+            case TRAINER_SAVED -> putTrainer(EntityCodec.readTrainer(in, true, this));
+            case TRAINING_SAVED -> putTraining(EntityCodec.readTraining(in, this));
+            case TRAINING_DELETED -> deleteTraining(EntityCodec.readId(in));
+            case TRAINING_TYPE_SAVED -> trainingTypeStorage.put(EntityCodec.readTrainingType(in));
+            case TRAINER_ASSIGNED -> assignmentStorage.assign(in.readLong(), in.readLong());
+            case TRAINER_UNASSIGNED -> assignmentStorage.unassign(in.readLong(), in.readLong());
+            case TRAININGS_IMPORTED -> importTrainings(in);
+        }
+    }
+
+    void loadTrainingTypes(Collection<TrainingType> trainingTypes) {
+        trainingTypeStorage.load(trainingTypes);
+    }
+
+    void advanceNextIds(long traineeId, long trainerId, long trainingId) {
+        traineeStorage.advanceNextId(traineeId);
+        trainerStorage.advanceNextId(trainerId);
+        trainingStorage.advanceNextId(trainingId);
+    }
+
+    void putTrainee(Trainee trainee) {
+        Trainee previous = traineeStorage.getTrainees().get(trainee.getId());
+        if (previous != null && previous.getVersion() > trainee.getVersion()) {
+            return;
+        }
+
+        traineeStorage.getTrainees().put(trainee.getId(), trainee);
+        userStorage.replace(previous != null ? previous.getUser() : null, trainee.getUser());
+        traineeStorage.advanceNextId(trainee.getId() + 1);
+    }
+
+    void putTrainer(Trainer trainer) {
+        Trainer previous = trainerStorage.getTrainers().get(trainer.getId());
+        if (previous != null && previous.getVersion() > trainer.getVersion()) {
+            return;
+        }
+
+        trainerStorage.getTrainers().put(trainer.getId(), trainer);
+        userStorage.replace(previous != null ? previous.getUser() : null, trainer.getUser());
+        assignmentStorage.trainerSaved(trainer);
+        trainerStorage.advanceNextId(trainer.getId() + 1);
+    }
+
+    void assign(long traineeId, long trainerId) {
+        assignmentStorage.assign(traineeId, trainerId);
+    }
+
+    void putTraining(Training training) {
+        trainingStorage.put(training);
+        trainingStorage.advanceNextId(training.getId() + 1);
+    }
+
+    void putTrainingImport(TrainingImport progress) {
+        trainingStorage.putImport(progress);
+    }
+
+    @Override
+    public Trainee trainee(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Trainee trainee = traineeStorage.getTrainees().get(id);
+        return trainee != null ? trainee : Trainee.builder().id(id).build();
+    }
+
+    @Override
+    public Trainer trainer(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Trainer trainer = trainerStorage.getTrainers().get(id);
+        return trainer != null ? trainer : Trainer.builder().id(id).build();
+    }
+
+    @Override
+    public TrainingType trainingType(Long id, String name) {
+        return trainingTypeStorage.findById(id)
+                .orElseGet(() -> TrainingType.builder().id(id).trainingTypeName(name).build());
+    }
+
+    private void deleteTrainee(Long id) {
+        Trainee removed = traineeStorage.getTrainees().remove(id);
+        if (removed != null) {
+            userStorage.unregister(removed.getUser());
+        }
+        trainingStorage.removeByTrainee(id);
+        assignmentStorage.removeTrainee(id);
+    }
+
+    private void deleteTraining(Long id) {
+        trainingStorage.remove(id);
+    }
+
+    private void importTrainings(DataInput in) throws IOException {
+        TrainingImport progress = EntityCodec.readTrainingImport(in);
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            putTraining(EntityCodec.readTraining(in, this));
+        }
+        if (progress != null) {
+            putTrainingImport(progress);
+        }
+    }
+}
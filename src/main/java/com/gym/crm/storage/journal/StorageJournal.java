@@ -0,0 +1,53 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+
+import java.util.List;
+
+public interface StorageJournal {
+    StorageJournal NOOP = new StorageJournal() {
+    };
+
+    default long traineeSaved(Trainee trainee) {
+        return 0;
+    }
+
+    default long traineeDeleted(Long id) {
+        return 0;
+    }
+
+    default long trainerSaved(Trainer trainer) {
+        return 0;
+    }
+
+    default long trainingSaved(Training training) {
+        return 0;
+    }
+
+    default long trainingDeleted(Long id) {
+        return 0;
+    }
+
+    default long trainingsImported(List<Training> trainings, TrainingImport progress) {
+        return 0;
+    }
+
+    default long trainingTypeSaved(TrainingType trainingType) {
+        return 0;
+    }
+
+    default long trainerAssigned(Long traineeId, Long trainerId) {
+        return 0;
+    }
+
+    default long trainerUnassigned(Long traineeId, Long trainerId) {
+        return 0;
+    }
+
+    default void awaitDurable(long sequence) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingRow;
+import com.gym.crm.storage.TrainingStorage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+final class StorageSnapshot {
+    static final String FILE_PREFIX = "snapshot-";
+    static final String FILE_SUFFIX = ".bin";
+    private static final int MAGIC = 0x47594D53;
+    private static final int VERSION = 4;
+    private static final int FIRST_VERSION_WITH_ASSIGNMENTS = 2;
+    private static final int FIRST_VERSION_WITH_ENTITY_VERSIONS = 3;
+    private static final int FIRST_VERSION_WITH_TRAINING_IMPORTS = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private StorageSnapshot() {
+    }
+
+    static Path snapshotPath(Path directory, long segment) {
+        return directory.resolve(FILE_PREFIX + "%020d".formatted(segment) + FILE_SUFFIX);
+    }
+
+    static long write(Path file, InMemoryStorage storage) throws IOException {
+        long entries = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(storage.getTraineeStorage().peekNextId());
+            out.writeLong(storage.getTrainerStorage().peekNextId());
+            out.writeLong(storage.getTrainingStorage().peekNextId());
+
+            for (TrainingType trainingType : storage.getTrainingTypeStorage().getCatalog().getAll()) {
+                out.writeBoolean(true);
+                EntityCodec.writeTrainingType(out, trainingType);
+                entries++;
+            }
+            out.writeBoolean(false);
+
+            for (Trainee trainee : storage.getTraineeStorage().getTrainees()) {
+                out.writeBoolean(true);
+                EntityCodec.writeTrainee(out, trainee);
+                entries++;
+            }
+            out.writeBoolean(false);
+
+            for (Trainer trainer : storage.getTrainerStorage().getTrainers()) {
+                out.writeBoolean(true);
+                EntityCodec.writeTrainer(out, trainer);
+                entries++;
+            }
+            out.writeBoolean(false);
+
+            TrainingStorage trainingStorage = storage.getTrainingStorage();
+            PrimitiveIterator.OfLong trainingIds = trainingStorage.ids().iterator();
+            while (trainingIds.hasNext()) {
+                TrainingRow training = trainingStorage.find(trainingIds.nextLong());
+                if (training != null) {
+                    out.writeBoolean(true);
+                    EntityCodec.writeTraining(out, training);
+                    entries++;
+                }
+            }
+            out.writeBoolean(false);
+
+            AssignmentStorage assignmentStorage = storage.getAssignmentStorage();
+            for (Trainee trainee : storage.getTraineeStorage().getTrainees()) {
+                for (long trainerId : assignmentStorage.trainersOf(trainee.getId())) {
+                    out.writeBoolean(true);
+                    EntityCodec.writeAssignment(out, trainee.getId(), trainerId);
+                    entries++;
+                }
+            }
+            out.writeBoolean(false);
+
+            for (TrainingImport progress : trainingStorage.getImports()) {
+                out.writeBoolean(true);
+                EntityCodec.writeTrainingImport(out, progress);
+                entries++;
+            }
+            out.writeBoolean(false);
+
+            out.flush();
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        }
+
+        return entries;
+    }
+
+    static long read(Path file, StorageApplier applier) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + file);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            verifyChecksum(file, buffer);
+
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer.limit(buffer.limit() - Integer.BYTES)));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Unsupported snapshot format: " + file);
+            }
+            int version = in.readInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported snapshot format: " + file);
+            }
+
+            long nextTraineeId = in.readLong();
+            long nextTrainerId = in.readLong();
+            long nextTrainingId = in.readLong();
+            long entries = 0;
+            boolean versioned = version >= FIRST_VERSION_WITH_ENTITY_VERSIONS;
+
+            List<TrainingType> trainingTypes = new ArrayList<>();
+            while (in.readBoolean()) {
+                trainingTypes.add(EntityCodec.readTrainingType(in));
+            }
+            applier.loadTrainingTypes(trainingTypes);
+            entries += trainingTypes.size();
+
+            while (in.readBoolean()) {
+                applier.putTrainee(EntityCodec.readTrainee(in, versioned));
+                entries++;
+            }
+            while (in.readBoolean()) {
+                applier.putTrainer(EntityCodec.readTrainer(in, versioned, applier));
+                entries++;
+            }
+            while (in.readBoolean()) {
+                applier.putTraining(EntityCodec.readTraining(in, applier));
+                entries++;
+            }
+            if (version >= FIRST_VERSION_WITH_ASSIGNMENTS) {
+                while (in.readBoolean()) {
+                    applier.assign(in.readLong(), in.readLong());
+                    entries++;
+                }
+            }
+            if (version >= FIRST_VERSION_WITH_TRAINING_IMPORTS) {
+                while (in.readBoolean()) {
+                    applier.putTrainingImport(EntityCodec.readTrainingImport(in));
+                    entries++;
+                }
+            }
+
+            applier.advanceNextIds(nextTraineeId, nextTrainerId, nextTrainingId);
+
+            return entries;
+        }
+    }
+
+    private static void verifyChecksum(Path file, ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < Integer.BYTES * 2) {
+            throw new IOException("Truncated snapshot: " + file);
+        }
+
+        int contentLength = buffer.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, contentLength));
+
+        if ((int) crc.getValue() != buffer.getInt(contentLength)) {
+            throw new IOException("Snapshot checksum mismatch: " + file);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
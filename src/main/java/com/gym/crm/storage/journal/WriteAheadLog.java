@@ -0,0 +1,312 @@
+package com.gym.crm.storage.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+class WriteAheadLog implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    static final String FILE_PREFIX = "wal-";
+    static final String FILE_SUFFIX = ".log";
+    private static final int FRAME_OVERHEAD = Integer.BYTES * 2;
+
+    @FunctionalInterface
+    interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void handle(JournalOperation operation, DataInput in) throws IOException;
+    }
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final long groupCommitMillis;
+    private final Object ioLock = new Object();
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final Condition bufferChanged = bufferLock.newCondition();
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(8192);
+    private long appendedSequence;
+    private long writtenSequence;
+    private IOException failure;
+    private boolean closed;
+    private FileChannel channel;
+    private long segment;
+    private Thread flusher;
+
+    WriteAheadLog(Path directory, FsyncPolicy fsyncPolicy, long groupCommitMillis) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.groupCommitMillis = Math.max(1, groupCommitMillis);
+    }
+
+    void open(long segment) throws IOException {
+        synchronized (ioLock) {
+            this.channel = openSegment(segment);
+            this.segment = segment;
+        }
+
+        flusher = new Thread(this::runFlusher, "storage-wal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        log.info("Opened write-ahead log segment {} with fsync policy {}", segment, fsyncPolicy);
+    }
+
+    long getSegment() {
+        synchronized (ioLock) {
+            return segment;
+        }
+    }
+
+    long append(JournalOperation operation, RecordWriter writer) throws IOException {
+        byte[] record = encode(operation, writer);
+
+        bufferLock.lock();
+        try {
+            if (closed) {
+                throw new IOException("Write-ahead log is closed");
+            }
+            if (failure != null) {
+                throw new IOException("Write-ahead log failed", failure);
+            }
+
+            pending.write(record, 0, record.length);
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                bufferChanged.signalAll();
+            }
+
+            return ++appendedSequence;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    void awaitDurable(long sequence) throws IOException {
+        if (fsyncPolicy != FsyncPolicy.ALWAYS) {
+            return;
+        }
+
+        bufferLock.lock();
+        try {
+            while (writtenSequence < sequence) {
+                if (failure != null) {
+                    throw new IOException("Write-ahead log failed", failure);
+                }
+                if (closed) {
+                    return;
+                }
+                try {
+                    bufferChanged.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for write-ahead log commit");
+                }
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    long rotate() throws IOException {
+        synchronized (ioLock) {
+            flush();
+            channel.force(true);
+            channel.close();
+
+            segment++;
+            channel = openSegment(segment);
+
+            log.debug("Rotated write-ahead log to segment {}", segment);
+
+            return segment;
+        }
+    }
+
+    void flush() throws IOException {
+        synchronized (ioLock) {
+            byte[] batch;
+            long sequence;
+
+            bufferLock.lock();
+            try {
+                if (pending.size() == 0) {
+                    return;
+                }
+                batch = pending.toByteArray();
+                pending = new ByteArrayOutputStream(Math.max(8192, batch.length));
+                sequence = appendedSequence;
+            } finally {
+                bufferLock.unlock();
+            }
+
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(batch);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (fsyncPolicy != FsyncPolicy.NEVER) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                bufferLock.lock();
+                try {
+                    failure = e;
+                    bufferChanged.signalAll();
+                } finally {
+                    bufferLock.unlock();
+                }
+                throw e;
+            }
+
+            bufferLock.lock();
+            try {
+                writtenSequence = sequence;
+                bufferChanged.signalAll();
+            } finally {
+                bufferLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        bufferLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            bufferChanged.signalAll();
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (ioLock) {
+            if (channel != null) {
+                flush();
+                channel.force(true);
+                channel.close();
+            }
+        }
+
+        log.info("Closed write-ahead log segment {}", segment);
+    }
+
+    static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(FILE_PREFIX + "%020d".formatted(segment) + FILE_SUFFIX);
+    }
+
+    static int replay(Path file, RecordHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32 crc = new CRC32();
+            int records = 0;
+
+            while (buffer.remaining() >= FRAME_OVERHEAD) {
+                int position = buffer.position();
+                int length = buffer.getInt();
+                if (length <= 0 || buffer.remaining() < length + Integer.BYTES) {
+                    log.warn("Truncated record at offset {} of {}, ignoring log tail", position, file);
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt()) {
+                    log.warn("Corrupted record at offset {} of {}, ignoring log tail", position, file);
+                    break;
+                }
+
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 1, length - 1));
+                handler.handle(JournalOperation.of(payload[0]), in);
+                records++;
+            }
+
+            return records;
+        }
+    }
+
+    private void runFlusher() {
+        while (true) {
+            bufferLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (fsyncPolicy != FsyncPolicy.ALWAYS || pending.size() == 0) {
+                    bufferChanged.await(groupCommitMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                bufferLock.unlock();
+            }
+
+            try {
+                flush();
+            } catch (IOException e) {
+                log.error("Failed to flush write-ahead log segment {}", segment, e);
+                return;
+            }
+        }
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(segmentPath(directory, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static byte[] encode(JournalOperation operation, RecordWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(0);
+        out.writeByte(operation.getCode());
+        writer.write(out);
+        out.writeInt(0);
+
+        byte[] record = bytes.toByteArray();
+        int length = record.length - FRAME_OVERHEAD;
+        CRC32 crc = new CRC32();
+        crc.update(record, Integer.BYTES, length);
+
+        ByteBuffer frame = ByteBuffer.wrap(record);
+        frame.putInt(0, length);
+        frame.putInt(record.length - Integer.BYTES, (int) crc.getValue());
+
+        return record;
+    }
+}
@@ -0,0 +1,67 @@
+package com.gym.crm.util;
+
+import java.security.SecureRandom;
+
+public final class PasswordGenerator {
+    static final int PASSWORD_LENGTH = 10;
+
+    private static final char[] UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] LOWER = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] ALL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final int RANDOM_BUFFER_SIZE = 256;
+
+    private final SecureRandom random;
+    private final byte[] randomBytes = new byte[RANDOM_BUFFER_SIZE];
+    private final char[] password = new char[PASSWORD_LENGTH];
+    private int position = RANDOM_BUFFER_SIZE;
+
+    public PasswordGenerator() {
+        this(new SecureRandom());
+    }
+
+    PasswordGenerator(SecureRandom random) {
+        this.random = random;
+    }
+
+    public String next() {
+        password[0] = pick(UPPER);
+        password[1] = pick(LOWER);
+        password[2] = pick(DIGITS);
+        for (int i = 3; i < PASSWORD_LENGTH; i++) {
+            password[i] = pick(ALL);
+        }
+
+        for (int i = PASSWORD_LENGTH - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            char swapped = password[i];
+            password[i] = password[j];
+            password[j] = swapped;
+        }
+
+        return new String(password);
+    }
+
+    private char pick(char[] characters) {
+        return characters[nextInt(characters.length)];
+    }
+
+    private int nextInt(int bound) {
+        int limit = RANDOM_BUFFER_SIZE - RANDOM_BUFFER_SIZE % bound;
+        int value;
+        do {
+            value = nextByte();
+        } while (value >= limit);
+
+        return value % bound;
+    }
+
+    private int nextByte() {
+        if (position == RANDOM_BUFFER_SIZE) {
+            random.nextBytes(randomBytes);
+            position = 0;
+        }
+
+        return randomBytes[position++] & 0xFF;
+    }
+}
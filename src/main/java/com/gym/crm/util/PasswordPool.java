@@ -0,0 +1,124 @@
+package com.gym.crm.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class PasswordPool {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordPool.class);
+
+    private final ReentrantLock fallbackLock = new ReentrantLock();
+    private final PasswordGenerator fallbackGenerator = new PasswordGenerator();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private int size;
+    private int refillThreshold;
+    private ArrayBlockingQueue<String> passwords;
+    private Thread refillThread;
+    private volatile boolean running;
+
+    @Value("${credentials.password-pool.size}")
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (size <= 0) {
+            logger.info("Password pool disabled, generating passwords on the calling thread");
+            return;
+        }
+
+        passwords = new ArrayBlockingQueue<>(size);
+        refillThreshold = size / 2;
+        running = true;
+        refillThread = Thread.ofPlatform()
+                .name("password-pool-refill")
+                .daemon()
+                .start(this::refill);
+
+        logger.info("Password pool started with {} passwords, refilled below {}", size, refillThreshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (refillThread != null) {
+            LockSupport.unpark(refillThread);
+        }
+    }
+
+    public String take() {
+        String password = passwords == null ? null : passwords.poll();
+        if (password == null) {
+            return generateOnCallingThread();
+        }
+
+        requestRefillIfLow();
+        return password;
+    }
+
+    public List<String> take(int count) {
+        List<String> taken = new ArrayList<>(count);
+        if (passwords != null) {
+            passwords.drainTo(taken, count);
+            requestRefillIfLow();
+        }
+
+        while (taken.size() < count) {
+            taken.add(generateOnCallingThread());
+        }
+
+        return taken;
+    }
+
+    public int available() {
+        return passwords == null ? 0 : passwords.size();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    private void refill() {
+        PasswordGenerator generator = new PasswordGenerator();
+
+        while (running) {
+            while (running && passwords.remainingCapacity() > 0) {
+                passwords.offer(generator.next());
+            }
+            LockSupport.park(this);
+        }
+    }
+
+    private void requestRefillIfLow() {
+        if (passwords.size() <= refillThreshold) {
+            LockSupport.unpark(refillThread);
+        }
+    }
+
+    private String generateOnCallingThread() {
+        fallbacks.increment();
+        if (passwords != null) {
+            LockSupport.unpark(refillThread);
+        }
+
+        fallbackLock.lock();
+        try {
+            return fallbackGenerator.next();
+        } finally {
+            fallbackLock.unlock();
+        }
+    }
+}
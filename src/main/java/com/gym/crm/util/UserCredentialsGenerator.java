@@ -1,78 +1,99 @@
 package com.gym.crm.util;
 
+import com.gym.crm.model.User;
+import com.gym.crm.storage.UserStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Component
 public class UserCredentialsGenerator {
     private static final Logger logger = LoggerFactory.getLogger(UserCredentialsGenerator.class);
 
-    private static final String UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String LOWER = "abcdefghijklmnopqrstuvwxyz";
-    private static final String DIGITS = "0123456789";
-    private static final int PASSWORD_LENGTH = 10;
+    private UsernameAllocator usernameAllocator;
+    private PasswordPool passwordPool;
 
-    private final SecureRandom random = new SecureRandom();
+    @Autowired
+    public void setUsernameAllocator(UsernameAllocator usernameAllocator) {
+        this.usernameAllocator = usernameAllocator;
+    }
+
+    @Autowired
+    public void setPasswordPool(PasswordPool passwordPool) {
+        this.passwordPool = passwordPool;
+    }
 
     public String generateUsername(String firstName, String lastName, List<String> existingUsernames) {
         String baseUsername = buildBaseUsername(firstName, lastName);
-        List<String> normalizedUsernames = normalizeUsernames(existingUsernames);
-        return findUniqueUsername(baseUsername, normalizedUsernames);
+        Set<String> normalizedUsernames = normalizeUsernames(existingUsernames);
+        return findUniqueUsername(baseUsername, username -> !normalizedUsernames.contains(UserStorage.normalize(username)));
     }
 
-    public String generatePassword() {
-        StringBuilder rawPassword = generateRawPassword();
-        List<Character> characters = rawPassword.chars()
-                .mapToObj(c -> (char) c)
-                .collect(Collectors.toList());
+    public String allocateUsername(String firstName, String lastName, Predicate<String> reserveUsername) {
+        String baseUsername = buildBaseUsername(firstName, lastName);
+        String username = usernameAllocator.allocate(baseUsername, reserveUsername);
 
-        Collections.shuffle(characters, random);
+        if (!baseUsername.equalsIgnoreCase(username)) {
+            logger.warn("User with similar username exists ({}), adding suffix", username);
+        }
 
-        return characters.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining());
+        return username;
     }
 
-    private StringBuilder generateRawPassword() {
-        StringBuilder password = new StringBuilder(PASSWORD_LENGTH);
-        String all = UPPER + LOWER + DIGITS;
+    public List<String> allocateUsernames(List<User> users, Function<List<String>, Set<String>> reserveUsernames,
+                                          Predicate<String> reserveUsername) {
+        List<String> baseUsernames = users.stream()
+                .map(user -> buildBaseUsername(user.getFirstName(), user.getLastName()))
+                .toList();
+        List<String> candidates = baseUsernames.stream()
+                .map(baseUsername -> usernameAllocator.allocate(baseUsername, candidate -> true))
+                .toList();
+        Set<String> reserved = reserveUsernames.apply(candidates);
+
+        List<String> usernames = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            String candidate = candidates.get(i);
+            usernames.add(reserved.contains(candidate)
+                    ? candidate
+                    : usernameAllocator.allocate(baseUsernames.get(i), reserveUsername));
+        }
 
-        password.append(randomChar(UPPER));
-        password.append(randomChar(LOWER));
-        password.append(randomChar(DIGITS));
+        logger.debug("Allocated {} usernames, {} on the first candidate", usernames.size(), reserved.size());
 
-        for (int i = 3; i < PASSWORD_LENGTH; i++) {
-            password.append(randomChar(all));
-        }
+        return usernames;
+    }
 
-        return password;
+    public String generatePassword() {
+        return passwordPool.take();
     }
 
-    private char randomChar(String characters) {
-        return characters.charAt(random.nextInt(characters.length()));
+    public List<String> generatePasswords(int count) {
+        return passwordPool.take(count);
     }
 
     private String buildBaseUsername(String firstName, String lastName) {
         return firstName + "." + lastName;
     }
 
-    private List<String> normalizeUsernames(List<String> usernames) {
+    private Set<String> normalizeUsernames(List<String> usernames) {
         return usernames.stream()
-                .map(String::toLowerCase)
-                .toList();
+                .map(UserStorage::normalize)
+                .collect(Collectors.toSet());
     }
 
-    private String findUniqueUsername(String baseUsername, List<String> normalizedUsernames) {
+    private String findUniqueUsername(String baseUsername, Predicate<String> reserveUsername) {
         String username = baseUsername;
         int counter = 1;
 
-        while (normalizedUsernames.contains(username.toLowerCase())) {
+        while (!reserveUsername.test(username)) {
             username = baseUsername + counter;
             counter++;
         }
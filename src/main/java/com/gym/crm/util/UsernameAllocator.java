@@ -0,0 +1,79 @@
+package com.gym.crm.util;
+
+import com.gym.crm.dao.UserDAO;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+@Component
+public class UsernameAllocator {
+    private static final Logger logger = LoggerFactory.getLogger(UsernameAllocator.class);
+
+    private static final int MAX_SUFFIX_DIGITS = 9;
+
+    private final Map<String, AtomicInteger> nextSuffixes = new ConcurrentHashMap<>();
+
+    private UserDAO userDAO;
+
+    @Autowired
+    public void setUserDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild(userDAO.findAllUsernames());
+    }
+
+    public String allocate(String baseUsername, Predicate<String> reserveUsername) {
+        AtomicInteger nextSuffix = nextSuffixes.computeIfAbsent(normalize(baseUsername), key -> new AtomicInteger());
+
+        while (true) {
+            int suffix = nextSuffix.getAndIncrement();
+            String candidate = suffix == 0 ? baseUsername : baseUsername + suffix;
+
+            if (reserveUsername.test(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    public void rebuild(Collection<String> usernames) {
+        nextSuffixes.clear();
+        usernames.forEach(this::record);
+
+        logger.info("Username allocator rebuilt from {} usernames, {} base names tracked", usernames.size(), nextSuffixes.size());
+    }
+
+    public void record(String username) {
+        int end = username.length();
+        while (end > 0 && Character.isDigit(username.charAt(end - 1))) {
+            end--;
+        }
+
+        String digits = username.substring(end);
+        if (digits.isEmpty()) {
+            advance(username, 1);
+        } else if (digits.length() <= MAX_SUFFIX_DIGITS) {
+            advance(username.substring(0, end), Integer.parseInt(digits) + 1);
+        }
+    }
+
+    private void advance(String baseUsername, int nextSuffix) {
+        nextSuffixes.computeIfAbsent(normalize(baseUsername), key -> new AtomicInteger())
+                .accumulateAndGet(nextSuffix, Math::max);
+    }
+
+    private String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
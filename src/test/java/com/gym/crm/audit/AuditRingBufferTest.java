@@ -0,0 +1,48 @@
+package com.gym.crm.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+
+    @Test
+    void tryPublish_ShouldRejectEventsOnceCapacityIsReached() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+
+        for (long id = 1; id <= 4; id++) {
+            assertTrue(buffer.tryPublish(AuditEntity.TRAINEE, id, AuditOperation.CREATE, "system", id));
+        }
+
+        assertFalse(buffer.tryPublish(AuditEntity.TRAINEE, 5L, AuditOperation.CREATE, "system", 5));
+    }
+
+    @Test
+    void drain_ShouldReleaseSlotsInPublicationOrder() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            buffer.tryPublish(AuditEntity.TRAINING, id, AuditOperation.DELETE, "system", id);
+        }
+
+        assertEquals(3, buffer.drain((entity, id, operation, actor, timestamp) -> ids.add(id), 3));
+        assertTrue(buffer.tryPublish(AuditEntity.TRAINING, 5L, AuditOperation.DELETE, "system", 5));
+        assertTrue(buffer.tryPublish(AuditEntity.TRAINING, 6L, AuditOperation.DELETE, "system", 6));
+        assertTrue(buffer.tryPublish(AuditEntity.TRAINING, 7L, AuditOperation.DELETE, "system", 7));
+        assertEquals(4, buffer.drain((entity, id, operation, actor, timestamp) -> ids.add(id), 10));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), ids);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void constructor_ShouldRequirePowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer(100));
+    }
+}
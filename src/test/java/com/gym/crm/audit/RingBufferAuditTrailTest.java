@@ -0,0 +1,175 @@
+package com.gym.crm.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferAuditTrailTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void record_ShouldWriteJsonLinesWithActor() throws IOException {
+        RingBufferAuditTrail auditTrail = newAuditTrail(1024, AuditOverflowPolicy.BLOCK, 1024 * 1024, 5);
+        auditTrail.start();
+
+        AuditActor.set("john.\"doe\"");
+        try {
+            auditTrail.record(AuditEntity.TRAINEE, 7L, AuditOperation.CREATE);
+        } finally {
+            AuditActor.clear();
+        }
+        auditTrail.record(AuditEntity.TRAINING, 9L, AuditOperation.DELETE);
+        auditTrail.close();
+
+        List<String> lines = readLines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches(
+                "\\{\"timestamp\":\"[^\"]+Z\",\"entity\":\"TRAINEE\",\"id\":7,\"operation\":\"CREATE\",\"actor\":\"john\\.\\\\\"doe\\\\\"\"}"),
+                lines.get(0));
+        assertTrue(lines.get(1).endsWith("\"entity\":\"TRAINING\",\"id\":9,\"operation\":\"DELETE\",\"actor\":\"system\"}"));
+    }
+
+    @Test
+    void record_ShouldDropWhenBufferIsFullAndPolicyIsDrop() throws IOException {
+        RingBufferAuditTrail auditTrail = newAuditTrail(4, AuditOverflowPolicy.DROP, 1024 * 1024, 5);
+
+        for (long id = 1; id <= 10; id++) {
+            auditTrail.record(AuditEntity.TRAINER, id, AuditOperation.UPDATE);
+        }
+
+        assertEquals(6, auditTrail.getDropped());
+        auditTrail.start();
+        auditTrail.close();
+        assertEquals(4, readLines().size());
+    }
+
+    @Test
+    void record_ShouldNotLoseEventsFromConcurrentWritersWhenPolicyIsBlock() throws Exception {
+        RingBufferAuditTrail auditTrail = newAuditTrail(16, AuditOverflowPolicy.BLOCK, 1024 * 1024, 5);
+        auditTrail.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (long id = 0; id < 500; id++) {
+                        auditTrail.record(AuditEntity.TRAINING, id, AuditOperation.CREATE);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        auditTrail.close();
+
+        assertEquals(0, auditTrail.getDropped());
+        assertEquals(2000, auditTrail.getWritten());
+        assertEquals(2000, readLines().size());
+    }
+
+    @Test
+    void record_ShouldRollFilesAndKeepMostRecent() throws IOException {
+        RingBufferAuditTrail auditTrail = newAuditTrail(8, AuditOverflowPolicy.BLOCK, 200, 3);
+        auditTrail.start();
+
+        for (long id = 0; id < 100; id++) {
+            auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.UPDATE);
+        }
+        auditTrail.close();
+
+        List<Path> files = auditFiles();
+        assertEquals(3, files.size());
+        assertTrue(readLines().get(readLines().size() - 1).contains("\"id\":99,"));
+    }
+
+    @Test
+    void record_ShouldResumeWritingAfterSegmentCannotBeOpened() throws Exception {
+        Path auditDirectory = directory.resolve("audit");
+        RingBufferAuditTrail auditTrail = new RingBufferAuditTrail(auditDirectory, 8, 4, AuditOverflowPolicy.BLOCK, 1, 5, 1);
+        auditTrail.start();
+        auditTrail.record(AuditEntity.TRAINEE, 1L, AuditOperation.CREATE);
+        awaitCondition(() -> auditTrail.getWritten() == 1);
+
+        try (Stream<Path> files = Files.list(auditDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(auditDirectory);
+        auditTrail.record(AuditEntity.TRAINEE, 2L, AuditOperation.UPDATE);
+        awaitCondition(() -> auditTrail.getWritten() == 2);
+        Files.createDirectories(auditDirectory);
+
+        long id = 3;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lastId(auditDirectory) == null && System.nanoTime() < deadline) {
+            auditTrail.record(AuditEntity.TRAINEE, id++, AuditOperation.UPDATE);
+            Thread.sleep(10);
+        }
+        auditTrail.record(AuditEntity.TRAINEE, id, AuditOperation.DELETE);
+        auditTrail.close();
+
+        assertEquals(id, lastId(auditDirectory));
+    }
+
+    private static Long lastId(Path auditDirectory) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(auditDirectory)) {
+            for (Path file : files.sorted().toList()) {
+                lines.addAll(Files.readAllLines(file));
+            }
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        String last = lines.get(lines.size() - 1);
+        return Long.parseLong(last.replaceAll(".*\"id\":(\\d+),.*", "$1"));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 s");
+            Thread.sleep(1);
+        }
+    }
+
+    private RingBufferAuditTrail newAuditTrail(int bufferSize, AuditOverflowPolicy policy, long maxFileBytes, int maxFiles) {
+        return new RingBufferAuditTrail(directory, bufferSize, 4, policy, maxFileBytes, maxFiles, 1);
+    }
+
+    private List<String> readLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path file : auditFiles()) {
+            lines.addAll(Files.readAllLines(file));
+        }
+        return lines;
+    }
+
+    private List<Path> auditFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(RingBufferAuditTrail.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Training;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTraineeDAOTest {
+    private static final Long TRAINEE_ID = 1L;
+
+    private final Trainee trainee = Trainee.builder().id(TRAINEE_ID).address("123 Main St").build();
+    private final EntityCache<Trainee> cache = new EntityCache<>("trainee", 10, Duration.ZERO);
+    private final EntityCache<Training> trainingCache = new EntityCache<>("training", 10, Duration.ZERO);
+
+    @Mock
+    private TraineeDAO delegate;
+
+    private CachingTraineeDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new CachingTraineeDAO(delegate, cache, trainingCache);
+    }
+
+    @Test
+    void findById_ShouldHitDelegateOnlyOnce() {
+        when(delegate.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+
+        assertSame(trainee, dao.findById(TRAINEE_ID).orElseThrow());
+        assertSame(trainee, dao.findById(TRAINEE_ID).orElseThrow());
+
+        verify(delegate).findById(TRAINEE_ID);
+    }
+
+    @Test
+    void findById_WithProfilePlan_ShouldBypassCache() {
+        Trainee profile = trainee.toBuilder().build();
+        when(delegate.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(delegate.findById(TRAINEE_ID, FetchPlan.PROFILE)).thenReturn(Optional.of(profile));
+
+        assertSame(trainee, dao.findById(TRAINEE_ID, FetchPlan.DEFAULT).orElseThrow());
+        assertSame(profile, dao.findById(TRAINEE_ID, FetchPlan.PROFILE).orElseThrow());
+        assertSame(trainee, dao.findById(TRAINEE_ID).orElseThrow());
+
+        verify(delegate).findById(TRAINEE_ID);
+        verify(delegate).findById(TRAINEE_ID, FetchPlan.PROFILE);
+    }
+
+    @Test
+    void update_ShouldInvalidateCachedTrainee() {
+        Trainee updated = trainee.toBuilder().address("456 Oak Ave").build();
+        when(delegate.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee), Optional.of(updated));
+        when(delegate.update(any(Long.class), any())).thenReturn(Optional.of(updated));
+        dao.findById(TRAINEE_ID);
+
+        dao.update(TRAINEE_ID, UnaryOperator.identity());
+
+        assertEquals("456 Oak Ave", dao.findById(TRAINEE_ID).orElseThrow().getAddress());
+        verify(delegate, times(2)).findById(TRAINEE_ID);
+    }
+
+    @Test
+    void update_ShouldInvalidateEvenWhenDelegateFails() {
+        when(delegate.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(delegate.update(trainee)).thenThrow(new IllegalStateException("conflict"));
+        dao.findById(TRAINEE_ID);
+
+        assertThrows(IllegalStateException.class, () -> dao.update(trainee));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void delete_ShouldInvalidateTraineeAndItsTrainings() {
+        Training own = Training.builder().id(10L).trainee(trainee).build();
+        Training other = Training.builder().id(11L).trainee(Trainee.builder().id(2L).build()).build();
+        trainingCache.get(10L, id -> Optional.of(own));
+        trainingCache.get(11L, id -> Optional.of(other));
+        when(delegate.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(delegate.delete(TRAINEE_ID)).thenReturn(true);
+        dao.findById(TRAINEE_ID);
+
+        dao.delete(TRAINEE_ID);
+
+        assertEquals(0, cache.size());
+        assertEquals(1, trainingCache.size());
+        assertSame(other, trainingCache.get(11L, id -> Optional.empty()).orElseThrow());
+    }
+}
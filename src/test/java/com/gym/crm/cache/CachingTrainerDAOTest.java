@@ -0,0 +1,60 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.model.Trainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTrainerDAOTest {
+    private static final Long TRAINER_ID = 1L;
+
+    private final Trainer trainer = Trainer.builder().id(TRAINER_ID).build();
+    private final EntityCache<Trainer> cache = new EntityCache<>("trainer", 10, Duration.ZERO);
+
+    @Mock
+    private TrainerDAO delegate;
+
+    private CachingTrainerDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new CachingTrainerDAO(delegate, cache);
+    }
+
+    @Test
+    void update_ShouldReloadTrainerOnNextLookup() {
+        when(delegate.findById(TRAINER_ID)).thenReturn(Optional.of(trainer));
+        when(delegate.update(trainer)).thenReturn(trainer);
+        dao.findById(TRAINER_ID);
+        dao.findById(TRAINER_ID);
+
+        dao.update(trainer);
+        dao.findById(TRAINER_ID);
+
+        verify(delegate, times(2)).findById(TRAINER_ID);
+    }
+
+    @Test
+    void findAll_ShouldBypassCache() {
+        when(delegate.findAll()).thenReturn(List.of(trainer));
+
+        assertEquals(List.of(trainer), dao.findAll());
+
+        verify(delegate, never()).findById(TRAINER_ID);
+        assertEquals(0, cache.size());
+    }
+}
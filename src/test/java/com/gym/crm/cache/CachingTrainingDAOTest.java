@@ -0,0 +1,47 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.model.Training;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTrainingDAOTest {
+    private static final Long TRAINING_ID = 1L;
+
+    private final EntityCache<Training> cache = new EntityCache<>("training", 10, Duration.ZERO);
+
+    @Mock
+    private TrainingDAO delegate;
+
+    private CachingTrainingDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        dao = new CachingTrainingDAO(delegate, cache);
+    }
+
+    @Test
+    void delete_ShouldStopServingDeletedTraining() {
+        when(delegate.findById(TRAINING_ID))
+                .thenReturn(Optional.of(Training.builder().id(TRAINING_ID).build()), Optional.empty());
+        when(delegate.delete(TRAINING_ID)).thenReturn(true);
+        dao.findById(TRAINING_ID);
+
+        assertTrue(dao.delete(TRAINING_ID));
+
+        assertTrue(dao.findById(TRAINING_ID).isEmpty());
+        verify(delegate, times(2)).findById(TRAINING_ID);
+    }
+}
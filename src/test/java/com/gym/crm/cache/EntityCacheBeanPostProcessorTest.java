@@ -0,0 +1,44 @@
+package com.gym.crm.cache;
+
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.UserDAO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class EntityCacheBeanPostProcessorTest {
+    @Test
+    void postProcessAfterInitialization_ShouldWrapDaosThatHaveACache() {
+        EntityCaches caches = new EntityCaches(new EntityCache<>("trainee", 10, Duration.ZERO), null, null);
+        EntityCacheBeanPostProcessor postProcessor = postProcessor(caches);
+        TrainerDAO trainerDAO = mock(TrainerDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+
+        assertInstanceOf(CachingTraineeDAO.class,
+                postProcessor.postProcessAfterInitialization(mock(TraineeDAO.class), "traineeDAO"));
+        assertSame(trainerDAO, postProcessor.postProcessAfterInitialization(trainerDAO, "trainerDAO"));
+        assertSame(userDAO, postProcessor.postProcessAfterInitialization(userDAO, "userDAO"));
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldLeaveDaosAloneWithoutCaches() {
+        EntityCacheBeanPostProcessor postProcessor =
+                new EntityCacheBeanPostProcessor(new DefaultListableBeanFactory().getBeanProvider(EntityCaches.class));
+        TraineeDAO traineeDAO = mock(TraineeDAO.class);
+
+        assertSame(traineeDAO, postProcessor.postProcessAfterInitialization(traineeDAO, "traineeDAO"));
+    }
+
+    private static EntityCacheBeanPostProcessor postProcessor(EntityCaches caches) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("entityCaches", caches);
+
+        return new EntityCacheBeanPostProcessor(beanFactory.getBeanProvider(EntityCaches.class));
+    }
+}
@@ -0,0 +1,179 @@
+package com.gym.crm.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityCacheTest {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromMemory() {
+        EntityCache<String> cache = cache(10, Duration.ZERO);
+
+        assertEquals(Optional.of("value-1"), cache.get(1, this::load));
+        assertEquals(Optional.of("value-1"), cache.get(1, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void get_ShouldNotCacheMissingEntities() {
+        EntityCache<String> cache = cache(10, Duration.ZERO);
+
+        assertTrue(cache.get(1, key -> Optional.empty()).isEmpty());
+
+        assertEquals(0, cache.size());
+        assertEquals(Optional.of("value-1"), cache.get(1, this::load));
+    }
+
+    @Test
+    void get_ShouldReloadAfterExpiry() {
+        EntityCache<String> cache = cache(10, Duration.ofSeconds(60));
+        cache.get(1, this::load);
+
+        now.addAndGet(Duration.ofSeconds(60).toNanos());
+        cache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getExpirations());
+    }
+
+    @Test
+    void get_ShouldKeepFrequentEntriesWhenScannedPastCapacity() {
+        EntityCache<String> cache = cache(100, Duration.ZERO);
+        for (int round = 0; round < 5; round++) {
+            for (long key = 0; key < 50; key++) {
+                cache.get(key, this::load);
+            }
+        }
+
+        for (long key = 1_000; key < 11_000; key++) {
+            cache.get(key, this::load);
+        }
+
+        loads.set(0);
+        for (long key = 0; key < 50; key++) {
+            cache.get(key, this::load);
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictions() >= 10_000 - 100);
+        assertTrue(loads.get() <= 5, "frequent entries reloaded: " + loads.get());
+    }
+
+    @Test
+    void invalidate_ShouldDropEntryAndRejectLoadStartedBeforeIt() throws Exception {
+        EntityCache<String> cache = cache(10, Duration.ZERO);
+        cache.get(1, this::load);
+
+        cache.invalidate(1);
+        assertEquals(0, cache.size());
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<String>> stale = executor.submit(() -> cache.get(2, key -> {
+                loading.countDown();
+                await(invalidated);
+                return Optional.of("stale");
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            cache.invalidate(2);
+            invalidated.countDown();
+
+            assertEquals(Optional.of("stale"), stale.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Optional.of("value-2"), cache.get(2, this::load));
+    }
+
+    @Test
+    void invalidateIf_ShouldDropMatchingEntries() {
+        EntityCache<String> cache = cache(10, Duration.ZERO);
+        for (long key = 0; key < 4; key++) {
+            cache.get(key, this::load);
+        }
+
+        cache.invalidateIf(value -> value.endsWith("1") || value.endsWith("3"));
+
+        assertEquals(2, cache.size());
+        loads.set(0);
+        cache.get(0, this::load);
+        cache.get(1, this::load);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldStayWithinCapacityUnderConcurrentAccess() throws Exception {
+        EntityCache<String> cache = new EntityCache<>("test", 1_000, Duration.ZERO);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        long key = random.nextInt(5_000);
+                        if (i % 50 == 0) {
+                            cache.invalidate(key);
+                        } else {
+                            assertEquals(Optional.of("value-" + key), cache.get(key, this::load));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= 1_000, "size " + cache.size());
+        assertTrue(cache.getHits() > 0);
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache<>("test", 0, Duration.ZERO));
+    }
+
+    private EntityCache<String> cache(int capacity, Duration expireAfterWrite) {
+        return new EntityCache<>("test", capacity, expireAfterWrite, now::get);
+    }
+
+    private Optional<String> load(long key) {
+        loads.incrementAndGet();
+        return Optional.of("value-" + key);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
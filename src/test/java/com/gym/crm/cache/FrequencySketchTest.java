@@ -0,0 +1,38 @@
+package com.gym.crm.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+    @Test
+    void increment_ShouldCountUpToFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(42);
+        }
+        assertEquals(5, sketch.frequency(42));
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(42);
+        }
+        assertEquals(15, sketch.frequency(42));
+        assertEquals(0, sketch.frequency(43));
+    }
+
+    @Test
+    void increment_ShouldHalveCountersAfterSample() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(1);
+        }
+
+        for (long key = 100; key < 260; key++) {
+            sketch.increment(key);
+        }
+
+        assertTrue(sketch.frequency(1) <= 4);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gym.crm.controller;
+
+import com.gym.crm.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class MetricsControllerTest {
+
+    @Test
+    void scrape_ShouldServePrometheusText() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("gym_requests_total", "Requests", Map.of()).increment();
+        MetricsController controller = new MetricsController();
+        controller.setMetricsRegistry(registry);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MockHttpServletResponse response = mockMvc.perform(get("/metrics")).andReturn().getResponse();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getContentType().startsWith("text/plain"));
+        assertEquals(registry.scrape(), response.getContentAsString());
+    }
+}
@@ -0,0 +1,102 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.journal.StorageJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentDAOImplTest {
+    private static final Long TRAINEE_ID = 1L;
+    private static final Long TRAINER_ID = 10L;
+
+    @Mock
+    private InMemoryStorage inMemoryStorage;
+    @Mock
+    private StorageJournal storageJournal;
+    @Mock
+    private AuditTrail auditTrail;
+    @InjectMocks
+    private AssignmentDAOImpl dao;
+
+    private AssignmentStorage assignmentStorage;
+
+    @BeforeEach
+    void setUp() {
+        assignmentStorage = new AssignmentStorage();
+        when(inMemoryStorage.getAssignmentStorage()).thenReturn(assignmentStorage);
+        dao.setStorage(inMemoryStorage);
+        dao.setStorageJournal(storageJournal);
+        dao.setAuditTrail(auditTrail);
+    }
+
+    @Test
+    void assign_ShouldIndexJournalAndAuditNewAssignment() {
+        assertTrue(dao.assign(TRAINEE_ID, TRAINER_ID));
+
+        assertArrayEquals(new long[]{TRAINER_ID}, dao.findTrainerIds(TRAINEE_ID));
+        assertArrayEquals(new long[]{TRAINEE_ID}, dao.findTraineeIds(TRAINER_ID));
+        verify(storageJournal).trainerAssigned(TRAINEE_ID, TRAINER_ID);
+        verify(auditTrail).record(AuditEntity.TRAINEE, TRAINEE_ID, AuditOperation.UPDATE);
+    }
+
+    @Test
+    void assign_ShouldSkipJournalForDuplicate() {
+        assignmentStorage.assign(TRAINEE_ID, TRAINER_ID);
+
+        assertFalse(dao.assign(TRAINEE_ID, TRAINER_ID));
+
+        verifyNoInteractions(storageJournal, auditTrail);
+    }
+
+    @Test
+    void unassign_ShouldRemoveAndJournal() {
+        assignmentStorage.assign(TRAINEE_ID, TRAINER_ID);
+
+        assertTrue(dao.unassign(TRAINEE_ID, TRAINER_ID));
+
+        assertArrayEquals(new long[0], dao.findTrainerIds(TRAINEE_ID));
+        verify(storageJournal).trainerUnassigned(TRAINEE_ID, TRAINER_ID);
+    }
+
+    @Test
+    void unassign_ShouldSkipJournalWhenNotAssigned() {
+        assertFalse(dao.unassign(TRAINEE_ID, TRAINER_ID));
+
+        verifyNoInteractions(storageJournal, auditTrail);
+    }
+
+    @Test
+    void findUnassignedActiveTrainerIds_ShouldExcludeAssignedAndInactive() {
+        assignmentStorage.trainerSaved(trainer(TRAINER_ID, true));
+        assignmentStorage.trainerSaved(trainer(11L, true));
+        assignmentStorage.trainerSaved(trainer(12L, false));
+        assignmentStorage.assign(TRAINEE_ID, TRAINER_ID);
+
+        assertArrayEquals(new long[]{11L}, dao.findUnassignedActiveTrainerIds(TRAINEE_ID));
+    }
+
+    private static Trainer trainer(Long id, boolean active) {
+        return Trainer.builder()
+                .id(id)
+                .user(User.builder().isActive(active).build())
+                .build();
+    }
+}
@@ -1,10 +1,19 @@
 package com.gym.crm.dao.impl;
 
+import com.gym.crm.audit.AuditEntity;
+import com.gym.crm.audit.AuditOperation;
+import com.gym.crm.audit.AuditTrail;
+import com.gym.crm.dao.TraineeSummary;
 import com.gym.crm.exception.DaoException;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.User;
+import com.gym.crm.storage.ConcurrentLongMap;
+import com.gym.crm.storage.AssignmentStorage;
 import com.gym.crm.storage.InMemoryStorage;
 import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.UserStorage;
+import com.gym.crm.storage.journal.StorageJournal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +22,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -24,8 +38,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,13 +59,45 @@ class TraineeDAOImplTest {
     private InMemoryStorage inMemoryStorage;
     @Mock
     private TraineeStorage traineeStorage;
+    @Mock
+    private UserStorage userStorage;
+    @Mock
+    private AssignmentStorage assignmentStorage;
+    @Mock
+    private TrainingStorage trainingStorage;
+    @Mock
+    private StorageJournal storageJournal;
+    @Mock
+    private AuditTrail auditTrail;
     @InjectMocks
     private TraineeDAOImpl dao;
 
     @BeforeEach
     void setUp() {
         when(inMemoryStorage.getTraineeStorage()).thenReturn(traineeStorage);
+        when(inMemoryStorage.getUserStorage()).thenReturn(userStorage);
+        when(inMemoryStorage.getTrainingStorage()).thenReturn(trainingStorage);
+        when(inMemoryStorage.getAssignmentStorage()).thenReturn(assignmentStorage);
         dao.setStorage(inMemoryStorage);
+        dao.setStorageJournal(storageJournal);
+        dao.setAuditTrail(auditTrail);
+    }
+
+    @Test
+    void testCreateAll_ShouldCreateTraineesInOrder() {
+        ConcurrentLongMap<Trainee> trainees = new ConcurrentLongMap<>();
+        when(traineeStorage.getNextId()).thenReturn(1L, 2L);
+        when(traineeStorage.getTrainees()).thenReturn(trainees);
+
+        List<Trainee> actual = dao.createAll(List.of(
+                createTraineeWithoutId(FIRST_NAME, LAST_NAME, USERNAME, DATE_OF_BIRTH, ADDRESS, true),
+                createTraineeWithoutId("Jane", LAST_NAME, "jane.doe", DATE_OF_BIRTH, ADDRESS, true)));
+
+        assertEquals(2, actual.size());
+        assertEquals(1L, actual.get(0).getId());
+        assertEquals("jane.doe", actual.get(1).getUser().getUsername());
+        assertEquals(2, trainees.size());
+        verify(auditTrail).record(AuditEntity.TRAINEE, 2L, AuditOperation.CREATE);
     }
 
     @Test
@@ -57,7 +106,7 @@ class TraineeDAOImplTest {
                 DATE_OF_BIRTH, ADDRESS, true);
 
         when(traineeStorage.getNextId()).thenReturn(TRAINEE_ID);
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         Trainee actual = dao.create(trainee);
 
@@ -73,6 +122,9 @@ class TraineeDAOImplTest {
 
         verify(traineeStorage).getNextId();
         verify(traineeStorage).getTrainees();
+        verify(userStorage).register(actual.getUser());
+        verify(storageJournal).traineeSaved(actual);
+        verify(auditTrail).record(AuditEntity.TRAINEE, TRAINEE_ID, AuditOperation.CREATE);
     }
 
     @Test
@@ -81,7 +133,7 @@ class TraineeDAOImplTest {
                 DATE_OF_BIRTH, null, false);
 
         when(traineeStorage.getNextId()).thenReturn(TRAINEE_ID);
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         Trainee actual = dao.create(trainee);
 
@@ -99,7 +151,7 @@ class TraineeDAOImplTest {
     @Test
     void testFindById_ShouldReturnTraineeWhenExists() {
         Trainee expected = createSampleTrainee(TRAINEE_ID);
-        Map<Long, Trainee> traineesMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
         traineesMap.put(TRAINEE_ID, expected);
 
         when(traineeStorage.getTrainees()).thenReturn(traineesMap);
@@ -116,7 +168,7 @@ class TraineeDAOImplTest {
     void testFindById_ShouldReturnEmptyWhenNotExists() {
         Long id = 999L;
 
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         Optional<Trainee> actual = dao.findById(id);
 
@@ -136,7 +188,7 @@ class TraineeDAOImplTest {
                 .user(saved)
                 .build();
 
-        Map<Long, Trainee> traineesMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
         traineesMap.put(1L, trainee1);
         traineesMap.put(2L, trainee2);
 
@@ -152,7 +204,7 @@ class TraineeDAOImplTest {
 
     @Test
     void testFindAll_ShouldReturnEmptyListWhenNoTrainees() {
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         List<Trainee> actual = dao.findAll();
 
@@ -163,7 +215,7 @@ class TraineeDAOImplTest {
     @Test
     void testUpdate_ShouldUpdateExistingTrainee() {
         Trainee existingTrainee = createSampleTrainee(TRAINEE_ID);
-        Map<Long, Trainee> traineesMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
         traineesMap.put(TRAINEE_ID, existingTrainee);
 
         when(traineeStorage.getTrainees()).thenReturn(traineesMap);
@@ -184,13 +236,14 @@ class TraineeDAOImplTest {
         assertEquals("456 Oak Ave", actual.getAddress());
         assertFalse(actual.getUser().getIsActive());
         verify(traineeStorage).getTrainees();
+        verify(userStorage).replace(existingTrainee.getUser(), updatedUser);
     }
 
     @Test
     void testUpdate_ShouldThrowExceptionWhenTraineeNotExists() {
         Trainee trainee = createSampleTrainee(999L);
 
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         DaoException exception = assertThrows(DaoException.class, () -> dao.update(trainee));
 
@@ -198,10 +251,177 @@ class TraineeDAOImplTest {
         verify(traineeStorage).getTrainees();
     }
 
+    @Test
+    void testUpdateById_ShouldApplyFunctionAndBumpVersion() {
+        Trainee existingTrainee = createSampleTrainee(TRAINEE_ID);
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
+        traineesMap.put(TRAINEE_ID, existingTrainee);
+
+        when(traineeStorage.getTrainees()).thenReturn(traineesMap);
+
+        Trainee actual = dao.update(TRAINEE_ID, trainee -> trainee.toBuilder()
+                .id(999L)
+                .address("456 Oak Ave")
+                .build()).orElseThrow();
+
+        assertEquals(TRAINEE_ID, actual.getId());
+        assertEquals("456 Oak Ave", actual.getAddress());
+        assertEquals(1L, actual.getVersion());
+        assertEquals(actual, traineesMap.get(TRAINEE_ID));
+        verify(userStorage).replace(existingTrainee.getUser(), actual.getUser());
+        verify(storageJournal).traineeSaved(actual);
+        verify(auditTrail).record(AuditEntity.TRAINEE, TRAINEE_ID, AuditOperation.UPDATE);
+    }
+
+    @Test
+    void testUpdateById_ShouldReturnEmptyWhenTraineeNotExists() {
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
+
+        assertTrue(dao.update(999L, trainee -> trainee).isEmpty());
+        verifyNoInteractions(storageJournal, auditTrail);
+    }
+
+    @Test
+    void testUpdateById_ShouldNotLoseConcurrentUpdates() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 2_000;
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
+        traineesMap.put(TRAINEE_ID, createSampleTrainee(TRAINEE_ID).toBuilder().address("0").build());
+
+        when(traineeStorage.getTrainees()).thenReturn(traineesMap);
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < updatesPerThread; j++) {
+                        dao.update(TRAINEE_ID, trainee -> trainee.toBuilder()
+                                .address(String.valueOf(Integer.parseInt(trainee.getAddress()) + 1))
+                                .build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Trainee actual = traineesMap.get(TRAINEE_ID);
+        assertEquals(String.valueOf(threads * updatesPerThread), actual.getAddress());
+        assertEquals(threads * updatesPerThread, actual.getVersion());
+    }
+
+    @Test
+    void testUpdate_ShouldNotRegisterUsernameOfTraineeDeletedConcurrently() throws Exception {
+        UserStorage users = new UserStorage();
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setTraineeStorage(new TraineeStorage());
+        storage.setUserStorage(users);
+        storage.setTrainingStorage(new TrainingStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+        TraineeDAOImpl sut = new TraineeDAOImpl();
+        sut.setStorage(storage);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int round = 0; round < 200; round++) {
+                String renamed = "renamed" + round;
+                Long id = sut.create(createTraineeWithoutId(FIRST_NAME, LAST_NAME, USERNAME + round,
+                        DATE_OF_BIRTH, ADDRESS, true)).getId();
+                CountDownLatch start = new CountDownLatch(1);
+
+                Future<?> update = executor.submit(() -> {
+                    start.await();
+                    return sut.update(id, trainee -> trainee.toBuilder()
+                            .user(trainee.getUser().toBuilder().username(renamed).build())
+                            .build());
+                });
+                Future<?> delete = executor.submit(() -> {
+                    start.await();
+                    return sut.delete(id);
+                });
+                start.countDown();
+                update.get();
+                delete.get();
+
+                assertFalse(users.existsUsername(USERNAME + round));
+                assertFalse(users.existsUsername(renamed));
+            }
+        }
+    }
+
+    @Test
+    void testCreate_ShouldRollBackWhenJournalAppendFails() {
+        UserStorage users = new UserStorage();
+        TraineeStorage trainees = new TraineeStorage();
+        TraineeDAOImpl sut = inMemoryDao(trainees, users);
+        StorageJournal failingJournal = mock(StorageJournal.class);
+        when(failingJournal.traineeSaved(any())).thenThrow(new DaoException("Failed to append to storage journal"));
+        sut.setStorageJournal(failingJournal);
+
+        assertThrows(DaoException.class, () -> sut.create(createTraineeWithoutId(FIRST_NAME, LAST_NAME, USERNAME,
+                DATE_OF_BIRTH, ADDRESS, true)));
+
+        assertEquals(0, trainees.getTrainees().size());
+        assertFalse(users.existsUsername(USERNAME));
+    }
+
+    @Test
+    void testUpdateById_ShouldRestorePreviousStateWhenJournalAppendFails() {
+        UserStorage users = new UserStorage();
+        TraineeStorage trainees = new TraineeStorage();
+        TraineeDAOImpl sut = inMemoryDao(trainees, users);
+        Trainee created = sut.create(createTraineeWithoutId(FIRST_NAME, LAST_NAME, USERNAME,
+                DATE_OF_BIRTH, ADDRESS, true));
+        StorageJournal failingJournal = mock(StorageJournal.class);
+        when(failingJournal.traineeSaved(any())).thenThrow(new DaoException("Failed to append to storage journal"));
+        sut.setStorageJournal(failingJournal);
+
+        assertThrows(DaoException.class, () -> sut.update(created.getId(), trainee -> trainee.toBuilder()
+                .user(trainee.getUser().toBuilder().username("renamed").build())
+                .build()));
+
+        assertEquals(created, trainees.getTrainees().get(created.getId()));
+        assertTrue(users.existsUsername(USERNAME));
+        assertFalse(users.existsUsername("renamed"));
+    }
+
+    @Test
+    void testUpdateById_ShouldNotHoldKeyLockWhileAwaitingDurability() throws Exception {
+        TraineeDAOImpl sut = inMemoryDao(new TraineeStorage(), new UserStorage());
+        Long id = sut.create(createTraineeWithoutId(FIRST_NAME, LAST_NAME, USERNAME,
+                DATE_OF_BIRTH, ADDRESS, true)).getId();
+        CountDownLatch awaiting = new CountDownLatch(1);
+        CountDownLatch durable = new CountDownLatch(1);
+        StorageJournal slowJournal = mock(StorageJournal.class);
+        when(slowJournal.traineeSaved(any())).thenReturn(1L, 2L);
+        doAnswer(invocation -> {
+            awaiting.countDown();
+            durable.await();
+            return null;
+        }).when(slowJournal).awaitDurable(1L);
+        sut.setStorageJournal(slowJournal);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> slow = executor.submit(() -> sut.update(id, trainee -> trainee.toBuilder().address("slow").build()));
+            assertTrue(awaiting.await(5, TimeUnit.SECONDS));
+
+            Optional<Trainee> fast = sut.update(id, trainee -> trainee.toBuilder().address("fast").build());
+
+            assertEquals("fast", fast.orElseThrow().getAddress());
+            assertFalse(slow.isDone());
+            durable.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     void testDelete_ShouldReturnTrueWhenTraineeExists() {
         Trainee trainee = createSampleTrainee(TRAINEE_ID);
-        Map<Long, Trainee> traineesMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainee> traineesMap = new ConcurrentLongMap<>();
         traineesMap.put(TRAINEE_ID, trainee);
 
         when(traineeStorage.getTrainees()).thenReturn(traineesMap);
@@ -210,18 +430,23 @@ class TraineeDAOImplTest {
 
         assertTrue(result);
         verify(traineeStorage).getTrainees();
+        verify(userStorage).unregister(trainee.getUser());
+        verify(trainingStorage).removeByTrainee(TRAINEE_ID);
+        verify(assignmentStorage).removeTrainee(TRAINEE_ID);
+        verify(storageJournal).traineeDeleted(TRAINEE_ID);
     }
 
     @Test
     void testDelete_ShouldReturnFalseWhenTraineeNotExists() {
         Long id = 999L;
 
-        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentHashMap<>());
+        when(traineeStorage.getTrainees()).thenReturn(new ConcurrentLongMap<>());
 
         boolean result = dao.delete(id);
 
         assertFalse(result);
         verify(traineeStorage).getTrainees();
+        verifyNoInteractions(storageJournal);
     }
 
     @Test
@@ -236,6 +461,67 @@ class TraineeDAOImplTest {
         verify(newStorage).getTraineeStorage();
     }
 
+    @Test
+    void testFindPage_ShouldReturnEntriesAfterIdInKeyOrder() {
+        ConcurrentLongMap<Trainee> trainees = new ConcurrentLongMap<>();
+        for (long id = 1; id <= 5; id++) {
+            trainees.put(id, createSampleTrainee(id));
+        }
+        when(traineeStorage.getTrainees()).thenReturn(trainees);
+
+        List<Trainee> firstPage = dao.findPage(null, 2);
+        List<Trainee> secondPage = dao.findPage(2L, 2);
+        List<Trainee> lastPage = dao.findPage(4L, 2);
+
+        assertEquals(List.of(trainees.get(1L), trainees.get(2L)), firstPage);
+        assertEquals(List.of(trainees.get(3L), trainees.get(4L)), secondPage);
+        assertEquals(List.of(trainees.get(5L)), lastPage);
+    }
+
+    @Test
+    void testFindSummaryPage_ShouldProjectUserColumns() {
+        ConcurrentLongMap<Trainee> trainees = new ConcurrentLongMap<>();
+        trainees.put(1L, createSampleTrainee(1L));
+        trainees.put(2L, createSampleTrainee(2L));
+        when(traineeStorage.getTrainees()).thenReturn(trainees);
+
+        List<TraineeSummary> actual = dao.findSummaryPage(1L, 5);
+
+        assertEquals(List.of(new TraineeSummary(2L, FIRST_NAME, LAST_NAME, USERNAME, true, DATE_OF_BIRTH, ADDRESS)),
+                actual);
+    }
+
+    @Test
+    void testFindPage_ShouldThrowExceptionWhenLimitNotPositive() {
+        DaoException exception = assertThrows(DaoException.class, () -> dao.findPage(null, 0));
+
+        assertEquals("Page limit must be positive: 0", exception.getMessage());
+    }
+
+    @Test
+    void testStreamAll_ShouldStreamEntriesInKeyOrder() {
+        ConcurrentLongMap<Trainee> trainees = new ConcurrentLongMap<>();
+        trainees.put(2L, createSampleTrainee(2L));
+        trainees.put(1L, createSampleTrainee(1L));
+        when(traineeStorage.getTrainees()).thenReturn(trainees);
+
+        try (Stream<Trainee> stream = dao.streamAll()) {
+            assertEquals(List.of(trainees.get(1L), trainees.get(2L)), stream.toList());
+        }
+    }
+
+    private TraineeDAOImpl inMemoryDao(TraineeStorage trainees, UserStorage users) {
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setTraineeStorage(trainees);
+        storage.setUserStorage(users);
+        storage.setTrainingStorage(new TrainingStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+        TraineeDAOImpl sut = new TraineeDAOImpl();
+        sut.setStorage(storage);
+
+        return sut;
+    }
+
     private Trainee createSampleTrainee(Long id) {
         User user = User.builder()
                 .id(1000L)
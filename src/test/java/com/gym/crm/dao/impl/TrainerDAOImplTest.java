@@ -4,8 +4,11 @@ import com.gym.crm.exception.DaoException;
 import com.gym.crm.model.Trainer;
 import com.gym.crm.model.TrainingType;
 import com.gym.crm.model.User;
+import com.gym.crm.storage.ConcurrentLongMap;
+import com.gym.crm.storage.AssignmentStorage;
 import com.gym.crm.storage.InMemoryStorage;
 import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.UserStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +16,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -24,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,12 +51,18 @@ class TrainerDAOImplTest {
     private InMemoryStorage inMemoryStorage;
     @Mock
     private TrainerStorage trainerStorage;
+    @Mock
+    private UserStorage userStorage;
+    @Mock
+    private AssignmentStorage assignmentStorage;
     @InjectMocks
     private TrainerDAOImpl dao;
 
     @BeforeEach
     void setUp() {
         when(inMemoryStorage.getTrainerStorage()).thenReturn(trainerStorage);
+        when(inMemoryStorage.getUserStorage()).thenReturn(userStorage);
+        when(inMemoryStorage.getAssignmentStorage()).thenReturn(assignmentStorage);
         dao.setStorage(inMemoryStorage);
     }
 
@@ -56,7 +71,7 @@ class TrainerDAOImplTest {
         Trainer trainer = createTrainer();
 
         when(trainerStorage.getNextId()).thenReturn(TRAINER_ID);
-        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentHashMap<>());
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
 
         Trainer actual = dao.create(trainer);
 
@@ -68,6 +83,22 @@ class TrainerDAOImplTest {
         assertEquals(PASSWORD, actual.getUser().getPassword());
         assertTrue(actual.getUser().getIsActive());
         assertEquals(DEFAULT_SPECIALIZATION, actual.getSpecialization());
+        verify(userStorage).register(actual.getUser());
+        verify(assignmentStorage).trainerSaved(actual);
+    }
+
+    @Test
+    void testCreateAll_ShouldCreateTrainersInOrder() {
+        ConcurrentLongMap<Trainer> trainers = new ConcurrentLongMap<>();
+        when(trainerStorage.getNextId()).thenReturn(1L, 2L);
+        when(trainerStorage.getTrainers()).thenReturn(trainers);
+
+        List<Trainer> actual = dao.createAll(List.of(createTrainer(), createTrainer(null, true)));
+
+        assertEquals(2, actual.size());
+        assertEquals(2L, actual.get(1).getId());
+        assertNull(actual.get(1).getSpecialization());
+        assertEquals(2, trainers.size());
     }
 
     @Test
@@ -75,7 +106,7 @@ class TrainerDAOImplTest {
         Trainer trainer = createTrainer(null, false);
 
         when(trainerStorage.getNextId()).thenReturn(2L);
-        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentHashMap<>());
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
 
         Trainer actual = dao.create(trainer);
 
@@ -92,7 +123,7 @@ class TrainerDAOImplTest {
     @Test
     void testFindById_ShouldReturnTrainerWhenExists() {
         Trainer expected = createTrainerWithId(TRAINER_ID);
-        Map<Long, Trainer> trainersMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainer> trainersMap = new ConcurrentLongMap<>();
         trainersMap.put(TRAINER_ID, expected);
 
         when(trainerStorage.getTrainers()).thenReturn(trainersMap);
@@ -109,7 +140,7 @@ class TrainerDAOImplTest {
     void testFindById_ShouldReturnEmptyWhenNotExists() {
         Long id = 999L;
 
-        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentHashMap<>());
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
 
         Optional<Trainer> actual = dao.findById(id);
 
@@ -131,7 +162,7 @@ class TrainerDAOImplTest {
                 .specialization(TrainingType.builder().trainingTypeName("Pilates").build())
                 .build();
 
-        Map<Long, Trainer> trainersMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainer> trainersMap = new ConcurrentLongMap<>();
         trainersMap.put(1L, trainer1);
         trainersMap.put(2L, trainer2);
 
@@ -147,7 +178,7 @@ class TrainerDAOImplTest {
 
     @Test
     void testFindAll_ShouldReturnEmptyListWhenNoTrainers() {
-        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentHashMap<>());
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
 
         List<Trainer> actual = dao.findAll();
 
@@ -158,7 +189,7 @@ class TrainerDAOImplTest {
     @Test
     void testUpdate_ShouldUpdateExistingTrainer() {
         Trainer existingTrainer = createTrainerWithId(TRAINER_ID);
-        Map<Long, Trainer> trainersMap = new ConcurrentHashMap<>();
+        ConcurrentLongMap<Trainer> trainersMap = new ConcurrentLongMap<>();
         trainersMap.put(TRAINER_ID, existingTrainer);
 
         when(trainerStorage.getTrainers()).thenReturn(trainersMap);
@@ -174,18 +205,21 @@ class TrainerDAOImplTest {
 
         Trainer actual = dao.update(expected);
 
-        assertEquals(expected, actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(existingTrainer.getVersion() + 1, actual.getVersion());
+        assertEquals(actual, trainersMap.get(TRAINER_ID));
         assertEquals(expected.getUser().getFirstName(), actual.getUser().getFirstName());
         assertFalse(actual.getUser().getIsActive());
         assertEquals(expected.getSpecialization().getTrainingTypeName(), actual.getSpecialization().getTrainingTypeName());
         verify(trainerStorage, times(1)).getTrainers();
+        verify(userStorage).replace(any(), eq(expected.getUser()));
     }
 
     @Test
     void testUpdate_ShouldThrowExceptionWhenTrainerNotExists() {
         Trainer trainer = createTrainerWithId(999L);
 
-        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentHashMap<>());
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
 
         DaoException exception = assertThrows(DaoException.class, () -> dao.update(trainer));
 
@@ -193,6 +227,69 @@ class TrainerDAOImplTest {
         verify(trainerStorage).getTrainers();
     }
 
+    @Test
+    void testUpdateById_ShouldApplyFunctionAndBumpVersion() {
+        Trainer existingTrainer = createTrainerWithId(TRAINER_ID);
+        ConcurrentLongMap<Trainer> trainersMap = new ConcurrentLongMap<>();
+        trainersMap.put(TRAINER_ID, existingTrainer);
+        TrainingType pilates = TrainingType.builder().trainingTypeName("Pilates").build();
+
+        when(trainerStorage.getTrainers()).thenReturn(trainersMap);
+
+        Trainer actual = dao.update(TRAINER_ID, trainer -> trainer.toBuilder()
+                .specialization(pilates)
+                .build()).orElseThrow();
+
+        assertEquals(TRAINER_ID, actual.getId());
+        assertEquals(pilates, actual.getSpecialization());
+        assertEquals(1L, actual.getVersion());
+        assertEquals(actual, trainersMap.get(TRAINER_ID));
+        verify(userStorage).replace(existingTrainer.getUser(), actual.getUser());
+    }
+
+    @Test
+    void testUpdateById_ShouldReturnEmptyWhenTrainerNotExists() {
+        when(trainerStorage.getTrainers()).thenReturn(new ConcurrentLongMap<>());
+
+        assertTrue(dao.update(999L, trainer -> trainer).isEmpty());
+    }
+
+    @Test
+    void testUpdateById_ShouldNotLoseConcurrentUpdates() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 2_000;
+        ConcurrentLongMap<Trainer> trainersMap = new ConcurrentLongMap<>();
+        trainersMap.put(TRAINER_ID, createTrainerWithId(TRAINER_ID));
+
+        when(trainerStorage.getTrainers()).thenReturn(trainersMap);
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < updatesPerThread; j++) {
+                        dao.update(TRAINER_ID, trainer -> trainer.toBuilder()
+                                .user(trainer.getUser().toBuilder()
+                                        .isActive(!trainer.getUser().getIsActive())
+                                        .build())
+                                .build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Trainer actual = trainersMap.get(TRAINER_ID);
+        assertEquals(threads * updatesPerThread, actual.getVersion());
+        assertTrue(actual.getUser().getIsActive());
+    }
+
     @Test
     void testSetStorage_ShouldInitializeTrainerStorage() {
         InMemoryStorage newStorage = mock(InMemoryStorage.class);
@@ -205,6 +302,42 @@ class TrainerDAOImplTest {
         verify(newStorage).getTrainerStorage();
     }
 
+    @Test
+    void testFindPage_ShouldReturnEntriesAfterIdInKeyOrder() {
+        ConcurrentLongMap<Trainer> trainers = new ConcurrentLongMap<>();
+        for (long id = 1; id <= 5; id++) {
+            trainers.put(id, createTrainerWithId(id));
+        }
+        when(trainerStorage.getTrainers()).thenReturn(trainers);
+
+        List<Trainer> firstPage = dao.findPage(null, 2);
+        List<Trainer> secondPage = dao.findPage(2L, 2);
+        List<Trainer> lastPage = dao.findPage(4L, 2);
+
+        assertEquals(List.of(trainers.get(1L), trainers.get(2L)), firstPage);
+        assertEquals(List.of(trainers.get(3L), trainers.get(4L)), secondPage);
+        assertEquals(List.of(trainers.get(5L)), lastPage);
+    }
+
+    @Test
+    void testFindPage_ShouldThrowExceptionWhenLimitNotPositive() {
+        DaoException exception = assertThrows(DaoException.class, () -> dao.findPage(null, 0));
+
+        assertEquals("Page limit must be positive: 0", exception.getMessage());
+    }
+
+    @Test
+    void testStreamAll_ShouldStreamEntriesInKeyOrder() {
+        ConcurrentLongMap<Trainer> trainers = new ConcurrentLongMap<>();
+        trainers.put(2L, createTrainerWithId(2L));
+        trainers.put(1L, createTrainerWithId(1L));
+        when(trainerStorage.getTrainers()).thenReturn(trainers);
+
+        try (Stream<Trainer> stream = dao.streamAll()) {
+            assertEquals(List.of(trainers.get(1L), trainers.get(2L)), stream.toList());
+        }
+    }
+
     private Trainer createTrainer() {
         return createTrainer(DEFAULT_SPECIALIZATION, true);
     }
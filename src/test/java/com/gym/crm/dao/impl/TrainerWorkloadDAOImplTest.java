@@ -0,0 +1,50 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerWorkloadDAOImplTest {
+    private static final YearMonth FROM = YearMonth.of(2024, 1);
+    private static final YearMonth TO = YearMonth.of(2024, 3);
+
+    @Mock
+    private InMemoryStorage inMemoryStorage;
+    @Mock
+    private TrainingStorage trainingStorage;
+    @InjectMocks
+    private TrainerWorkloadDAOImpl dao;
+
+    @BeforeEach
+    void setUp() {
+        when(inMemoryStorage.getTrainingStorage()).thenReturn(trainingStorage);
+        dao.setStorage(inMemoryStorage);
+    }
+
+    @Test
+    void findMonthlyMinutes_ShouldReadStorageCounters() {
+        Map<YearMonth, Long> expected = Map.of(YearMonth.of(2024, 2), 120L);
+        when(trainingStorage.getTrainerMonthlyMinutes(2L, FROM, TO)).thenReturn(expected);
+
+        assertEquals(expected, dao.findMonthlyMinutes(2L, FROM, TO));
+    }
+
+    @Test
+    void rebuild_ShouldRecomputeStorageCounters() {
+        when(trainingStorage.rebuildTrainerWorkload()).thenReturn(3);
+
+        assertEquals(3, dao.rebuild());
+    }
+}
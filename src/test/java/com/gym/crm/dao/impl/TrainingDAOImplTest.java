@@ -1,11 +1,21 @@
 package com.gym.crm.dao.impl;
 
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.TrainingSummary;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.Trainer;
 import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
 import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
 import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingRow;
 import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.journal.StorageJournal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,16 +25,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,13 +59,25 @@ class TrainingDAOImplTest {
     private InMemoryStorage inMemoryStorage;
     @Mock
     private TrainingStorage trainingStorage;
+    @Mock
+    private StorageJournal storageJournal;
     @InjectMocks
     private TrainingDAOImpl dao;
 
+    private TraineeStorage traineeStorage;
+    private TrainingTypeStorage trainingTypeStorage;
+
     @BeforeEach
     void setUp() {
+        traineeStorage = new TraineeStorage();
+        trainingTypeStorage = new TrainingTypeStorage();
+
         when(inMemoryStorage.getTrainingStorage()).thenReturn(trainingStorage);
+        when(inMemoryStorage.getTraineeStorage()).thenReturn(traineeStorage);
+        when(inMemoryStorage.getTrainerStorage()).thenReturn(new TrainerStorage());
+        when(inMemoryStorage.getTrainingTypeStorage()).thenReturn(trainingTypeStorage);
         dao.setStorage(inMemoryStorage);
+        dao.setStorageJournal(storageJournal);
     }
 
     @Test
@@ -55,11 +85,11 @@ class TrainingDAOImplTest {
         Training training = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
 
         when(trainingStorage.getNextId()).thenReturn(1L);
-        when(trainingStorage.getTrainings()).thenReturn(new ConcurrentHashMap<>());
 
         Training actual = dao.create(training);
 
         assertNotNull(actual);
+        assertEquals(1L, actual.getId());
         assertEquals(TRAINEE_ID, actual.getTrainee().getId());
         assertEquals(TRAINER_ID, actual.getTrainer().getId());
         assertEquals(TRAINING_NAME, actual.getTrainingName());
@@ -68,7 +98,64 @@ class TrainingDAOImplTest {
         assertEquals(DURATION, actual.getTrainingDuration());
 
         verify(trainingStorage).getNextId();
-        verify(trainingStorage).getTrainings();
+        verify(trainingStorage).put(actual);
+        verify(storageJournal).trainingSaved(actual);
+    }
+
+    @Test
+    void testInsertAll_ShouldStoreEveryTrainingAndReturnCount() {
+        Training first = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        Training second = createTraining(TRAINEE_ID, TRAINER_ID, "Evening Yoga Session", TRAINING_TYPE, TRAINING_DATE, DURATION);
+
+        when(trainingStorage.getNextId()).thenReturn(1L, 2L);
+
+        assertEquals(2, dao.insertAll(List.of(first, second)));
+        verify(trainingStorage, times(2)).put(any(Training.class));
+    }
+
+    @Test
+    void testInsertAll_ShouldJournalTrainingsAndProgressAsOneRecord() {
+        Training training = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        TrainingImport progress = TrainingImport.builder().source("trainings.csv").lastLine(3).imported(2).build();
+
+        when(trainingStorage.getNextId()).thenReturn(1L, 2L);
+
+        assertEquals(2, dao.insertAll(List.of(training, training), progress));
+        verify(trainingStorage).putImport(progress);
+        verify(storageJournal).trainingsImported(argThat(trainings -> trainings.size() == 2), eq(progress));
+        verify(storageJournal, never()).trainingSaved(any());
+    }
+
+    @Test
+    void testInsertAll_ShouldUndoBatchWhenJournalAppendFails() {
+        Training training = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        TrainingImport progress = TrainingImport.builder().source("trainings.csv").lastLine(3).imported(2).build();
+
+        when(trainingStorage.getNextId()).thenReturn(1L, 2L);
+        when(storageJournal.trainingsImported(anyList(), eq(progress)))
+                .thenThrow(new DaoException("Failed to append to storage journal"));
+
+        assertThrows(DaoException.class, () -> dao.insertAll(List.of(training, training), progress));
+        verify(trainingStorage).remove(1L);
+        verify(trainingStorage).remove(2L);
+        verify(trainingStorage).removeImport("trainings.csv");
+    }
+
+    @Test
+    void testCreateAll_ShouldStoreEveryTraining() {
+        Training first = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        Training second = createTraining(TRAINEE_ID, TRAINER_ID, "Evening Yoga Session", TRAINING_TYPE, TRAINING_DATE, DURATION);
+
+        when(trainingStorage.getNextId()).thenReturn(1L, 2L);
+
+        List<Training> actual = dao.createAll(List.of(first, second));
+
+        assertEquals(2, actual.size());
+        assertEquals(1L, actual.get(0).getId());
+        assertEquals(2L, actual.get(1).getId());
+        assertEquals("Evening Yoga Session", actual.get(1).getTrainingName());
+        verify(trainingStorage).put(actual.get(0));
+        verify(trainingStorage).put(actual.get(1));
     }
 
     @Test
@@ -77,7 +164,6 @@ class TrainingDAOImplTest {
                 LocalDate.of(2024, 2, 20), 90);
 
         when(trainingStorage.getNextId()).thenReturn(2L);
-        when(trainingStorage.getTrainings()).thenReturn(new ConcurrentHashMap<>());
 
         Training actual = dao.create(training);
 
@@ -91,29 +177,31 @@ class TrainingDAOImplTest {
     }
 
     @Test
-    void testFindById_ShouldReturnTrainingWhenExists() {
-        Long id = 1L;
-        Training expected = createSampleTraining();
-        Map<Long, Training> trainingsMap = new ConcurrentHashMap<>();
-        trainingsMap.put(id, expected);
+    void testFindById_ShouldMaterializeTrainingWhenExists() {
+        Trainee trainee = Trainee.builder().id(TRAINEE_ID).address("Main Street 1").build();
+        traineeStorage.getTrainees().put(TRAINEE_ID, trainee);
+        TrainingType yoga = trainingTypeStorage.put(TRAINING_TYPE);
 
-        when(trainingStorage.getTrainings()).thenReturn(trainingsMap);
+        when(trainingStorage.find(1L)).thenReturn(row(1L, createSampleTraining()));
 
-        Optional<Training> actual = dao.findById(id);
+        Optional<Training> actual = dao.findById(1L);
 
         assertTrue(actual.isPresent());
-        assertEquals(expected, actual.get());
-        verify(trainingStorage).getTrainings();
+        assertEquals(1L, actual.get().getId());
+        assertSame(trainee, actual.get().getTrainee());
+        assertEquals(TRAINER_ID, actual.get().getTrainer().getId());
+        assertSame(yoga, actual.get().getTrainingType());
+        assertEquals(TRAINING_NAME, actual.get().getTrainingName());
+        assertEquals(TRAINING_DATE, actual.get().getTrainingDate());
+        assertEquals(DURATION, actual.get().getTrainingDuration());
     }
 
     @Test
     void testFindById_ShouldReturnEmptyWhenNotExists() {
-        when(trainingStorage.getTrainings()).thenReturn(new ConcurrentHashMap<>());
-
         Optional<Training> actual = dao.findById(999L);
 
         assertFalse(actual.isPresent());
-        verify(trainingStorage).getTrainings();
+        verify(trainingStorage).find(999L);
     }
 
     @Test
@@ -122,28 +210,24 @@ class TrainingDAOImplTest {
         Training training2 = createTraining(3L, 4L, "Evening Pilates", TrainingType.builder().trainingTypeName("Pilates").build(),
                 TRAINING_DATE, 75);
 
-        Map<Long, Training> trainingsMap = new ConcurrentHashMap<>();
-        trainingsMap.put(1L, training1);
-        trainingsMap.put(2L, training2);
-
-        when(trainingStorage.getTrainings()).thenReturn(trainingsMap);
+        when(trainingStorage.ids()).thenReturn(LongStream.of(1L, 2L));
+        when(trainingStorage.find(1L)).thenReturn(row(1L, training1));
+        when(trainingStorage.find(2L)).thenReturn(row(2L, training2));
 
         List<Training> actual = dao.findAll();
 
-        assertEquals(2, actual.size());
-        assertTrue(actual.contains(training1));
-        assertTrue(actual.contains(training2));
-        verify(trainingStorage).getTrainings();
+        assertEquals(List.of(1L, 2L), ids(actual));
+        assertEquals("Pilates", actual.get(1).getTrainingType().getTrainingTypeName());
     }
 
     @Test
     void testFindAll_ShouldReturnEmptyListWhenNoTrainings() {
-        when(trainingStorage.getTrainings()).thenReturn(new ConcurrentHashMap<>());
+        when(trainingStorage.ids()).thenReturn(LongStream.empty());
 
         List<Training> actual = dao.findAll();
 
         assertTrue(actual.isEmpty());
-        verify(trainingStorage).getTrainings();
+        verify(trainingStorage).ids();
     }
 
     @Test
@@ -152,7 +236,6 @@ class TrainingDAOImplTest {
         Training expected = createTraining(5L, 6L, "Quick Session", null, today, 30);
 
         when(trainingStorage.getNextId()).thenReturn(3L);
-        when(trainingStorage.getTrainings()).thenReturn(new ConcurrentHashMap<>());
 
         Training actual = dao.create(expected);
 
@@ -175,12 +258,145 @@ class TrainingDAOImplTest {
         dao.setStorage(newStorage);
 
         verify(newStorage).getTrainingStorage();
+        verify(newStorage).getTraineeStorage();
+        verify(newStorage).getTrainerStorage();
+        verify(newStorage).getTrainingTypeStorage();
+    }
+
+    @Test
+    void testFindPage_ShouldReturnEntriesAfterIdInKeyOrder() {
+        for (long id = 1; id <= 5; id++) {
+            when(trainingStorage.find(id)).thenReturn(row(id, createSampleTraining()));
+        }
+        when(trainingStorage.ids()).thenReturn(LongStream.rangeClosed(1, 5));
+        when(trainingStorage.idsAfter(2L)).thenReturn(LongStream.rangeClosed(3, 5));
+        when(trainingStorage.idsAfter(4L)).thenReturn(LongStream.of(5));
+
+        assertEquals(List.of(1L, 2L), ids(dao.findPage(null, 2)));
+        assertEquals(List.of(3L, 4L), ids(dao.findPage(2L, 2)));
+        assertEquals(List.of(5L), ids(dao.findPage(4L, 2)));
+    }
+
+    @Test
+    void testFindPage_ShouldThrowExceptionWhenLimitNotPositive() {
+        DaoException exception = assertThrows(DaoException.class, () -> dao.findPage(null, 0));
+
+        assertEquals("Page limit must be positive: 0", exception.getMessage());
+    }
+
+    @Test
+    void testFindSummaryPage_ShouldProjectUsernamesAfterId() {
+        traineeStorage.getTrainees().put(TRAINEE_ID, Trainee.builder()
+                .id(TRAINEE_ID)
+                .user(User.builder().username("John.Doe").build())
+                .build());
+        when(trainingStorage.find(2L)).thenReturn(row(2L, createSampleTraining()));
+        when(trainingStorage.idsAfter(1L)).thenReturn(LongStream.of(2L, 3L));
+
+        List<TrainingSummary> actual = dao.findSummaryPage(1L, 1);
+
+        assertEquals(1, actual.size());
+        assertEquals(2L, actual.get(0).id());
+        assertEquals("John.Doe", actual.get(0).traineeUsername());
+        assertNull(actual.get(0).trainerUsername());
+        assertEquals(TRAINING_NAME, actual.get(0).trainingName());
+        assertEquals("Yoga", actual.get(0).trainingType().getTrainingTypeName());
+    }
+
+    @Test
+    void testFindSummaryPage_ShouldThrowExceptionWhenLimitNotPositive() {
+        DaoException exception = assertThrows(DaoException.class, () -> dao.findSummaryPage(null, 0));
+
+        assertEquals("Page limit must be positive: 0", exception.getMessage());
+    }
+
+    @Test
+    void testStreamAll_ShouldStreamEntriesInKeyOrder() {
+        when(trainingStorage.ids()).thenReturn(LongStream.of(1L, 2L));
+        when(trainingStorage.find(1L)).thenReturn(row(1L, createSampleTraining()));
+        when(trainingStorage.find(2L)).thenReturn(row(2L, createSampleTraining()));
+
+        try (Stream<Training> stream = dao.streamAll()) {
+            assertEquals(List.of(1L, 2L), ids(stream.toList()));
+        }
+    }
+
+    @Test
+    void testFindByTraineeId_ShouldResolveIndexedIds() {
+        when(trainingStorage.getTrainingIdsByTrainee(TRAINEE_ID)).thenReturn(List.of(1L, 2L, 3L));
+        when(trainingStorage.find(1L)).thenReturn(row(1L, createSampleTraining()));
+        when(trainingStorage.find(2L)).thenReturn(null);
+        when(trainingStorage.find(3L)).thenReturn(row(3L, createSampleTraining()));
+
+        List<Training> actual = dao.findByTraineeId(TRAINEE_ID);
+
+        assertEquals(List.of(1L, 3L), ids(actual));
+    }
+
+    @Test
+    void testFindByTrainerId_ShouldResolveIndexedIds() {
+        when(trainingStorage.getTrainingIdsByTrainer(TRAINER_ID)).thenReturn(List.of(5L));
+        when(trainingStorage.find(5L)).thenReturn(row(5L, createSampleTraining()));
+
+        assertEquals(List.of(5L), ids(dao.findByTrainerId(TRAINER_ID)));
+    }
+
+    @Test
+    void testFindByDateRange_ShouldUseTrainerIndexAndFilterRest() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 7);
+        Training matching = createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        Training otherTrainee = createTraining(3L, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
+        TrainingFilter filter = TrainingFilter.builder()
+                .traineeId(TRAINEE_ID)
+                .trainerId(TRAINER_ID)
+                .trainingTypeName("yoga")
+                .build();
+
+        when(trainingStorage.getTrainingIdsByDate(from, to, TRAINEE_ID, TRAINER_ID)).thenReturn(List.of(1L, 2L));
+        when(trainingStorage.find(1L)).thenReturn(row(1L, matching));
+        when(trainingStorage.find(2L)).thenReturn(row(2L, otherTrainee));
+
+        List<Training> actual = dao.findByDateRange(from, to, filter);
+
+        assertEquals(List.of(1L), ids(actual));
+    }
+
+    @Test
+    void testFindByDateRange_ShouldThrowExceptionWhenRangeInverted() {
+        LocalDate from = LocalDate.of(2024, 1, 7);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+
+        DaoException exception = assertThrows(DaoException.class, () -> dao.findByDateRange(from, to, null));
+
+        assertEquals("Invalid date range: 2024-01-07 is after 2024-01-01", exception.getMessage());
+    }
+
+    @Test
+    void testDelete_ShouldRemoveTrainingAndJournalOnlyWhenPresent() {
+        when(trainingStorage.find(1L)).thenReturn(row(1L, createSampleTraining()));
+        when(trainingStorage.remove(1L)).thenReturn(true, false);
+
+        assertTrue(dao.delete(1L));
+        assertFalse(dao.delete(1L));
+        verify(trainingStorage, times(2)).remove(1L);
+        verify(storageJournal).trainingDeleted(1L);
     }
 
     private Training createSampleTraining() {
         return createTraining(TRAINEE_ID, TRAINER_ID, TRAINING_NAME, TRAINING_TYPE, TRAINING_DATE, DURATION);
     }
 
+    private static TrainingRow row(long id, Training training) {
+        return TrainingRow.of(training.toBuilder().id(id).build());
+    }
+
+    private static List<Long> ids(List<Training> trainings) {
+        return trainings.stream()
+                .map(Training::getId)
+                .toList();
+    }
+
     private Training createTraining(Long traineeId, Long trainerId, String name, TrainingType type, LocalDate date, int duration) {
         Trainee trainee = Trainee.builder()
                 .id(traineeId)
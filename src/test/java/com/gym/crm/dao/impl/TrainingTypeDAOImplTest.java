@@ -0,0 +1,61 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingTypeDAOImplTest {
+    private static final TrainingType YOGA = TrainingType.builder().id(1L).trainingTypeName("Yoga").build();
+
+    @Mock
+    private InMemoryStorage inMemoryStorage;
+    @Mock
+    private TrainingTypeStorage trainingTypeStorage;
+    @InjectMocks
+    private TrainingTypeDAOImpl dao;
+
+    @BeforeEach
+    void setUp() {
+        when(inMemoryStorage.getTrainingTypeStorage()).thenReturn(trainingTypeStorage);
+        dao.setStorage(inMemoryStorage);
+    }
+
+    @Test
+    void save_ShouldPutIntoCatalog() {
+        TrainingType request = TrainingType.builder().trainingTypeName("Yoga").build();
+        when(trainingTypeStorage.put(request)).thenReturn(YOGA);
+
+        TrainingType actual = dao.save(request);
+
+        assertSame(YOGA, actual);
+        verify(trainingTypeStorage).put(request);
+    }
+
+    @Test
+    void findById_ShouldReadFromCatalog() {
+        when(trainingTypeStorage.findById(1L)).thenReturn(Optional.of(YOGA));
+
+        assertEquals(Optional.of(YOGA), dao.findById(1L));
+    }
+
+    @Test
+    void findByName_ShouldReadFromCatalog() {
+        when(trainingTypeStorage.findByName("yoga")).thenReturn(Optional.of(YOGA));
+
+        assertEquals(Optional.of(YOGA), dao.findByName("yoga"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.gym.crm.dao.impl;
+
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.UserStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDAOImplTest {
+    private static final String USERNAME = "john.doe";
+
+    @Mock
+    private InMemoryStorage inMemoryStorage;
+    @Mock
+    private UserStorage userStorage;
+    @Mock
+    private TraineeDAO traineeDAO;
+    @Mock
+    private TrainerDAO trainerDAO;
+    @InjectMocks
+    private UserDAOImpl dao;
+
+    @BeforeEach
+    void setUp() {
+        when(inMemoryStorage.getUserStorage()).thenReturn(userStorage);
+        dao.setStorage(inMemoryStorage);
+    }
+
+    @Test
+    void existsUsername_ShouldDelegateToStorage() {
+        when(userStorage.existsUsername(USERNAME)).thenReturn(true);
+
+        assertTrue(dao.existsUsername(USERNAME));
+        verify(userStorage).existsUsername(USERNAME);
+    }
+
+    @Test
+    void reserveUsername_ShouldReturnStorageResult() {
+        when(userStorage.reserveUsername(USERNAME)).thenReturn(false);
+
+        assertFalse(dao.reserveUsername(USERNAME));
+        verify(userStorage).reserveUsername(USERNAME);
+    }
+
+    @Test
+    void reserveUsernames_ShouldReturnUsernamesReservedInStorage() {
+        when(userStorage.reserveUsername(USERNAME)).thenReturn(false);
+        when(userStorage.reserveUsername("jane.smith")).thenReturn(true);
+
+        assertEquals(Set.of("jane.smith"), dao.reserveUsernames(List.of(USERNAME, "jane.smith")));
+    }
+
+    @Test
+    void releaseUsername_ShouldReleaseInStorage() {
+        dao.releaseUsername(USERNAME);
+
+        verify(userStorage).release(USERNAME);
+    }
+
+    @Test
+    void findAllUsernames_ShouldReturnIndexedUsernames() {
+        Map<String, User> users = new ConcurrentHashMap<>();
+        users.put(USERNAME, User.builder().username(USERNAME).build());
+
+        when(userStorage.getUsers()).thenReturn(users);
+
+        List<String> actual = dao.findAllUsernames();
+
+        assertEquals(List.of(USERNAME), actual);
+        verify(userStorage).getUsers();
+    }
+
+    @Test
+    void findByUsername_ShouldDelegateToStorage() {
+        User user = User.builder().id(1L).username(USERNAME).build();
+
+        when(userStorage.find(USERNAME)).thenReturn(Optional.of(user));
+
+        assertSame(user, dao.findByUsername(USERNAME).orElseThrow());
+        verify(userStorage).find(USERNAME);
+    }
+
+    @Test
+    void updatePassword_ShouldUpdateTheTraineeOwningTheUsername() {
+        Trainee trainee = Trainee.builder()
+                .id(7L)
+                .user(User.builder().username("John.Doe").password("old").build())
+                .build();
+        AtomicReference<Trainee> updated = new AtomicReference<>();
+
+        when(traineeDAO.streamAll()).thenReturn(Stream.of(trainee));
+        when(traineeDAO.update(eq(7L), any())).thenAnswer(invocation -> {
+            UnaryOperator<Trainee> update = invocation.getArgument(1);
+            updated.set(update.apply(trainee));
+            return Optional.of(updated.get());
+        });
+
+        assertTrue(dao.updatePassword(USERNAME, "old", "new"));
+        assertEquals("new", updated.get().getUser().getPassword());
+        verifyNoInteractions(trainerDAO);
+    }
+
+    @Test
+    void updatePassword_ShouldReturnFalseWhenHashChanged() {
+        when(traineeDAO.streamAll()).thenReturn(Stream.of(Trainee.builder()
+                .id(7L)
+                .user(User.builder().username(USERNAME).password("other").build())
+                .build()));
+        when(trainerDAO.streamAll()).thenReturn(Stream.empty());
+
+        assertFalse(dao.updatePassword(USERNAME, "old", "new"));
+        verify(traineeDAO, never()).update(any(Long.class), any());
+    }
+}
@@ -0,0 +1,170 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateAssignmentDAOTest {
+    private SessionFactory sessionFactory;
+    private InMemoryStorage inMemoryStorage;
+    private HibernateAssignmentDAO dao;
+    private HibernateTraineeDAO traineeDAO;
+    private Trainee trainee;
+    private Trainer active;
+    private Trainer assigned;
+    private Trainer inactive;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("assignment_dao");
+        TrainingType yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        TrainingTypeStorage trainingTypeStorage = HibernateTestSupport.loadTrainingTypeCatalog(sessionFactory);
+        inMemoryStorage = HibernateTestSupport.buildInMemoryStorage();
+
+        traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(inMemoryStorage);
+        trainee = traineeDAO.create(Trainee.builder().user(buildUser("John", "Doe")).build());
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(inMemoryStorage);
+        active = trainerDAO.create(Trainer.builder().user(buildUser("Mike", "Johnson")).specialization(yoga).build());
+        assigned = trainerDAO.create(Trainer.builder().user(buildUser("Anna", "Smith")).specialization(yoga).build());
+        Trainer created = trainerDAO.create(Trainer.builder().user(buildUser("Paul", "Brown")).specialization(yoga).build());
+        inactive = trainerDAO.update(created.getId(), trainer -> trainer.toBuilder()
+                .user(trainer.getUser().toBuilder().isActive(false).build())
+                .build()).orElseThrow();
+
+        dao = new HibernateAssignmentDAO();
+        dao.setSessionFactory(sessionFactory);
+        dao.setStorage(inMemoryStorage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void assign_ShouldInsertJoinRowAndIndexBothDirections() {
+        assertTrue(dao.assign(trainee.getId(), assigned.getId()));
+        assertFalse(dao.assign(trainee.getId(), assigned.getId()));
+
+        assertEquals(1L, countJoinRows());
+        assertArrayEquals(new long[]{assigned.getId()}, dao.findTrainerIds(trainee.getId()));
+        assertArrayEquals(new long[]{trainee.getId()}, dao.findTraineeIds(assigned.getId()));
+    }
+
+    @Test
+    void assign_ShouldNotIndexUnknownTrainee() {
+        assertFalse(dao.assign(999L, assigned.getId()));
+
+        assertEquals(0L, countJoinRows());
+        assertArrayEquals(new long[0], dao.findTraineeIds(assigned.getId()));
+    }
+
+    @Test
+    void assign_ShouldReportDuplicateFromAnotherNodeAsAlreadyAssigned() throws Exception {
+        HibernateAssignmentDAO otherNode = new HibernateAssignmentDAO();
+        otherNode.setSessionFactory(sessionFactory);
+        otherNode.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        int rounds = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Boolean> first = executor.submit(() -> {
+                    start.await();
+                    return dao.assign(trainee.getId(), assigned.getId());
+                });
+                Future<Boolean> second = executor.submit(() -> {
+                    start.await();
+                    return otherNode.assign(trainee.getId(), assigned.getId());
+                });
+                start.countDown();
+
+                boolean firstAssigned = first.get();
+                assertTrue(firstAssigned ^ second.get());
+                assertEquals(1L, countJoinRows());
+                assertTrue((firstAssigned ? dao : otherNode).unassign(trainee.getId(), assigned.getId()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void unassign_ShouldDeleteJoinRowAndIndexEntries() {
+        dao.assign(trainee.getId(), assigned.getId());
+
+        assertTrue(dao.unassign(trainee.getId(), assigned.getId()));
+        assertFalse(dao.unassign(trainee.getId(), assigned.getId()));
+
+        assertEquals(0L, countJoinRows());
+        assertArrayEquals(new long[0], dao.findTrainerIds(trainee.getId()));
+    }
+
+    @Test
+    void findUnassignedActiveTrainerIds_ShouldAnswerFromIndexWithoutStatements() {
+        dao.assign(trainee.getId(), assigned.getId());
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long[] trainerIds = dao.findUnassignedActiveTrainerIds(trainee.getId());
+
+        assertArrayEquals(new long[]{active.getId()}, trainerIds);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void refresh_ShouldLoadJoinTableAndTrainerActivity() {
+        HibernateTestSupport.assignTrainer(sessionFactory, trainee.getId(), assigned.getId());
+        HibernateTestSupport.assignTrainer(sessionFactory, trainee.getId(), inactive.getId());
+
+        HibernateAssignmentDAO restarted = new HibernateAssignmentDAO();
+        restarted.setSessionFactory(sessionFactory);
+        restarted.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        restarted.refresh();
+
+        assertArrayEquals(new long[]{assigned.getId(), inactive.getId()}, restarted.findTrainerIds(trainee.getId()));
+        assertArrayEquals(new long[]{trainee.getId()}, restarted.findTraineeIds(inactive.getId()));
+        assertArrayEquals(new long[]{active.getId()}, restarted.findUnassignedActiveTrainerIds(trainee.getId()));
+    }
+
+    @Test
+    void traineeDelete_ShouldDropAssignments() {
+        dao.assign(trainee.getId(), assigned.getId());
+
+        assertTrue(traineeDAO.delete(trainee.getId()));
+
+        assertEquals(0L, countJoinRows());
+        assertArrayEquals(new long[0], dao.findTraineeIds(assigned.getId()));
+    }
+
+    private long countJoinRows() {
+        return sessionFactory.fromSession(session ->
+                ((Number) session.createNativeQuery("select count(*) from trainees_trainers", Object.class)
+                        .getSingleResult()).longValue());
+    }
+}
@@ -0,0 +1,93 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.TrainerWorkload;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.UserStorage;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+
+public final class HibernateTestSupport {
+    public static final int BATCH_SIZE = 50;
+    public static final int FETCH_SIZE = 2;
+
+    private HibernateTestSupport() {
+    }
+
+    public static SessionFactory buildSessionFactory(String databaseName) {
+        Configuration configuration = new Configuration();
+
+        configuration.setProperty("hibernate.connection.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;MODE=MySQL;IGNORECASE=TRUE");
+        configuration.setProperty("hibernate.connection.username", "sa");
+        configuration.setProperty("hibernate.connection.password", "");
+        configuration.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
+        configuration.setProperty("hibernate.order_inserts", "true");
+        configuration.setProperty("hibernate.order_updates", "true");
+        configuration.setProperty("hibernate.jdbc.batch_versioned_data", "true");
+
+        configuration.addAnnotatedClass(User.class);
+        configuration.addAnnotatedClass(Trainee.class);
+        configuration.addAnnotatedClass(Trainer.class);
+        configuration.addAnnotatedClass(Training.class);
+        configuration.addAnnotatedClass(TrainingType.class);
+        configuration.addAnnotatedClass(TrainerWorkload.class);
+        configuration.addAnnotatedClass(TrainingImport.class);
+
+        return configuration.buildSessionFactory();
+    }
+
+    public static InMemoryStorage buildInMemoryStorage() {
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setUserStorage(new UserStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+
+        return storage;
+    }
+
+    public static TrainingTypeStorage loadTrainingTypeCatalog(SessionFactory sessionFactory) {
+        TrainingTypeStorage trainingTypeStorage = new TrainingTypeStorage();
+
+        HibernateTrainingTypeDAO trainingTypeDAO = new HibernateTrainingTypeDAO();
+        trainingTypeDAO.setSessionFactory(sessionFactory);
+        trainingTypeDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingTypeDAO.refresh();
+
+        return trainingTypeStorage;
+    }
+
+    public static TrainingType persistTrainingType(SessionFactory sessionFactory, String name) {
+        TrainingType trainingType = TrainingType.builder()
+                .trainingTypeName(name)
+                .build();
+        sessionFactory.inTransaction(session -> session.persist(trainingType));
+
+        return trainingType;
+    }
+
+    public static void assignTrainer(SessionFactory sessionFactory, Long traineeId, Long trainerId) {
+        sessionFactory.inTransaction(session ->
+                session.createNativeMutationQuery("insert into trainees_trainers (trainee_id, trainer_id) values (?1, ?2)")
+                        .setParameter(1, traineeId)
+                        .setParameter(2, trainerId)
+                        .executeUpdate());
+    }
+
+    public static User buildUser(String firstName, String lastName) {
+        return User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .username(firstName + "." + lastName)
+                .password("password123")
+                .isActive(true)
+                .build();
+    }
+}
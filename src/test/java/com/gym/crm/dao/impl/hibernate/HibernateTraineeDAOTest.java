@@ -0,0 +1,402 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.dao.TraineeSummary;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateTraineeDAOTest {
+    private static final LocalDate DATE_OF_BIRTH = LocalDate.of(1990, 1, 1);
+    private static final String ADDRESS = "123 Main St";
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+    private static final int FETCH_BATCH_SIZE = 5;
+    private static final int RECENT_TRAININGS = 10;
+
+    private SessionFactory sessionFactory;
+    private InMemoryStorage inMemoryStorage;
+    private HibernateTraineeDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("trainee_dao");
+        inMemoryStorage = HibernateTestSupport.buildInMemoryStorage();
+
+        dao = new HibernateTraineeDAO();
+        dao.setSessionFactory(sessionFactory);
+        dao.setFetchSize(HibernateTestSupport.FETCH_SIZE);
+        dao.setBatchSize(BATCH_SIZE);
+        dao.setMaxUpdateAttempts(MAX_UPDATE_ATTEMPTS);
+        dao.setFetchBatchSize(FETCH_BATCH_SIZE);
+        dao.setRecentTrainings(RECENT_TRAININGS);
+        dao.setStorage(inMemoryStorage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void create_ShouldPersistTraineeAndUser() {
+        Trainee actual = dao.create(buildTrainee("John", "Doe"));
+
+        assertNotNull(actual.getId());
+        assertNotNull(actual.getUser().getId());
+        assertTrue(inMemoryStorage.getUserStorage().existsUsername("john.doe"));
+    }
+
+    @Test
+    void createAll_ShouldInsertTraineesAndUsersInJdbcBatches() {
+        int count = BATCH_SIZE * 4;
+        List<Trainee> trainees = IntStream.range(0, count)
+                .mapToObj(i -> buildTrainee("Member", "Number" + i))
+                .toList();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Trainee> actual = dao.createAll(trainees);
+
+        assertEquals(count, actual.size());
+        assertTrue(actual.stream().allMatch(trainee -> trainee.getId() != null && trainee.getUser().getId() != null));
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected batched inserts, prepared " + statistics.getPrepareStatementCount() + " statements");
+        assertTrue(inMemoryStorage.getUserStorage().existsUsername("member.number39"));
+
+        Trainee last = dao.findById(actual.get(count - 1).getId()).orElseThrow();
+        assertEquals("Member.Number39", last.getUser().getUsername());
+        assertEquals(DATE_OF_BIRTH, last.getDateOfBirth());
+    }
+
+    @Test
+    void createAll_ShouldRollBackWholeBatchOnDuplicateUsername() {
+        dao.create(buildTrainee("John", "Doe"));
+
+        assertThrows(DaoException.class, () -> dao.createAll(List.of(
+                buildTrainee("Jane", "Doe"),
+                buildTrainee("John", "Doe"))));
+
+        assertEquals(1, dao.findAll().size());
+        assertFalse(inMemoryStorage.getUserStorage().existsUsername("jane.doe"));
+    }
+
+    @Test
+    void findById_ShouldReturnTraineeWithUser() {
+        Trainee created = dao.create(buildTrainee("John", "Doe"));
+
+        Optional<Trainee> actual = dao.findById(created.getId());
+
+        assertTrue(actual.isPresent());
+        assertEquals("John.Doe", actual.get().getUser().getUsername());
+        assertEquals(ADDRESS, actual.get().getAddress());
+    }
+
+    @Test
+    void findById_ShouldReturnEmptyWhenNotExists() {
+        assertFalse(dao.findById(999L).isPresent());
+    }
+
+    @Test
+    void findAll_ShouldReturnAllTrainees() {
+        dao.create(buildTrainee("John", "Doe"));
+        dao.create(buildTrainee("Jane", "Smith"));
+
+        List<Trainee> actual = dao.findAll();
+
+        assertEquals(2, actual.size());
+        assertEquals("John.Doe", actual.get(0).getUser().getUsername());
+    }
+
+    @Test
+    void findPage_ShouldWalkTraineesByKeyset() {
+        for (int i = 0; i < 5; i++) {
+            dao.create(buildTrainee("John", "Doe" + i));
+        }
+
+        List<Trainee> firstPage = dao.findPage(null, 2);
+        List<Trainee> secondPage = dao.findPage(firstPage.get(1).getId(), 2);
+        List<Trainee> lastPage = dao.findPage(secondPage.get(1).getId(), 2);
+
+        assertEquals(List.of("John.Doe0", "John.Doe1"), usernames(firstPage));
+        assertEquals(List.of("John.Doe2", "John.Doe3"), usernames(secondPage));
+        assertEquals(List.of("John.Doe4"), usernames(lastPage));
+    }
+
+    @Test
+    void findSummaryPage_ShouldProjectTraineesWithoutLoadingEntities() {
+        for (int i = 0; i < 3; i++) {
+            dao.create(buildTrainee("John", "Doe" + i));
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<TraineeSummary> actual = dao.findSummaryPage(null, 2);
+
+        assertEquals(List.of("John.Doe0", "John.Doe1"), actual.stream().map(TraineeSummary::username).toList());
+        assertEquals("John", actual.get(0).firstName());
+        assertTrue(actual.get(0).active());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findById_WithProfilePlan_ShouldLoadTrainersAndRecentTrainingsInTwoStatements() {
+        List<Trainee> trainees = seedProfiles(1, 12);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Trainee actual = dao.findById(trainees.get(0).getId(), FetchPlan.PROFILE).orElseThrow();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Coach.One", "Coach.Two"), actual.getTrainers().stream()
+                .map(trainer -> trainer.getUser().getUsername())
+                .toList());
+        assertEquals("Yoga", actual.getTrainers().iterator().next().getSpecialization().getTrainingTypeName());
+        assertEquals(RECENT_TRAININGS, actual.getTrainings().size());
+        Training latest = actual.getTrainings().iterator().next();
+        assertEquals("Session 11", latest.getTrainingName());
+        assertEquals("Coach.Two", latest.getTrainer().getUser().getUsername());
+        assertEquals("Yoga", latest.getTrainingType().getTrainingTypeName());
+    }
+
+    @Test
+    void findById_WithDefaultPlan_ShouldLeaveCollectionsUnloaded() {
+        List<Trainee> trainees = seedProfiles(1, 1);
+
+        Trainee actual = dao.findById(trainees.get(0).getId(), FetchPlan.DEFAULT).orElseThrow();
+
+        assertFalse(Hibernate.isInitialized(actual.getTrainers()));
+        assertFalse(Hibernate.isInitialized(actual.getTrainings()));
+    }
+
+    @Test
+    void findPage_WithProfilePlan_ShouldBatchInitializeTrainersAndLoadOnlyRecentTrainings() {
+        seedProfiles(FETCH_BATCH_SIZE * 2, RECENT_TRAININGS + 2);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Trainee> actual = dao.findPage(null, FETCH_BATCH_SIZE * 2, FetchPlan.PROFILE);
+
+        assertEquals(FETCH_BATCH_SIZE * 2, actual.size());
+        assertTrue(actual.stream().allMatch(trainee -> trainee.getTrainers().size() == 2));
+        assertTrue(actual.stream().allMatch(trainee -> trainee.getTrainings().size() == RECENT_TRAININGS));
+        assertEquals("Session 11", actual.get(0).getTrainings().iterator().next().getTrainingName());
+        assertEquals("Coach.One", actual.get(0).getTrainings().stream()
+                .map(training -> training.getTrainer().getUser().getUsername())
+                .reduce((first, second) -> second)
+                .orElseThrow());
+        assertEquals(FETCH_BATCH_SIZE * 2 * RECENT_TRAININGS,
+                statistics.getEntityStatistics(Training.class.getName()).getLoadCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAll_ShouldScrollAllTraineesInIdOrder() {
+        for (int i = 0; i < 5; i++) {
+            dao.create(buildTrainee("John", "Doe" + i));
+        }
+
+        try (Stream<Trainee> stream = dao.streamAll()) {
+            assertEquals(List.of("John.Doe0", "John.Doe1", "John.Doe2", "John.Doe3", "John.Doe4"),
+                    usernames(stream.toList()));
+        }
+    }
+
+    @Test
+    void update_ShouldUpdateUserAndTraineeColumns() {
+        Trainee created = dao.create(buildTrainee("John", "Doe"));
+        User updatedUser = created.getUser().toBuilder()
+                .firstName("Johnny")
+                .isActive(false)
+                .build();
+
+        dao.update(created.toBuilder()
+                .user(updatedUser)
+                .address("456 Oak Ave")
+                .build());
+
+        Trainee actual = dao.findById(created.getId()).orElseThrow();
+        assertEquals("Johnny", actual.getUser().getFirstName());
+        assertFalse(actual.getUser().getIsActive());
+        assertEquals("456 Oak Ave", actual.getAddress());
+    }
+
+    @Test
+    void update_ShouldThrowExceptionWhenTraineeNotExists() {
+        Trainee trainee = buildTrainee("John", "Doe").toBuilder()
+                .id(999L)
+                .build();
+
+        DaoException exception = assertThrows(DaoException.class, () -> dao.update(trainee));
+
+        assertEquals("Trainee not found with ID: 999", exception.getMessage());
+    }
+
+    @Test
+    void updateById_ShouldWriteChangesAndBumpVersion() {
+        Trainee created = dao.create(buildTrainee("John", "Doe"));
+
+        Trainee actual = dao.update(created.getId(), trainee -> trainee.toBuilder()
+                .address("456 Oak Ave")
+                .user(trainee.getUser().toBuilder().isActive(false).build())
+                .build()).orElseThrow();
+
+        Trainee stored = dao.findById(created.getId()).orElseThrow();
+        assertEquals(1L, actual.getVersion());
+        assertEquals(1L, stored.getVersion());
+        assertEquals("456 Oak Ave", stored.getAddress());
+        assertFalse(stored.getUser().getIsActive());
+    }
+
+    @Test
+    void updateById_ShouldReturnEmptyWhenTraineeNotExists() {
+        assertTrue(dao.update(999L, trainee -> trainee).isEmpty());
+    }
+
+    @Test
+    void updateById_ShouldGiveUpAfterMaxAttemptsOfConcurrentChanges() {
+        Trainee created = dao.create(buildTrainee("John", "Doe"));
+        AtomicInteger attempts = new AtomicInteger();
+
+        DaoException exception = assertThrows(DaoException.class, () -> dao.update(created.getId(), trainee -> {
+            attempts.incrementAndGet();
+            dao.update(trainee.toBuilder().address("changed " + attempts.get()).build());
+            return trainee.toBuilder().address("lost").build();
+        }));
+
+        assertEquals(MAX_UPDATE_ATTEMPTS, attempts.get());
+        assertTrue(exception.getMessage().contains("modified concurrently"));
+        assertEquals("changed " + MAX_UPDATE_ATTEMPTS, dao.findById(created.getId()).orElseThrow().getAddress());
+    }
+
+    @Test
+    void updateById_ShouldNotLoseConcurrentUpdates() throws Exception {
+        int threads = 4;
+        int updatesPerThread = 25;
+        dao.setMaxUpdateAttempts(Integer.MAX_VALUE);
+        Long id = dao.create(buildTrainee("John", "Doe").toBuilder().address("0").build()).getId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < updatesPerThread; j++) {
+                        dao.update(id, trainee -> trainee.toBuilder()
+                                .address(String.valueOf(Integer.parseInt(trainee.getAddress()) + 1))
+                                .build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Trainee actual = dao.findById(id).orElseThrow();
+        assertEquals(String.valueOf(threads * updatesPerThread), actual.getAddress());
+        assertEquals(threads * updatesPerThread, actual.getVersion());
+    }
+
+    @Test
+    void delete_ShouldRemoveTraineeAndReleaseUsername() {
+        Trainee created = dao.create(buildTrainee("John", "Doe"));
+
+        assertTrue(dao.delete(created.getId()));
+        assertFalse(dao.delete(created.getId()));
+        assertFalse(dao.findById(created.getId()).isPresent());
+        assertFalse(inMemoryStorage.getUserStorage().existsUsername("john.doe"));
+    }
+
+    private List<Trainee> seedProfiles(int traineeCount, int trainingsPerTrainee) {
+        TrainingType yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        TrainingTypeStorage trainingTypeStorage = HibernateTestSupport.loadTrainingTypeCatalog(sessionFactory);
+        dao.setTrainingTypeStorage(trainingTypeStorage);
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(inMemoryStorage);
+        List<Trainer> trainers = List.of(
+                trainerDAO.create(Trainer.builder().user(buildUser("Coach", "One")).specialization(yoga).build()),
+                trainerDAO.create(Trainer.builder().user(buildUser("Coach", "Two")).specialization(yoga).build()));
+
+        HibernateTrainingDAO trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingDAO.setBatchSize(BATCH_SIZE);
+
+        List<Trainee> trainees = new ArrayList<>();
+        List<Training> trainings = new ArrayList<>();
+        for (int i = 0; i < traineeCount; i++) {
+            Trainee trainee = dao.create(buildTrainee("Member", "Number" + i));
+            trainers.forEach(trainer -> HibernateTestSupport.assignTrainer(sessionFactory, trainee.getId(), trainer.getId()));
+            for (int j = 0; j < trainingsPerTrainee; j++) {
+                trainings.add(Training.builder()
+                        .trainee(trainee)
+                        .trainer(trainers.get(j % trainers.size()))
+                        .trainingType(yoga)
+                        .trainingName("Session " + j)
+                        .trainingDate(LocalDate.of(2024, 1, 1).plusDays(j))
+                        .trainingDuration(60)
+                        .build());
+            }
+            trainees.add(trainee);
+        }
+        trainingDAO.createAll(trainings);
+
+        return trainees;
+    }
+
+    private List<String> usernames(List<Trainee> trainees) {
+        return trainees.stream()
+                .map(trainee -> trainee.getUser().getUsername())
+                .toList();
+    }
+
+    private Trainee buildTrainee(String firstName, String lastName) {
+        return Trainee.builder()
+                .user(buildUser(firstName, lastName))
+                .dateOfBirth(DATE_OF_BIRTH)
+                .address(ADDRESS)
+                .build();
+    }
+}
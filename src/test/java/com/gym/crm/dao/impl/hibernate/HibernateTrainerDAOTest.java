@@ -0,0 +1,218 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.dao.FetchPlan;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateTrainerDAOTest {
+    private static final int BATCH_SIZE = 10;
+    private static final int RECENT_TRAININGS = 2;
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainerDAO dao;
+    private TrainingType yoga;
+    private TrainingTypeStorage trainingTypeStorage;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("trainer_dao");
+        yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        HibernateTestSupport.persistTrainingType(sessionFactory, "Boxing");
+
+        dao = new HibernateTrainerDAO();
+        dao.setSessionFactory(sessionFactory);
+        trainingTypeStorage = HibernateTestSupport.loadTrainingTypeCatalog(sessionFactory);
+        dao.setTrainingTypeStorage(trainingTypeStorage);
+        dao.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        dao.setBatchSize(BATCH_SIZE);
+        dao.setFetchBatchSize(BATCH_SIZE);
+        dao.setRecentTrainings(RECENT_TRAININGS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void create_ShouldResolveSpecializationByName() {
+        Trainer trainer = Trainer.builder()
+                .user(buildUser("Mike", "Johnson"))
+                .specialization(TrainingType.builder().trainingTypeName("Yoga").build())
+                .build();
+
+        Trainer actual = dao.create(trainer);
+
+        assertNotNull(actual.getId());
+        assertEquals(yoga.getId(), actual.getSpecialization().getId());
+    }
+
+    @Test
+    void createAll_ShouldResolveSpecializationsAndAssignIds() {
+        List<Trainer> actual = dao.createAll(List.of(
+                Trainer.builder()
+                        .user(buildUser("Mike", "Johnson"))
+                        .specialization(TrainingType.builder().trainingTypeName("Boxing").build())
+                        .build(),
+                Trainer.builder()
+                        .user(buildUser("Anna", "Smith"))
+                        .specialization(yoga)
+                        .build()));
+
+        assertEquals(2, actual.size());
+        assertNotNull(actual.get(0).getId());
+        assertNotNull(actual.get(1).getUser().getId());
+        assertEquals("Boxing", dao.findById(actual.get(0).getId()).orElseThrow().getSpecialization().getTrainingTypeName());
+        assertEquals("Anna.Smith", dao.findById(actual.get(1).getId()).orElseThrow().getUser().getUsername());
+    }
+
+    @Test
+    void findById_ShouldFetchSpecialization() {
+        Trainer created = dao.create(Trainer.builder()
+                .user(buildUser("Mike", "Johnson"))
+                .specialization(yoga)
+                .build());
+
+        Trainer actual = dao.findById(created.getId()).orElseThrow();
+
+        assertEquals("Yoga", actual.getSpecialization().getTrainingTypeName());
+        assertEquals("Mike.Johnson", actual.getUser().getUsername());
+    }
+
+    @Test
+    void update_ShouldChangeSpecialization() {
+        Trainer created = dao.create(Trainer.builder()
+                .user(buildUser("Mike", "Johnson"))
+                .specialization(yoga)
+                .build());
+
+        dao.update(created.toBuilder()
+                .specialization(TrainingType.builder().trainingTypeName("Boxing").build())
+                .build());
+
+        Trainer actual = dao.findById(created.getId()).orElseThrow();
+        assertEquals("Boxing", actual.getSpecialization().getTrainingTypeName());
+    }
+
+    @Test
+    void update_ShouldThrowExceptionWhenTrainerNotExists() {
+        Trainer trainer = Trainer.builder()
+                .id(999L)
+                .user(buildUser("Mike", "Johnson"))
+                .build();
+
+        DaoException exception = assertThrows(DaoException.class, () -> dao.update(trainer));
+
+        assertEquals("Trainer not found with ID: 999", exception.getMessage());
+    }
+
+    @Test
+    void updateById_ShouldChangeSpecializationAndBumpVersion() {
+        Trainer created = dao.create(Trainer.builder()
+                .user(buildUser("Mike", "Johnson"))
+                .specialization(yoga)
+                .build());
+
+        dao.update(created.getId(), trainer -> trainer.toBuilder()
+                .specialization(TrainingType.builder().trainingTypeName("Boxing").build())
+                .build());
+
+        Trainer actual = dao.findById(created.getId()).orElseThrow();
+        assertEquals("Boxing", actual.getSpecialization().getTrainingTypeName());
+        assertEquals(1L, actual.getVersion());
+    }
+
+    @Test
+    void updateById_ShouldReturnEmptyWhenTrainerNotExists() {
+        assertTrue(dao.update(999L, trainer -> trainer).isEmpty());
+    }
+
+    @Test
+    void findById_WithProfilePlan_ShouldLoadTraineesAndRecentTrainingsInTwoStatements() {
+        Trainer trainer = seedProfiles(2, 3).get(0);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Trainer actual = dao.findById(trainer.getId(), FetchPlan.PROFILE).orElseThrow();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals("Yoga", actual.getSpecialization().getTrainingTypeName());
+        assertEquals(List.of("Member.Number0", "Member.Number1"), actual.getTrainees().stream()
+                .map(trainee -> trainee.getUser().getUsername())
+                .toList());
+        assertEquals(RECENT_TRAININGS, actual.getTrainings().size());
+        Training latest = actual.getTrainings().iterator().next();
+        assertEquals("Session 2", latest.getTrainingName());
+        assertEquals("Member.Number0", latest.getTrainee().getUser().getUsername());
+    }
+
+    @Test
+    void findPage_WithProfilePlan_ShouldBatchInitializeTraineesAndLoadOnlyRecentTrainings() {
+        seedProfiles(3, 2);
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Trainer> actual = dao.findPage(null, 10, FetchPlan.PROFILE);
+
+        assertEquals(2, actual.size());
+        assertTrue(actual.stream().allMatch(trainer -> trainer.getTrainees().size() == 3));
+        assertTrue(actual.stream().allMatch(trainer -> trainer.getTrainings().size() == RECENT_TRAININGS));
+        assertEquals(2L * RECENT_TRAININGS, statistics.getEntityStatistics(Training.class.getName()).getLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private List<Trainer> seedProfiles(int traineeCount, int trainingsPerTrainee) {
+        List<Trainer> trainers = List.of(
+                dao.create(Trainer.builder().user(buildUser("Coach", "One")).specialization(yoga).build()),
+                dao.create(Trainer.builder().user(buildUser("Coach", "Two")).specialization(yoga).build()));
+
+        HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+
+        HibernateTrainingDAO trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingDAO.setBatchSize(BATCH_SIZE);
+
+        List<Training> trainings = new ArrayList<>();
+        for (int i = 0; i < traineeCount; i++) {
+            Trainee trainee = traineeDAO.create(Trainee.builder().user(buildUser("Member", "Number" + i)).build());
+            trainers.forEach(trainer -> HibernateTestSupport.assignTrainer(sessionFactory, trainee.getId(), trainer.getId()));
+            for (int j = 0; j < trainingsPerTrainee; j++) {
+                trainings.add(Training.builder()
+                        .trainee(trainee)
+                        .trainer(trainers.get((i * trainingsPerTrainee + j) % trainers.size()))
+                        .trainingType(yoga)
+                        .trainingName("Session " + j)
+                        .trainingDate(LocalDate.of(2024, 1, 1).plusDays(j))
+                        .trainingDuration(60)
+                        .build());
+            }
+        }
+        trainingDAO.createAll(trainings);
+
+        return trainers;
+    }
+}
@@ -0,0 +1,142 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.BATCH_SIZE;
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HibernateTrainerWorkloadDAOTest {
+    private static final YearMonth FROM = YearMonth.of(2024, 1);
+    private static final YearMonth TO = YearMonth.of(2024, 12);
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainerWorkloadDAO dao;
+    private HibernateTrainingDAO trainingDAO;
+    private HibernateTraineeDAO traineeDAO;
+    private Trainee trainee;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("trainer_workload_dao");
+        TrainingType yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        TrainingTypeStorage trainingTypeStorage = HibernateTestSupport.loadTrainingTypeCatalog(sessionFactory);
+
+        traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        trainee = traineeDAO.create(Trainee.builder().user(buildUser("John", "Doe")).build());
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        trainer = trainerDAO.create(Trainer.builder().user(buildUser("Mike", "Johnson")).specialization(yoga).build());
+
+        trainingDAO = new HibernateTrainingDAO();
+        trainingDAO.setSessionFactory(sessionFactory);
+        trainingDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainingDAO.setBatchSize(BATCH_SIZE);
+
+        dao = new HibernateTrainerWorkloadDAO();
+        dao.setSessionFactory(sessionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void findMonthlyMinutes_ShouldSumTrainingsCreatedOneByOneAndInBatches() {
+        trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 1, 5), 30));
+        trainingDAO.createAll(List.of(
+                buildTraining(trainee, LocalDate.of(2024, 1, 20), 45),
+                buildTraining(trainee, LocalDate.of(2024, 3, 1), 60),
+                buildTraining(trainee, LocalDate.of(2025, 1, 1), 90)));
+
+        Map<YearMonth, Long> actual = dao.findMonthlyMinutes(trainer.getId(), FROM, TO);
+
+        assertEquals(Map.of(YearMonth.of(2024, 1), 75L, YearMonth.of(2024, 3), 60L), actual);
+        assertEquals(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 3)), List.copyOf(actual.keySet()));
+    }
+
+    @Test
+    void findMonthlyMinutes_ShouldCountConcurrentFirstTrainingsOfMonth() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Training>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 4, 1), 10));
+                }));
+            }
+            start.countDown();
+            for (Future<Training> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Map.of(YearMonth.of(2024, 4), 40L), dao.findMonthlyMinutes(trainer.getId(), FROM, TO));
+    }
+
+    @Test
+    void findMonthlyMinutes_ShouldSubtractDeletedTrainingsAndTrainees() {
+        Trainee other = traineeDAO.create(Trainee.builder().user(buildUser("Jane", "Smith")).build());
+        Training deleted = trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 1, 5), 30));
+        trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 2, 5), 45));
+        trainingDAO.create(buildTraining(other, LocalDate.of(2024, 2, 10), 60));
+
+        trainingDAO.delete(deleted.getId());
+        traineeDAO.delete(trainee.getId());
+
+        assertEquals(Map.of(YearMonth.of(2024, 2), 60L), dao.findMonthlyMinutes(trainer.getId(), FROM, TO));
+    }
+
+    @Test
+    void rebuild_ShouldRecomputeSummaryFromTrainings() {
+        trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 1, 5), 30));
+        trainingDAO.create(buildTraining(trainee, LocalDate.of(2024, 2, 5), 45));
+        sessionFactory.inTransaction(session ->
+                session.createNativeMutationQuery("UPDATE trainer_workloads SET total_minutes = 1").executeUpdate());
+
+        assertEquals(2, dao.rebuild());
+        assertEquals(Map.of(YearMonth.of(2024, 1), 30L, YearMonth.of(2024, 2), 45L),
+                dao.findMonthlyMinutes(trainer.getId(), FROM, TO));
+    }
+
+    private Training buildTraining(Trainee owner, LocalDate date, int duration) {
+        return Training.builder()
+                .trainee(owner)
+                .trainer(trainer)
+                .trainingType(TrainingType.builder().trainingTypeName("Yoga").build())
+                .trainingName("Session")
+                .trainingDate(date)
+                .trainingDuration(duration)
+                .build();
+    }
+}
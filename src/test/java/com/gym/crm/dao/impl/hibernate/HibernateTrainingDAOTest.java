@@ -0,0 +1,295 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.dao.TrainingFilter;
+import com.gym.crm.dao.TrainingSummary;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.BATCH_SIZE;
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateTrainingDAOTest {
+    private static final LocalDate TRAINING_DATE = LocalDate.of(2024, 1, 15);
+
+    private SessionFactory sessionFactory;
+    private HibernateTrainingDAO dao;
+    private HibernateTraineeDAO traineeDAO;
+    private Trainee trainee;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("training_dao");
+        TrainingType yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        TrainingTypeStorage trainingTypeStorage = HibernateTestSupport.loadTrainingTypeCatalog(sessionFactory);
+
+        traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        trainee = traineeDAO.create(Trainee.builder().user(buildUser("John", "Doe")).build());
+
+        HibernateTrainerDAO trainerDAO = new HibernateTrainerDAO();
+        trainerDAO.setSessionFactory(sessionFactory);
+        trainerDAO.setTrainingTypeStorage(trainingTypeStorage);
+        trainerDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        trainer = trainerDAO.create(Trainer.builder().user(buildUser("Mike", "Johnson")).specialization(yoga).build());
+
+        dao = new HibernateTrainingDAO();
+        dao.setSessionFactory(sessionFactory);
+        dao.setTrainingTypeStorage(trainingTypeStorage);
+        dao.setBatchSize(BATCH_SIZE);
+        dao.setFetchSize(HibernateTestSupport.FETCH_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void setBatchSize_ShouldRejectNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> dao.setBatchSize(0));
+    }
+
+    @Test
+    void create_ShouldAssignIdAndResolveTrainingType() {
+        Training actual = dao.create(buildTraining("Morning Yoga"));
+
+        assertNotNull(actual.getId());
+        assertNotNull(actual.getTrainingType().getId());
+    }
+
+    @Test
+    void findById_ShouldFetchAssociationsForDetachedUse() {
+        Training created = dao.create(buildTraining("Morning Yoga"));
+
+        Training actual = dao.findById(created.getId()).orElseThrow();
+
+        assertEquals("John.Doe", actual.getTrainee().getUser().getUsername());
+        assertEquals("Mike.Johnson", actual.getTrainer().getUser().getUsername());
+        assertEquals("Yoga", actual.getTrainingType().getTrainingTypeName());
+    }
+
+    @Test
+    void findById_ShouldResolveTrainingTypesFromCatalogWithoutQueries() {
+        Training created = dao.create(buildTraining("Morning Yoga"));
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Training actual = dao.findById(created.getId()).orElseThrow();
+
+        assertEquals("Yoga", actual.getTrainingType().getTrainingTypeName());
+        assertEquals("Yoga", actual.getTrainer().getSpecialization().getTrainingTypeName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPage_ShouldReturnTrainingsAfterId() {
+        List<Training> created = dao.createAll(IntStream.range(0, 3)
+                .mapToObj(i -> buildTraining("Session " + i))
+                .toList());
+
+        List<Training> actual = dao.findPage(created.get(0).getId(), 5);
+
+        assertEquals(List.of("Session 1", "Session 2"), actual.stream().map(Training::getTrainingName).toList());
+        assertEquals("Yoga", actual.get(0).getTrainingType().getTrainingTypeName());
+    }
+
+    @Test
+    void findSummaryPage_ShouldLoadPageInSingleStatement() {
+        dao.createAll(IntStream.range(0, 100)
+                .mapToObj(i -> buildTraining("Session " + i))
+                .toList());
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<TrainingSummary> actual = dao.findSummaryPage(null, 100);
+
+        assertEquals(100, actual.size());
+        assertEquals("John.Doe", actual.get(99).traineeUsername());
+        assertEquals("Mike.Johnson", actual.get(99).trainerUsername());
+        assertEquals("Yoga", actual.get(99).trainingType().getTrainingTypeName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findSummariesByTraineeId_ShouldReturnOnlyThatTraineesTrainings() {
+        Trainee other = traineeDAO.create(Trainee.builder().user(buildUser("Jane", "Smith")).build());
+        dao.create(buildTraining("Morning Yoga"));
+        dao.create(buildTraining("Evening Yoga").toBuilder().trainee(other).build());
+
+        List<TrainingSummary> actual = dao.findSummariesByTraineeId(other.getId());
+
+        assertEquals(1, actual.size());
+        assertEquals("Evening Yoga", actual.get(0).trainingName());
+        assertEquals("Jane.Smith", actual.get(0).traineeUsername());
+    }
+
+    @Test
+    void streamAll_ShouldResolveTrainingTypesFromCatalog() {
+        dao.createAll(IntStream.range(0, 5)
+                .mapToObj(i -> buildTraining("Session " + i))
+                .toList());
+
+        try (Stream<Training> stream = dao.streamAll()) {
+            List<Training> actual = stream.toList();
+
+            assertEquals(5, actual.size());
+            assertTrue(actual.stream().allMatch(training -> "Yoga".equals(training.getTrainingType().getTrainingTypeName())));
+            assertEquals("Mike.Johnson", actual.get(4).getTrainer().getUser().getUsername());
+        }
+    }
+
+    @Test
+    void findByTraineeId_ShouldReturnOnlyThatTraineesTrainings() {
+        Trainee other = traineeDAO.create(Trainee.builder().user(buildUser("Jane", "Smith")).build());
+        dao.create(buildTraining("Morning Yoga"));
+        dao.create(buildTraining("Evening Yoga").toBuilder().trainee(other).build());
+
+        List<Training> actual = dao.findByTraineeId(trainee.getId());
+
+        assertEquals(List.of("Morning Yoga"), actual.stream().map(Training::getTrainingName).toList());
+        assertEquals(2, dao.findByTrainerId(trainer.getId()).size());
+        assertTrue(dao.findByTrainerId(999L).isEmpty());
+    }
+
+    @Test
+    void findByDateRange_ShouldFilterByDatesAndParticipants() {
+        Trainee other = traineeDAO.create(Trainee.builder().user(buildUser("Jane", "Smith")).build());
+        dao.create(buildTraining("Early").toBuilder().trainingDate(LocalDate.of(2024, 1, 1)).build());
+        dao.create(buildTraining("Monday").toBuilder().trainingDate(LocalDate.of(2024, 1, 8)).build());
+        dao.create(buildTraining("Friday").toBuilder().trainingDate(LocalDate.of(2024, 1, 12)).build());
+        dao.create(buildTraining("Other").toBuilder().trainee(other).trainingDate(LocalDate.of(2024, 1, 9)).build());
+        LocalDate from = LocalDate.of(2024, 1, 8);
+        LocalDate to = LocalDate.of(2024, 1, 14);
+
+        List<Training> week = dao.findByDateRange(from, to, null);
+        List<Training> traineeWeek = dao.findByDateRange(from, to, TrainingFilter.builder()
+                .traineeId(trainee.getId())
+                .trainerId(trainer.getId())
+                .trainingTypeName("YOGA")
+                .build());
+
+        assertEquals(List.of("Monday", "Other", "Friday"), week.stream().map(Training::getTrainingName).toList());
+        assertEquals(List.of("Monday", "Friday"), traineeWeek.stream().map(Training::getTrainingName).toList());
+        assertTrue(dao.findByDateRange(from, to, TrainingFilter.builder().trainingTypeName("Boxing").build()).isEmpty());
+    }
+
+    @Test
+    void delete_ShouldRemoveTraining() {
+        Training created = dao.create(buildTraining("Morning Yoga"));
+
+        assertTrue(dao.delete(created.getId()));
+        assertFalse(dao.delete(created.getId()));
+        assertTrue(dao.findByTraineeId(trainee.getId()).isEmpty());
+    }
+
+    @Test
+    void createAll_ShouldInsertInJdbcBatches() {
+        int count = BATCH_SIZE * 4;
+        List<Training> trainings = IntStream.range(0, count)
+                .mapToObj(i -> buildTraining("Session " + i))
+                .toList();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<Training> actual = dao.createAll(trainings);
+
+        assertEquals(count, actual.size());
+        assertTrue(actual.stream().allMatch(training -> training.getId() != null));
+        assertEquals(count, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < count / 2,
+                "Expected batched inserts, prepared " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(count, dao.findAll().size());
+    }
+
+    @Test
+    void insertAll_ShouldInsertThroughStatelessSessionInBatchesAndUpdateWorkload() {
+        int count = BATCH_SIZE * 4;
+        List<Training> trainings = IntStream.range(0, count)
+                .<Training>mapToObj(i -> buildTraining("Session " + i).toBuilder()
+                        .trainee(Trainee.builder().id(trainee.getId()).build())
+                        .trainer(Trainer.builder().id(trainer.getId()).build())
+                        .build())
+                .toList();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        int actual = dao.insertAll(trainings);
+
+        assertEquals(count, actual);
+        assertTrue(statistics.getPrepareStatementCount() < count / 2,
+                "Expected batched inserts, prepared " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(count, dao.findByTraineeId(trainee.getId()).size());
+
+        HibernateTrainerWorkloadDAO workloadDAO = new HibernateTrainerWorkloadDAO();
+        workloadDAO.setSessionFactory(sessionFactory);
+        assertEquals(count * 60L, workloadDAO.findMonthlyMinutes(trainer.getId(),
+                YearMonth.from(TRAINING_DATE), YearMonth.from(TRAINING_DATE)).get(YearMonth.from(TRAINING_DATE)));
+    }
+
+    @Test
+    void insertAll_ShouldCommitImportProgressWithBatchOnly() {
+        Training training = buildTraining("Imported").toBuilder()
+                .trainee(Trainee.builder().id(trainee.getId()).build())
+                .trainer(Trainer.builder().id(trainer.getId()).build())
+                .build();
+        TrainingImport first = TrainingImport.builder()
+                .source("trainings.csv")
+                .lastLine(3)
+                .imported(1)
+                .rejected(1)
+                .rejectsBytes(40)
+                .build();
+
+        dao.insertAll(List.of(training), first);
+        assertThrows(DaoException.class, () -> dao.insertAll(List.of(training.toBuilder()
+                        .trainer(Trainer.builder().id(Long.MAX_VALUE).build())
+                        .build()),
+                first.toBuilder().lastLine(5).imported(2).build()));
+
+        TrainingImport actual = dao.findImport("trainings.csv").orElseThrow();
+        assertEquals(3, actual.getLastLine());
+        assertEquals(1, actual.getImported());
+        assertEquals(40, actual.getRejectsBytes());
+        assertEquals(1, dao.findByTraineeId(trainee.getId()).size());
+        assertTrue(dao.findImport("other.csv").isEmpty());
+    }
+
+    private Training buildTraining(String name) {
+        return Training.builder()
+                .trainee(trainee)
+                .trainer(trainer)
+                .trainingType(TrainingType.builder().trainingTypeName("Yoga").build())
+                .trainingName(name)
+                .trainingDate(TRAINING_DATE)
+                .trainingDuration(60)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateTrainingTypeDAOTest {
+    private SessionFactory sessionFactory;
+    private TrainingTypeStorage trainingTypeStorage;
+    private HibernateTrainingTypeDAO dao;
+    private TrainingType yoga;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("training_type_dao");
+        yoga = HibernateTestSupport.persistTrainingType(sessionFactory, "Yoga");
+        HibernateTestSupport.persistTrainingType(sessionFactory, "Boxing");
+
+        trainingTypeStorage = new TrainingTypeStorage();
+        dao = new HibernateTrainingTypeDAO();
+        dao.setSessionFactory(sessionFactory);
+        dao.setTrainingTypeStorage(trainingTypeStorage);
+        dao.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void refresh_ShouldLoadCatalogFromDatabase() {
+        assertEquals(2, dao.findAll().size());
+        assertEquals("Yoga", dao.findById(yoga.getId()).orElseThrow().getTrainingTypeName());
+        assertEquals(yoga.getId(), dao.findByName("yoga").orElseThrow().getId());
+    }
+
+    @Test
+    void findById_ShouldServeFromCatalogWithoutQueries() {
+        sessionFactory.getStatistics().setStatisticsEnabled(true);
+        sessionFactory.getStatistics().clear();
+
+        dao.findById(yoga.getId());
+        dao.findByName("Boxing");
+
+        assertEquals(0, sessionFactory.getStatistics().getPrepareStatementCount());
+    }
+
+    @Test
+    void save_ShouldPersistNewTypeAndRefreshCatalog() {
+        TrainingType actual = dao.save(TrainingType.builder().trainingTypeName("Pilates").build());
+
+        assertNotNull(actual.getId());
+        assertTrue(dao.findByName("Pilates").isPresent());
+        assertEquals(3, trainingTypeStorage.getCatalog().size());
+    }
+
+    @Test
+    void save_ShouldRenameExistingType() {
+        dao.save(yoga.toBuilder().trainingTypeName("Hatha Yoga").build());
+
+        assertFalse(dao.findByName("Yoga").isPresent());
+        assertEquals(yoga.getId(), dao.findByName("Hatha Yoga").orElseThrow().getId());
+    }
+
+    @Test
+    void save_ShouldThrowExceptionWhenTypeNotExists() {
+        TrainingType missing = TrainingType.builder().id(999L).trainingTypeName("Missing").build();
+
+        DaoException exception = assertThrows(DaoException.class, () -> dao.save(missing));
+
+        assertEquals("Training type not found with ID: 999", exception.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package com.gym.crm.dao.impl.hibernate;
+
+import com.gym.crm.model.Trainee;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.gym.crm.dao.impl.hibernate.HibernateTestSupport.buildUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HibernateUserDAOTest {
+    private SessionFactory sessionFactory;
+    private HibernateUserDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = HibernateTestSupport.buildSessionFactory("user_dao");
+
+        HibernateTraineeDAO traineeDAO = new HibernateTraineeDAO();
+        traineeDAO.setSessionFactory(sessionFactory);
+        traineeDAO.setStorage(HibernateTestSupport.buildInMemoryStorage());
+        traineeDAO.create(Trainee.builder().user(buildUser("John", "Doe")).build());
+
+        dao = new HibernateUserDAO();
+        dao.setSessionFactory(sessionFactory);
+        dao.setStorage(HibernateTestSupport.buildInMemoryStorage());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void reserveUsername_ShouldRejectUsernamePersistedInDatabase() {
+        assertTrue(dao.existsUsername("JOHN.DOE"));
+        assertFalse(dao.reserveUsername("john.doe"));
+    }
+
+    @Test
+    void reserveUsername_ShouldReserveFreeUsernameOnce() {
+        assertTrue(dao.reserveUsername("Jane.Smith"));
+        assertFalse(dao.reserveUsername("jane.smith"));
+
+        dao.releaseUsername("Jane.Smith");
+
+        assertTrue(dao.reserveUsername("jane.smith"));
+    }
+
+    @Test
+    void reserveUsernames_ShouldSkipPersistedAndAlreadyReservedUsernames() {
+        assertTrue(dao.reserveUsername("Jane.Smith"));
+
+        Set<String> actual = dao.reserveUsernames(List.of("John.Doe", "Jane.Smith", "Mike.Johnson"));
+
+        assertEquals(Set.of("Mike.Johnson"), actual);
+        assertFalse(dao.reserveUsername("mike.johnson"));
+    }
+
+    @Test
+    void findAllUsernames_ShouldReadUsersTable() {
+        assertEquals(List.of("John.Doe"), dao.findAllUsernames());
+    }
+
+    @Test
+    void findByUsername_ShouldLoadUserIgnoringCase() {
+        assertEquals("John.Doe", dao.findByUsername("JOHN.DOE").orElseThrow().getUsername());
+        assertTrue(dao.findByUsername("Jane.Smith").isEmpty());
+    }
+
+    @Test
+    void updatePassword_ShouldReplaceOnlyTheExpectedHash() {
+        assertFalse(dao.updatePassword("john.doe", "stale", "rehashed"));
+        assertTrue(dao.updatePassword("john.doe", "password123", "rehashed"));
+
+        assertEquals("rehashed", dao.findByUsername("John.Doe").orElseThrow().getPassword());
+    }
+}
@@ -1,14 +1,21 @@
 package com.gym.crm.facade;
 
+import com.gym.crm.audit.AuditActor;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
 import com.gym.crm.dto.trainer.TrainerCreateRequest;
 import com.gym.crm.dto.trainer.TrainerResponse;
 import com.gym.crm.dto.trainer.TrainerUpdateRequest;
+import com.gym.crm.dto.training.TrainerWorkloadResponse;
 import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingImportReport;
 import com.gym.crm.dto.training.TrainingResponse;
+import com.gym.crm.exception.CoreServiceException;
 import com.gym.crm.model.TrainingType;
+import com.gym.crm.service.AssignmentService;
+import com.gym.crm.service.AuthenticationService;
 import com.gym.crm.service.TraineeService;
 import com.gym.crm.service.TrainerService;
 import com.gym.crm.service.TrainingService;
@@ -18,6 +25,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 
 import static com.gym.crm.facade.GymTestObjects.FIRST_NAME;
@@ -45,7 +55,10 @@ import static com.gym.crm.facade.GymTestObjects.buildTrainingResponse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,6 +71,10 @@ class GymFacadeTest {
     private TrainerService trainerService;
     @Mock
     private TrainingService trainingService;
+    @Mock
+    private AssignmentService assignmentService;
+    @Mock
+    private AuthenticationService authenticationService;
     @InjectMocks
     private GymFacade facade;
 
@@ -78,6 +95,32 @@ class GymFacadeTest {
         verify(traineeService).create(request);
     }
 
+    @Test
+    void createTrainees_ShouldCallServiceAndReturnRowResults() {
+        List<TraineeCreateRequest> requests = List.of(buildTraineeCreateRequest());
+        List<BulkCreateResult<TraineeResponse>> expected = List.of(BulkCreateResult.<TraineeResponse>builder()
+                .created(buildTraineeResponse())
+                .build());
+
+        when(traineeService.createAll(requests)).thenReturn(expected);
+
+        assertSame(expected, facade.createTrainees(requests));
+        verify(traineeService).createAll(requests);
+    }
+
+    @Test
+    void createTrainers_ShouldCallServiceAndReturnRowResults() {
+        List<TrainerCreateRequest> requests = List.of(buildTrainerCreateRequest());
+        List<BulkCreateResult<TrainerResponse>> expected = List.of(BulkCreateResult.<TrainerResponse>builder()
+                .error("First name and last name are required")
+                .build());
+
+        when(trainerService.createAll(requests)).thenReturn(expected);
+
+        assertSame(expected, facade.createTrainers(requests));
+        verify(trainerService).createAll(requests);
+    }
+
     @Test
     void getTraineeById_ShouldCallServiceAndReturnResponse() {
         TraineeResponse expectedResponse = buildTraineeResponse();
@@ -104,6 +147,18 @@ class GymFacadeTest {
         verify(traineeService).findById(nonExistentId);
     }
 
+    @Test
+    void getTrainees_ShouldCallServiceAndReturnPage() {
+        TraineeResponse expectedResponse = buildTraineeResponse();
+
+        when(traineeService.findPage(null, 20)).thenReturn(List.of(expectedResponse));
+
+        List<TraineeResponse> actual = facade.getTrainees(null, 20);
+
+        assertEquals(List.of(expectedResponse), actual);
+        verify(traineeService).findPage(null, 20);
+    }
+
     @Test
     void updateTrainee_ShouldCallServiceAndReturnResponse() {
         TraineeUpdateRequest expected = buildTraineeUpdateRequest();
@@ -224,6 +279,73 @@ class GymFacadeTest {
         verify(trainingService).findById(TRAINING_ID);
     }
 
+    @Test
+    void getTrainings_ShouldCallServiceAndReturnPage() {
+        TrainingResponse expectedResponse = buildTrainingResponse();
+
+        when(trainingService.findPage(TRAINING_ID, 20)).thenReturn(List.of(expectedResponse));
+
+        List<TrainingResponse> actual = facade.getTrainings(TRAINING_ID, 20);
+
+        assertEquals(List.of(expectedResponse), actual);
+        verify(trainingService).findPage(TRAINING_ID, 20);
+    }
+
+    @Test
+    void getTraineeTrainings_ShouldCallServiceAndReturnTrainings() {
+        TrainingResponse expectedResponse = buildTrainingResponse();
+
+        when(trainingService.findByTraineeId(TRAINEE_ID)).thenReturn(List.of(expectedResponse));
+
+        List<TrainingResponse> actual = facade.getTraineeTrainings(TRAINEE_ID);
+
+        assertEquals(List.of(expectedResponse), actual);
+        verify(trainingService).findByTraineeId(TRAINEE_ID);
+    }
+
+    @Test
+    void assignTrainer_ShouldCallService() {
+        when(assignmentService.assign(TRAINEE_ID, TRAINER_ID)).thenReturn(true);
+
+        assertTrue(facade.assignTrainer(TRAINEE_ID, TRAINER_ID));
+        verify(assignmentService).assign(TRAINEE_ID, TRAINER_ID);
+    }
+
+    @Test
+    void unassignTrainer_ShouldCallService() {
+        when(assignmentService.unassign(TRAINEE_ID, TRAINER_ID)).thenReturn(false);
+
+        assertFalse(facade.unassignTrainer(TRAINEE_ID, TRAINER_ID));
+        verify(assignmentService).unassign(TRAINEE_ID, TRAINER_ID);
+    }
+
+    @Test
+    void getTraineeTrainers_ShouldCallServiceAndReturnTrainers() {
+        TrainerResponse expectedResponse = buildTrainerResponse();
+
+        when(assignmentService.findTrainers(TRAINEE_ID)).thenReturn(List.of(expectedResponse));
+
+        assertEquals(List.of(expectedResponse), facade.getTraineeTrainers(TRAINEE_ID));
+    }
+
+    @Test
+    void getTrainerTrainees_ShouldCallServiceAndReturnTrainees() {
+        TraineeResponse expectedResponse = buildTraineeResponse();
+
+        when(assignmentService.findTrainees(TRAINER_ID)).thenReturn(List.of(expectedResponse));
+
+        assertEquals(List.of(expectedResponse), facade.getTrainerTrainees(TRAINER_ID));
+    }
+
+    @Test
+    void getUnassignedActiveTrainers_ShouldCallServiceAndReturnTrainers() {
+        TrainerResponse expectedResponse = buildTrainerResponse();
+
+        when(assignmentService.findUnassignedActiveTrainers(TRAINEE_ID)).thenReturn(List.of(expectedResponse));
+
+        assertEquals(List.of(expectedResponse), facade.getUnassignedActiveTrainers(TRAINEE_ID));
+    }
+
     @Test
     void getTrainingById_ShouldReturnEmptyWhenNotFound() {
         Long nonExistentId = 999L;
@@ -236,6 +358,55 @@ class GymFacadeTest {
         verify(trainingService).findById(nonExistentId);
     }
 
+    @Test
+    void getTrainerWorkload_ShouldCallServiceAndReturnResponse() {
+        YearMonth from = YearMonth.of(2024, 1);
+        YearMonth to = YearMonth.of(2024, 6);
+        TrainerWorkloadResponse expected = TrainerWorkloadResponse.builder().trainerId(2L).totalMinutes(120).build();
+
+        when(trainingService.getTrainerWorkload(2L, from, to)).thenReturn(expected);
+
+        assertSame(expected, facade.getTrainerWorkload(2L, from, to));
+        verify(trainingService).getTrainerWorkload(2L, from, to);
+    }
+
+    @Test
+    void importTrainings_ShouldCallServiceAndReturnReport() {
+        Path csvFile = Path.of("trainings.csv");
+        TrainingImportReport expected = TrainingImportReport.builder().imported(3).build();
+
+        when(trainingService.importTrainings(csvFile)).thenReturn(expected);
+
+        assertSame(expected, facade.importTrainings(csvFile));
+        verify(trainingService).importTrainings(csvFile);
+    }
+
+    @Test
+    void authenticate_ShouldDelegateToAuthenticationService() {
+        when(authenticationService.authenticate("John.Doe", "secret")).thenReturn(true);
+
+        assertTrue(facade.authenticate("John.Doe", "secret"));
+        verify(authenticationService).authenticate("John.Doe", "secret");
+    }
+
+    @Test
+    void runAs_ShouldAttributeAuditEventsToAuthenticatedUserOnlyDuringAction() {
+        when(authenticationService.authenticate("John.Doe", "secret")).thenReturn(true);
+
+        String actor = facade.runAs("John.Doe", "secret", AuditActor::current);
+
+        assertEquals("John.Doe", actor);
+        assertEquals(AuditActor.SYSTEM, AuditActor.current());
+    }
+
+    @Test
+    void runAs_ShouldRejectWrongCredentialsWithoutRunningAction() {
+        when(authenticationService.authenticate("John.Doe", "wrong")).thenReturn(false);
+
+        assertThrows(CoreServiceException.class, () -> facade.runAs("John.Doe", "wrong", () -> fail("Action ran")));
+        assertEquals(AuditActor.SYSTEM, AuditActor.current());
+    }
+
     @Test
     void constructor_ShouldInitializeServices() {
         TraineeService mockTraineeService = mock(TraineeService.class);
@@ -244,7 +415,8 @@ class GymFacadeTest {
 
         when(mockTraineeService.findById(TRAINEE_ID)).thenReturn(Optional.of(buildTraineeResponse()));
 
-        GymFacade facade = new GymFacade(mockTraineeService, mockTrainerService, mockTrainingService);
+        GymFacade facade = new GymFacade(mockTraineeService, mockTrainerService, mockTrainingService,
+                mock(AssignmentService.class), mock(AuthenticationService.class));
 
         assertNotNull(facade);
 
@@ -0,0 +1,27 @@
+package com.gym.crm.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRecordTest {
+    @Test
+    void parse_ShouldSplitPlainAndQuotedFields() {
+        assertEquals(List.of("john.doe", "Morning, Yoga", "say \"hi\"", ""),
+                CsvRecord.parse("john.doe,\"Morning, Yoga\",\"say \"\"hi\"\"\","));
+    }
+
+    @Test
+    void parse_ShouldRejectUnterminatedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> CsvRecord.parse("john.doe,\"Morning"));
+    }
+
+    @Test
+    void quote_ShouldOnlyQuoteFieldsThatNeedIt() {
+        assertEquals("plain", CsvRecord.quote("plain"));
+        assertEquals("\"a,\"\"b\"\"\"", CsvRecord.quote("a,\"b\""));
+    }
+}
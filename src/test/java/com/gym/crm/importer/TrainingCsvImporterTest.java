@@ -0,0 +1,186 @@
+package com.gym.crm.importer;
+
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.TrainerDAOImpl;
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.dao.impl.TrainingTypeDAOImpl;
+import com.gym.crm.dto.training.TrainingImportReport;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.exception.DaoException;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.UserStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.spy;
+
+class TrainingCsvImporterTest {
+    private static final int BATCH_SIZE = 2;
+
+    @TempDir
+    private Path directory;
+
+    private TrainingDAOImpl trainingDAO;
+    private TrainingCsvImporter importer;
+    private Trainee trainee;
+    private Trainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setTraineeStorage(new TraineeStorage());
+        storage.setTrainerStorage(new TrainerStorage());
+        storage.setTrainingStorage(new TrainingStorage());
+        storage.setTrainingTypeStorage(new TrainingTypeStorage());
+        storage.setUserStorage(new UserStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+
+        TraineeDAOImpl traineeDAO = new TraineeDAOImpl();
+        traineeDAO.setStorage(storage);
+        TrainerDAOImpl trainerDAO = new TrainerDAOImpl();
+        trainerDAO.setStorage(storage);
+        TrainingTypeDAOImpl trainingTypeDAO = new TrainingTypeDAOImpl();
+        trainingTypeDAO.setStorage(storage);
+        trainingDAO = new TrainingDAOImpl();
+        trainingDAO.setStorage(storage);
+
+        TrainingType yoga = trainingTypeDAO.save(TrainingType.builder().trainingTypeName("Yoga").build());
+        trainingTypeDAO.save(TrainingType.builder().trainingTypeName("Boxing").build());
+        trainee = traineeDAO.create(Trainee.builder().user(user("John", "Doe")).build());
+        trainer = trainerDAO.create(Trainer.builder().user(user("Mike", "Johnson")).specialization(yoga).build());
+
+        importer = new TrainingCsvImporter();
+        importer.setTraineeDAO(traineeDAO);
+        importer.setTrainerDAO(trainerDAO);
+        importer.setTrainingDAO(trainingDAO);
+        importer.setTrainingTypeDAO(trainingTypeDAO);
+        importer.setBatchSize(BATCH_SIZE);
+        importer.setValidationThreads(2);
+    }
+
+    @Test
+    void importFile_ShouldImportValidRowsAndWriteRejects() throws IOException {
+        Path csv = write(
+                TrainingCsvImporter.HEADER,
+                "john.doe,Mike.Johnson,\"Morning, Yoga\",,2024-01-15,60",
+                "JOHN.DOE,mike.johnson,Sparring,boxing,2024-01-16,45",
+                "jane.smith,mike.johnson,Sparring,Boxing,2024-01-16,45",
+                "",
+                "john.doe,mike.johnson,Stretching,Yoga,2024-13-01,30",
+                "john.doe,mike.johnson,Stretching,Yoga,2024-02-01,30");
+
+        TrainingImportReport actual = importer.importFile(csv);
+
+        assertEquals(3, actual.getImported());
+        assertEquals(2, actual.getRejected());
+        assertEquals(7, actual.getLastLine());
+
+        List<Training> trainings = trainingDAO.findByTraineeId(trainee.getId());
+        assertEquals(3, trainings.size());
+        assertTrue(trainings.stream().anyMatch(training -> training.getTrainingName().equals("Morning, Yoga")
+                && training.getTrainingType().getTrainingTypeName().equals("Yoga")
+                && training.getTrainer().getId().equals(trainer.getId())));
+
+        List<String> rejects = Files.readAllLines(Path.of(actual.getRejectsFile()));
+        assertEquals(3, rejects.size());
+        assertTrue(rejects.get(1).startsWith("4,Unknown trainee: jane.smith,"));
+        assertTrue(rejects.get(2).startsWith("6,\"Invalid date or duration: 2024-13-01, 30\","));
+    }
+
+    @Test
+    void importFile_ShouldResumeAfterCheckpointAndNotReimportCompletedFile() throws IOException {
+        List<String> lines = IntStream.range(0, 5)
+                .mapToObj(i -> "john.doe,mike.johnson,Session " + i + ",Yoga,2024-01-0" + (i + 1) + ",60")
+                .toList();
+        Path csv = write(TrainingCsvImporter.HEADER, String.join("\n", lines));
+        trainingDAO.insertAll(List.of(), TrainingImport.builder()
+                .source(csv.toAbsolutePath().normalize().toString())
+                .lastLine(3)
+                .imported(2)
+                .build());
+
+        TrainingImportReport resumed = importer.importFile(csv);
+        TrainingImportReport rerun = importer.importFile(csv);
+
+        assertEquals(3, resumed.getResumedAfterLine());
+        assertEquals(5, resumed.getImported());
+        assertEquals(3, trainingDAO.findByTraineeId(trainee.getId()).size());
+        assertEquals(6, rerun.getResumedAfterLine());
+        assertEquals(3, trainingDAO.findByTraineeId(trainee.getId()).size());
+    }
+
+    @Test
+    void importFile_ShouldNotDuplicateRowsOrRejectsOfBatchThatFailedBeforeCommit() throws IOException {
+        Path csv = write(
+                TrainingCsvImporter.HEADER,
+                "john.doe,mike.johnson,Session 1,Yoga,2024-01-01,60",
+                "jane.smith,mike.johnson,Session 2,Yoga,2024-01-02,60",
+                "john.doe,mike.johnson,Session 3,Yoga,2024-01-03,60",
+                "jane.smith,mike.johnson,Session 4,Yoga,2024-01-04,60",
+                "john.doe,mike.johnson,Session 5,Yoga,2024-01-05,60");
+        TrainingDAOImpl crashingDAO = spy(trainingDAO);
+        doCallRealMethod()
+                .doThrow(new DaoException("Connection lost"))
+                .when(crashingDAO).insertAll(anyList(), any(TrainingImport.class));
+        importer.setTrainingDAO(crashingDAO);
+
+        assertThrows(DaoException.class, () -> importer.importFile(csv));
+        importer.setTrainingDAO(trainingDAO);
+        TrainingImportReport resumed = importer.importFile(csv);
+
+        assertEquals(3, resumed.getResumedAfterLine());
+        assertEquals(3, resumed.getImported());
+        assertEquals(2, resumed.getRejected());
+        assertEquals(3, trainingDAO.findByTraineeId(trainee.getId()).size());
+
+        List<String> rejects = Files.readAllLines(Path.of(resumed.getRejectsFile()));
+        assertEquals(3, rejects.size());
+        assertTrue(rejects.get(1).startsWith("3,Unknown trainee: jane.smith,"));
+        assertTrue(rejects.get(2).startsWith("5,Unknown trainee: jane.smith,"));
+    }
+
+    @Test
+    void importFile_ShouldRejectFileWithoutExpectedHeader() throws IOException {
+        Path csv = write("trainee,trainer", "john.doe,mike.johnson");
+
+        assertThrows(CoreServiceException.class, () -> importer.importFile(csv));
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(directory.resolve("trainings.csv"), List.of(lines));
+    }
+
+    private static User user(String firstName, String lastName) {
+        return User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .username(firstName + "." + lastName)
+                .password("password123")
+                .isActive(true)
+                .build();
+    }
+}
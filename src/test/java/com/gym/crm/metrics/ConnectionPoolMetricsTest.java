@@ -0,0 +1,59 @@
+package com.gym.crm.metrics;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolMetricsTest {
+    private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("test-pool");
+        config.setJdbcUrl("jdbc:h2:mem:pool_metrics;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMinimumIdle(2);
+        config.setMaximumPoolSize(2);
+        config.setMetricsTrackerFactory(metrics);
+
+        dataSource = new HikariDataSource(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void getConnection_ShouldRecordAcquireTimeAndActiveConnections() throws SQLException {
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals("test-pool", metrics.getPoolName());
+            assertEquals(1, metrics.getActiveConnections());
+            assertEquals(0, metrics.getPendingThreads());
+        }
+
+        assertEquals(1, metrics.getAcquireTime().getCount());
+        assertTrue(metrics.getAcquireTime().getSumNanos() > 0);
+        assertEquals(0, metrics.getTimeouts());
+    }
+
+    @Test
+    void getters_ShouldReturnZeroBeforePoolStarts() {
+        ConnectionPoolMetrics unbound = new ConnectionPoolMetrics();
+
+        assertEquals(0, unbound.getActiveConnections());
+        assertEquals(0, unbound.getIdleConnections());
+        assertEquals(0, unbound.getTotalConnections());
+    }
+}
@@ -0,0 +1,30 @@
+package com.gym.crm.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram(new long[]{10, 100, 1000});
+
+    @Test
+    void record_ShouldPlaceValuesInUpperInclusiveBuckets() {
+        histogram.record(5);
+        histogram.record(10);
+        histogram.record(11);
+        histogram.record(1000);
+        histogram.record(5000);
+
+        assertArrayEquals(new long[]{2, 1, 1, 1}, histogram.getBucketCounts());
+        assertEquals(5, histogram.getCount());
+        assertEquals(6026, histogram.getSumNanos());
+    }
+
+    @Test
+    void getBoundsNanos_ShouldReturnCopy() {
+        histogram.getBoundsNanos()[0] = 42;
+
+        assertArrayEquals(new long[]{10, 100, 1000}, histogram.getBoundsNanos());
+    }
+}
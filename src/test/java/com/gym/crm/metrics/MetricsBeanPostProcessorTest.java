@@ -0,0 +1,85 @@
+package com.gym.crm.metrics;
+
+import com.gym.crm.dao.TrainingTypeDAO;
+import com.gym.crm.dao.impl.TrainingTypeDAOImpl;
+import com.gym.crm.facade.GymFacade;
+import com.gym.crm.service.AssignmentService;
+import com.gym.crm.service.AuthenticationService;
+import com.gym.crm.service.TraineeService;
+import com.gym.crm.service.TrainerService;
+import com.gym.crm.service.TrainingService;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsBeanPostProcessorTest {
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final MetricsBeanPostProcessor postProcessor = newPostProcessor(registry);
+
+    @Test
+    void postProcessAfterInitialization_ShouldTimeDaoCallsByEntityAndOperation() {
+        TrainingTypeDAOImpl dao = new TrainingTypeDAOImpl();
+        InMemoryStorage storage = mock(InMemoryStorage.class);
+        when(storage.getTrainingTypeStorage()).thenReturn(new TrainingTypeStorage());
+        dao.setStorage(storage);
+
+        TrainingTypeDAO timed = (TrainingTypeDAO) postProcessor.postProcessAfterInitialization(dao, "trainingTypeDAOImpl");
+        timed.findById(1L);
+        timed.findById(2L);
+
+        assertTrue(Proxy.isProxyClass(timed.getClass()));
+        assertTrue(registry.scrape().contains(
+                "gym_method_duration_seconds_count{entity=\"training_type\",layer=\"dao\",operation=\"findById\"} 2\n"));
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldCountFacadeErrorsByEntity() {
+        TraineeService traineeService = mock(TraineeService.class);
+        when(traineeService.findById(1L)).thenReturn(Optional.empty());
+        when(traineeService.findById(2L)).thenThrow(new IllegalStateException("boom"));
+        GymFacade facade = new GymFacade(traineeService, mock(TrainerService.class), mock(TrainingService.class),
+                mock(AssignmentService.class), mock(AuthenticationService.class));
+
+        GymFacade timed = (GymFacade) postProcessor.postProcessAfterInitialization(facade, "gymFacade");
+        timed.getTraineeById(1L);
+        assertThrows(IllegalStateException.class, () -> timed.getTraineeById(2L));
+
+        String scrape = registry.scrape();
+        assertTrue(scrape.contains(
+                "gym_method_errors_total{entity=\"trainee\",layer=\"facade\",operation=\"getTraineeById\"} 1\n"));
+        assertTrue(scrape.contains(
+                "gym_method_duration_seconds_count{entity=\"trainee\",layer=\"facade\",operation=\"getTraineeById\"} 2\n"));
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldLeaveOtherBeansUntouched() {
+        TrainingTypeStorage storage = new TrainingTypeStorage();
+
+        assertSame(storage, postProcessor.postProcessAfterInitialization(storage, "trainingTypeStorage"));
+    }
+
+    @Test
+    void entityFromMethod_ShouldSkipVerbAndLookupSuffix() {
+        assertEquals("trainee", MetricsBeanPostProcessor.entityFromMethod("getTraineeById"));
+        assertEquals("trainer_workload", MetricsBeanPostProcessor.entityFromMethod("getTrainerWorkload"));
+        assertEquals("gym", MetricsBeanPostProcessor.entityFromMethod("refresh"));
+    }
+
+    private static MetricsBeanPostProcessor newPostProcessor(MetricsRegistry registry) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("metricsRegistry", registry);
+
+        return new MetricsBeanPostProcessor(beanFactory.getBeanProvider(MetricsRegistry.class));
+    }
+}
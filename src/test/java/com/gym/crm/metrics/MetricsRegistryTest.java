@@ -0,0 +1,70 @@
+package com.gym.crm.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    void counter_ShouldReturnSameSeriesForSameLabels() {
+        LongAdder first = registry.counter("gym_errors_total", "Errors", Map.of("layer", "dao", "entity", "trainee"));
+        LongAdder second = registry.counter("gym_errors_total", "Errors", Map.of("entity", "trainee", "layer", "dao"));
+        first.add(3);
+
+        assertSame(first, second);
+        assertTrue(registry.scrape().contains("gym_errors_total{entity=\"trainee\",layer=\"dao\"} 3\n"));
+    }
+
+    @Test
+    void scrape_ShouldRenderCumulativeHistogramBucketsInSeconds() {
+        LatencyHistogram histogram = registry.histogram("gym_call_seconds", "Calls", Map.of("operation", "create"),
+                new long[]{1_000, 1_000_000});
+        histogram.record(500);
+        histogram.record(20_000);
+        histogram.record(5_000_000);
+
+        String scrape = registry.scrape();
+
+        assertTrue(scrape.contains("# TYPE gym_call_seconds histogram\n"));
+        assertTrue(scrape.contains("gym_call_seconds_bucket{operation=\"create\",le=\"0.000001\"} 1\n"));
+        assertTrue(scrape.contains("gym_call_seconds_bucket{operation=\"create\",le=\"0.001\"} 2\n"));
+        assertTrue(scrape.contains("gym_call_seconds_bucket{operation=\"create\",le=\"+Inf\"} 3\n"));
+        assertTrue(scrape.contains("gym_call_seconds_sum{operation=\"create\"} 0.0050205\n"));
+        assertTrue(scrape.contains("gym_call_seconds_count{operation=\"create\"} 3\n"));
+    }
+
+    @Test
+    void gauge_ShouldReadSupplierOnScrapeAndEscapeLabels() {
+        long[] value = {1};
+        registry.gauge("gym_pool_active", "Active", Map.of("pool", "main \"pool\""), () -> value[0]);
+        value[0] = 4;
+
+        assertTrue(registry.scrape().contains("gym_pool_active{pool=\"main \\\"pool\\\"\"} 4\n"));
+    }
+
+    @Test
+    void counter_ShouldExportSupplierAsCounter() {
+        long[] value = {2};
+        registry.counter("gym_cache_hits_total", "Hits", Map.of("cache", "trainee"), () -> value[0]);
+        value[0] = 5;
+
+        String scrape = registry.scrape();
+
+        assertTrue(scrape.contains("# TYPE gym_cache_hits_total counter\n"));
+        assertTrue(scrape.contains("gym_cache_hits_total{cache=\"trainee\"} 5\n"));
+    }
+
+    @Test
+    void counter_ShouldRejectNameRegisteredWithAnotherType() {
+        registry.gauge("gym_metric", "Gauge", Map.of(), () -> 1);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("gym_metric", "Counter", Map.of()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.gym.crm.security;
+
+import com.gym.crm.exception.CoreServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+    private static final int ITERATIONS = 1_000;
+    private static final String PASSWORD = "Secret123";
+
+    private final PasswordHasher hasher = new PasswordHasher();
+
+    @BeforeEach
+    void setUp() {
+        hasher.setIterations(ITERATIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hasher.stop();
+    }
+
+    @Test
+    void hash_ShouldSaltEachHashAndMatchOnlyTheOriginalPassword() {
+        String first = hasher.hash(PASSWORD);
+        String second = hasher.hash(PASSWORD);
+
+        assertTrue(first.startsWith("pbkdf2-sha256$" + ITERATIONS + "$"));
+        assertNotEquals(first, second);
+        assertTrue(hasher.matches(PASSWORD, first));
+        assertTrue(hasher.matches(PASSWORD, second));
+        assertFalse(hasher.matches("secret123", first));
+    }
+
+    @Test
+    void matches_ShouldUseIterationsStoredInHash() {
+        String hash = hasher.hash(PASSWORD);
+
+        hasher.setIterations(ITERATIONS * 2);
+
+        assertTrue(hasher.matches(PASSWORD, hash));
+    }
+
+    @Test
+    void matches_ShouldRejectUnknownAndMalformedHashes() {
+        assertFalse(hasher.matches(PASSWORD, PASSWORD));
+        assertFalse(hasher.matches(PASSWORD, "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy"));
+        assertFalse(hasher.matches(PASSWORD, "pbkdf2-sha256$many$salt$hash"));
+        assertFalse(hasher.matches(PASSWORD, null));
+    }
+
+    @Test
+    void hashAll_ShouldUseBulkCostThatNeedsRehash() {
+        hasher.setBulkIterations(100);
+
+        String bulk = hasher.hashAll(List.of(PASSWORD)).get(0);
+        String login = hasher.hash(PASSWORD);
+
+        assertTrue(bulk.startsWith("pbkdf2-sha256$100$"));
+        assertTrue(hasher.matches(PASSWORD, bulk));
+        assertTrue(hasher.needsRehash(bulk));
+        assertFalse(hasher.needsRehash(login));
+        assertFalse(hasher.needsRehash("pbkdf2-sha256$many$salt$hash"));
+        assertFalse(hasher.needsRehash(null));
+    }
+
+    @Test
+    void hashAll_ShouldNeverExceedLoginCost() {
+        hasher.setBulkIterations(ITERATIONS * 10);
+
+        assertTrue(hasher.hashAll(List.of(PASSWORD)).get(0).startsWith("pbkdf2-sha256$" + ITERATIONS + "$"));
+    }
+
+    @Test
+    void matches_ShouldVerifySeedUserHashes() throws Exception {
+        String changelog;
+        try (InputStream in = getClass().getResourceAsStream("/db/changelog/2025Q3/006-rehash-seed-user-passwords.xml")) {
+            changelog = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<String> hashes = Pattern.compile("value=\"(pbkdf2-sha256\\$[^\"]+)\"").matcher(changelog).results()
+                .map(match -> match.group(1))
+                .toList();
+
+        assertEquals(10, hashes.size());
+        for (String hash : hashes) {
+            assertTrue(hasher.matches("gym-demo-2025", hash));
+        }
+    }
+
+    @Test
+    void hashAll_ShouldHashEveryPasswordInOrderOnTheExecutor() {
+        hasher.setBulkThreads(2);
+        hasher.setBulkQueueSize(1);
+        hasher.start();
+        List<String> passwords = IntStream.range(0, 10).mapToObj(i -> PASSWORD + i).toList();
+
+        List<String> hashes = hasher.hashAll(passwords);
+
+        assertEquals(passwords.size(), hashes.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(hasher.matches(passwords.get(i), hashes.get(i)));
+        }
+    }
+
+    @Test
+    void matches_ShouldNotQueueBehindBulkHashing() throws Exception {
+        String hash = hasher.hash(PASSWORD);
+        hasher.setIterations(200_000);
+        hasher.setThreads(1);
+        hasher.setQueueSize(1);
+        hasher.setBulkThreads(1);
+        hasher.setBulkQueueSize(1);
+        hasher.start();
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            List<String> passwords = IntStream.range(0, 50).mapToObj(i -> PASSWORD + i).toList();
+            Future<List<String>> bulk = callers.submit(() -> hasher.hashAll(passwords));
+            Thread.sleep(100);
+
+            for (int i = 0; i < 5; i++) {
+                assertTrue(hasher.matches(PASSWORD, hash));
+            }
+
+            assertFalse(bulk.isDone());
+        } finally {
+            hasher.stop();
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void hash_ShouldRejectRequestsBeyondExecutorQueue() throws Exception {
+        hasher.setIterations(2_000_000);
+        hasher.setThreads(1);
+        hasher.setQueueSize(1);
+        hasher.start();
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                callers.submit(() -> {
+                    started.countDown();
+                    return hasher.hash(PASSWORD);
+                });
+            }
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+
+            assertThrows(CoreServiceException.class, () -> hasher.hash(PASSWORD));
+        } finally {
+            hasher.stop();
+            callers.shutdownNow();
+        }
+    }
+}
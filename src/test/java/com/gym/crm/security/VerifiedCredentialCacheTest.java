@@ -0,0 +1,82 @@
+package com.gym.crm.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedCredentialCacheTest {
+    private static final String USERNAME = "John.Doe";
+    private static final String HASH = "pbkdf2-sha256$1000$salt$hash";
+    private static final String PASSWORD = "Secret123";
+
+    private final AtomicLong now = new AtomicLong();
+    private final VerifiedCredentialCache cache = new VerifiedCredentialCache(now::get);
+
+    @BeforeEach
+    void setUp() {
+        cache.setTtlSeconds(60);
+        cache.setMaxSize(2);
+    }
+
+    @Test
+    void isVerified_ShouldMatchOnlySameUsernameHashAndPassword() {
+        cache.put(USERNAME, HASH, PASSWORD);
+
+        assertTrue(cache.isVerified("john.doe", HASH, PASSWORD));
+        assertFalse(cache.isVerified(USERNAME, HASH, "secret123"));
+        assertFalse(cache.isVerified(USERNAME, HASH + "changed", PASSWORD));
+        assertFalse(cache.isVerified("Jane.Smith", HASH, PASSWORD));
+    }
+
+    @Test
+    void isVerified_ShouldExpireEntriesAfterTtl() {
+        cache.put(USERNAME, HASH, PASSWORD);
+
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertTrue(cache.isVerified(USERNAME, HASH, PASSWORD));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertFalse(cache.isVerified(USERNAME, HASH, PASSWORD));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_ShouldStayWithinMaxSizePreferringToEvictExpiredEntries() {
+        cache.put("first", HASH, PASSWORD);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.put("second", HASH, PASSWORD);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        cache.put("third", HASH, PASSWORD);
+        cache.put("fourth", HASH, PASSWORD);
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.isVerified("first", HASH, PASSWORD));
+        assertTrue(cache.isVerified("fourth", HASH, PASSWORD));
+    }
+
+    @Test
+    void put_ShouldDoNothingWhenDisabled() {
+        cache.setTtlSeconds(0);
+
+        cache.put(USERNAME, HASH, PASSWORD);
+
+        assertFalse(cache.isVerified(USERNAME, HASH, PASSWORD));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_ShouldForgetVerifiedCredential() {
+        cache.put(USERNAME, HASH, PASSWORD);
+
+        cache.invalidate("JOHN.DOE");
+
+        assertFalse(cache.isVerified(USERNAME, HASH, PASSWORD));
+    }
+}
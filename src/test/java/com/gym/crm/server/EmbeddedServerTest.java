@@ -0,0 +1,105 @@
+package com.gym.crm.server;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmbeddedServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private EmbeddedServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void start_ShouldHandleRequestsOnVirtualThreads() throws Exception {
+        server = new EmbeddedServer(settings(RequestThreads.VIRTUAL));
+        server.start(new ThreadServlet());
+
+        HttpResponse<String> response = get("/threads");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("virtual=true", response.body());
+        assertEquals("text/plain;charset=UTF-8", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    void start_ShouldHandleRequestsOnPlatformThreads() throws Exception {
+        server = new EmbeddedServer(settings(RequestThreads.PLATFORM));
+        server.start(new ThreadServlet());
+
+        HttpResponse<String> response = get("/threads");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("virtual=false", response.body());
+    }
+
+    @Test
+    void start_ShouldFailWhenServletFailsToInitialize() {
+        server = new EmbeddedServer(settings(RequestThreads.VIRTUAL));
+
+        assertThrows(IllegalStateException.class, () -> server.start(new HttpServlet() {
+            @Override
+            public void init() {
+                throw new IllegalStateException("context refresh failed");
+            }
+        }));
+    }
+
+    @Test
+    void from_ShouldReadServerSettings() {
+        Properties properties = new Properties();
+        properties.setProperty("server.port", "${SERVER_TEST_PORT:9090}");
+        properties.setProperty("server.threads", "platform");
+        properties.setProperty("server.max-threads", "50");
+        properties.setProperty("server.max-concurrent-requests", "300");
+        properties.setProperty("server.max-connections", "1000");
+        properties.setProperty("server.accept-count", "10");
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new PropertiesPropertySource("test", properties));
+
+        assertEquals(new ServerSettings(9090, RequestThreads.PLATFORM, 50, 300, 1000, 10),
+                ServerSettings.from(environment));
+    }
+
+    @Test
+    void serverSettings_ShouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServerSettings(0, RequestThreads.VIRTUAL, 10, 0, 100, 10));
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static ServerSettings settings(RequestThreads threads) {
+        return new ServerSettings(0, threads, 4, 4, 100, 10);
+    }
+
+    private static class ThreadServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setContentType("text/plain");
+            response.getWriter().write("virtual=" + Thread.currentThread().isVirtual());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.AssignmentDAO;
+import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dto.trainee.TraineeResponse;
+import com.gym.crm.dto.trainer.TrainerResponse;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.mapper.TraineeMapper;
+import com.gym.crm.mapper.TrainerMapper;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentServiceImplTest {
+    private static final Long TRAINEE_ID = 1L;
+    private static final Long TRAINER_ID = 2L;
+
+    private final Trainee trainee = Trainee.builder().id(TRAINEE_ID).user(buildUser(true)).build();
+    private final Trainer trainer = Trainer.builder().id(TRAINER_ID).user(buildUser(true)).build();
+
+    @Mock
+    private AssignmentDAO assignmentDAO;
+    @Mock
+    private TraineeDAO traineeDAO;
+    @Mock
+    private TrainerDAO trainerDAO;
+    @Mock
+    private TraineeMapper traineeMapper;
+    @Mock
+    private TrainerMapper trainerMapper;
+    @InjectMocks
+    private AssignmentServiceImpl service;
+
+    @Test
+    void assign_ShouldDelegateWhenTraineeAndActiveTrainerExist() {
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.of(trainer));
+        when(assignmentDAO.assign(TRAINEE_ID, TRAINER_ID)).thenReturn(true);
+
+        assertTrue(service.assign(TRAINEE_ID, TRAINER_ID));
+    }
+
+    @Test
+    void assign_ShouldRejectUnknownTrainee() {
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.empty());
+
+        assertThrows(CoreServiceException.class, () -> service.assign(TRAINEE_ID, TRAINER_ID));
+        verify(assignmentDAO, never()).assign(TRAINEE_ID, TRAINER_ID);
+    }
+
+    @Test
+    void assign_ShouldRejectInactiveTrainer() {
+        Trainer inactive = trainer.toBuilder().user(buildUser(false)).build();
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.of(inactive));
+
+        assertThrows(CoreServiceException.class, () -> service.assign(TRAINEE_ID, TRAINER_ID));
+        verify(assignmentDAO, never()).assign(TRAINEE_ID, TRAINER_ID);
+    }
+
+    @Test
+    void unassign_ShouldDelegate() {
+        when(assignmentDAO.unassign(TRAINEE_ID, TRAINER_ID)).thenReturn(true);
+
+        assertTrue(service.unassign(TRAINEE_ID, TRAINER_ID));
+    }
+
+    @Test
+    void findTrainers_ShouldResolveIndexedIds() {
+        TrainerResponse response = new TrainerResponse();
+        when(assignmentDAO.findTrainerIds(TRAINEE_ID)).thenReturn(new long[]{TRAINER_ID, 99L});
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.of(trainer));
+        when(trainerDAO.findById(99L)).thenReturn(Optional.empty());
+        when(trainerMapper.toResponse(trainer)).thenReturn(response);
+
+        assertEquals(List.of(response), service.findTrainers(TRAINEE_ID));
+    }
+
+    @Test
+    void findTrainees_ShouldResolveIndexedIds() {
+        TraineeResponse response = new TraineeResponse();
+        when(assignmentDAO.findTraineeIds(TRAINER_ID)).thenReturn(new long[]{TRAINEE_ID});
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(traineeMapper.toResponse(trainee)).thenReturn(response);
+
+        assertEquals(List.of(response), service.findTrainees(TRAINER_ID));
+    }
+
+    @Test
+    void findUnassignedActiveTrainers_ShouldResolveIndexedIds() {
+        TrainerResponse response = new TrainerResponse();
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.of(trainee));
+        when(assignmentDAO.findUnassignedActiveTrainerIds(TRAINEE_ID)).thenReturn(new long[]{TRAINER_ID});
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.of(trainer));
+        when(trainerMapper.toResponse(trainer)).thenReturn(response);
+
+        assertEquals(List.of(response), service.findUnassignedActiveTrainers(TRAINEE_ID));
+    }
+
+    @Test
+    void findUnassignedActiveTrainers_ShouldRejectUnknownTrainee() {
+        when(traineeDAO.findById(TRAINEE_ID)).thenReturn(Optional.empty());
+
+        assertThrows(CoreServiceException.class, () -> service.findUnassignedActiveTrainers(TRAINEE_ID));
+        verify(trainerDAO, never()).findById(anyLong());
+    }
+
+    private static User buildUser(boolean active) {
+        return User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .isActive(active)
+                .build();
+    }
+}
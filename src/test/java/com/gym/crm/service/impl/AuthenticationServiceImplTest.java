@@ -0,0 +1,120 @@
+package com.gym.crm.service.impl;
+
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.exception.CoreServiceException;
+import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
+import com.gym.crm.security.VerifiedCredentialCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceImplTest {
+    private static final String USERNAME = "John.Doe";
+    private static final String PASSWORD = "Secret123";
+    private static final String HASH = "pbkdf2-sha256$1000$salt$hash";
+
+    @Mock
+    private UserDAO userDAO;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private VerifiedCredentialCache verifiedCredentialCache;
+    @InjectMocks
+    private AuthenticationServiceImpl service;
+
+    @Test
+    void authenticate_ShouldVerifyHashAndRememberCredential() {
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(true)));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(true);
+
+        assertTrue(service.authenticate(USERNAME, PASSWORD));
+
+        verify(verifiedCredentialCache).put(USERNAME, HASH, PASSWORD);
+    }
+
+    @Test
+    void authenticate_ShouldSkipHashingForRecentlyVerifiedCredential() {
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(true)));
+        when(verifiedCredentialCache.isVerified(USERNAME, HASH, PASSWORD)).thenReturn(true);
+
+        assertTrue(service.authenticate(USERNAME, PASSWORD));
+
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    void authenticate_ShouldNotRememberWrongPassword() {
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(true)));
+        when(passwordHasher.matches("wrong", HASH)).thenReturn(false);
+
+        assertFalse(service.authenticate(USERNAME, "wrong"));
+
+        verify(verifiedCredentialCache, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void authenticate_ShouldRejectUnknownAndInactiveUsers() {
+        when(userDAO.findByUsername("unknown")).thenReturn(Optional.empty());
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(false)));
+
+        assertFalse(service.authenticate("unknown", PASSWORD));
+        assertFalse(service.authenticate(USERNAME, PASSWORD));
+        assertFalse(service.authenticate(null, PASSWORD));
+
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+        verify(passwordHasher, times(2)).matchDummy(PASSWORD);
+    }
+
+    @Test
+    void authenticate_ShouldRehashCheapHashAndRememberTheNewOne() {
+        String rehashed = "pbkdf2-sha256$600000$salt$hash";
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(true)));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(true);
+        when(passwordHasher.needsRehash(HASH)).thenReturn(true);
+        when(passwordHasher.hash(PASSWORD)).thenReturn(rehashed);
+        when(userDAO.updatePassword(USERNAME, HASH, rehashed)).thenReturn(true);
+
+        assertTrue(service.authenticate(USERNAME, PASSWORD));
+
+        verify(verifiedCredentialCache).put(USERNAME, rehashed, PASSWORD);
+    }
+
+    @Test
+    void authenticate_ShouldSucceedWhenRehashFails() {
+        when(userDAO.findByUsername(USERNAME)).thenReturn(Optional.of(buildUser(true)));
+        when(passwordHasher.matches(PASSWORD, HASH)).thenReturn(true);
+        when(passwordHasher.needsRehash(HASH)).thenReturn(true);
+        when(passwordHasher.hash(PASSWORD)).thenThrow(new CoreServiceException("Too many password hashing requests in progress"));
+
+        assertTrue(service.authenticate(USERNAME, PASSWORD));
+
+        verify(userDAO, never()).updatePassword(any(), any(), any());
+        verify(verifiedCredentialCache).put(USERNAME, HASH, PASSWORD);
+    }
+
+    private static User buildUser(boolean active) {
+        return User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .username(USERNAME)
+                .password(HASH)
+                .isActive(active)
+                .build();
+    }
+}
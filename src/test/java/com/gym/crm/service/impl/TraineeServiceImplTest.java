@@ -1,15 +1,22 @@
 package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TraineeDAO;
+import com.gym.crm.dao.TraineeSummary;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainee.TraineeCreateRequest;
 import com.gym.crm.dto.trainee.TraineeResponse;
 import com.gym.crm.dto.trainee.TraineeUpdateRequest;
 import com.gym.crm.exception.CoreServiceException;
 import com.gym.crm.facade.GymTestObjects;
 import com.gym.crm.mapper.TraineeMapper;
+import com.gym.crm.mapper.TraineeMapperImpl;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
+import com.gym.crm.util.PasswordPool;
 import com.gym.crm.util.UserCredentialsGenerator;
+import com.gym.crm.util.UsernameAllocator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -18,15 +25,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.gym.crm.facade.GymTestObjects.buildTraineeResponse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -42,33 +59,33 @@ class TraineeServiceImplTest {
     private static final String ADDRESS = "123 Main St";
     private static final Long TRAINEE_ID = 1L;
     private static final String GENERATED_PASSWORD = "generatedPassword";
+    private static final String HASHED_PASSWORD = "hashedPassword";
 
     private final Trainee trainee = buildTrainee();
 
     @Mock
     private TraineeDAO traineeDAO;
     @Mock
+    private UserDAO userDAO;
+    @Mock
     private UserCredentialsGenerator userCredentialsGenerator;
     @Mock
     private TraineeMapper traineeMapper;
+    @Mock
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private TraineeServiceImpl service;
 
     @Test
     void create_ShouldCreateTraineeSuccessfully() {
         TraineeCreateRequest createRequest = GymTestObjects.buildTraineeCreateRequest();
-        List<Trainee> existingTrainees = List.of(
-                createTraineeWithUsername("existing.user1"),
-                createTraineeWithUsername("existing.user2")
-        );
-        List<String> existingUsernames = List.of("existing.user1", "existing.user2");
         TraineeResponse expected = buildTraineeResponse();
 
         when(traineeMapper.toEntity(createRequest)).thenReturn(trainee);
-        when(traineeDAO.findAll()).thenReturn(existingTrainees);
-        when(userCredentialsGenerator.generateUsername(FIRST_NAME, LAST_NAME, existingUsernames))
+        when(userCredentialsGenerator.allocateUsername(eq(FIRST_NAME), eq(LAST_NAME), any(Predicate.class)))
                 .thenReturn(USERNAME);
         when(userCredentialsGenerator.generatePassword()).thenReturn(GENERATED_PASSWORD);
+        when(passwordHasher.hash(GENERATED_PASSWORD)).thenReturn(HASHED_PASSWORD);
         when(traineeDAO.create(any(Trainee.class))).thenReturn(trainee);
         when(traineeMapper.toResponse(trainee)).thenReturn(expected);
 
@@ -77,10 +94,11 @@ class TraineeServiceImplTest {
         assertNotNull(actual);
         assertEquals(expected.getId(), actual.getId());
         assertEquals(expected.getUsername(), actual.getUsername());
+        assertEquals(GENERATED_PASSWORD, actual.getPassword());
 
         verify(traineeMapper).toEntity(createRequest);
-        verify(traineeDAO).findAll();
-        verify(userCredentialsGenerator).generateUsername(FIRST_NAME, LAST_NAME, existingUsernames);
+        verify(traineeDAO, never()).findAll();
+        verify(userCredentialsGenerator).allocateUsername(eq(FIRST_NAME), eq(LAST_NAME), any(Predicate.class));
         verify(userCredentialsGenerator).generatePassword();
         verify(traineeDAO).create(any(Trainee.class));
         verify(traineeMapper).toResponse(any(Trainee.class));
@@ -89,10 +107,96 @@ class TraineeServiceImplTest {
         verify(traineeDAO).create(captor.capture());
 
         Trainee captured = captor.getValue();
-        assertEquals(GENERATED_PASSWORD, captured.getUser().getPassword());
+        assertEquals(HASHED_PASSWORD, captured.getUser().getPassword());
         assertEquals(USERNAME, captured.getUser().getUsername());
     }
 
+    @Test
+    void createAll_ShouldAllocateSuffixesWithinBatchAndReportInvalidRows() {
+        Set<String> reserved = new HashSet<>();
+        when(userDAO.reserveUsernames(any())).thenAnswer(invocation -> {
+            List<String> usernames = invocation.getArgument(0);
+            return usernames.stream().filter(reserved::add).collect(Collectors.toSet());
+        });
+        when(traineeDAO.createAll(any())).thenAnswer(invocation -> {
+            List<Trainee> trainees = invocation.getArgument(0);
+            return IntStream.range(0, trainees.size())
+                    .mapToObj(i -> trainees.get(i).toBuilder().id(i + 1L).build())
+                    .toList();
+        });
+        when(passwordHasher.hashAll(any())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(password -> "hashed:" + password)
+                .toList());
+        UserCredentialsGenerator credentialsGenerator = new UserCredentialsGenerator();
+        credentialsGenerator.setUsernameAllocator(new UsernameAllocator());
+        credentialsGenerator.setPasswordPool(new PasswordPool());
+        service.setUserCredentialsGenerator(credentialsGenerator);
+        service.setTraineeMapper(new TraineeMapperImpl());
+
+        TraineeCreateRequest blankName = GymTestObjects.buildTraineeCreateRequest();
+        blankName.setFirstName(" ");
+        List<BulkCreateResult<TraineeResponse>> actual = service.createAll(List.of(
+                GymTestObjects.buildTraineeCreateRequest(), blankName, GymTestObjects.buildTraineeCreateRequest()));
+
+        assertEquals(3, actual.size());
+        assertEquals("John.Doe", actual.get(0).getCreated().getUsername());
+        assertNull(actual.get(1).getCreated());
+        assertEquals("First name and last name are required", actual.get(1).getError());
+        assertEquals(2, actual.get(2).getIndex());
+        assertEquals("John.Doe1", actual.get(2).getCreated().getUsername());
+        assertEquals(2L, actual.get(2).getCreated().getId());
+        assertNotNull(actual.get(2).getCreated().getPassword());
+        verify(traineeDAO).createAll(argThat(trainees -> trainees.size() == 2));
+        verify(traineeDAO, never()).create(any());
+    }
+
+    @Test
+    void createAll_ShouldReleaseUsernamesAndFailRowsWhenDaoFails() {
+        TraineeCreateRequest createRequest = GymTestObjects.buildTraineeCreateRequest();
+
+        when(traineeMapper.toEntity(createRequest)).thenReturn(trainee);
+        when(userCredentialsGenerator.generatePasswords(1)).thenReturn(List.of(GENERATED_PASSWORD));
+        when(passwordHasher.hashAll(List.of(GENERATED_PASSWORD))).thenReturn(List.of(HASHED_PASSWORD));
+        when(userCredentialsGenerator.allocateUsernames(any(), any(), any())).thenReturn(List.of(USERNAME));
+        when(traineeDAO.createAll(any())).thenThrow(new IllegalStateException("Storage failure"));
+
+        List<BulkCreateResult<TraineeResponse>> actual = service.createAll(List.of(createRequest));
+
+        assertEquals("Storage failure", actual.get(0).getError());
+        assertNull(actual.get(0).getCreated());
+        verify(userDAO).releaseUsername(USERNAME);
+    }
+
+    @Test
+    void create_ShouldReleaseUsernameWhenDaoFails() {
+        TraineeCreateRequest createRequest = GymTestObjects.buildTraineeCreateRequest();
+
+        when(traineeMapper.toEntity(createRequest)).thenReturn(trainee);
+        when(userCredentialsGenerator.allocateUsername(eq(FIRST_NAME), eq(LAST_NAME), any(Predicate.class)))
+                .thenReturn(USERNAME);
+        when(userCredentialsGenerator.generatePassword()).thenReturn(GENERATED_PASSWORD);
+        when(traineeDAO.create(any(Trainee.class))).thenThrow(new IllegalStateException("Storage failure"));
+
+        assertThrows(IllegalStateException.class, () -> service.create(createRequest));
+
+        verify(userDAO).releaseUsername(USERNAME);
+        verify(traineeMapper, never()).toResponse(any(Trainee.class));
+    }
+
+    @Test
+    void findPage_ShouldMapSummariesWithoutLoadingEntities() {
+        TraineeSummary summary = new TraineeSummary(TRAINEE_ID, "John", "Doe", "John.Doe", true, null, null);
+        TraineeResponse expected = GymTestObjects.buildTraineeResponse();
+
+        when(traineeDAO.findSummaryPage(null, 10)).thenReturn(List.of(summary));
+        when(traineeMapper.toResponse(summary)).thenReturn(expected);
+
+        List<TraineeResponse> actual = service.findPage(null, 10);
+
+        assertEquals(List.of(expected), actual);
+        verify(traineeDAO, never()).findPage(any(), anyInt());
+    }
+
     @Test
     void findById_ShouldReturnTraineeWhenExists() {
         TraineeResponse expected = GymTestObjects.buildTraineeResponse();
@@ -120,17 +224,16 @@ class TraineeServiceImplTest {
         assertFalse(actual.isPresent());
 
         verify(traineeDAO).findById(traineeId);
-        verify(traineeMapper, never()).toResponse(any());
+        verify(traineeMapper, never()).toResponse(any(Trainee.class));
     }
 
     @Test
-    void update_ShouldUpdateTraineeSuccessfully() {
+    void update_ShouldApplyRequestToCurrentTrainee() {
         TraineeUpdateRequest updateRequest = GymTestObjects.buildTraineeUpdateRequest();
-        Trainee updatedTrainee = buildUpdatedTrainee();
         TraineeResponse expected = buildUpdatedResponse();
 
-        when(traineeDAO.findById(updateRequest.getId())).thenReturn(Optional.of(trainee));
-        when(traineeDAO.update(any(Trainee.class))).thenReturn(updatedTrainee);
+        when(traineeDAO.update(eq(updateRequest.getId()), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.<UnaryOperator<Trainee>>getArgument(1).apply(trainee)));
         when(traineeMapper.toResponse(any(Trainee.class))).thenReturn(expected);
 
         TraineeResponse actual = service.update(updateRequest);
@@ -141,16 +244,14 @@ class TraineeServiceImplTest {
         assertEquals(expected.getLastName(), actual.getLastName());
         assertEquals(expected.isActive(), actual.isActive());
 
-        verify(traineeDAO).findById(updateRequest.getId());
-        verify(traineeDAO).update(any(Trainee.class));
-        verify(traineeMapper).toResponse(updatedTrainee);
-
         ArgumentCaptor<Trainee> captor = ArgumentCaptor.forClass(Trainee.class);
-        verify(traineeDAO).update(captor.capture());
+        verify(traineeMapper).toResponse(captor.capture());
+        verify(traineeDAO, never()).findById(any());
 
         Trainee captured = captor.getValue();
         assertEquals("Jane", captured.getUser().getFirstName());
         assertEquals("Smith", captured.getUser().getLastName());
+        assertEquals(USERNAME, captured.getUser().getUsername());
         assertFalse(captured.getUser().getIsActive());
         assertEquals(LocalDate.of(1985, 5, 15), captured.getDateOfBirth());
         assertEquals("456 Oak Ave", captured.getAddress());
@@ -160,15 +261,13 @@ class TraineeServiceImplTest {
     void update_ShouldThrowExceptionWhenTraineeNotFound() {
         TraineeUpdateRequest updateRequest = GymTestObjects.buildTraineeUpdateRequest();
 
-        when(traineeDAO.findById(updateRequest.getId())).thenReturn(Optional.empty());
+        when(traineeDAO.update(eq(updateRequest.getId()), any())).thenReturn(Optional.empty());
 
         CoreServiceException exception = assertThrows(CoreServiceException.class, () -> service.update(updateRequest));
 
         assertEquals("Trainee not found with id: " + updateRequest.getId(), exception.getMessage());
 
-        verify(traineeDAO).findById(updateRequest.getId());
-        verify(traineeDAO, never()).update(any());
-        verify(traineeMapper, never()).toResponse(any());
+        verify(traineeMapper, never()).toResponse(any(Trainee.class));
     }
 
     @Test
@@ -196,20 +295,6 @@ class TraineeServiceImplTest {
                 .build();
     }
 
-    private Trainee buildUpdatedTrainee() {
-        User user = buildTrainee().getUser().toBuilder()
-                .firstName("Jane")
-                .lastName("Smith")
-                .isActive(false)
-                .build();
-
-        return buildTrainee().toBuilder()
-                .user(user)
-                .dateOfBirth(LocalDate.of(1985, 5, 15))
-                .address("456 Oak Ave")
-                .build();
-    }
-
     private TraineeResponse buildUpdatedResponse() {
         TraineeResponse response = new TraineeResponse();
         response.setId(TRAINEE_ID);
@@ -219,14 +304,4 @@ class TraineeServiceImplTest {
 
         return response;
     }
-
-    private Trainee createTraineeWithUsername(String username) {
-        User user = User.builder()
-                .username(username)
-                .build();
-
-        return Trainee.builder()
-                .user(user)
-                .build();
-    }
 }
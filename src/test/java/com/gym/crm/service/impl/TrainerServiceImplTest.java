@@ -1,6 +1,8 @@
 package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.UserDAO;
+import com.gym.crm.dto.bulk.BulkCreateResult;
 import com.gym.crm.dto.trainer.TrainerCreateRequest;
 import com.gym.crm.dto.trainer.TrainerResponse;
 import com.gym.crm.dto.trainer.TrainerUpdateRequest;
@@ -10,15 +12,19 @@ import com.gym.crm.mapper.TrainerMapper;
 import com.gym.crm.model.Trainer;
 import com.gym.crm.model.TrainingType;
 import com.gym.crm.model.User;
+import com.gym.crm.security.PasswordHasher;
 import com.gym.crm.util.UserCredentialsGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -26,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,27 +48,59 @@ class TrainerServiceImplTest {
     private static final String YOGA_TYPE = "YOGA";
     private static final Long TRAINER_ID = 1L;
     private static final String GENERATED_PASSWORD = "generatedPassword";
+    private static final String HASHED_PASSWORD = "hashedPassword";
 
     private final Trainer trainer = buildTrainer();
 
     @Mock
     private TrainerDAO trainerDAO;
     @Mock
+    private UserDAO userDAO;
+    @Mock
     private UserCredentialsGenerator userCredentialsGenerator;
     @Mock
     private TrainerMapper trainerMapper;
+    @Mock
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private TrainerServiceImpl service;
 
+    @Test
+    void createAll_ShouldCreateValidRowsInOneDaoCall() {
+        TrainerCreateRequest blankName = GymTestObjects.buildTrainerCreateRequest();
+        blankName.setLastName(null);
+
+        when(userCredentialsGenerator.generatePasswords(2)).thenReturn(List.of("p1", "p2"));
+        when(passwordHasher.hashAll(List.of("p1", "p2"))).thenReturn(List.of("h1", "h2"));
+        when(userCredentialsGenerator.allocateUsernames(any(), any(), any()))
+                .thenReturn(List.of(TRAINER_USERNAME, TRAINER_USERNAME + "1"));
+        when(trainerDAO.createAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(trainerMapper.toResponse(any(Trainer.class))).thenAnswer(invocation -> {
+            Trainer created = invocation.getArgument(0);
+            TrainerResponse response = new TrainerResponse();
+            response.setUsername(created.getUser().getUsername());
+            return response;
+        });
+
+        List<BulkCreateResult<TrainerResponse>> actual = service.createAll(List.of(
+                GymTestObjects.buildTrainerCreateRequest(), blankName, GymTestObjects.buildTrainerCreateRequest()));
+
+        assertEquals(TRAINER_USERNAME, actual.get(0).getCreated().getUsername());
+        assertEquals("First name and last name are required", actual.get(1).getError());
+        assertEquals(TRAINER_USERNAME + "1", actual.get(2).getCreated().getUsername());
+        assertEquals("p2", actual.get(2).getCreated().getPassword());
+
+        ArgumentCaptor<List<Trainer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trainerDAO).createAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("h2", captor.getValue().get(1).getUser().getPassword());
+        assertTrue(captor.getValue().get(1).getUser().getIsActive());
+    }
+
     @Test
     void create_ShouldCreateTrainerSuccessfully() {
         TrainerCreateRequest createRequest = GymTestObjects.buildTrainerCreateRequest();
         Trainer initialTrainer = buildTrainer();
-        List<Trainer> existingTrainers = List.of(
-                createTrainerWithUsername("existing.trainer1"),
-                createTrainerWithUsername("existing.trainer2")
-        );
-        List<String> existingUsernames = List.of("existing.trainer1", "existing.trainer2");
 
         User userWithCredentials = initialTrainer.getUser().toBuilder()
                 .username(TRAINER_USERNAME)
@@ -74,10 +114,10 @@ class TrainerServiceImplTest {
         TrainerResponse expected = GymTestObjects.buildTrainerResponse();
 
         when(trainerMapper.toEntity(createRequest)).thenReturn(initialTrainer);
-        when(trainerDAO.findAll()).thenReturn(existingTrainers);
-        when(userCredentialsGenerator.generateUsername(TRAINER_FIRST_NAME, TRAINER_LAST_NAME, existingUsernames))
+        when(userCredentialsGenerator.allocateUsername(eq(TRAINER_FIRST_NAME), eq(TRAINER_LAST_NAME), any(Predicate.class)))
                 .thenReturn(TRAINER_USERNAME);
         when(userCredentialsGenerator.generatePassword()).thenReturn(GENERATED_PASSWORD);
+        when(passwordHasher.hash(GENERATED_PASSWORD)).thenReturn(HASHED_PASSWORD);
         when(trainerDAO.create(any(Trainer.class))).thenReturn(trainerWithCredentials);
         when(trainerMapper.toResponse(trainerWithCredentials)).thenReturn(expected);
 
@@ -87,35 +127,49 @@ class TrainerServiceImplTest {
         assertEquals(expected.getId(), actual.getId());
         assertEquals(expected.getUsername(), actual.getUsername());
         assertEquals(expected.getSpecialization(), actual.getSpecialization());
+        assertEquals(GENERATED_PASSWORD, actual.getPassword());
 
         verify(trainerMapper).toEntity(createRequest);
-        verify(trainerDAO).findAll();
-        verify(userCredentialsGenerator).generateUsername(TRAINER_FIRST_NAME, TRAINER_LAST_NAME, existingUsernames);
+        verify(trainerDAO, never()).findAll();
+        verify(userCredentialsGenerator).allocateUsername(eq(TRAINER_FIRST_NAME), eq(TRAINER_LAST_NAME), any(Predicate.class));
         verify(userCredentialsGenerator).generatePassword();
-        verify(trainerDAO).create(any(Trainer.class));
+        verify(trainerDAO).create(argThat(created -> HASHED_PASSWORD.equals(created.getUser().getPassword())));
         verify(trainerMapper).toResponse(trainerWithCredentials);
     }
 
     @Test
-    void create_ShouldHandleEmptyExistingUsernames() {
+    @SuppressWarnings("unchecked")
+    void create_ShouldReserveUsernameThroughUserDAO() {
         TrainerCreateRequest createRequest = GymTestObjects.buildTrainerCreateRequest();
-        List<Trainer> existingTrainers = List.of();
-        List<String> existingUsernames = List.of();
-        TrainerResponse expectedResponse = GymTestObjects.buildTrainerResponse();
+        ArgumentCaptor<Predicate<String>> captor = ArgumentCaptor.forClass(Predicate.class);
 
         when(trainerMapper.toEntity(createRequest)).thenReturn(trainer);
-        when(trainerDAO.findAll()).thenReturn(existingTrainers);
-        when(userCredentialsGenerator.generateUsername(TRAINER_FIRST_NAME, TRAINER_LAST_NAME, existingUsernames))
+        when(userCredentialsGenerator.allocateUsername(eq(TRAINER_FIRST_NAME), eq(TRAINER_LAST_NAME), captor.capture()))
                 .thenReturn(TRAINER_USERNAME);
-        when(userCredentialsGenerator.generatePassword()).thenReturn(GENERATED_PASSWORD);
         when(trainerDAO.create(any(Trainer.class))).thenReturn(trainer);
-        when(trainerMapper.toResponse(trainer)).thenReturn(expectedResponse);
+        when(userDAO.reserveUsername(TRAINER_USERNAME)).thenReturn(true);
+        when(trainerMapper.toResponse(trainer)).thenReturn(new TrainerResponse());
 
-        TrainerResponse actual = service.create(createRequest);
+        service.create(createRequest);
 
-        assertNotNull(actual);
-        verify(trainerDAO).findAll();
-        verify(userCredentialsGenerator).generateUsername(TRAINER_FIRST_NAME, TRAINER_LAST_NAME, existingUsernames);
+        assertTrue(captor.getValue().test(TRAINER_USERNAME));
+        verify(userDAO).reserveUsername(TRAINER_USERNAME);
+    }
+
+    @Test
+    void create_ShouldReleaseUsernameWhenDaoFails() {
+        TrainerCreateRequest createRequest = GymTestObjects.buildTrainerCreateRequest();
+
+        when(trainerMapper.toEntity(createRequest)).thenReturn(trainer);
+        when(userCredentialsGenerator.allocateUsername(eq(TRAINER_FIRST_NAME), eq(TRAINER_LAST_NAME), any(Predicate.class)))
+                .thenReturn(TRAINER_USERNAME);
+        when(userCredentialsGenerator.generatePassword()).thenReturn(GENERATED_PASSWORD);
+        when(trainerDAO.create(any(Trainer.class))).thenThrow(new IllegalStateException("Storage failure"));
+
+        assertThrows(IllegalStateException.class, () -> service.create(createRequest));
+
+        verify(userDAO).releaseUsername(TRAINER_USERNAME);
+        verify(trainerMapper, never()).toResponse(any());
     }
 
     @Test
@@ -151,15 +205,14 @@ class TrainerServiceImplTest {
     }
 
     @Test
-    void update_ShouldUpdateTrainerSuccessfully() {
+    void update_ShouldApplyRequestToCurrentTrainer() {
         TrainerUpdateRequest updateRequest = GymTestObjects.buildTrainerUpdateRequest();
         Trainer originalTrainer = buildTrainer();
-        Trainer updatedTrainer = buildUpdatedTrainer();
         TrainerResponse expected = buildUpdatedResponse();
 
-        when(trainerDAO.findById(updateRequest.getId())).thenReturn(Optional.of(originalTrainer));
-        when(trainerDAO.update(any(Trainer.class))).thenReturn(updatedTrainer);
-        when(trainerMapper.toResponse(updatedTrainer)).thenReturn(expected);
+        when(trainerDAO.update(eq(updateRequest.getId()), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.<UnaryOperator<Trainer>>getArgument(1).apply(originalTrainer)));
+        when(trainerMapper.toResponse(any(Trainer.class))).thenReturn(expected);
 
         TrainerResponse actual = service.update(updateRequest);
 
@@ -170,23 +223,27 @@ class TrainerServiceImplTest {
         assertEquals(expected.isActive(), actual.isActive());
         assertEquals(expected.getSpecialization(), actual.getSpecialization());
 
-        verify(trainerDAO).findById(updateRequest.getId());
-        verify(trainerDAO).update(any(Trainer.class));
-        verify(trainerMapper).toResponse(updatedTrainer);
+        ArgumentCaptor<Trainer> captor = ArgumentCaptor.forClass(Trainer.class);
+        verify(trainerMapper).toResponse(captor.capture());
+        verify(trainerDAO, never()).findById(any());
+
+        Trainer captured = captor.getValue();
+        assertEquals(updateRequest.getFirstName(), captured.getUser().getFirstName());
+        assertEquals(updateRequest.getLastName(), captured.getUser().getLastName());
+        assertEquals(TRAINER_USERNAME, captured.getUser().getUsername());
+        assertEquals(updateRequest.getSpecialization(), captured.getSpecialization());
     }
 
     @Test
     void update_ShouldThrowExceptionWhenTrainerNotFound() {
         TrainerUpdateRequest updateRequest = GymTestObjects.buildTrainerUpdateRequest();
 
-        when(trainerDAO.findById(updateRequest.getId())).thenReturn(Optional.empty());
+        when(trainerDAO.update(eq(updateRequest.getId()), any())).thenReturn(Optional.empty());
 
         CoreServiceException exception = assertThrows(CoreServiceException.class, () -> service.update(updateRequest));
 
         assertEquals("Trainer not found with id: " + updateRequest.getId(), exception.getMessage());
 
-        verify(trainerDAO).findById(updateRequest.getId());
-        verify(trainerDAO, never()).update(any());
         verify(trainerMapper, never()).toResponse(any());
     }
 
@@ -207,19 +264,6 @@ class TrainerServiceImplTest {
                 .build();
     }
 
-    private Trainer buildUpdatedTrainer() {
-        User user = buildTrainer().getUser().toBuilder()
-                .firstName("Michael")
-                .lastName("Smith")
-                .isActive(false)
-                .build();
-
-        return buildTrainer().toBuilder()
-                .user(user)
-                .specialization(TrainingType.builder().trainingTypeName(YOGA_TYPE).build())
-                .build();
-    }
-
     private TrainerResponse buildUpdatedResponse() {
         TrainerResponse response = new TrainerResponse();
         response.setId(TRAINER_ID);
@@ -230,14 +274,4 @@ class TrainerServiceImplTest {
 
         return response;
     }
-
-    private Trainer createTrainerWithUsername(String username) {
-        User user = User.builder()
-                .username(username)
-                .build();
-
-        return Trainer.builder()
-                .user(user)
-                .build();
-    }
 }
@@ -2,11 +2,16 @@ package com.gym.crm.service.impl;
 
 import com.gym.crm.dao.TraineeDAO;
 import com.gym.crm.dao.TrainerDAO;
+import com.gym.crm.dao.TrainerWorkloadDAO;
 import com.gym.crm.dao.TrainingDAO;
+import com.gym.crm.dao.TrainingSummary;
+import com.gym.crm.dto.training.TrainerWorkloadResponse;
 import com.gym.crm.dto.training.TrainingCreateRequest;
+import com.gym.crm.dto.training.TrainingImportReport;
 import com.gym.crm.dto.training.TrainingResponse;
 import com.gym.crm.exception.CoreServiceException;
 import com.gym.crm.facade.GymTestObjects;
+import com.gym.crm.importer.TrainingCsvImporter;
 import com.gym.crm.mapper.TrainingMapper;
 import com.gym.crm.model.Trainee;
 import com.gym.crm.model.Trainer;
@@ -20,15 +25,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -60,7 +71,11 @@ class TrainingServiceImplTest {
     @Mock
     private TrainerDAO trainerDAO;
     @Mock
+    private TrainerWorkloadDAO trainerWorkloadDAO;
+    @Mock
     private TrainingMapper trainingMapper;
+    @Mock
+    private TrainingCsvImporter trainingCsvImporter;
     @InjectMocks
     private TrainingServiceImpl service;
 
@@ -106,7 +121,7 @@ class TrainingServiceImplTest {
         verify(trainerDAO).findById(actual.getTrainerId());
         verify(trainingMapper, never()).toEntity(any());
         verify(trainingDAO, never()).create(any());
-        verify(trainingMapper, never()).toResponse(any());
+        verify(trainingMapper, never()).toResponse(any(Training.class));
     }
 
     @Test
@@ -124,7 +139,7 @@ class TrainingServiceImplTest {
         verify(trainerDAO).findById(actual.getTrainerId());
         verify(trainingMapper, never()).toEntity(any());
         verify(trainingDAO, never()).create(any());
-        verify(trainingMapper, never()).toResponse(any());
+        verify(trainingMapper, never()).toResponse(any(Training.class));
     }
 
     @Test
@@ -143,7 +158,7 @@ class TrainingServiceImplTest {
         verify(trainerDAO).findById(createRequest.getTrainerId());
         verify(trainingMapper, never()).toEntity(any());
         verify(trainingDAO, never()).create(any());
-        verify(trainingMapper, never()).toResponse(any());
+        verify(trainingMapper, never()).toResponse(any(Training.class));
     }
 
     @Test
@@ -176,7 +191,37 @@ class TrainingServiceImplTest {
         assertFalse(result.isPresent());
 
         verify(trainingDAO).findById(trainingId);
-        verify(trainingMapper, never()).toResponse(any());
+        verify(trainingMapper, never()).toResponse(any(Training.class));
+    }
+
+    @Test
+    void findPage_ShouldMapSummariesWithoutLoadingEntities() {
+        TrainingSummary summary = new TrainingSummary(TRAINING_ID, USERNAME, TRAINER_USERNAME, TRAINING_NAME,
+                null, TRAINING_DATE, TRAINING_DURATION);
+        TrainingResponse expected = GymTestObjects.buildTrainingResponse();
+
+        when(trainingDAO.findSummaryPage(null, 10)).thenReturn(List.of(summary));
+        when(trainingMapper.toResponse(summary)).thenReturn(expected);
+
+        List<TrainingResponse> actual = service.findPage(null, 10);
+
+        assertEquals(List.of(expected), actual);
+        verify(trainingDAO, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    void findByTraineeId_ShouldMapTraineeSummaries() {
+        TrainingSummary summary = new TrainingSummary(TRAINING_ID, USERNAME, TRAINER_USERNAME, TRAINING_NAME,
+                null, TRAINING_DATE, TRAINING_DURATION);
+        TrainingResponse expected = GymTestObjects.buildTrainingResponse();
+
+        when(trainingDAO.findSummariesByTraineeId(TRAINEE_ID)).thenReturn(List.of(summary));
+        when(trainingMapper.toResponse(summary)).thenReturn(expected);
+
+        List<TrainingResponse> actual = service.findByTraineeId(TRAINEE_ID);
+
+        assertEquals(List.of(expected), actual);
+        verify(trainingDAO, never()).findByTraineeId(any());
     }
 
     @Test
@@ -207,6 +252,54 @@ class TrainingServiceImplTest {
         verify(trainingDAO).create(captor.capture());
     }
 
+    @Test
+    void getTrainerWorkload_ShouldListEveryMonthOfPeriod() {
+        YearMonth from = YearMonth.of(2024, 1);
+        YearMonth to = YearMonth.of(2024, 3);
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.of(trainer));
+        when(trainerWorkloadDAO.findMonthlyMinutes(TRAINER_ID, from, to)).thenReturn(Map.of(YearMonth.of(2024, 2), 90L));
+
+        TrainerWorkloadResponse actual = service.getTrainerWorkload(TRAINER_ID, from, to);
+
+        assertEquals(List.of(0L, 90L, 0L), List.copyOf(actual.getMonthlyMinutes().values()));
+        assertEquals(List.of(from, YearMonth.of(2024, 2), to), List.copyOf(actual.getMonthlyMinutes().keySet()));
+        assertEquals(90L, actual.getTotalMinutes());
+        assertEquals(TRAINER_ID, actual.getTrainerId());
+    }
+
+    @Test
+    void getTrainerWorkload_ShouldRejectReversedPeriod() {
+        assertThrows(CoreServiceException.class,
+                () -> service.getTrainerWorkload(TRAINER_ID, YearMonth.of(2024, 3), YearMonth.of(2024, 1)));
+
+        verify(trainerWorkloadDAO, never()).findMonthlyMinutes(any(), any(), any());
+    }
+
+    @Test
+    void getTrainerWorkload_ShouldThrowWhenTrainerNotFound() {
+        when(trainerDAO.findById(TRAINER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(CoreServiceException.class,
+                () -> service.getTrainerWorkload(TRAINER_ID, YearMonth.of(2024, 1), YearMonth.of(2024, 1)));
+    }
+
+    @Test
+    void rebuildTrainerWorkload_ShouldDelegateToDao() {
+        when(trainerWorkloadDAO.rebuild()).thenReturn(4);
+
+        assertEquals(4, service.rebuildTrainerWorkload());
+    }
+
+    @Test
+    void importTrainings_ShouldDelegateToImporter() {
+        Path csvFile = Path.of("trainings.csv");
+        TrainingImportReport expected = TrainingImportReport.builder().imported(10).rejected(1).build();
+
+        when(trainingCsvImporter.importFile(csvFile)).thenReturn(expected);
+
+        assertSame(expected, service.importTrainings(csvFile));
+    }
+
     private Training buildTraining() {
         return Training.builder()
                 .id(TRAINEE_ID)
@@ -0,0 +1,172 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssignmentStorageTest {
+    private AssignmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new AssignmentStorage();
+    }
+
+    @Test
+    void assign_ShouldIndexBothDirections() {
+        assertTrue(storage.assign(1L, 20L));
+        assertTrue(storage.assign(1L, 10L));
+        assertTrue(storage.assign(2L, 10L));
+
+        assertArrayEquals(new long[]{10L, 20L}, storage.trainersOf(1L));
+        assertArrayEquals(new long[]{1L, 2L}, storage.traineesOf(10L));
+        assertTrue(storage.isAssigned(2L, 10L));
+        assertArrayEquals(new long[0], storage.trainersOf(99L));
+    }
+
+    @Test
+    void assign_ShouldIgnoreDuplicate() {
+        storage.assign(1L, 10L);
+
+        assertFalse(storage.assign(1L, 10L));
+        assertArrayEquals(new long[]{1L}, storage.traineesOf(10L));
+    }
+
+    @Test
+    void unassign_ShouldRemoveBothDirections() {
+        storage.assign(1L, 10L);
+        storage.assign(1L, 11L);
+
+        assertTrue(storage.unassign(1L, 10L));
+        assertFalse(storage.unassign(1L, 10L));
+        assertFalse(storage.unassign(99L, 10L));
+
+        assertArrayEquals(new long[]{11L}, storage.trainersOf(1L));
+        assertArrayEquals(new long[0], storage.traineesOf(10L));
+    }
+
+    @Test
+    void removeTrainee_ShouldDropTraineeFromEveryTrainer() {
+        storage.assign(1L, 10L);
+        storage.assign(1L, 11L);
+        storage.assign(2L, 11L);
+
+        storage.removeTrainee(1L);
+
+        assertArrayEquals(new long[0], storage.trainersOf(1L));
+        assertArrayEquals(new long[0], storage.traineesOf(10L));
+        assertArrayEquals(new long[]{2L}, storage.traineesOf(11L));
+    }
+
+    @Test
+    void unassignedActiveTrainers_ShouldSubtractAssignedFromActive() {
+        storage.trainerSaved(trainer(10L, true));
+        storage.trainerSaved(trainer(11L, true));
+        storage.trainerSaved(trainer(12L, false));
+        storage.trainerSaved(trainer(13L, true));
+        storage.assign(1L, 11L);
+        storage.assign(1L, 12L);
+
+        assertArrayEquals(new long[]{10L, 13L}, storage.unassignedActiveTrainers(1L));
+        assertArrayEquals(new long[]{10L, 11L, 13L}, storage.unassignedActiveTrainers(2L));
+    }
+
+    @Test
+    void trainerSaved_ShouldTrackActivation() {
+        storage.trainerSaved(trainer(10L, true));
+        assertTrue(storage.isActiveTrainer(10L));
+
+        storage.trainerSaved(trainer(10L, false));
+
+        assertFalse(storage.isActiveTrainer(10L));
+        assertEquals(0, storage.activeTrainerCount());
+    }
+
+    @Test
+    void assign_ShouldKeepDirectionsConsistentUnderContention() throws Exception {
+        int threads = 4;
+        int trainers = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long trainerId = 0; trainerId < trainers; trainerId++) {
+                        storage.assign(1L, trainerId);
+                        storage.unassign(1L, trainerId);
+                        storage.assign(1L, trainerId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(trainers, storage.trainersOf(1L).length);
+        for (long trainerId = 0; trainerId < trainers; trainerId++) {
+            assertArrayEquals(new long[]{1L}, storage.traineesOf(trainerId));
+        }
+    }
+
+    @Test
+    void assign_ShouldNotWriteIntoSetDetachedByRemoveTrainee() throws Exception {
+        int trainers = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> assigner = executor.submit(() -> {
+                start.await();
+                for (long trainerId = 0; trainerId < trainers; trainerId++) {
+                    storage.assign(1L, trainerId);
+                }
+                return null;
+            });
+            Future<?> remover = executor.submit(() -> {
+                start.await();
+                while (!assigner.isDone()) {
+                    storage.removeTrainee(1L);
+                }
+                return null;
+            });
+            start.countDown();
+            assigner.get();
+            remover.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long[] assigned = storage.trainersOf(1L);
+        for (long trainerId = 0; trainerId < trainers; trainerId++) {
+            boolean indexed = storage.traineesOf(trainerId).length == 1;
+            assertEquals(storage.isAssigned(1L, trainerId), indexed, "trainer " + trainerId);
+        }
+        assertEquals(assigned.length, storage.trainersOf(1L).length);
+    }
+
+    private static Trainer trainer(long id, boolean active) {
+        return Trainer.builder()
+                .id(id)
+                .user(User.builder().isActive(active).build())
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.gym.crm.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentLongMapTest {
+    private ConcurrentLongMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new ConcurrentLongMap<>();
+    }
+
+    @Test
+    void put_ShouldStoreAndReplaceValues() {
+        assertNull(map.put(1L, "one"));
+        assertEquals("one", map.put(1L, "uno"));
+
+        assertEquals("uno", map.get(1L));
+        assertTrue(map.containsKey(1L));
+        assertFalse(map.containsKey(2L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putIfAbsent_ShouldKeepExistingValue() {
+        assertNull(map.putIfAbsent(5L, "five"));
+        assertEquals("five", map.putIfAbsent(5L, "other"));
+
+        assertEquals("five", map.get(5L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void replace_ShouldSwapOnlyTheExpectedValue() {
+        String one = "one";
+        map.put(1L, one);
+
+        assertFalse(map.replace(1L, new String("one"), "uno"));
+        assertTrue(map.replace(1L, one, "uno"));
+        assertEquals("uno", map.get(1L));
+        assertFalse(map.replace(2L, one, "two"));
+        assertFalse(map.replace(1L << 20, one, "far"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void remove_ShouldDropValueAndUpdateSize() {
+        map.put(1L, "one");
+
+        assertEquals("one", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertNull(map.remove(1_000_000L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void get_ShouldReturnNullForKeysOutsideStoredRange() {
+        assertNull(map.get(-1L));
+        assertNull(map.get(Long.MAX_VALUE));
+        assertNull(map.get(5_000_000L));
+    }
+
+    @Test
+    void put_ShouldRejectKeysOutsideSupportedRange() {
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1L, "negative"));
+        assertThrows(IllegalArgumentException.class, () -> map.put(ConcurrentLongMap.MAX_KEY + 1, "too large"));
+    }
+
+    @Test
+    void values_ShouldIterateInKeyOrderAcrossChunks() {
+        map.put(70_000L, "c");
+        map.put(3L, "a");
+        map.put(2_048L, "b");
+
+        assertEquals(List.of("a", "b", "c"), map.values().toList());
+
+        List<String> iterated = new ArrayList<>();
+        map.forEach(iterated::add);
+        assertEquals(List.of("a", "b", "c"), iterated);
+    }
+
+    @Test
+    void valuesAfter_ShouldSkipKeysUpToAndIncludingGivenKey() {
+        for (long key = 1; key <= 5; key++) {
+            map.put(key, "v" + key);
+        }
+
+        assertEquals(List.of("v4", "v5"), map.valuesAfter(3L).toList());
+        assertEquals(List.of(), map.valuesAfter(5L).toList());
+        assertEquals(5, map.valuesAfter(-1L).count());
+    }
+
+    @Test
+    void put_ShouldNotLoseEntriesUnderConcurrentGrowth() throws Exception {
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < perThread; i++) {
+                        map.put(i * threads + offset, "value");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, map.size());
+        assertEquals(threads * perThread, map.values().count());
+    }
+}
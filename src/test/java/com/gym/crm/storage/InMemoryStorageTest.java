@@ -21,6 +21,10 @@ class InMemoryStorageTest {
     private TrainingStorage trainingStorage;
     @Mock
     private TrainingTypeStorage trainingTypeStorage;
+    @Mock
+    private UserStorage userStorage;
+    @Mock
+    private AssignmentStorage assignmentStorage;
     @InjectMocks
     private InMemoryStorage storage;
 
@@ -30,6 +34,8 @@ class InMemoryStorageTest {
         storage.setTrainerStorage(trainerStorage);
         storage.setTrainingStorage(trainingStorage);
         storage.setTrainingTypeStorage(trainingTypeStorage);
+        storage.setUserStorage(userStorage);
+        storage.setAssignmentStorage(assignmentStorage);
     }
 
     @Test
@@ -68,6 +74,24 @@ class InMemoryStorageTest {
         assertSame(newTrainingTypeStorage, storage.getTrainingTypeStorage());
     }
 
+    @Test
+    void setUserStorage_ShouldStoreUserStorage() {
+        UserStorage newUserStorage = new UserStorage();
+
+        storage.setUserStorage(newUserStorage);
+
+        assertSame(newUserStorage, storage.getUserStorage());
+    }
+
+    @Test
+    void setAssignmentStorage_ShouldStoreAssignmentStorage() {
+        AssignmentStorage newAssignmentStorage = new AssignmentStorage();
+
+        storage.setAssignmentStorage(newAssignmentStorage);
+
+        assertSame(newAssignmentStorage, storage.getAssignmentStorage());
+    }
+
     @Test
     void getTraineeStorage_ShouldReturnTraineeStorage() {
         TraineeStorage result = storage.getTraineeStorage();
@@ -109,7 +133,7 @@ class InMemoryStorageTest {
     @Test
     void getStorages_ShouldReturnStoragesMap() {
         assertNotNull(storage.getStorages());
-        assertEquals(4, storage.getStorages().size());
+        assertEquals(6, storage.getStorages().size());
     }
 
     @Test
@@ -129,10 +153,12 @@ class InMemoryStorageTest {
     void entityNameEnum_ShouldHaveAllRequiredValues() {
         InMemoryStorage.EntityName[] values = InMemoryStorage.EntityName.values();
 
-        assertEquals(4, values.length);
+        assertEquals(6, values.length);
         assertEquals(InMemoryStorage.EntityName.TRAINEE, InMemoryStorage.EntityName.valueOf("TRAINEE"));
         assertEquals(InMemoryStorage.EntityName.TRAINER, InMemoryStorage.EntityName.valueOf("TRAINER"));
         assertEquals(InMemoryStorage.EntityName.TRAINING, InMemoryStorage.EntityName.valueOf("TRAINING"));
         assertEquals(InMemoryStorage.EntityName.TRAINING_TYPE, InMemoryStorage.EntityName.valueOf("TRAINING_TYPE"));
+        assertEquals(InMemoryStorage.EntityName.USER, InMemoryStorage.EntityName.valueOf("USER"));
+        assertEquals(InMemoryStorage.EntityName.ASSIGNMENT, InMemoryStorage.EntityName.valueOf("ASSIGNMENT"));
     }
 }
\ No newline at end of file
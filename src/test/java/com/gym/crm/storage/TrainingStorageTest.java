@@ -0,0 +1,282 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrainingStorageTest {
+    private TrainingStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new TrainingStorage();
+    }
+
+    @Test
+    void index_ShouldMapTraineeAndTrainerToTrainingIds() {
+        save(buildTraining(3L, 10L, 20L));
+        save(buildTraining(1L, 10L, 21L));
+        save(buildTraining(2L, 11L, 20L));
+
+        assertEquals(List.of(1L, 3L), List.copyOf(storage.getTrainingIdsByTrainee(10L)));
+        assertEquals(List.of(2L, 3L), List.copyOf(storage.getTrainingIdsByTrainer(20L)));
+        assertEquals(List.of(), storage.getTrainingIdsByTrainee(99L));
+    }
+
+    @Test
+    void remove_ShouldDropRowAndIndexEntries() {
+        Training training = buildTraining(1L, 10L, 20L);
+        save(training);
+
+        assertTrue(storage.remove(1L));
+        assertFalse(storage.remove(1L));
+
+        assertNull(storage.find(1L));
+        assertTrue(storage.getTrainingIdsByTrainee(10L).isEmpty());
+        assertTrue(storage.getTrainingIdsByTrainer(20L).isEmpty());
+    }
+
+    @Test
+    void put_ShouldSkipMissingParticipants() {
+        save(Training.builder().id(1L).build());
+
+        TrainingRow row = storage.find(1L);
+
+        assertNull(row.traineeId());
+        assertNull(row.trainerId());
+        assertNull(row.trainingDate());
+        assertNull(row.trainingDuration());
+        assertTrue(storage.getTrainingIdsByTrainee(1L).isEmpty());
+        assertEquals(List.of(1L), storage.getTrainingIdsByDate(null, null, null, null));
+    }
+
+    @Test
+    void find_ShouldMaterializeStoredColumns() {
+        save(buildTraining(7L, 10L, 20L).toBuilder()
+                .trainingName("Morning Yoga")
+                .trainingType(TrainingType.builder().id(3L).trainingTypeName("Yoga").build())
+                .trainingDuration(45)
+                .build());
+
+        TrainingRow row = storage.find(7L);
+
+        assertEquals(new TrainingRow(7L, 10L, 20L, 3L, "Yoga", "Morning Yoga", LocalDate.of(2024, 1, 1), 45), row);
+        assertNull(storage.find(8L));
+        assertNull(storage.find(-1L));
+    }
+
+    @Test
+    void put_ShouldReplaceRowAndMoveIndexEntries() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 10)));
+        save(buildTraining(1L, 11L, 21L, LocalDate.of(2024, 2, 10)));
+
+        assertEquals(1, storage.size());
+        assertTrue(storage.getTrainingIdsByTrainee(10L).isEmpty());
+        assertEquals(List.of(1L), storage.getTrainingIdsByTrainee(11L));
+        assertEquals(List.of(), storage.getTrainingIdsByDate(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, null));
+        assertEquals(List.of(1L), storage.getTrainingIdsByDate(LocalDate.of(2024, 2, 1), null, null, null));
+    }
+
+    @Test
+    void put_ShouldDictionaryEncodeRepeatedNames() {
+        for (long id = 1; id <= 100; id++) {
+            save(buildTraining(id, 10L, 20L).toBuilder()
+                    .trainingName(id % 2 == 0 ? "Morning Yoga" : "Evening Yoga")
+                    .build());
+        }
+
+        assertEquals(2, storage.getDictionarySize());
+        assertEquals("Evening Yoga", storage.find(99L).trainingName());
+    }
+
+    @Test
+    void idsAfter_ShouldReturnIdsInAscendingOrderAcrossSegments() {
+        save(buildTraining(40_000L, 10L, 20L));
+        save(buildTraining(2L, 10L, 20L));
+        save(buildTraining(17_000L, 10L, 20L));
+
+        assertEquals(List.of(2L, 17_000L, 40_000L), storage.ids().boxed().toList());
+        assertEquals(List.of(17_000L, 40_000L), storage.idsAfter(2L).boxed().toList());
+        assertEquals(List.of(), storage.idsAfter(40_000L).boxed().toList());
+    }
+
+    @Test
+    void removeByTrainee_ShouldDeleteTrainingsAndTrainerEntries() {
+        save(buildTraining(1L, 10L, 20L));
+        save(buildTraining(2L, 10L, 21L));
+        save(buildTraining(3L, 11L, 20L));
+
+        int removed = storage.removeByTrainee(10L);
+
+        assertEquals(2, removed);
+        assertEquals(List.of(3L), storage.ids().boxed().toList());
+        assertEquals(List.of(3L), List.copyOf(storage.getTrainingIdsByTrainer(20L)));
+        assertTrue(storage.getTrainingIdsByTrainer(21L).isEmpty());
+    }
+
+    @Test
+    void getTrainingIdsByDate_ShouldReturnRangeInDateOrder() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 10)));
+        save(buildTraining(2L, 11L, 20L, LocalDate.of(2024, 1, 3)));
+        save(buildTraining(3L, 10L, 21L, LocalDate.of(2024, 1, 5)));
+        save(buildTraining(4L, 10L, 20L, LocalDate.of(2024, 1, 5)));
+        save(buildTraining(5L, 10L, 20L, LocalDate.of(2024, 2, 1)));
+
+        LocalDate from = LocalDate.of(2024, 1, 3);
+        LocalDate to = LocalDate.of(2024, 1, 10);
+
+        assertEquals(List.of(2L, 3L, 4L, 1L), storage.getTrainingIdsByDate(from, to, null, null));
+        assertEquals(List.of(2L, 4L, 1L), storage.getTrainingIdsByDate(from, to, null, 20L));
+        assertEquals(List.of(3L, 4L, 1L), storage.getTrainingIdsByDate(from, to, 10L, null));
+        assertEquals(List.of(1L, 5L), storage.getTrainingIdsByDate(LocalDate.of(2024, 1, 6), null, null, 20L));
+        assertEquals(List.of(), storage.getTrainingIdsByDate(from, to, null, 99L));
+    }
+
+    @Test
+    void sumTrainingDuration_ShouldScanDurationsWithinRange() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 5)).toBuilder().trainingDuration(30).build());
+        save(buildTraining(2L, 10L, 20L, LocalDate.of(2024, 1, 6)).toBuilder().trainingDuration(45).build());
+        save(buildTraining(20_000L, 11L, 20L, LocalDate.of(2024, 2, 1)).toBuilder().trainingDuration(60).build());
+        save(buildTraining(3L, 11L, 20L, LocalDate.of(2024, 1, 6)));
+        storage.remove(2L);
+
+        assertEquals(90, storage.sumTrainingDuration(null, null));
+        assertEquals(30, storage.sumTrainingDuration(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    void remove_ShouldDropFromDateIndex() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 10)));
+
+        storage.remove(1L);
+
+        assertTrue(storage.getTrainingIdsByDate(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void remove_ShouldReleaseSegmentOnceItIsEmpty() {
+        save(buildTraining(1L, 10L, 20L));
+        save(buildTraining(2L, 10L, 20L));
+        save(buildTraining(20_000L, 10L, 20L));
+        long twoSegments = storage.getOffHeapBytes();
+
+        storage.remove(1L);
+        assertEquals(twoSegments, storage.getOffHeapBytes());
+
+        storage.remove(2L);
+        assertEquals(twoSegments / 2, storage.getOffHeapBytes());
+        assertEquals(List.of(20_000L), storage.ids().boxed().toList());
+
+        save(buildTraining(3L, 10L, 20L));
+        assertEquals(twoSegments, storage.getOffHeapBytes());
+        assertEquals(List.of(3L, 20_000L), List.copyOf(storage.getTrainingIdsByTrainee(10L)));
+    }
+
+    @Test
+    void put_ShouldKeepSameDayTrainingsIndexedWhileOthersAreRemoved() throws Exception {
+        LocalDate date = LocalDate.of(2024, 1, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (long round = 0; round < 500; round++) {
+                long removedId = round * 2 + 1;
+                long savedId = round * 2 + 2;
+                save(buildTraining(removedId, 10L, 20L, date));
+
+                Future<?> removal = executor.submit(() -> storage.remove(removedId));
+                Future<?> insert = executor.submit(() -> save(buildTraining(savedId, 10L, 20L, date)));
+                removal.get();
+                insert.get();
+
+                assertTrue(storage.getTrainingIdsByDate(date, date, null, null).contains(savedId));
+                assertTrue(storage.getTrainingIdsByDate(date, date, 10L, null).contains(savedId));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getTrainerMonthlyMinutes_ShouldFollowPutsReplacesAndRemoves() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 5)).toBuilder().trainingDuration(30).build());
+        save(buildTraining(2L, 11L, 20L, LocalDate.of(2024, 1, 20)).toBuilder().trainingDuration(45).build());
+        save(buildTraining(3L, 10L, 20L, LocalDate.of(2024, 3, 1)).toBuilder().trainingDuration(60).build());
+        save(buildTraining(4L, 10L, 21L, LocalDate.of(2024, 1, 5)).toBuilder().trainingDuration(90).build());
+        save(buildTraining(2L, 11L, 20L, LocalDate.of(2024, 2, 1)).toBuilder().trainingDuration(50).build());
+        storage.removeByTrainee(10L);
+        save(buildTraining(5L, 11L, 20L, LocalDate.of(2024, 3, 31)).toBuilder().trainingDuration(15).build());
+
+        assertEquals(Map.of(YearMonth.of(2024, 2), 50L, YearMonth.of(2024, 3), 15L),
+                storage.getTrainerMonthlyMinutes(20L, YearMonth.of(2024, 1), YearMonth.of(2024, 12)));
+        assertEquals(Map.of(), storage.getTrainerMonthlyMinutes(21L, YearMonth.of(2024, 1), YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    void rebuildTrainerWorkload_ShouldRecomputeFromStoredRows() {
+        save(buildTraining(1L, 10L, 20L, LocalDate.of(2024, 1, 5)).toBuilder().trainingDuration(30).build());
+        save(buildTraining(2L, 11L, 20L, LocalDate.of(2024, 1, 20)).toBuilder().trainingDuration(45).build());
+        save(buildTraining(3L, 10L, 21L, LocalDate.of(2024, 2, 1)).toBuilder().trainingDuration(60).build());
+        Map<YearMonth, Long> before = storage.getTrainerMonthlyMinutes(20L, YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+
+        assertEquals(2, storage.rebuildTrainerWorkload());
+        assertEquals(Map.of(YearMonth.of(2024, 1), 75L), before);
+        assertEquals(before, storage.getTrainerMonthlyMinutes(20L, YearMonth.of(2024, 1), YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void rebuildTrainerWorkload_ShouldKeepTrainingsSavedDuringRebuild() throws Exception {
+        int trainings = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (long id = 1; id <= trainings; id++) {
+                    save(buildTraining(id, 10L, 20L, LocalDate.of(2024, 1, 5)).toBuilder().trainingDuration(1).build());
+                }
+            });
+            Future<?> rebuilder = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    storage.rebuildTrainerWorkload();
+                }
+            });
+            writer.get();
+            rebuilder.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Map.of(YearMonth.of(2024, 1), (long) trainings),
+                storage.getTrainerMonthlyMinutes(20L, YearMonth.of(2024, 1), YearMonth.of(2024, 1)));
+    }
+
+    private void save(Training training) {
+        storage.put(training);
+    }
+
+    private Training buildTraining(Long id, Long traineeId, Long trainerId) {
+        return buildTraining(id, traineeId, trainerId, LocalDate.of(2024, 1, 1));
+    }
+
+    private Training buildTraining(Long id, Long traineeId, Long trainerId, LocalDate date) {
+        return Training.builder()
+                .id(id)
+                .trainee(Trainee.builder().id(traineeId).build())
+                .trainer(Trainer.builder().id(trainerId).build())
+                .trainingDate(date)
+                .build();
+    }
+}
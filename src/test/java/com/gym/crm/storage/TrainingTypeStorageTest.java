@@ -0,0 +1,84 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.TrainingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrainingTypeStorageTest {
+    private TrainingTypeStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new TrainingTypeStorage();
+        storage.load(List.of(buildTrainingType(1L, "Yoga"), buildTrainingType(3L, "Boxing")));
+    }
+
+    @Test
+    void load_ShouldIndexByIdAndCaseInsensitiveName() {
+        TrainingTypeCatalog catalog = storage.getCatalog();
+
+        assertEquals("Yoga", catalog.findById(1L).orElseThrow().getTrainingTypeName());
+        assertEquals("Boxing", catalog.get(3).getTrainingTypeName());
+        assertNull(catalog.get(2));
+        assertFalse(catalog.findById(42L).isPresent());
+        assertEquals(3L, storage.findByName("BOXING").orElseThrow().getId());
+        assertEquals(2, storage.getTrainingTypes().size());
+    }
+
+    @Test
+    void load_ShouldStoreDetachedCopies() {
+        TrainingType source = buildTrainingType(5L, "Pilates");
+
+        storage.load(List.of(source));
+
+        TrainingType actual = storage.findById(5L).orElseThrow();
+        assertNotSame(source, actual);
+        assertNull(actual.getTrainings());
+    }
+
+    @Test
+    void getCatalog_ShouldBeImmutable() {
+        TrainingTypeCatalog catalog = storage.getCatalog();
+
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getAll().clear());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getByName().clear());
+    }
+
+    @Test
+    void put_ShouldAssignNextIdAndSwapCatalog() {
+        TrainingTypeCatalog previous = storage.getCatalog();
+
+        TrainingType actual = storage.put(TrainingType.builder().trainingTypeName("Pilates").build());
+
+        assertEquals(4L, actual.getId());
+        assertSame(actual, storage.findByName("pilates").orElseThrow());
+        assertEquals(2, previous.size());
+        assertEquals(3, storage.getCatalog().size());
+    }
+
+    @Test
+    void put_ShouldReplaceTypeWithSameId() {
+        storage.put(buildTrainingType(1L, "Hatha Yoga"));
+
+        assertFalse(storage.findByName("Yoga").isPresent());
+        assertTrue(storage.findByName("Hatha Yoga").isPresent());
+        assertEquals(2, storage.getCatalog().size());
+    }
+
+    private TrainingType buildTrainingType(Long id, String name) {
+        return TrainingType.builder()
+                .id(id)
+                .trainingTypeName(name)
+                .build();
+    }
+}
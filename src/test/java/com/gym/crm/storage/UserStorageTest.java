@@ -0,0 +1,136 @@
+package com.gym.crm.storage;
+
+import com.gym.crm.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserStorageTest {
+    private static final String USERNAME = "John.Doe";
+
+    private UserStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new UserStorage();
+    }
+
+    @Test
+    void reserveUsername_ShouldSucceedOnlyOnceIgnoringCase() {
+        assertTrue(storage.reserveUsername(USERNAME));
+        assertFalse(storage.reserveUsername("john.doe"));
+        assertTrue(storage.existsUsername("JOHN.DOE"));
+    }
+
+    @Test
+    void release_ShouldFreeReservedUsername() {
+        storage.reserveUsername(USERNAME);
+
+        storage.release(USERNAME);
+
+        assertFalse(storage.existsUsername(USERNAME));
+        assertTrue(storage.reserveUsername(USERNAME));
+    }
+
+    @Test
+    void release_ShouldKeepRegisteredUser() {
+        User user = buildUser(USERNAME);
+        storage.reserveUsername(USERNAME);
+        storage.register(user);
+
+        storage.release(USERNAME);
+
+        assertSame(user, storage.find(USERNAME).orElseThrow());
+    }
+
+    @Test
+    void register_ShouldReplaceReservationWithUser() {
+        User user = buildUser(USERNAME);
+        storage.reserveUsername(USERNAME);
+
+        storage.register(user);
+
+        assertSame(user, storage.getUsers().get("john.doe"));
+        assertEquals(1, storage.getUsers().size());
+    }
+
+    @Test
+    void find_ShouldReturnRegisteredUserButNotReservation() {
+        User user = buildUser(USERNAME);
+        storage.reserveUsername("Jane.Smith");
+        storage.register(user);
+
+        assertSame(user, storage.find("JOHN.DOE").orElseThrow());
+        assertTrue(storage.find("Jane.Smith").isEmpty());
+        assertTrue(storage.find("Mike.Johnson").isEmpty());
+    }
+
+    @Test
+    void register_ShouldIgnoreUserWithoutUsername() {
+        storage.register(null);
+        storage.register(User.builder().build());
+
+        assertTrue(storage.getUsers().isEmpty());
+    }
+
+    @Test
+    void unregister_ShouldRemoveOnlyMatchingUser() {
+        User user = buildUser(USERNAME);
+        User other = buildUser(USERNAME);
+        storage.register(user);
+
+        storage.unregister(other);
+        assertTrue(storage.existsUsername(USERNAME));
+
+        storage.unregister(user);
+        assertFalse(storage.existsUsername(USERNAME));
+    }
+
+    @Test
+    void unregister_ShouldRemoveUserLoadedWithSameId() {
+        User user = buildUser(USERNAME).toBuilder().id(1L).build();
+        User reloaded = user.toBuilder().build();
+        storage.register(user);
+
+        storage.unregister(reloaded);
+
+        assertFalse(storage.existsUsername(USERNAME));
+    }
+
+    @Test
+    void replace_ShouldMoveIndexWhenUsernameChanges() {
+        User previous = buildUser(USERNAME);
+        User current = buildUser("John.Doe1");
+        storage.register(previous);
+
+        storage.replace(previous, current);
+
+        assertFalse(storage.existsUsername(USERNAME));
+        assertSame(current, storage.getUsers().get("john.doe1"));
+    }
+
+    @Test
+    void replace_ShouldKeepIndexWhenUsernameUnchanged() {
+        User previous = buildUser(USERNAME);
+        User current = buildUser("john.doe");
+        storage.register(previous);
+
+        storage.replace(previous, current);
+
+        assertSame(current, storage.getUsers().get("john.doe"));
+        assertEquals(1, storage.getUsers().size());
+    }
+
+    private User buildUser(String username) {
+        return User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username(username)
+                .isActive(true)
+                .build();
+    }
+}
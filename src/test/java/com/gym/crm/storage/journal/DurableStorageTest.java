@@ -0,0 +1,357 @@
+package com.gym.crm.storage.journal;
+
+import com.gym.crm.dao.impl.AssignmentDAOImpl;
+import com.gym.crm.dao.impl.TraineeDAOImpl;
+import com.gym.crm.dao.impl.TrainerDAOImpl;
+import com.gym.crm.dao.impl.TrainingDAOImpl;
+import com.gym.crm.dao.impl.TrainingTypeDAOImpl;
+import com.gym.crm.model.Trainee;
+import com.gym.crm.model.Trainer;
+import com.gym.crm.model.Training;
+import com.gym.crm.model.TrainingImport;
+import com.gym.crm.model.TrainingType;
+import com.gym.crm.model.User;
+import com.gym.crm.storage.AssignmentStorage;
+import com.gym.crm.storage.InMemoryStorage;
+import com.gym.crm.storage.TraineeStorage;
+import com.gym.crm.storage.TrainerStorage;
+import com.gym.crm.storage.TrainingRow;
+import com.gym.crm.storage.TrainingStorage;
+import com.gym.crm.storage.TrainingTypeStorage;
+import com.gym.crm.storage.UserStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurableStorageTest {
+    private static final LocalDate TRAINING_DATE = LocalDate.of(2025, 3, 1);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void start_ShouldReplayLogWrittenBeforeRestart() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Daos daos = new Daos(storage, durableStorage);
+
+        TrainingType yoga = daos.trainingTypes.save(TrainingType.builder().trainingTypeName("Yoga").build());
+        Trainee trainee = daos.trainees.create(newTrainee("john.doe"));
+        Trainer trainer = daos.trainers.create(newTrainer("jane.smith", yoga));
+        Training training = daos.trainings.create(newTraining(trainee, trainer, yoga));
+        daos.trainees.update(trainee.toBuilder().address("New Street 1").build());
+        crash(durableStorage);
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        assertEquals("New Street 1", recovered.getTraineeStorage().getTrainees().get(trainee.getId()).getAddress());
+        assertEquals("Yoga", recovered.getTrainerStorage().getTrainers().get(trainer.getId()).getSpecialization().getTrainingTypeName());
+        assertTrue(recovered.getUserStorage().existsUsername("JOHN.DOE"));
+        assertEquals(List.of(training.getId()), recovered.getTrainingStorage().getTrainingIdsByTrainee(trainee.getId()));
+
+        TrainingRow recoveredTraining = recovered.getTrainingStorage().find(training.getId());
+        assertEquals(trainee.getId(), recoveredTraining.traineeId());
+        assertEquals(recovered.getTrainingTypeStorage().findByName("yoga").orElseThrow().getId(), recoveredTraining.trainingTypeId());
+        assertEquals(TRAINING_DATE, recoveredTraining.trainingDate());
+        assertEquals(60, recoveredTraining.trainingDuration());
+    }
+
+    @Test
+    void start_ShouldLoadSnapshotAndReplayTail() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.INTERVAL);
+        Daos daos = new Daos(storage, durableStorage);
+
+        Trainee first = daos.trainees.create(newTrainee("first.user"));
+        Trainee second = daos.trainees.create(newTrainee("second.user"));
+        durableStorage.snapshot();
+        daos.trainees.delete(first.getId());
+        Trainee third = daos.trainees.create(newTrainee("third.user"));
+        durableStorage.close();
+
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.filter(path -> path.getFileName().toString().startsWith(StorageSnapshot.FILE_PREFIX)).count());
+        }
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.INTERVAL);
+
+        assertEquals(List.of(second.getId(), third.getId()), recovered.getTraineeStorage().getTrainees().values().map(Trainee::getId).toList());
+        assertFalse(recovered.getUserStorage().existsUsername("first.user"));
+        assertEquals(third.getId() + 1, recovered.getTraineeStorage().getNextId());
+    }
+
+    @Test
+    void start_ShouldRecoverAssignmentsFromSnapshotAndLog() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Daos daos = new Daos(storage, durableStorage);
+
+        Trainee kept = daos.trainees.create(newTrainee("kept.user"));
+        Trainee deleted = daos.trainees.create(newTrainee("deleted.user"));
+        Trainer first = daos.trainers.create(newTrainer("first.trainer", null));
+        Trainer second = daos.trainers.create(newTrainer("second.trainer", null));
+        Trainer third = daos.trainers.create(newTrainer("third.trainer", null));
+        daos.assignments.assign(kept.getId(), first.getId());
+        daos.assignments.assign(deleted.getId(), first.getId());
+        durableStorage.snapshot();
+        daos.assignments.assign(kept.getId(), second.getId());
+        daos.assignments.unassign(kept.getId(), first.getId());
+        daos.trainees.delete(deleted.getId());
+        daos.trainers.update(third.toBuilder().user(third.getUser().toBuilder().isActive(false).build()).build());
+        crash(durableStorage);
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        AssignmentStorage assignments = recovered.getAssignmentStorage();
+        assertArrayEquals(new long[]{second.getId()}, assignments.trainersOf(kept.getId()));
+        assertArrayEquals(new long[0], assignments.traineesOf(first.getId()));
+        assertArrayEquals(new long[]{first.getId()}, assignments.unassignedActiveTrainers(kept.getId()));
+    }
+
+    @Test
+    void start_ShouldRecoverEntityVersionsFromSnapshotAndLog() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Daos daos = new Daos(storage, durableStorage);
+
+        Trainee trainee = daos.trainees.create(newTrainee("john.doe"));
+        Trainer trainer = daos.trainers.create(newTrainer("jane.smith", null));
+        daos.trainees.update(trainee.getId(), current -> current.toBuilder().address("First Street").build());
+        daos.trainers.update(trainer.getId(), current -> current.toBuilder().build());
+        durableStorage.snapshot();
+        daos.trainees.update(trainee.getId(), current -> current.toBuilder().address("Second Street").build());
+        crash(durableStorage);
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        assertEquals(2, recovered.getTraineeStorage().getTrainees().get(trainee.getId()).getVersion());
+        assertEquals(1, recovered.getTrainerStorage().getTrainers().get(trainer.getId()).getVersion());
+    }
+
+    @Test
+    void start_ShouldRecoverImportProgressWithItsTrainingsFromSnapshotAndLog() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Daos daos = new Daos(storage, durableStorage);
+
+        Trainee trainee = daos.trainees.create(newTrainee("john.doe"));
+        Trainer trainer = daos.trainers.create(newTrainer("jane.smith", null));
+        Training training = newTraining(trainee, trainer, null);
+        daos.trainings.insertAll(List.of(training, training), importProgress("first.csv", 3));
+        durableStorage.snapshot();
+        daos.trainings.insertAll(List.of(training), importProgress("first.csv", 4));
+        daos.trainings.insertAll(List.of(training), importProgress("second.csv", 2));
+        crash(durableStorage);
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        TrainingStorage trainings = recovered.getTrainingStorage();
+        assertEquals(4, trainings.size());
+        assertEquals(4, trainings.findImport("first.csv").orElseThrow().getLastLine());
+        assertEquals(2, trainings.findImport("second.csv").orElseThrow().getLastLine());
+        assertEquals(5, trainings.getNextId());
+    }
+
+    @Test
+    void start_ShouldIgnoreLogRecordOlderThanRecoveredVersion() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Trainee trainee = newTrainee("john.doe").toBuilder().id(1L).build();
+
+        durableStorage.traineeSaved(trainee.toBuilder().version(2).address("Newer Street").build());
+        durableStorage.traineeSaved(trainee.toBuilder().version(1).address("Older Street").build());
+        crash(durableStorage);
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        assertEquals("Newer Street", recovered.getTraineeStorage().getTrainees().get(1L).getAddress());
+    }
+
+    @Test
+    void start_ShouldRecoverStateOfConcurrentUpdatesAndDeletes() throws Exception {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.INTERVAL);
+        Daos daos = new Daos(storage, durableStorage);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(daos.trainees.create(newTrainee("user" + i)).getId());
+        }
+
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        Long id = ids.get(i % ids.size());
+                        if (thread == 0 && i % 97 == 96) {
+                            daos.trainees.delete(id);
+                        } else {
+                            String suffix = thread + "-" + i;
+                            daos.trainees.update(id, trainee -> trainee.toBuilder()
+                                    .address("Street " + suffix)
+                                    .user(trainee.getUser().toBuilder().username("user" + suffix).build())
+                                    .build());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        durableStorage.close();
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.INTERVAL);
+
+        for (Long id : ids) {
+            Trainee expected = storage.getTraineeStorage().getTrainees().get(id);
+            Trainee actual = recovered.getTraineeStorage().getTrainees().get(id);
+            if (expected == null) {
+                assertNull(actual);
+            } else {
+                assertEquals(expected.getVersion(), actual.getVersion());
+                assertEquals(expected.getAddress(), actual.getAddress());
+            }
+        }
+        assertEquals(storage.getUserStorage().getUsers().keySet(), recovered.getUserStorage().getUsers().keySet());
+    }
+
+    @Test
+    void start_ShouldIgnoreTornRecordAtLogTail() throws IOException {
+        InMemoryStorage storage = newStorage();
+        DurableStorage durableStorage = start(storage, FsyncPolicy.ALWAYS);
+        Daos daos = new Daos(storage, durableStorage);
+
+        Trainee kept = daos.trainees.create(newTrainee("kept.user"));
+        daos.trainees.create(newTrainee("torn.user"));
+        crash(durableStorage);
+
+        Path segment = WriteAheadLog.segmentPath(directory, 1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        InMemoryStorage recovered = newStorage();
+        start(recovered, FsyncPolicy.ALWAYS);
+
+        assertEquals(List.of(kept.getId()), recovered.getTraineeStorage().getTrainees().values().map(Trainee::getId).toList());
+        assertNull(recovered.getUserStorage().getUsers().get("torn.user"));
+    }
+
+    private DurableStorage start(InMemoryStorage storage, FsyncPolicy fsyncPolicy) throws IOException {
+        DurableStorage durableStorage = new DurableStorage(storage, directory, fsyncPolicy, 1, 0);
+        durableStorage.start();
+        return durableStorage;
+    }
+
+    private static void crash(DurableStorage durableStorage) throws IOException {
+        durableStorage.getWriteAheadLog().close();
+    }
+
+    private static InMemoryStorage newStorage() {
+        InMemoryStorage storage = new InMemoryStorage();
+        storage.setTraineeStorage(new TraineeStorage());
+        storage.setTrainerStorage(new TrainerStorage());
+        storage.setTrainingStorage(new TrainingStorage());
+        storage.setTrainingTypeStorage(new TrainingTypeStorage());
+        storage.setUserStorage(new UserStorage());
+        storage.setAssignmentStorage(new AssignmentStorage());
+        return storage;
+    }
+
+    private static Trainee newTrainee(String username) {
+        return Trainee.builder()
+                .user(newUser(username))
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .address("Main Street 1")
+                .build();
+    }
+
+    private static Trainer newTrainer(String username, TrainingType specialization) {
+        return Trainer.builder()
+                .user(newUser(username))
+                .specialization(specialization)
+                .build();
+    }
+
+    private static Training newTraining(Trainee trainee, Trainer trainer, TrainingType trainingType) {
+        return Training.builder()
+                .trainee(trainee)
+                .trainer(trainer)
+                .trainingType(trainingType)
+                .trainingName("Morning Yoga")
+                .trainingDate(TRAINING_DATE)
+                .trainingDuration(60)
+                .build();
+    }
+
+    private static TrainingImport importProgress(String source, long lastLine) {
+        return TrainingImport.builder()
+                .source(source)
+                .lastLine(lastLine)
+                .imported(lastLine - 1)
+                .build();
+    }
+
+    private static User newUser(String username) {
+        return User.builder()
+                .firstName("First")
+                .lastName("Last")
+                .username(username)
+                .password("password12")
+                .isActive(true)
+                .build();
+    }
+
+    private static final class Daos {
+        private final TraineeDAOImpl trainees = new TraineeDAOImpl();
+        private final TrainerDAOImpl trainers = new TrainerDAOImpl();
+        private final TrainingDAOImpl trainings = new TrainingDAOImpl();
+        private final TrainingTypeDAOImpl trainingTypes = new TrainingTypeDAOImpl();
+        private final AssignmentDAOImpl assignments = new AssignmentDAOImpl();
+
+        private Daos(InMemoryStorage storage, StorageJournal journal) {
+            trainees.setStorage(storage);
+            trainees.setStorageJournal(journal);
+            trainers.setStorage(storage);
+            trainers.setStorageJournal(journal);
+            trainings.setStorage(storage);
+            trainings.setStorageJournal(journal);
+            trainingTypes.setStorage(storage);
+            trainingTypes.setStorageJournal(journal);
+            assignments.setStorage(storage);
+            assignments.setStorageJournal(journal);
+        }
+    }
+}
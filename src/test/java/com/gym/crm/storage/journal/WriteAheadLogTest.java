@@ -0,0 +1,111 @@
+package com.gym.crm.storage.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteAheadLogTest {
+    @TempDir
+    private Path directory;
+
+    @Test
+    void append_ShouldReplayRecordsInOrder() throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, FsyncPolicy.INTERVAL, 1);
+        writeAheadLog.open(1);
+        for (long id = 1; id <= 100; id++) {
+            long value = id;
+            writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, value));
+        }
+        writeAheadLog.close();
+
+        List<Long> ids = new ArrayList<>();
+        int records = WriteAheadLog.replay(WriteAheadLog.segmentPath(directory, 1),
+                (operation, in) -> ids.add(EntityCodec.readId(in)));
+
+        assertEquals(100, records);
+        assertEquals(1L, ids.get(0));
+        assertEquals(100L, ids.get(99));
+    }
+
+    @Test
+    void append_ShouldGroupConcurrentCommitsWithoutLosingRecords() throws Exception {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, FsyncPolicy.ALWAYS, 1);
+        writeAheadLog.open(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (long id = 0; id < 50; id++) {
+                        long value = id;
+                        writeAheadLog.awaitDurable(writeAheadLog.append(JournalOperation.TRAINEE_DELETED,
+                                out -> EntityCodec.writeId(out, value)));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(200, WriteAheadLog.replay(WriteAheadLog.segmentPath(directory, 1), (operation, in) -> EntityCodec.readId(in)));
+        writeAheadLog.close();
+    }
+
+    @Test
+    void awaitDurable_ShouldReturnOnceReservedRecordIsOnDisk() throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, FsyncPolicy.ALWAYS, 1_000);
+        writeAheadLog.open(1);
+
+        long first = writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, 1L));
+        long second = writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, 2L));
+        writeAheadLog.awaitDurable(second);
+
+        assertEquals(first + 1, second);
+        assertEquals(2, WriteAheadLog.replay(WriteAheadLog.segmentPath(directory, 1), (operation, in) -> EntityCodec.readId(in)));
+        writeAheadLog.close();
+    }
+
+    @Test
+    void replay_ShouldStopAtCorruptedRecord() throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, FsyncPolicy.NEVER, 1);
+        writeAheadLog.open(1);
+        writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, 1L));
+        writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, 2L));
+        writeAheadLog.close();
+
+        Path segment = WriteAheadLog.segmentPath(directory, 1);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), channel.size() - 6);
+        }
+
+        assertEquals(1, WriteAheadLog.replay(segment, (operation, in) -> EntityCodec.readId(in)));
+    }
+
+    @Test
+    void append_ShouldFailAfterClose() throws IOException {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(directory, FsyncPolicy.INTERVAL, 1);
+        writeAheadLog.open(1);
+        writeAheadLog.close();
+
+        assertThrows(IOException.class,
+                () -> writeAheadLog.append(JournalOperation.TRAINING_DELETED, out -> EntityCodec.writeId(out, 1L)));
+    }
+}
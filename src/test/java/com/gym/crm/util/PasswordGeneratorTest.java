@@ -0,0 +1,67 @@
+package com.gym.crm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordGeneratorTest {
+    private static final Pattern VALID_PASSWORD = Pattern.compile("^[A-Za-z0-9]{" + PasswordGenerator.PASSWORD_LENGTH + "}$");
+
+    private final PasswordGenerator generator = new PasswordGenerator();
+
+    @Test
+    void next_ShouldContainEveryCharacterClass() {
+        for (int i = 0; i < 1_000; i++) {
+            String password = generator.next();
+
+            assertTrue(VALID_PASSWORD.matcher(password).matches(), password);
+            assertTrue(password.chars().anyMatch(Character::isUpperCase), password);
+            assertTrue(password.chars().anyMatch(Character::isLowerCase), password);
+            assertTrue(password.chars().anyMatch(Character::isDigit), password);
+        }
+    }
+
+    @Test
+    void next_ShouldShuffleRequiredCharactersAcrossPositions() {
+        Set<Integer> digitPositions = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            String password = generator.next();
+            for (int position = 0; position < password.length(); position++) {
+                if (Character.isDigit(password.charAt(position))) {
+                    digitPositions.add(position);
+                }
+            }
+        }
+
+        assertEquals(PasswordGenerator.PASSWORD_LENGTH, digitPositions.size());
+    }
+
+    @Test
+    void next_ShouldDrawRandomBytesInBlocks() {
+        CountingSecureRandom random = new CountingSecureRandom();
+        PasswordGenerator counted = new PasswordGenerator(random);
+
+        for (int i = 0; i < 100; i++) {
+            counted.next();
+        }
+
+        assertTrue(random.calls < 20, "Expected buffered random bytes, got " + random.calls + " calls");
+    }
+
+    private static class CountingSecureRandom extends SecureRandom {
+        private int calls;
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            calls++;
+            super.nextBytes(bytes);
+        }
+    }
+}
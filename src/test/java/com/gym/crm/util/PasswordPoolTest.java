@@ -0,0 +1,80 @@
+package com.gym.crm.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordPoolTest {
+    private static final int SIZE = 64;
+
+    private final PasswordPool pool = new PasswordPool();
+
+    @AfterEach
+    void tearDown() {
+        pool.stop();
+    }
+
+    @Test
+    void take_ShouldServePrefilledPasswordsWithoutFallback() throws InterruptedException {
+        pool.setSize(SIZE);
+        pool.start();
+        awaitAvailable(SIZE);
+
+        List<String> taken = pool.take(SIZE / 4);
+
+        assertEquals(SIZE / 4, taken.size());
+        assertEquals(SIZE / 4, new HashSet<>(taken).size());
+        assertEquals(0, pool.getFallbacks());
+    }
+
+    @Test
+    void take_ShouldRefillAfterDrainingBelowThreshold() throws InterruptedException {
+        pool.setSize(SIZE);
+        pool.start();
+        awaitAvailable(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            pool.take();
+        }
+
+        awaitAvailable(SIZE);
+        assertEquals(SIZE, pool.available());
+    }
+
+    @Test
+    void take_ShouldGenerateOnCallingThreadWhenPoolIsEmpty() {
+        pool.setSize(SIZE);
+        pool.start();
+
+        List<String> taken = pool.take(SIZE * 4);
+
+        assertEquals(SIZE * 4, taken.size());
+        assertTrue(pool.getFallbacks() >= SIZE * 3);
+    }
+
+    @Test
+    void take_ShouldGenerateOnCallingThreadWhenDisabled() {
+        pool.setSize(0);
+        pool.start();
+
+        String password = pool.take();
+
+        assertEquals(PasswordGenerator.PASSWORD_LENGTH, password.length());
+        assertEquals(0, pool.available());
+        assertEquals(1, pool.getFallbacks());
+    }
+
+    private void awaitAvailable(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.available() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, pool.available());
+    }
+}
@@ -1,5 +1,6 @@
 package com.gym.crm.util;
 
+import com.gym.crm.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,8 +10,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -35,6 +40,8 @@ class UserCredentialsGeneratorTest {
     @BeforeEach
     void setUp() {
         sut = new UserCredentialsGenerator();
+        sut.setUsernameAllocator(new UsernameAllocator());
+        sut.setPasswordPool(new PasswordPool());
     }
 
     @ParameterizedTest
@@ -78,12 +85,35 @@ class UserCredentialsGeneratorTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void generateUsername_ShouldMatchExistingUsernamesUnderTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            String actual = sut.generateUsername("Ivan", "Ilic", List.of("ivan.ilic"));
+
+            assertEquals("Ivan.Ilic1", actual);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     void generateUsername_ShouldHandleNullValues() {
         assertThrows(NullPointerException.class, () ->
                 sut.generateUsername("Test", "User", null));
     }
 
+    @Test
+    void allocateUsername_ShouldReturnFirstReservedCandidate() {
+        Set<String> taken = new HashSet<>(Set.of("john.doe", "john.doe1"));
+
+        String actual = sut.allocateUsername(FIRST_NAME, LAST_NAME, candidate -> taken.add(candidate.toLowerCase()));
+
+        assertEquals("John.Doe2", actual);
+        assertTrue(taken.contains("john.doe2"));
+    }
+
     @Test
     void generatePassword_ShouldGeneratePasswordWithCorrectLength() {
         String actual = sut.generatePassword();
@@ -99,6 +129,34 @@ class UserCredentialsGeneratorTest {
         assertTrue(VALID_CHARACTERS_PATTERN.matcher(actual).matches());
     }
 
+    @Test
+    void allocateUsernames_ShouldSuffixCollisionsWithinBatchAndFallBackForTakenCandidates() {
+        List<User> users = List.of(
+                User.builder().firstName(FIRST_NAME).lastName(LAST_NAME).build(),
+                User.builder().firstName(FIRST_NAME).lastName(LAST_NAME).build(),
+                User.builder().firstName("Jane").lastName("Smith").build());
+        Set<String> taken = new HashSet<>(Set.of("Jane.Smith"));
+
+        List<String> actual = sut.allocateUsernames(users,
+                candidates -> candidates.stream().filter(taken::add).collect(Collectors.toSet()),
+                taken::add);
+
+        assertEquals(List.of(EXPECTED_USERNAME, EXPECTED_USERNAME + "1", "Jane.Smith1"), actual);
+    }
+
+    @Test
+    void generatePasswords_ShouldGenerateRequestedNumberOfValidPasswords() {
+        List<String> actual = sut.generatePasswords(100);
+
+        assertEquals(100, actual.size());
+        assertEquals(100, Set.copyOf(actual).size());
+        assertTrue(actual.stream().allMatch(password -> password.length() == PASSWORD_LENGTH
+                && VALID_CHARACTERS_PATTERN.matcher(password).matches()
+                && password.chars().anyMatch(Character::isUpperCase)
+                && password.chars().anyMatch(Character::isLowerCase)
+                && password.chars().anyMatch(Character::isDigit)));
+    }
+
     @Test
     void generatePassword_ShouldGenerateDifferentPasswords() {
         String first = sut.generatePassword();
@@ -0,0 +1,116 @@
+package com.gym.crm.util;
+
+import com.gym.crm.dao.UserDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameAllocatorTest {
+    private static final String BASE_USERNAME = "John.Doe";
+
+    private final Set<String> taken = ConcurrentHashMap.newKeySet();
+
+    @Mock
+    private UserDAO userDAO;
+    @InjectMocks
+    private UsernameAllocator sut;
+
+    @BeforeEach
+    void setUp() {
+        sut.setUserDAO(userDAO);
+    }
+
+    @Test
+    void allocate_ShouldHandOutSequentialSuffixes() {
+        assertEquals("John.Doe", sut.allocate(BASE_USERNAME, this::reserve));
+        assertEquals("John.Doe1", sut.allocate(BASE_USERNAME, this::reserve));
+        assertEquals("John.Doe2", sut.allocate(BASE_USERNAME, this::reserve));
+    }
+
+    @Test
+    void allocate_ShouldTrackBaseNamesIgnoringCase() {
+        sut.allocate(BASE_USERNAME, this::reserve);
+
+        assertEquals("john.doe1", sut.allocate("john.doe", this::reserve));
+    }
+
+    @Test
+    void allocate_ShouldSkipCandidatesTakenOutsideAllocator() {
+        taken.add("john.doe");
+        taken.add("john.doe1");
+
+        assertEquals("John.Doe2", sut.allocate(BASE_USERNAME, this::reserve));
+    }
+
+    @Test
+    void init_ShouldRebuildSuffixesFromExistingUsernames() {
+        when(userDAO.findAllUsernames()).thenReturn(List.of("john.doe", "john.doe7", "jane.smith"));
+
+        sut.init();
+
+        assertEquals("John.Doe8", sut.allocate(BASE_USERNAME, this::reserve));
+        assertEquals("Jane.Smith1", sut.allocate("Jane.Smith", this::reserve));
+        assertEquals("Mike.Johnson", sut.allocate("Mike.Johnson", this::reserve));
+        verify(userDAO).findAllUsernames();
+    }
+
+    @Test
+    void rebuild_ShouldIgnoreSuffixesTooLongForCounter() {
+        sut.rebuild(List.of("john.doe12345678901"));
+
+        assertEquals("John.Doe", sut.allocate(BASE_USERNAME, this::reserve));
+    }
+
+    @Test
+    void allocate_ShouldNeverHandOutSameUsernameConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> allocated = new ArrayList<>();
+                for (int j = 0; j < perThread; j++) {
+                    allocated.add(sut.allocate(BASE_USERNAME, this::reserve));
+                }
+                return allocated;
+            }));
+        }
+        start.countDown();
+
+        Set<String> unique = ConcurrentHashMap.newKeySet();
+        for (Future<List<String>> future : futures) {
+            unique.addAll(future.get());
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread, unique.size());
+        assertTrue(unique.contains(BASE_USERNAME));
+        assertTrue(unique.contains(BASE_USERNAME + (threads * perThread - 1)));
+    }
+
+    private boolean reserve(String username) {
+        return taken.add(username.toLowerCase());
+    }
+}